@@ -0,0 +1,60 @@
+package shop.woosung.bank.account.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import shop.woosung.bank.account.controller.dto.AccountBalanceSlotRequestDto;
+import shop.woosung.bank.account.controller.port.AccountAdminService;
+import shop.woosung.bank.account.service.dto.AccountBalanceSlotResponseDto;
+import shop.woosung.bank.account.service.dto.AccountLockContentionResponseDto;
+import shop.woosung.bank.account.service.dto.AccountLockRetryStatResponseDto;
+import shop.woosung.bank.account.service.dto.AccountTypeNumberResponseDto;
+import shop.woosung.bank.common.ApiResponse;
+
+import javax.validation.Valid;
+import java.util.List;
+
+@RequiredArgsConstructor
+@RequestMapping("/api/admin")
+@RestController
+public class AccountAdminController {
+
+    private final AccountAdminService accountAdminService;
+
+    @GetMapping("/account/lock/retries")
+    public ResponseEntity<ApiResponse<List<AccountLockRetryStatResponseDto>>> getLockRetryStats() {
+        List<AccountLockRetryStatResponseDto> lockRetryStats = accountAdminService.getLockRetryStats();
+
+        return ResponseEntity.status(HttpStatus.OK).body(ApiResponse.success(lockRetryStats));
+    }
+
+    @GetMapping("/account/lock/contention")
+    public ResponseEntity<ApiResponse<AccountLockContentionResponseDto>> getLockContention() {
+        AccountLockContentionResponseDto lockContention = accountAdminService.getLockContention();
+
+        return ResponseEntity.status(HttpStatus.OK).body(ApiResponse.success(lockContention));
+    }
+
+    @PostMapping("/account/types/reload")
+    public ResponseEntity<ApiResponse<List<AccountTypeNumberResponseDto>>> reloadAccountTypes() {
+        List<AccountTypeNumberResponseDto> accountTypeNumbers = accountAdminService.reloadAccountTypes();
+
+        return ResponseEntity.status(HttpStatus.OK).body(ApiResponse.success("계좌 종류 정보 갱신 완료", accountTypeNumbers));
+    }
+
+    @PostMapping("/account/{fullNumber}/balance-slots")
+    public ResponseEntity<ApiResponse<AccountBalanceSlotResponseDto>> enableBalanceSlots(@PathVariable Long fullNumber,
+                                                                                        @RequestBody @Valid AccountBalanceSlotRequestDto accountBalanceSlotRequestDto) {
+        AccountBalanceSlotResponseDto accountBalanceSlotResponseDto = accountAdminService.enableBalanceSlots(fullNumber, accountBalanceSlotRequestDto.getSlotCount());
+
+        return ResponseEntity.status(HttpStatus.OK).body(ApiResponse.success("분할 잔액 모드 설정 완료", accountBalanceSlotResponseDto));
+    }
+
+    @DeleteMapping("/account/{fullNumber}/balance-slots")
+    public ResponseEntity<ApiResponse<AccountBalanceSlotResponseDto>> disableBalanceSlots(@PathVariable Long fullNumber) {
+        AccountBalanceSlotResponseDto accountBalanceSlotResponseDto = accountAdminService.disableBalanceSlots(fullNumber);
+
+        return ResponseEntity.status(HttpStatus.OK).body(ApiResponse.success("분할 잔액 모드 해제 완료", accountBalanceSlotResponseDto));
+    }
+}
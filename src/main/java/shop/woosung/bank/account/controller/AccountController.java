@@ -5,7 +5,9 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import shop.woosung.bank.account.controller.dto.AccountBulkRegisterRequestDto;
 import shop.woosung.bank.account.controller.dto.AccountDepositRequestDto;
+import shop.woosung.bank.account.controller.dto.AccountPayoutRequestDto;
 import shop.woosung.bank.account.controller.dto.AccountRegisterRequestDto;
 import shop.woosung.bank.account.controller.dto.AccountTransferRequestDto;
 import shop.woosung.bank.account.controller.dto.AccountWithdrawRequestDto;
@@ -42,6 +44,14 @@ public class AccountController {
         return ResponseEntity.status(HttpStatus.CREATED).body(ApiResponse.success("계좌등록 성공", accountRegisterResponseDto));
     }
 
+    @PostMapping("/s/account/bulk")
+    public ResponseEntity<ApiResponse<AccountBulkRegisterResponseDto>> registerAll(@RequestBody @Valid AccountBulkRegisterRequestDto accountBulkRegisterRequestDto,
+                                           @AuthenticationPrincipal LoginUser loginUser) {
+        AccountBulkRegisterResponseDto accountBulkRegisterResponseDto = accountService.registerAll(accountBulkRegisterRequestConvert(accountBulkRegisterRequestDto), loginUser.getUser());
+
+        return ResponseEntity.status(HttpStatus.CREATED).body(ApiResponse.success("계좌 일괄 등록 성공", accountBulkRegisterResponseDto));
+    }
+
     @DeleteMapping("/s/account/{number}")
     public ResponseEntity<ApiResponse<Object>> deleteAccount(@PathVariable Long number,
                                            @AuthenticationPrincipal LoginUser loginUser) {
@@ -75,6 +85,15 @@ public class AccountController {
         return ResponseEntity.status(HttpStatus.CREATED).body(ApiResponse.success("계좌 이체 완료", accountTransferResponseDto));
     }
 
+    @PostMapping("/s/account/payout")
+    public ResponseEntity<ApiResponse<AccountPayoutResponseDto>> payoutAccount(@RequestBody @Valid AccountPayoutRequestDto accountPayoutRequestDto,
+                                             @AuthenticationPrincipal LoginUser loginUser) {
+
+        AccountPayoutResponseDto accountPayoutResponseDto = accountService.payout(accountPayoutRequestConvert(accountPayoutRequestDto), loginUser.getUser());
+
+        return ResponseEntity.status(HttpStatus.CREATED).body(ApiResponse.success("계좌 지급 완료", accountPayoutResponseDto));
+    }
+
 //    @GetMapping("/s/account/{number}")
 //    public ResponseEntity<?> getDetailAccount(@PathVariable Long number,
 //                                             @RequestParam(value = "page", defaultValue = "0") Integer page,
@@ -0,0 +1,24 @@
+package shop.woosung.bank.account.controller.dto;
+
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.validation.constraints.Max;
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotNull;
+
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+public class AccountBalanceSlotRequestDto {
+    @NotNull
+    @Min(2)
+    @Max(64)
+    private Integer slotCount;
+
+    @Builder
+    public AccountBalanceSlotRequestDto(Integer slotCount) {
+        this.slotCount = slotCount;
+    }
+}
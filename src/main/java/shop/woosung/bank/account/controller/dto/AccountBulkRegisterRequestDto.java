@@ -0,0 +1,25 @@
+package shop.woosung.bank.account.controller.dto;
+
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.validation.Valid;
+import javax.validation.constraints.NotEmpty;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Size;
+import java.util.List;
+
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+public class AccountBulkRegisterRequestDto {
+    @NotEmpty
+    @Size(max = 10000)
+    private List<@Valid @NotNull AccountRegisterRequestDto> accounts;
+
+    @Builder
+    public AccountBulkRegisterRequestDto(List<AccountRegisterRequestDto> accounts) {
+        this.accounts = accounts;
+    }
+}
@@ -4,6 +4,7 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import shop.woosung.bank.account.controller.validation.AccountFullNumber;
 import shop.woosung.bank.transaction.domain.TransactionType;
 
 import javax.validation.constraints.*;
@@ -13,6 +14,7 @@ import javax.validation.constraints.*;
 public class AccountDepositRequestDto {
     @NotNull
     @Digits(integer = 19, fraction = 0)
+    @AccountFullNumber
     private Long fullNumber;
 
     @Positive
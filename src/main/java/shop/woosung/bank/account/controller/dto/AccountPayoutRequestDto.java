@@ -0,0 +1,60 @@
+package shop.woosung.bank.account.controller.dto;
+
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import shop.woosung.bank.account.controller.validation.AccountFullNumber;
+
+import javax.validation.Valid;
+import javax.validation.constraints.*;
+import java.util.List;
+
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+public class AccountPayoutRequestDto {
+    /**
+     * 건별 지급 한도. 최대 건수(1000)를 모두 채워도 총액이 long 범위를 넘지 않는다.
+     */
+    public static final long MAX_LEG_AMOUNT = 1_000_000_000_000L;
+
+    @NotNull
+    @Digits(integer = 19, fraction = 0)
+    @AccountFullNumber
+    private Long withdrawFullNumber;
+
+    @NotNull
+    @Digits(integer = 4, fraction = 4)
+    private Long withdrawPassword;
+
+    @NotEmpty
+    @Size(max = 1000)
+    private List<@Valid @NotNull LegDto> legs;
+
+    @Builder
+    public AccountPayoutRequestDto(Long withdrawFullNumber, Long withdrawPassword, List<LegDto> legs) {
+        this.withdrawFullNumber = withdrawFullNumber;
+        this.withdrawPassword = withdrawPassword;
+        this.legs = legs;
+    }
+
+    @NoArgsConstructor(access = AccessLevel.PROTECTED)
+    @Getter
+    public static class LegDto {
+        @NotNull
+        @Digits(integer = 19, fraction = 0)
+        @AccountFullNumber
+        private Long depositFullNumber;
+
+        @Positive
+        @Max(MAX_LEG_AMOUNT)
+        @NotNull
+        private Long amount;
+
+        @Builder
+        public LegDto(Long depositFullNumber, Long amount) {
+            this.depositFullNumber = depositFullNumber;
+            this.amount = amount;
+        }
+    }
+}
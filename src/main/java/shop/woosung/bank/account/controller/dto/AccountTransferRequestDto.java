@@ -2,6 +2,7 @@ package shop.woosung.bank.account.controller.dto;
 
 import lombok.Builder;
 import lombok.Getter;
+import shop.woosung.bank.account.controller.validation.AccountFullNumber;
 import shop.woosung.bank.transaction.domain.TransactionType;
 
 import javax.validation.constraints.*;
@@ -10,10 +11,12 @@ import javax.validation.constraints.*;
 public class AccountTransferRequestDto {
     @NotNull
     @Digits(integer = 19, fraction = 0)
+    @AccountFullNumber
     private final Long withdrawFullNumber;
 
     @NotNull
     @Digits(integer = 19, fraction = 0)
+    @AccountFullNumber
     private final Long depositFullNumber;
 
     @NotNull
@@ -4,6 +4,7 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import shop.woosung.bank.account.controller.validation.AccountFullNumber;
 import shop.woosung.bank.transaction.domain.TransactionType;
 
 import javax.validation.constraints.*;
@@ -14,6 +15,7 @@ public class AccountWithdrawRequestDto {
 
     @NotNull
     @Digits(integer = 19, fraction = 0)
+    @AccountFullNumber
     private Long fullNumber;
 
     @NotNull
@@ -0,0 +1,21 @@
+package shop.woosung.bank.account.controller.port;
+
+import shop.woosung.bank.account.service.dto.AccountBalanceSlotResponseDto;
+import shop.woosung.bank.account.service.dto.AccountLockContentionResponseDto;
+import shop.woosung.bank.account.service.dto.AccountLockRetryStatResponseDto;
+import shop.woosung.bank.account.service.dto.AccountTypeNumberResponseDto;
+
+import java.util.List;
+
+public interface AccountAdminService {
+
+    List<AccountLockRetryStatResponseDto> getLockRetryStats();
+
+    AccountLockContentionResponseDto getLockContention();
+
+    AccountBalanceSlotResponseDto enableBalanceSlots(Long fullNumber, int slotCount);
+
+    AccountBalanceSlotResponseDto disableBalanceSlots(Long fullNumber);
+
+    List<AccountTypeNumberResponseDto> reloadAccountTypes();
+}
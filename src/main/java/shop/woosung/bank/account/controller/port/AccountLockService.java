@@ -2,10 +2,15 @@ package shop.woosung.bank.account.controller.port;
 
 import shop.woosung.bank.account.domain.Account;
 import shop.woosung.bank.account.domain.AccountType;
+import shop.woosung.bank.account.service.dto.AccountPayoutLockResponseDto;
+import shop.woosung.bank.account.service.dto.AccountPayoutLockServiceDto;
 import shop.woosung.bank.account.service.dto.AccountTransferLockResponseDto;
 import shop.woosung.bank.account.service.dto.AccountTransferLockServiceDto;
 import shop.woosung.bank.account.service.dto.AccountWithdrawLockServiceDto;
 
+/**
+ * 출금 계좌의 비밀번호는 락 안에서 검증하지 않는다. 호출 전에 AccountCredentialVerifier 로 검증해야 한다.
+ */
 public interface AccountLockService {
 
     Account depositAccountWithLock(Long fullNumber, Long amount);
@@ -15,4 +20,6 @@ public interface AccountLockService {
     Long getNewAccountNumber (AccountType accountType);
 
     AccountTransferLockResponseDto transferWithLock(AccountTransferLockServiceDto accountTransferLockServiceDto);
+
+    AccountPayoutLockResponseDto payoutWithLock(AccountPayoutLockServiceDto accountPayoutLockServiceDto);
 }
@@ -3,12 +3,16 @@ package shop.woosung.bank.account.controller.port;
 import shop.woosung.bank.account.service.dto.*;
 import shop.woosung.bank.user.domain.User;
 
+import java.util.List;
+
 public interface AccountService {
 
     AccountListResponseDto getAccountList(User user);
 
     AccountRegisterResponseDto register(AccountRegisterRequestServiceDto accountRegisterRequestServiceDto, User user);
 
+    AccountBulkRegisterResponseDto registerAll(List<AccountRegisterRequestServiceDto> accountRegisterRequestServiceDtos, User user);
+
     void deleteAccount(Long fullNumber, User user);
 
     AccountDepositResponseDto deposit(AccountDepositRequestServiceDto accountDepositRequestServiceDto);
@@ -16,4 +20,6 @@ public interface AccountService {
     AccountWithdrawResponseDto withdraw(AccountWithdrawRequestServiceDto accountWithdrawRequestServiceDto, User user);
 
     AccountTransferResponseDto transfer(AccountTransferRequestServiceDto accountTransferRequestServiceDto, User user);
+
+    AccountPayoutResponseDto payout(AccountPayoutRequestServiceDto accountPayoutRequestServiceDto, User user);
 }
@@ -0,0 +1,23 @@
+package shop.woosung.bank.account.controller.validation;
+
+import javax.validation.Constraint;
+import javax.validation.Payload;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 계좌 전체 번호의 자릿수와 검증 숫자, 앞 3자리가 등록된 계좌 종류 번호인지를 확인한다. null 은 검사하지 않으므로 @NotNull 과 함께 사용한다.
+ * 종류 번호는 AccountTypeRegistry 에서 읽으므로 스프링이 만든 Validator 로 검증해야 한다.
+ */
+@Target({ElementType.FIELD, ElementType.PARAMETER, ElementType.TYPE_USE})
+@Retention(RetentionPolicy.RUNTIME)
+@Constraint(validatedBy = AccountFullNumberValidator.class)
+public @interface AccountFullNumber {
+    String message() default "잘못된 계좌 번호입니다.";
+
+    Class<?>[] groups() default {};
+
+    Class<? extends Payload>[] payload() default {};
+}
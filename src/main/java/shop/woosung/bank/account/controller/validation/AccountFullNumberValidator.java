@@ -0,0 +1,19 @@
+package shop.woosung.bank.account.controller.validation;
+
+import lombok.RequiredArgsConstructor;
+import shop.woosung.bank.account.domain.AccountNumberCodec;
+import shop.woosung.bank.account.service.AccountTypeRegistry;
+
+import javax.validation.ConstraintValidator;
+import javax.validation.ConstraintValidatorContext;
+
+@RequiredArgsConstructor
+public class AccountFullNumberValidator implements ConstraintValidator<AccountFullNumber, Long> {
+
+    private final AccountTypeRegistry accountTypeRegistry;
+
+    @Override
+    public boolean isValid(Long value, ConstraintValidatorContext context) {
+        return value == null || AccountNumberCodec.isWellFormed(value, accountTypeRegistry.getTypeNumbers().values());
+    }
+}
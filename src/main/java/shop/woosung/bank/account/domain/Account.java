@@ -19,28 +19,37 @@ public class Account {
     private String password;
     private Long balance;
     private AccountType type;
+    private Long version;
     private User user;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 
     @Builder
-    public Account(Long id, Long number, Long fullNumber, String password, Long balance, AccountType type, User user, LocalDateTime createdAt, LocalDateTime updatedAt) {
+    public Account(Long id, Long number, Long fullNumber, String password, Long balance, AccountType type, Long version, User user, LocalDateTime createdAt, LocalDateTime updatedAt) {
         this.id = id;
         this.number = number;
         this.fullNumber = fullNumber;
         this.password = password;
         this.balance = balance;
         this.type = type;
+        this.version = version;
         this.user = user;
         this.createdAt = createdAt;
         this.updatedAt = updatedAt;
     }
 
     public static Account register(AccountRegister accountRegister, PasswordEncoder passwordEncoder) {
+        return register(accountRegister, passwordEncoder.encode(accountRegister.getPassword()));
+    }
+
+    /**
+     * 비밀번호 해시를 미리 계산해 둔 경우(일괄 등록) 사용한다.
+     */
+    public static Account register(AccountRegister accountRegister, String encodedPassword) {
         return Account.builder()
                 .number(accountRegister.getNewNumber())
-                .fullNumber(concatNumbers(accountRegister.getTypeNumber(), accountRegister.getNewNumber()))
-                .password(passwordEncoder.encode(accountRegister.getPassword()))
+                .fullNumber(AccountNumberCodec.compose(accountRegister.getTypeNumber(), accountRegister.getNewNumber()))
+                .password(encodedPassword)
                 .balance(accountRegister.getBalance())
                 .type(accountRegister.getAccountType())
                 .user(accountRegister.getUser())
@@ -73,8 +82,7 @@ public class Account {
         balance = balance - amount;
     }
 
-    private static Long concatNumbers(Long num1, Long num2) {
-        String concatenatedStr = num1 + "" + num2;
-        return Long.parseLong(concatenatedStr);
+    public void changeBalance(Long balance) {
+        this.balance = balance;
     }
 }
@@ -0,0 +1,28 @@
+package shop.woosung.bank.account.domain;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+public class AccountBalanceSlot {
+    private Long id;
+    private Long accountFullNumber;
+    private Integer slot;
+    private Long balance;
+
+    @Builder
+    public AccountBalanceSlot(Long id, Long accountFullNumber, Integer slot, Long balance) {
+        this.id = id;
+        this.accountFullNumber = accountFullNumber;
+        this.slot = slot;
+        this.balance = balance;
+    }
+
+    public static AccountBalanceSlot create(Long accountFullNumber, Integer slot) {
+        return AccountBalanceSlot.builder()
+                .accountFullNumber(accountFullNumber)
+                .slot(slot)
+                .balance(0L)
+                .build();
+    }
+}
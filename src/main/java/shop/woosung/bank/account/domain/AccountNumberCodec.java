@@ -0,0 +1,84 @@
+package shop.woosung.bank.account.domain;
+
+import java.util.Collection;
+
+/**
+ * 계좌 전체 번호(fullNumber) = 계좌 종류 번호(3자리) + 시퀀스(10자리, 앞을 0으로 채움) + 검증 숫자(Luhn, 1자리).
+ *
+ * 검증 숫자는 숫자 하나를 잘못 입력하거나 인접한 두 숫자를 바꿔 입력한 경우를 대부분 잡아내므로,
+ * 잘못 입력된 번호를 DB 조회 없이 요청 단계에서 거절할 수 있다.
+ * 검증 숫자 도입 전에 발급된 13자리 번호(종류 번호 + 시퀀스)는 검증 숫자가 없으므로 자릿수만 확인하고 그대로 허용한다.
+ * 앞 3자리가 실제로 운영 중인 계좌 종류 번호인지는 호출하는 쪽이 가진 종류 번호 목록으로 확인한다.
+ */
+public final class AccountNumberCodec {
+    private static final long SEQUENCE_BOUND = 10_000_000_000L;
+    private static final long TYPE_NUMBER_MIN = 100L;
+    private static final long TYPE_NUMBER_MAX = 999L;
+    private static final int FULL_NUMBER_DIGITS = 14;
+    private static final int LEGACY_FULL_NUMBER_DIGITS = 13;
+
+    private AccountNumberCodec() {
+    }
+
+    public static long compose(long typeNumber, long sequence) {
+        if (typeNumber < TYPE_NUMBER_MIN || typeNumber > TYPE_NUMBER_MAX) {
+            throw new IllegalArgumentException("계좌 종류 번호는 3자리여야 합니다. typeNumber : " + typeNumber);
+        }
+        if (sequence < 0 || sequence >= SEQUENCE_BOUND) {
+            throw new IllegalArgumentException("계좌 번호 시퀀스는 10자리를 넘을 수 없습니다. sequence : " + sequence);
+        }
+        long payload = typeNumber * SEQUENCE_BOUND + sequence;
+        return payload * 10 + checkDigit(payload);
+    }
+
+    public static boolean isWellFormed(long fullNumber) {
+        int digits = digits(fullNumber);
+        if (digits == LEGACY_FULL_NUMBER_DIGITS) {
+            return true;
+        }
+        return digits == FULL_NUMBER_DIGITS && fullNumber % 10 == checkDigit(fullNumber / 10);
+    }
+
+    public static boolean isWellFormed(long fullNumber, Collection<Long> typeNumbers) {
+        return isWellFormed(fullNumber) && typeNumbers.contains(typeNumberOf(fullNumber));
+    }
+
+    public static long typeNumberOf(long fullNumber) {
+        int digits = digits(fullNumber);
+        if (digits == FULL_NUMBER_DIGITS) {
+            return fullNumber / (SEQUENCE_BOUND * 10);
+        }
+        if (digits == LEGACY_FULL_NUMBER_DIGITS) {
+            return fullNumber / SEQUENCE_BOUND;
+        }
+        throw new IllegalArgumentException("계좌 전체 번호의 자릿수가 잘못되었습니다. fullNumber : " + fullNumber);
+    }
+
+    static int checkDigit(long payload) {
+        int sum = 0;
+        boolean doubled = true;
+        for (long remaining = payload; remaining > 0; remaining /= 10) {
+            int digit = (int) (remaining % 10);
+            if (doubled) {
+                digit *= 2;
+                if (digit > 9) {
+                    digit -= 9;
+                }
+            }
+            sum += digit;
+            doubled = !doubled;
+        }
+        return (10 - sum % 10) % 10;
+    }
+
+    private static int digits(long number) {
+        if (number <= 0) {
+            return 0;
+        }
+        int digits = 0;
+        for (long remaining = number; remaining > 0; remaining /= 10) {
+            digits++;
+        }
+        return digits;
+    }
+}
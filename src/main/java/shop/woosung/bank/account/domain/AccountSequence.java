@@ -19,4 +19,13 @@ public class AccountSequence {
     public void incrementNextValue() {
         this.nextValue += this.incrementBy;
     }
+
+    /**
+     * 다음 값부터 size 개의 번호를 한 번에 예약하고 다음 값을 그만큼 건너뛴다.
+     */
+    public AccountSequenceBlock reserve(int size) {
+        AccountSequenceBlock accountSequenceBlock = new AccountSequenceBlock(this.nextValue, this.incrementBy, size);
+        this.nextValue += this.incrementBy * size;
+        return accountSequenceBlock;
+    }
 }
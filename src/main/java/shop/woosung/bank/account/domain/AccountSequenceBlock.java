@@ -0,0 +1,35 @@
+package shop.woosung.bank.account.domain;
+
+import lombok.Getter;
+
+import java.util.OptionalLong;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 계좌 번호 시퀀스에서 미리 예약한 번호 구간. 여러 스레드가 동시에 next 를 호출해도 같은 번호를 두 번 주지 않는다.
+ */
+@Getter
+public class AccountSequenceBlock {
+    private final long first;
+    private final long incrementBy;
+    private final int size;
+    private final AtomicLong issued = new AtomicLong();
+
+    public AccountSequenceBlock(long first, long incrementBy, int size) {
+        this.first = first;
+        this.incrementBy = incrementBy;
+        this.size = size;
+    }
+
+    public OptionalLong next() {
+        long index = issued.getAndIncrement();
+        if (index >= size) {
+            return OptionalLong.empty();
+        }
+        return OptionalLong.of(first + index * incrementBy);
+    }
+
+    public long getRemaining() {
+        return Math.max(0, size - issued.get());
+    }
+}
@@ -0,0 +1,28 @@
+package shop.woosung.bank.account.domain;
+
+import lombok.Getter;
+
+/**
+ * 계좌 목록 조회용 읽기 모델. 소유자와 비밀번호 해시 없이 화면에 필요한 컬럼만 담는다.
+ */
+@Getter
+public class AccountSummary {
+    private final Long id;
+    private final Long fullNumber;
+    private final Long balance;
+    private final AccountType type;
+
+    public AccountSummary(Long id, Long fullNumber, Long balance, AccountType type) {
+        this.id = id;
+        this.fullNumber = fullNumber;
+        this.balance = balance;
+        this.type = type;
+    }
+
+    public AccountSummary plusBalance(long amount) {
+        if (amount == 0) {
+            return this;
+        }
+        return new AccountSummary(id, fullNumber, balance + amount, type);
+    }
+}
@@ -0,0 +1,42 @@
+package shop.woosung.bank.account.domain;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 서로 다른 파티션의 계좌 사이에서 차감과 입금을 나누어 커밋할 때, 차감하기 전에 남기는 이체 의도.
+ * 상태 변경은 해당 잔액 변경과 같은 트랜잭션으로 커밋되고, 입금이나 되돌림이 끝나면 삭제된다.
+ * 따라서 남아 있는 WITHDRAWN 의도는 차감만 되고 마무리되지 않은 금액이다.
+ */
+@Getter
+public class AccountTransferIntent {
+    private Long id;
+    private Long withdrawFullNumber;
+    private Long depositFullNumber;
+    private Long amount;
+    private AccountTransferIntentStatus status;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+
+    @Builder
+    public AccountTransferIntent(Long id, Long withdrawFullNumber, Long depositFullNumber, Long amount, AccountTransferIntentStatus status, LocalDateTime createdAt, LocalDateTime updatedAt) {
+        this.id = id;
+        this.withdrawFullNumber = withdrawFullNumber;
+        this.depositFullNumber = depositFullNumber;
+        this.amount = amount;
+        this.status = status;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+    }
+
+    public static AccountTransferIntent create(Long withdrawFullNumber, Long depositFullNumber, Long amount) {
+        return AccountTransferIntent.builder()
+                .withdrawFullNumber(withdrawFullNumber)
+                .depositFullNumber(depositFullNumber)
+                .amount(amount)
+                .status(AccountTransferIntentStatus.PENDING)
+                .build();
+    }
+}
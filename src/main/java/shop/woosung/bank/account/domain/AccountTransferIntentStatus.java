@@ -0,0 +1,12 @@
+package shop.woosung.bank.account.domain;
+
+public enum AccountTransferIntentStatus {
+    /**
+     * 기록만 되었고 출금 계좌에서 아직 차감되지 않았다.
+     */
+    PENDING,
+    /**
+     * 출금 계좌에서 차감이 커밋되었고 입금 또는 되돌림이 남아 있다.
+     */
+    WITHDRAWN
+}
@@ -63,4 +63,39 @@ public class AccountControllerAdvice {
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(ApiResponse.error("동일 계좌 이체"));
     }
 
+    @ExceptionHandler(AccountLockTimeoutException.class)
+    public ResponseEntity<ApiResponse<Object>> handleAccountLockTimeoutException(HttpServletRequest request, AccountLockTimeoutException exception) {
+        log.error("request.getRequestURI() = {}, ", request.getRequestURI());
+        log.error("AccountLockTimeoutException = {}", exception.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(ApiResponse.error("요청이 많아 처리가 지연되고 있습니다."));
+    }
+
+    @ExceptionHandler(AccountConcurrentUpdateException.class)
+    public ResponseEntity<ApiResponse<Object>> handleAccountConcurrentUpdateException(HttpServletRequest request, AccountConcurrentUpdateException exception) {
+        log.error("request.getRequestURI() = {}, ", request.getRequestURI());
+        log.error("AccountConcurrentUpdateException = {}", exception.getMessage());
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(ApiResponse.error("동시 요청이 많아 처리하지 못했습니다. 잠시 후 다시 시도해주세요."));
+    }
+
+    @ExceptionHandler(AccountBalanceChangedException.class)
+    public ResponseEntity<ApiResponse<Object>> handleAccountBalanceChangedException(HttpServletRequest request, AccountBalanceChangedException exception) {
+        log.error("request.getRequestURI() = {}, ", request.getRequestURI());
+        log.error("AccountBalanceChangedException = {}", exception.getMessage());
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(ApiResponse.error("동시 요청이 많아 처리하지 못했습니다. 잠시 후 다시 시도해주세요."));
+    }
+
+    @ExceptionHandler(AccountTransferIntentConflictException.class)
+    public ResponseEntity<ApiResponse<Object>> handleAccountTransferIntentConflictException(HttpServletRequest request, AccountTransferIntentConflictException exception) {
+        log.error("request.getRequestURI() = {}, ", request.getRequestURI());
+        log.error("AccountTransferIntentConflictException = {}", exception.getMessage());
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(ApiResponse.error("처리가 지연되어 이체를 취소했습니다. 잔액을 확인해주세요."));
+    }
+
+    @ExceptionHandler(AccountCredentialBusyException.class)
+    public ResponseEntity<ApiResponse<Object>> handleAccountCredentialBusyException(HttpServletRequest request, AccountCredentialBusyException exception) {
+        log.error("request.getRequestURI() = {}, ", request.getRequestURI());
+        log.error("AccountCredentialBusyException = {}", exception.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(ApiResponse.error("요청이 많아 처리가 지연되고 있습니다."));
+    }
+
 }
@@ -0,0 +1,7 @@
+package shop.woosung.bank.account.handler.exception;
+
+public class AccountBalanceChangedException extends RuntimeException {
+    public AccountBalanceChangedException(Long accountFullNumber) {
+        super("메모리에 읽은 뒤 다른 곳에서 계좌가 변경되어 잔액을 기록하지 않았습니다. accountFullNumber : " + accountFullNumber);
+    }
+}
@@ -0,0 +1,7 @@
+package shop.woosung.bank.account.handler.exception;
+
+public class AccountConcurrentUpdateException extends RuntimeException {
+    public AccountConcurrentUpdateException(String operation, int attempts) {
+        super("계좌 동시 수정 충돌로 재시도 횟수를 초과했습니다. operation : " + operation + ", attempts : " + attempts);
+    }
+}
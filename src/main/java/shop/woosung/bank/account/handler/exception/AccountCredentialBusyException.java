@@ -0,0 +1,7 @@
+package shop.woosung.bank.account.handler.exception;
+
+public class AccountCredentialBusyException extends RuntimeException {
+    public AccountCredentialBusyException(Long accountFullNumber) {
+        super("계좌 비밀번호 검증 대기 시간을 초과했습니다. accountFullNumber : " + accountFullNumber);
+    }
+}
@@ -0,0 +1,9 @@
+package shop.woosung.bank.account.handler.exception;
+
+import java.util.List;
+
+public class AccountLockTimeoutException extends RuntimeException {
+    public AccountLockTimeoutException(List<Long> accountFullNumbers) {
+        super("계좌 락 대기 시간을 초과했습니다. accountFullNumbers : " + accountFullNumbers);
+    }
+}
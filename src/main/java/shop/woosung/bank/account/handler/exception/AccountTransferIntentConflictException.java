@@ -0,0 +1,9 @@
+package shop.woosung.bank.account.handler.exception;
+
+import java.util.List;
+
+public class AccountTransferIntentConflictException extends RuntimeException {
+    public AccountTransferIntentConflictException(List<Long> intentIds) {
+        super("이체 의도가 이미 다른 곳에서 처리되었습니다. intentIds : " + intentIds);
+    }
+}
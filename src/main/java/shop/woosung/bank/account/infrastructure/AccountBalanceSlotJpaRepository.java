@@ -0,0 +1,44 @@
+package shop.woosung.bank.account.infrastructure;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import shop.woosung.bank.account.infrastructure.entity.AccountBalanceSlotEntity;
+
+import javax.persistence.LockModeType;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface AccountBalanceSlotJpaRepository extends JpaRepository<AccountBalanceSlotEntity, Long> {
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE AccountBalanceSlotEntity s SET s.balance = s.balance + :amount " +
+            "WHERE s.accountFullNumber = :accountFullNumber AND s.slot = :slot")
+    int increaseBalance(Long accountFullNumber, Integer slot, Long amount);
+
+    @Query("SELECT COALESCE(SUM(s.balance), 0) FROM AccountBalanceSlotEntity s WHERE s.accountFullNumber = :accountFullNumber")
+    Long sumBalance(Long accountFullNumber);
+
+    @Query(value = "SELECT a.balance + COALESCE((SELECT SUM(s.balance) FROM account_balance_slot_entity s " +
+            "WHERE s.account_full_number = a.full_number), 0) FROM account_entity a WHERE a.full_number = :accountFullNumber", nativeQuery = true)
+    Optional<Long> findTotalBalance(Long accountFullNumber);
+
+    @Query("SELECT s.accountFullNumber, SUM(s.balance) FROM AccountBalanceSlotEntity s " +
+            "WHERE s.accountFullNumber IN :accountFullNumbers GROUP BY s.accountFullNumber")
+    List<Object[]> sumBalanceGroupByAccountFullNumber(Collection<Long> accountFullNumbers);
+
+    @Query("SELECT s.accountFullNumber, COUNT(s) FROM AccountBalanceSlotEntity s GROUP BY s.accountFullNumber")
+    List<Object[]> countGroupByAccountFullNumber();
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM AccountBalanceSlotEntity s WHERE s.accountFullNumber = :accountFullNumber ORDER BY s.slot")
+    List<AccountBalanceSlotEntity> findByAccountFullNumberWithPessimisticLock(Long accountFullNumber);
+
+    long countByAccountFullNumber(Long accountFullNumber);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM AccountBalanceSlotEntity s WHERE s.accountFullNumber = :accountFullNumber")
+    int deleteByAccountFullNumber(Long accountFullNumber);
+}
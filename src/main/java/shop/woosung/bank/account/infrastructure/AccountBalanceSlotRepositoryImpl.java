@@ -0,0 +1,71 @@
+package shop.woosung.bank.account.infrastructure;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+import shop.woosung.bank.account.domain.AccountBalanceSlot;
+import shop.woosung.bank.account.infrastructure.entity.AccountBalanceSlotEntity;
+import shop.woosung.bank.account.service.port.AccountBalanceSlotRepository;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+@RequiredArgsConstructor
+@Repository
+public class AccountBalanceSlotRepositoryImpl implements AccountBalanceSlotRepository {
+
+    private final AccountBalanceSlotJpaRepository accountBalanceSlotJpaRepository;
+
+    @Override
+    public AccountBalanceSlot save(AccountBalanceSlot accountBalanceSlot) {
+        return accountBalanceSlotJpaRepository.save(AccountBalanceSlotEntity.fromModel(accountBalanceSlot)).toModel();
+    }
+
+    @Override
+    public boolean increaseBalance(Long accountFullNumber, Integer slot, Long amount) {
+        return accountBalanceSlotJpaRepository.increaseBalance(accountFullNumber, slot, amount) > 0;
+    }
+
+    @Override
+    public Long sumBalance(Long accountFullNumber) {
+        return accountBalanceSlotJpaRepository.sumBalance(accountFullNumber);
+    }
+
+    @Override
+    public Optional<Long> findTotalBalance(Long accountFullNumber) {
+        return accountBalanceSlotJpaRepository.findTotalBalance(accountFullNumber);
+    }
+
+    @Override
+    public Map<Long, Long> sumBalanceByAccountFullNumbers(List<Long> accountFullNumbers) {
+        if (accountFullNumbers.isEmpty()) {
+            return Map.of();
+        }
+        return accountBalanceSlotJpaRepository.sumBalanceGroupByAccountFullNumber(accountFullNumbers).stream()
+                .collect(Collectors.toMap(row -> (Long) row[0], row -> ((Number) row[1]).longValue()));
+    }
+
+    @Override
+    public Long drainWithLock(Long accountFullNumber) {
+        return accountBalanceSlotJpaRepository.findByAccountFullNumberWithPessimisticLock(accountFullNumber).stream()
+                .mapToLong(AccountBalanceSlotEntity::drain)
+                .sum();
+    }
+
+    @Override
+    public Map<Long, Integer> findSlotCounts() {
+        return accountBalanceSlotJpaRepository.countGroupByAccountFullNumber().stream()
+                .collect(Collectors.toMap(row -> (Long) row[0], row -> ((Number) row[1]).intValue()));
+    }
+
+    @Override
+    public int countByAccountFullNumber(Long accountFullNumber) {
+        return (int) accountBalanceSlotJpaRepository.countByAccountFullNumber(accountFullNumber);
+    }
+
+    @Override
+    public void deleteByAccountFullNumber(Long accountFullNumber) {
+        accountBalanceSlotJpaRepository.deleteByAccountFullNumber(accountFullNumber);
+    }
+}
@@ -2,20 +2,46 @@ package shop.woosung.bank.account.infrastructure;
 
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import shop.woosung.bank.account.domain.AccountSummary;
 import shop.woosung.bank.account.infrastructure.entity.AccountEntity;
 
 import javax.persistence.LockModeType;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
 public interface AccountJpaRepository extends JpaRepository<AccountEntity, Long> {
 
-    List<AccountEntity> findByUserId(Long userId);
+    /**
+     * a.user.id 는 외래 키 컬럼으로 바로 비교하므로 사용자 테이블을 조인하지 않는다.
+     */
+    @Query("SELECT new shop.woosung.bank.account.domain.AccountSummary(a.id, a.fullNumber, a.balance, a.type) " +
+            "FROM AccountEntity a WHERE a.user.id = :userId ORDER BY a.id")
+    List<AccountSummary> findSummariesByUserId(Long userId);
 
     Optional<AccountEntity> findByFullNumber(Long fullNumber);
 
     @Lock(LockModeType.PESSIMISTIC_WRITE)
     @Query("SELECT a FROM AccountEntity a WHERE a.fullNumber = :fullNumber")
     Optional<AccountEntity> findByFullNumberWithPessimisticLock(Long fullNumber);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE AccountEntity a SET a.balance = a.balance + :amount, a.version = a.version + 1, a.updatedAt = :updatedAt " +
+            "WHERE a.fullNumber = :fullNumber")
+    int increaseBalance(Long fullNumber, Long amount, LocalDateTime updatedAt);
+
+    /**
+     * a.user.id 는 외래 키 컬럼으로 바로 비교하므로 사용자 테이블을 조인하지 않는다.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE AccountEntity a SET a.balance = a.balance - :amount, a.version = a.version + 1, a.updatedAt = :updatedAt " +
+            "WHERE a.fullNumber = :fullNumber AND a.user.id = :userId AND a.balance >= :amount")
+    int decreaseOwnBalanceIfEnough(Long fullNumber, Long userId, Long amount, LocalDateTime updatedAt);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE AccountEntity a SET a.balance = :balance, a.version = a.version + 1, a.updatedAt = :updatedAt " +
+            "WHERE a.fullNumber = :fullNumber AND a.version = :expectedVersion")
+    int overwriteBalance(Long fullNumber, Long balance, Long expectedVersion, LocalDateTime updatedAt);
 }
@@ -1,11 +1,15 @@
 package shop.woosung.bank.account.infrastructure;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Repository;
 import shop.woosung.bank.account.domain.Account;
+import shop.woosung.bank.account.domain.AccountSummary;
+import shop.woosung.bank.account.handler.exception.NotFoundAccountFullNumberException;
 import shop.woosung.bank.account.infrastructure.entity.AccountEntity;
 import shop.woosung.bank.account.service.port.AccountRepository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
@@ -17,9 +21,8 @@ public class AccountRepositoryImpl implements AccountRepository {
     private final AccountJpaRepository accountJpaRepository;
 
     @Override
-    public List<Account> findByUserId(Long userId) {
-        return accountJpaRepository.findByUserId(userId).stream()
-                .map(AccountEntity::toModel).collect(Collectors.toList());
+    public List<AccountSummary> findSummariesByUserId(Long userId) {
+        return accountJpaRepository.findSummariesByUserId(userId);
     }
 
     @Override
@@ -27,6 +30,17 @@ public class AccountRepositoryImpl implements AccountRepository {
         return accountJpaRepository.save(AccountEntity.fromModel(account)).toModel();
     }
 
+    /**
+     * id 를 INSERT 전에 발급하므로 hibernate.jdbc.batch_size 단위로 INSERT 가 JDBC 배치로 묶인다.
+     */
+    @Override
+    public List<Account> saveAll(List<Account> accounts) {
+        List<AccountEntity> accountEntities = accounts.stream()
+                .map(AccountEntity::fromModel).collect(Collectors.toList());
+        return accountJpaRepository.saveAll(accountEntities).stream()
+                .map(AccountEntity::toModel).collect(Collectors.toList());
+    }
+
     @Override
     public Optional<Account> findByFullNumber(Long fullNumber) {
         return accountJpaRepository.findByFullNumber(fullNumber).map(AccountEntity::toModel);
@@ -42,8 +56,33 @@ public class AccountRepositoryImpl implements AccountRepository {
         return accountJpaRepository.findByFullNumberWithPessimisticLock(fullNumber).map(AccountEntity::toModel);
     }
 
+    /**
+     * 같은 트랜잭션에서 읽은 영속 엔티티에 잔액만 반영하고 나머지는 변경 감지에 맡긴다.
+     * 분리된 엔티티를 merge 하지 않으므로 계좌/사용자 엔티티를 새로 만들거나 다시 조회하지 않고, 잔액 관련 컬럼만 UPDATE 된다.
+     * 읽은 뒤 다른 트랜잭션이 먼저 변경했다면 merge 와 같이 ObjectOptimisticLockingFailureException 을 발생시킨다.
+     */
     @Override
     public void update(Account account) {
-        accountJpaRepository.save(AccountEntity.fromModel(account));
+        AccountEntity accountEntity = accountJpaRepository.findById(account.getId())
+                .orElseThrow(() -> new NotFoundAccountFullNumberException(account.getFullNumber()));
+        if (!accountEntity.getVersion().equals(account.getVersion())) {
+            throw new ObjectOptimisticLockingFailureException(AccountEntity.class, account.getId());
+        }
+        accountEntity.changeBalance(account.getBalance());
+    }
+
+    @Override
+    public boolean applyDeposit(Long fullNumber, Long amount) {
+        return accountJpaRepository.increaseBalance(fullNumber, amount, LocalDateTime.now()) > 0;
+    }
+
+    @Override
+    public boolean applyWithdraw(Long fullNumber, Long userId, Long amount) {
+        return accountJpaRepository.decreaseOwnBalanceIfEnough(fullNumber, userId, amount, LocalDateTime.now()) > 0;
+    }
+
+    @Override
+    public boolean overwriteBalance(Long fullNumber, Long balance, Long expectedVersion) {
+        return accountJpaRepository.overwriteBalance(fullNumber, balance, expectedVersion, LocalDateTime.now()) > 0;
     }
 }
@@ -0,0 +1,24 @@
+package shop.woosung.bank.account.infrastructure;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import shop.woosung.bank.account.domain.AccountTransferIntentStatus;
+import shop.woosung.bank.account.infrastructure.entity.AccountTransferIntentEntity;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface AccountTransferIntentJpaRepository extends JpaRepository<AccountTransferIntentEntity, Long> {
+
+    List<AccountTransferIntentEntity> findByUpdatedAtBeforeOrderByIdAsc(LocalDateTime updatedAt);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE AccountTransferIntentEntity i SET i.status = :to, i.updatedAt = :now WHERE i.id IN :ids AND i.status = :from")
+    int changeStatus(Collection<Long> ids, AccountTransferIntentStatus from, AccountTransferIntentStatus to, LocalDateTime now);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM AccountTransferIntentEntity i WHERE i.id IN :ids AND i.status = :status")
+    int deleteByIdInAndStatus(Collection<Long> ids, AccountTransferIntentStatus status);
+}
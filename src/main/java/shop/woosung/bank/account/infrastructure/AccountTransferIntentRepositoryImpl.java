@@ -0,0 +1,46 @@
+package shop.woosung.bank.account.infrastructure;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+import shop.woosung.bank.account.domain.AccountTransferIntent;
+import shop.woosung.bank.account.domain.AccountTransferIntentStatus;
+import shop.woosung.bank.account.infrastructure.entity.AccountTransferIntentEntity;
+import shop.woosung.bank.account.service.port.AccountTransferIntentRepository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+@RequiredArgsConstructor
+@Repository
+public class AccountTransferIntentRepositoryImpl implements AccountTransferIntentRepository {
+
+    private final AccountTransferIntentJpaRepository accountTransferIntentJpaRepository;
+
+    @Override
+    public List<AccountTransferIntent> saveAll(List<AccountTransferIntent> accountTransferIntents) {
+        return accountTransferIntentJpaRepository.saveAll(accountTransferIntents.stream()
+                        .map(AccountTransferIntentEntity::fromModel)
+                        .collect(Collectors.toList()))
+                .stream()
+                .map(AccountTransferIntentEntity::toModel)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<AccountTransferIntent> findUpdatedBefore(LocalDateTime updatedAt) {
+        return accountTransferIntentJpaRepository.findByUpdatedAtBeforeOrderByIdAsc(updatedAt).stream()
+                .map(AccountTransferIntentEntity::toModel)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public boolean changeStatus(List<Long> intentIds, AccountTransferIntentStatus from, AccountTransferIntentStatus to) {
+        return accountTransferIntentJpaRepository.changeStatus(intentIds, from, to, LocalDateTime.now()) == intentIds.size();
+    }
+
+    @Override
+    public boolean delete(List<Long> intentIds, AccountTransferIntentStatus status) {
+        return accountTransferIntentJpaRepository.deleteByIdInAndStatus(intentIds, status) == intentIds.size();
+    }
+}
@@ -6,7 +6,9 @@ import shop.woosung.bank.account.domain.AccountTypeNumber;
 import shop.woosung.bank.account.infrastructure.entity.AccountTypeNumberEntity;
 import shop.woosung.bank.account.service.port.AccountTypeNumberRepository;
 
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 @RequiredArgsConstructor
 @Repository
@@ -19,6 +21,12 @@ public class AccountTypeNumberRepositoryImpl implements AccountTypeNumberReposit
         return accountTypeNumberJpaRepository.findById(accountType).map(AccountTypeNumberEntity::toModel);
     }
 
+    @Override
+    public List<AccountTypeNumber> findAll() {
+        return accountTypeNumberJpaRepository.findAll().stream()
+                .map(AccountTypeNumberEntity::toModel).collect(Collectors.toList());
+    }
+
     @Override
     public AccountTypeNumber save(AccountTypeNumber accountTypeNumber) {
         return accountTypeNumberJpaRepository.save(AccountTypeNumberEntity.fromModel(accountTypeNumber)).toModel();
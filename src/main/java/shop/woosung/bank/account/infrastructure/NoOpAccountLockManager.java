@@ -0,0 +1,18 @@
+package shop.woosung.bank.account.infrastructure;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import shop.woosung.bank.account.service.port.AccountLockManager;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+@Profile("!striped-lock")
+@Component
+public class NoOpAccountLockManager implements AccountLockManager {
+
+    @Override
+    public <T> T executeWithLock(List<Long> fullNumbers, Supplier<T> action) {
+        return action.get();
+    }
+}
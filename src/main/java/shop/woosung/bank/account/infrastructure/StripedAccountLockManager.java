@@ -0,0 +1,95 @@
+package shop.woosung.bank.account.infrastructure;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import shop.woosung.bank.account.handler.exception.AccountLockTimeoutException;
+import shop.woosung.bank.account.service.port.AccountLockManager;
+import shop.woosung.bank.config.AccountProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * DB 행 락(SELECT ... FOR UPDATE) 앞단의 인메모리 스트라이프 락
+ * 같은 계좌에 대한 요청은 커넥션을 잡지 않은 채 JVM 안에서 대기하고, 락을 획득한 요청만 DB 행 락을 시도한다.
+ * 스트라이프 개수만큼만 락 객체를 유지하므로 계좌 수와 무관하게 메모리 사용량이 고정된다.
+ */
+@Slf4j
+@Profile("striped-lock")
+@Component
+public class StripedAccountLockManager implements AccountLockManager {
+
+    private final ReentrantLock[] stripes;
+    private final int mask;
+    private final long timeoutNanos;
+
+    public StripedAccountLockManager(AccountProperties accountProperties) {
+        int stripeCount = ceilingPowerOfTwo(accountProperties.getLock().getStripes());
+        this.stripes = new ReentrantLock[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            // 대기 순서를 보장해 꼬리 지연(p99)이 튀지 않도록 공정 락을 사용한다.
+            this.stripes[i] = new ReentrantLock(true);
+        }
+        this.mask = stripeCount - 1;
+        this.timeoutNanos = accountProperties.getLock().getTimeout().toNanos();
+    }
+
+    @Override
+    public <T> T executeWithLock(List<Long> fullNumbers, Supplier<T> action) {
+        List<ReentrantLock> acquiredLocks = new ArrayList<>();
+        try {
+            for (int stripeIndex : orderedStripeIndexes(fullNumbers)) {
+                ReentrantLock lock = stripes[stripeIndex];
+                acquire(lock, fullNumbers);
+                acquiredLocks.add(lock);
+            }
+            return action.get();
+        } finally {
+            for (int i = acquiredLocks.size() - 1; i >= 0; i--) {
+                acquiredLocks.get(i).unlock();
+            }
+        }
+    }
+
+    /**
+     * 데드락 방지 전략 - 순환 대기 방지
+     * transferWithLock 과 같이 항상 작은 순서대로 락을 획득한다.
+     * 서로 다른 계좌 번호가 같은 스트라이프에 매핑될 수 있으므로 계좌 번호가 아닌 스트라이프 번호로 정렬하고 중복을 제거한다.
+     * (계좌 번호 순으로 정렬하면 스트라이프 충돌 시 두 스레드가 역순으로 스트라이프를 잡아 데드락이 발생할 수 있다.)
+     */
+    private int[] orderedStripeIndexes(List<Long> fullNumbers) {
+        return fullNumbers.stream()
+                .mapToInt(this::stripeIndex)
+                .distinct()
+                .sorted()
+                .toArray();
+    }
+
+    private int stripeIndex(Long fullNumber) {
+        int hash = Long.hashCode(fullNumber);
+        return (hash ^ (hash >>> 16)) & mask;
+    }
+
+    private void acquire(ReentrantLock lock, List<Long> fullNumbers) {
+        try {
+            if (!lock.tryLock(timeoutNanos, TimeUnit.NANOSECONDS)) {
+                throw new AccountLockTimeoutException(fullNumbers);
+            }
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            log.error("InterruptedException = {}", exception.getMessage());
+            throw new AccountLockTimeoutException(fullNumbers);
+        }
+    }
+
+    private static int ceilingPowerOfTwo(int value) {
+        if (value <= 1) {
+            return 1;
+        }
+        return Integer.highestOneBit(value - 1) << 1;
+    }
+}
@@ -0,0 +1,56 @@
+package shop.woosung.bank.account.infrastructure.entity;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import shop.woosung.bank.account.domain.AccountBalanceSlot;
+
+import javax.persistence.*;
+
+/**
+ * 분할 잔액 모드 계좌의 부분 잔액 행.
+ * 입금이 account_entity 행 대신 슬롯 행 하나만 잠그도록 외래 키 없이 계좌 번호로만 연결한다.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(uniqueConstraints = @UniqueConstraint(columnNames = {"accountFullNumber", "slot"}))
+@Entity
+public class AccountBalanceSlotEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long accountFullNumber;
+
+    @Column(nullable = false)
+    private Integer slot;
+
+    @Column(nullable = false)
+    private Long balance;
+
+    public static AccountBalanceSlotEntity fromModel(AccountBalanceSlot accountBalanceSlot) {
+        AccountBalanceSlotEntity accountBalanceSlotEntity = new AccountBalanceSlotEntity();
+        accountBalanceSlotEntity.id = accountBalanceSlot.getId();
+        accountBalanceSlotEntity.accountFullNumber = accountBalanceSlot.getAccountFullNumber();
+        accountBalanceSlotEntity.slot = accountBalanceSlot.getSlot();
+        accountBalanceSlotEntity.balance = accountBalanceSlot.getBalance();
+        return accountBalanceSlotEntity;
+    }
+
+    public AccountBalanceSlot toModel() {
+        return AccountBalanceSlot.builder()
+                .id(id)
+                .accountFullNumber(accountFullNumber)
+                .slot(slot)
+                .balance(balance)
+                .build();
+    }
+
+    public Long drain() {
+        Long drained = balance;
+        balance = 0L;
+        return drained;
+    }
+}
@@ -4,6 +4,9 @@ package shop.woosung.bank.account.infrastructure.entity;
 import javax.persistence.*;
 
 import lombok.AccessLevel;
+import org.hibernate.Hibernate;
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.GenericGenerator;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 import lombok.Getter;
@@ -11,16 +14,20 @@ import lombok.NoArgsConstructor;
 import shop.woosung.bank.account.domain.Account;
 import shop.woosung.bank.account.domain.AccountType;
 import shop.woosung.bank.common.infrastructure.BaseTimeEntity;
+import shop.woosung.bank.user.domain.User;
 import shop.woosung.bank.user.infrastructure.UserEntity;
 
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @EntityListeners(AuditingEntityListener.class)
+@DynamicUpdate
+@Table(indexes = @Index(name = "idx_account_user_id", columnList = "user_id"))
 @Entity
 public class AccountEntity extends BaseTimeEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(generator = "time-ordered-id")
+    @GenericGenerator(name = "time-ordered-id", strategy = "shop.woosung.bank.common.infrastructure.TimeOrderedIdGenerator")
     private Long id;
 
     @Column(nullable = false, length = 20)
@@ -38,6 +45,10 @@ public class AccountEntity extends BaseTimeEntity {
     @Enumerated(EnumType.STRING)
     private AccountType type;
 
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id")
     private UserEntity user;
@@ -51,12 +62,23 @@ public class AccountEntity extends BaseTimeEntity {
         accountEntity.password = account.getPassword();
         accountEntity.balance = account.getBalance();
         accountEntity.type = account.getType();
+        accountEntity.version = account.getVersion();
         accountEntity.user = UserEntity.fromModel(account.getUser());
         accountEntity.createdAt = account.getCreatedAt();
         accountEntity.updatedAt = account.getUpdatedAt();
         return accountEntity;
     }
 
+    /**
+     * 영속 상태의 엔티티에 잔액만 반영한다. @DynamicUpdate 로 변경 감지 시 balance, updated_at, version 컬럼만 UPDATE 된다.
+     */
+    public void changeBalance(Long balance) {
+        this.balance = balance;
+    }
+
+    /**
+     * 사용자 프록시가 아직 초기화되지 않았으면 id 만 채운다. 계좌 도메인은 소유자 확인에 사용자 id 만 사용하므로 사용자 행을 추가로 조회하지 않는다.
+     */
     public Account toModel() {
         return Account.builder()
                 .id(id)
@@ -65,7 +87,8 @@ public class AccountEntity extends BaseTimeEntity {
                 .password(password)
                 .balance(balance)
                 .type(type)
-                .user(user.toModel())
+                .version(version)
+                .user(Hibernate.isInitialized(user) ? user.toModel() : User.builder().id(user.getId()).build())
                 .createdAt(createdAt)
                 .updatedAt(updatedAt)
                 .build();
@@ -0,0 +1,65 @@
+package shop.woosung.bank.account.infrastructure.entity;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.GenericGenerator;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+import shop.woosung.bank.account.domain.AccountTransferIntent;
+import shop.woosung.bank.account.domain.AccountTransferIntentStatus;
+import shop.woosung.bank.common.infrastructure.BaseTimeEntity;
+
+import javax.persistence.*;
+
+/**
+ * 마무리된 의도는 삭제하므로 이 테이블에는 진행 중이거나 복구가 필요한 이체만 남는다.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@EntityListeners(AuditingEntityListener.class)
+@Table(indexes = @Index(name = "idx_account_transfer_intent_updated_at", columnList = "updatedAt"))
+@Entity
+public class AccountTransferIntentEntity extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(generator = "time-ordered-id")
+    @GenericGenerator(name = "time-ordered-id", strategy = "shop.woosung.bank.common.infrastructure.TimeOrderedIdGenerator")
+    private Long id;
+
+    @Column(nullable = false)
+    private Long withdrawFullNumber;
+
+    @Column(nullable = false)
+    private Long depositFullNumber;
+
+    @Column(nullable = false)
+    private Long amount;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private AccountTransferIntentStatus status;
+
+    public static AccountTransferIntentEntity fromModel(AccountTransferIntent accountTransferIntent) {
+        AccountTransferIntentEntity accountTransferIntentEntity = new AccountTransferIntentEntity();
+        accountTransferIntentEntity.id = accountTransferIntent.getId();
+        accountTransferIntentEntity.withdrawFullNumber = accountTransferIntent.getWithdrawFullNumber();
+        accountTransferIntentEntity.depositFullNumber = accountTransferIntent.getDepositFullNumber();
+        accountTransferIntentEntity.amount = accountTransferIntent.getAmount();
+        accountTransferIntentEntity.status = accountTransferIntent.getStatus();
+        accountTransferIntentEntity.createdAt = accountTransferIntent.getCreatedAt();
+        accountTransferIntentEntity.updatedAt = accountTransferIntent.getUpdatedAt();
+        return accountTransferIntentEntity;
+    }
+
+    public AccountTransferIntent toModel() {
+        return AccountTransferIntent.builder()
+                .id(id)
+                .withdrawFullNumber(withdrawFullNumber)
+                .depositFullNumber(depositFullNumber)
+                .amount(amount)
+                .status(status)
+                .createdAt(createdAt)
+                .updatedAt(updatedAt)
+                .build();
+    }
+}
@@ -0,0 +1,57 @@
+package shop.woosung.bank.account.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import shop.woosung.bank.account.controller.port.AccountAdminService;
+import shop.woosung.bank.account.domain.Account;
+import shop.woosung.bank.account.service.dto.AccountBalanceSlotResponseDto;
+import shop.woosung.bank.account.service.dto.AccountLockContentionResponseDto;
+import shop.woosung.bank.account.service.dto.AccountLockRetryStatResponseDto;
+import shop.woosung.bank.account.service.dto.AccountTypeNumberResponseDto;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+@RequiredArgsConstructor
+@Service
+public class AccountAdminServiceImpl implements AccountAdminService {
+    private final AccountLockRetryMetrics accountLockRetryMetrics;
+    private final AccountLockMetrics accountLockMetrics;
+    private final AccountBalanceSlotServiceImpl accountBalanceSlotService;
+    private final AccountBalanceSlotRegistry accountBalanceSlotRegistry;
+    private final AccountTypeRegistry accountTypeRegistry;
+
+    @Override
+    public List<AccountLockRetryStatResponseDto> getLockRetryStats() {
+        return accountLockRetryMetrics.snapshot();
+    }
+
+    @Override
+    public AccountLockContentionResponseDto getLockContention() {
+        return accountLockMetrics.snapshot();
+    }
+
+    /**
+     * 레지스트리는 슬롯 행이 커밋된 뒤에 갱신한다.
+     */
+    @Override
+    public AccountBalanceSlotResponseDto enableBalanceSlots(Long fullNumber, int slotCount) {
+        Account account = accountBalanceSlotService.enable(fullNumber, slotCount);
+        accountBalanceSlotRegistry.register(fullNumber, slotCount);
+        return AccountBalanceSlotResponseDto.from(account, slotCount);
+    }
+
+    @Override
+    public AccountBalanceSlotResponseDto disableBalanceSlots(Long fullNumber) {
+        Account account = accountBalanceSlotService.disable(fullNumber);
+        accountBalanceSlotRegistry.unregister(fullNumber);
+        return AccountBalanceSlotResponseDto.from(account, 0);
+    }
+
+    @Override
+    public List<AccountTypeNumberResponseDto> reloadAccountTypes() {
+        return accountTypeRegistry.reload().entrySet().stream()
+                .map(entry -> AccountTypeNumberResponseDto.of(entry.getKey(), entry.getValue()))
+                .collect(Collectors.toList());
+    }
+}
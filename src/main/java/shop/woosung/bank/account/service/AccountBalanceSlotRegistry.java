@@ -0,0 +1,58 @@
+package shop.woosung.bank.account.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import shop.woosung.bank.account.service.port.AccountBalanceSlotRepository;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 분할 잔액 모드로 지정된 계좌와 슬롯 개수를 메모리에 보관한다.
+ * 쓰기 경로에서 매 요청마다 슬롯 테이블을 조회하지 않기 위한 캐시이며, 다른 서버에서 변경한 내용은 주기적으로 다시 읽어 반영한다.
+ * 캐시가 늦게 반영되더라도 잔액은 항상 계좌 행 + 슬롯 합계로 계산되므로 금액이 틀어지지는 않는다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class AccountBalanceSlotRegistry implements ApplicationRunner {
+
+    private final AccountBalanceSlotRepository accountBalanceSlotRepository;
+    private volatile Map<Long, Integer> slotCounts = Map.of();
+
+    @Override
+    public void run(ApplicationArguments args) {
+        reload();
+    }
+
+    @Scheduled(initialDelayString = "${bank.account.balance-slot.refresh-interval:PT30S}",
+            fixedDelayString = "${bank.account.balance-slot.refresh-interval:PT30S}")
+    public void reload() {
+        slotCounts = Map.copyOf(accountBalanceSlotRepository.findSlotCounts());
+        log.debug("balance slot accounts reloaded, size = {}", slotCounts.size());
+    }
+
+    public boolean isSharded(Long accountFullNumber) {
+        return slotCounts.containsKey(accountFullNumber);
+    }
+
+    public int getSlotCount(Long accountFullNumber) {
+        return slotCounts.getOrDefault(accountFullNumber, 0);
+    }
+
+    public synchronized void register(Long accountFullNumber, int slotCount) {
+        Map<Long, Integer> newSlotCounts = new HashMap<>(slotCounts);
+        newSlotCounts.put(accountFullNumber, slotCount);
+        slotCounts = Map.copyOf(newSlotCounts);
+    }
+
+    public synchronized void unregister(Long accountFullNumber) {
+        Map<Long, Integer> newSlotCounts = new HashMap<>(slotCounts);
+        newSlotCounts.remove(accountFullNumber);
+        slotCounts = Map.copyOf(newSlotCounts);
+    }
+}
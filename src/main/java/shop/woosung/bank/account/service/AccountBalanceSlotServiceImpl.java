@@ -0,0 +1,178 @@
+package shop.woosung.bank.account.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import shop.woosung.bank.account.domain.Account;
+import shop.woosung.bank.account.domain.AccountBalanceSlot;
+import shop.woosung.bank.account.handler.exception.NotFoundAccountFullNumberException;
+import shop.woosung.bank.account.handler.exception.SameAccountTransferException;
+import shop.woosung.bank.account.service.dto.AccountPayoutLegDto;
+import shop.woosung.bank.account.service.dto.AccountPayoutLockResponseDto;
+import shop.woosung.bank.account.service.dto.AccountPayoutLockServiceDto;
+import shop.woosung.bank.account.service.dto.AccountTransferLockResponseDto;
+import shop.woosung.bank.account.service.dto.AccountTransferLockServiceDto;
+import shop.woosung.bank.account.service.dto.AccountWithdrawLockServiceDto;
+import shop.woosung.bank.account.service.port.AccountBalanceSlotRepository;
+import shop.woosung.bank.account.service.port.AccountRepository;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 분할 잔액 모드 계좌의 쓰기 경로.
+ * 잔액은 계좌 행 잔액 + 슬롯 잔액 합계이며, 입금은 임의의 슬롯 행 하나만 잠그고 증가시킨다.
+ * 출금은 계좌 행을 잠근 뒤 슬롯 행을 슬롯 번호 순서로 모두 잠가 계좌 행으로 모은 다음 기존과 같이 처리한다.
+ * 락 획득 순서는 항상 계좌 행 -> 슬롯 행이고 입금은 슬롯 하나만 잡으므로 순환 대기가 생기지 않는다.
+ * 이체/지급의 입금 계좌도 분할 잔액 모드면 슬롯을 모아 입금 후 잔액이 계좌 행 + 슬롯 합계가 되게 한다.
+ */
+@RequiredArgsConstructor
+@Service
+public class AccountBalanceSlotServiceImpl {
+    private final AccountRepository accountRepository;
+    private final AccountBalanceSlotRepository accountBalanceSlotRepository;
+    private final AccountBalanceSlotRegistry accountBalanceSlotRegistry;
+
+    /**
+     * 반환되는 잔액은 커밋 직전 시점의 계좌 행 + 슬롯 합계이다.
+     * 다른 슬롯에 대한 입금과는 직렬화되지 않으므로 거래 내역의 입금 후 잔액은 그 시점의 스냅샷이다.
+     */
+    @Transactional
+    public Account deposit(Long fullNumber, Long amount, int slotCount) {
+        Account depositAccount = getAccount(fullNumber);
+
+        int slot = ThreadLocalRandom.current().nextInt(slotCount);
+        // 다른 서버에서 분할 모드가 해제되어 슬롯이 없어진 경우 계좌 행에 직접 입금한다.
+        if (!accountBalanceSlotRepository.increaseBalance(fullNumber, slot, amount) && !accountRepository.applyDeposit(fullNumber, amount)) {
+            throw new NotFoundAccountFullNumberException(fullNumber);
+        }
+
+        depositAccount.changeBalance(accountBalanceSlotRepository.findTotalBalance(fullNumber)
+                .orElseThrow(() -> new NotFoundAccountFullNumberException(fullNumber)));
+        return depositAccount;
+    }
+
+    @Transactional
+    public Account withdraw(AccountWithdrawLockServiceDto accountWithdrawLockServiceDto) {
+        Account withdrawAccount = getAccountWithLockAndCollectSlots(accountWithdrawLockServiceDto.getFullNumber());
+
+        withdrawAccount.checkOwner(accountWithdrawLockServiceDto.getUser().getId());
+        withdrawAccount.checkEnoughBalance(accountWithdrawLockServiceDto.getAmount());
+        withdrawAccount.withdraw(accountWithdrawLockServiceDto.getAmount());
+
+        accountRepository.update(withdrawAccount);
+
+        return withdrawAccount;
+    }
+
+    @Transactional
+    public AccountTransferLockResponseDto transfer(AccountTransferLockServiceDto accountTransferLockServiceDto) {
+        checkSameAccount(accountTransferLockServiceDto.getWithdrawFullNumber(), accountTransferLockServiceDto.getDepositFullNumber());
+
+        // 계좌 행은 기존과 같이 계좌 번호가 작은 순서대로 잠근다.
+        Account withdrawAccount;
+        Account depositAccount;
+
+        if(accountTransferLockServiceDto.getWithdrawFullNumber() < accountTransferLockServiceDto.getDepositFullNumber()) {
+            withdrawAccount = getAccountWithLockAndCollectSlots(accountTransferLockServiceDto.getWithdrawFullNumber());
+            depositAccount = getDepositAccountWithLock(accountTransferLockServiceDto.getDepositFullNumber());
+        } else {
+            depositAccount = getDepositAccountWithLock(accountTransferLockServiceDto.getDepositFullNumber());
+            withdrawAccount = getAccountWithLockAndCollectSlots(accountTransferLockServiceDto.getWithdrawFullNumber());
+        }
+
+        withdrawAccount.checkOwner(accountTransferLockServiceDto.getUser().getId());
+        withdrawAccount.checkEnoughBalance(accountTransferLockServiceDto.getAmount());
+        withdrawAccount.withdraw(accountTransferLockServiceDto.getAmount());
+
+        depositAccount.deposit(accountTransferLockServiceDto.getAmount());
+
+        accountRepository.update(withdrawAccount);
+        accountRepository.update(depositAccount);
+
+        return AccountTransferLockResponseDto.from(withdrawAccount, depositAccount);
+    }
+
+    /**
+     * 출금 계좌나 입금 계좌 중 하나라도 분할 잔액 모드인 지급. 슬롯을 모으는 것 외에는 AccountLockServiceImpl 과 같다.
+     */
+    @Transactional
+    public AccountPayoutLockResponseDto payout(AccountPayoutLockServiceDto accountPayoutLockServiceDto) {
+        Long withdrawFullNumber = accountPayoutLockServiceDto.getWithdrawFullNumber();
+        accountPayoutLockServiceDto.getLegs().forEach(leg -> checkSameAccount(withdrawFullNumber, leg.getDepositFullNumber()));
+
+        Map<Long, Account> lockedAccounts = new HashMap<>();
+        for (Long fullNumber : accountPayoutLockServiceDto.getOrderedFullNumbers()) {
+            lockedAccounts.put(fullNumber, fullNumber.equals(withdrawFullNumber) ? getAccountWithLockAndCollectSlots(fullNumber) : getDepositAccountWithLock(fullNumber));
+        }
+
+        Account withdrawAccount = lockedAccounts.get(withdrawFullNumber);
+        withdrawAccount.checkOwner(accountPayoutLockServiceDto.getUser().getId());
+        withdrawAccount.checkEnoughBalance(accountPayoutLockServiceDto.getTotalAmount());
+
+        long withdrawAccountBalance = withdrawAccount.getBalance();
+        withdrawAccount.withdraw(accountPayoutLockServiceDto.getTotalAmount());
+
+        List<AccountPayoutLockResponseDto.LegDto> legs = new ArrayList<>();
+        for (AccountPayoutLegDto leg : accountPayoutLockServiceDto.getLegs()) {
+            Account depositAccount = lockedAccounts.get(leg.getDepositFullNumber());
+            depositAccount.deposit(leg.getAmount());
+            withdrawAccountBalance -= leg.getAmount();
+            legs.add(AccountPayoutLockResponseDto.LegDto.of(depositAccount, leg.getAmount(), withdrawAccountBalance));
+        }
+
+        lockedAccounts.values().forEach(accountRepository::update);
+
+        return AccountPayoutLockResponseDto.of(withdrawAccount, legs);
+    }
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public Account enable(Long fullNumber, int slotCount) {
+        Account account = getAccountWithLock(fullNumber);
+
+        for (int slot = accountBalanceSlotRepository.countByAccountFullNumber(fullNumber); slot < slotCount; slot++) {
+            accountBalanceSlotRepository.save(AccountBalanceSlot.create(fullNumber, slot));
+        }
+
+        account.changeBalance(account.getBalance() + accountBalanceSlotRepository.sumBalance(fullNumber));
+        return account;
+    }
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public Account disable(Long fullNumber) {
+        Account account = getAccountWithLockAndCollectSlots(fullNumber);
+        accountRepository.update(account);
+        accountBalanceSlotRepository.deleteByAccountFullNumber(fullNumber);
+        return account;
+    }
+
+    private Account getAccountWithLockAndCollectSlots(Long fullNumber) {
+        Account account = getAccountWithLock(fullNumber);
+        account.changeBalance(account.getBalance() + accountBalanceSlotRepository.drainWithLock(fullNumber));
+        return account;
+    }
+
+    private Account getDepositAccountWithLock(Long fullNumber) {
+        return accountBalanceSlotRegistry.isSharded(fullNumber) ? getAccountWithLockAndCollectSlots(fullNumber) : getAccountWithLock(fullNumber);
+    }
+
+    private Account getAccountWithLock(Long fullNumber) {
+        return accountRepository.findByFullNumberWithPessimisticLock(fullNumber)
+                .orElseThrow(() -> new NotFoundAccountFullNumberException(fullNumber));
+    }
+
+    private Account getAccount(Long fullNumber) {
+        return accountRepository.findByFullNumber(fullNumber)
+                .orElseThrow(() -> new NotFoundAccountFullNumberException(fullNumber));
+    }
+
+    private void checkSameAccount(Long withdrawFullNumber, Long depositFullNumber) {
+        if(withdrawFullNumber.equals(depositFullNumber)) {
+            throw new SameAccountTransferException(withdrawFullNumber);
+        }
+    }
+}
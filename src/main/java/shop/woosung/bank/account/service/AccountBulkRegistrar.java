@@ -0,0 +1,127 @@
+package shop.woosung.bank.account.service;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import shop.woosung.bank.account.domain.Account;
+import shop.woosung.bank.account.domain.AccountSequenceBlock;
+import shop.woosung.bank.account.domain.AccountType;
+import shop.woosung.bank.account.service.dto.AccountRegisterRequestServiceDto;
+import shop.woosung.bank.account.service.port.AccountRepository;
+import shop.woosung.bank.common.service.port.PasswordEncoder;
+import shop.woosung.bank.config.AccountProperties;
+import shop.woosung.bank.user.domain.User;
+
+import javax.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static shop.woosung.bank.account.util.AccountServiceToDomainConverter.accountRegisterConvert;
+
+/**
+ * 여러 계좌를 한 번에 등록한다.
+ *
+ * 건별 등록을 반복하면 계좌마다 시퀀스 행 락, 계좌 종류 번호 조회, BCrypt 해시, 단건 INSERT 를 한 번씩 거친다.
+ * 일괄 등록은 계좌 종류 번호를 AccountTypeRegistry 에서 꺼내 쓰고, 계좌 종류별로 필요한 개수만큼의 연속된 번호를 시퀀스 행 한 번의 갱신으로 예약한다.
+ * 해시 계산은 트랜잭션 바깥의 전용 스레드 풀에서 요청을 스레드 수만큼 나누어 병렬로 하고,
+ * INSERT 는 마지막에 짧은 트랜잭션 하나에서 JDBC 배치로 묶어 커밋한다.
+ *
+ * 한 요청이 풀에 넣는 작업은 스레드 수를 넘지 않으므로 큰 요청이 여러 개 동시에 들어와도 대기 작업이 계좌 수만큼 쌓이지 않는다.
+ * INSERT 가 실패하면 예약한 번호는 버려지므로 계좌 번호에 빈 구간이 생길 수 있다.
+ */
+@Component
+public class AccountBulkRegistrar {
+    private final AccountNumberAllocator accountNumberAllocator;
+    private final AccountTypeRegistry accountTypeRegistry;
+    private final AccountRepository accountRepository;
+    private final PasswordEncoder passwordEncoder;
+    private final TransactionTemplate transactionTemplate;
+    private final int threads;
+    private final ExecutorService executorService;
+
+    public AccountBulkRegistrar(AccountNumberAllocator accountNumberAllocator, AccountTypeRegistry accountTypeRegistry,
+                                AccountRepository accountRepository, PasswordEncoder passwordEncoder,
+                                AccountProperties accountProperties, PlatformTransactionManager transactionManager) {
+        this.accountNumberAllocator = accountNumberAllocator;
+        this.accountTypeRegistry = accountTypeRegistry;
+        this.accountRepository = accountRepository;
+        this.passwordEncoder = passwordEncoder;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.threads = accountProperties.getBulkRegister().getThreads();
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executorService = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "account-bulk-register-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 등록한 계좌를 요청 순서대로 반환한다.
+     */
+    public List<Account> register(List<AccountRegisterRequestServiceDto> accountRegisterRequestServiceDtos, User user) {
+        Map<AccountType, Long> typeNumbers = new EnumMap<>(AccountType.class);
+        Map<AccountType, Integer> counts = new EnumMap<>(AccountType.class);
+        for (AccountRegisterRequestServiceDto accountRegisterRequestServiceDto : accountRegisterRequestServiceDtos) {
+            counts.merge(accountRegisterRequestServiceDto.getType(), 1, Integer::sum);
+        }
+        for (AccountType accountType : counts.keySet()) {
+            typeNumbers.put(accountType, accountTypeRegistry.getTypeNumber(accountType));
+        }
+
+        List<String> encodedPasswords = encodeAll(accountRegisterRequestServiceDtos);
+
+        Map<AccountType, AccountSequenceBlock> blocks = new EnumMap<>(AccountType.class);
+        counts.forEach((accountType, count) -> blocks.put(accountType, accountNumberAllocator.reserve(accountType, count)));
+
+        List<Account> accounts = new ArrayList<>(accountRegisterRequestServiceDtos.size());
+        for (int i = 0; i < accountRegisterRequestServiceDtos.size(); i++) {
+            AccountRegisterRequestServiceDto accountRegisterRequestServiceDto = accountRegisterRequestServiceDtos.get(i);
+            AccountType accountType = accountRegisterRequestServiceDto.getType();
+            Long newNumber = blocks.get(accountType).next().getAsLong();
+            accounts.add(Account.register(accountRegisterConvert(accountRegisterRequestServiceDto, typeNumbers.get(accountType), newNumber, user), encodedPasswords.get(i)));
+        }
+
+        return transactionTemplate.execute(status -> accountRepository.saveAll(accounts));
+    }
+
+    private List<String> encodeAll(List<AccountRegisterRequestServiceDto> accountRegisterRequestServiceDtos) {
+        int size = accountRegisterRequestServiceDtos.size();
+        String[] encodedPasswords = new String[size];
+        int sliceSize = (size + threads - 1) / threads;
+
+        List<CompletableFuture<Void>> slices = new ArrayList<>();
+        for (int from = 0; from < size; from += sliceSize) {
+            int start = from;
+            int end = Math.min(from + sliceSize, size);
+            slices.add(CompletableFuture.runAsync(() -> {
+                for (int i = start; i < end; i++) {
+                    encodedPasswords[i] = passwordEncoder.encode(accountRegisterRequestServiceDtos.get(i).getPassword());
+                }
+            }, executorService));
+        }
+
+        try {
+            CompletableFuture.allOf(slices.toArray(new CompletableFuture<?>[0])).join();
+        } catch (CompletionException exception) {
+            if (exception.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) exception.getCause();
+            }
+            throw exception;
+        }
+        return List.of(encodedPasswords);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executorService.shutdownNow();
+    }
+}
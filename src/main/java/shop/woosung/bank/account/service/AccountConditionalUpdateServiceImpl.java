@@ -0,0 +1,85 @@
+package shop.woosung.bank.account.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import shop.woosung.bank.account.domain.Account;
+import shop.woosung.bank.account.handler.exception.NotEnoughBalanceException;
+import shop.woosung.bank.account.handler.exception.NotFoundAccountFullNumberException;
+import shop.woosung.bank.account.handler.exception.SameAccountTransferException;
+import shop.woosung.bank.account.service.dto.AccountTransferLockResponseDto;
+import shop.woosung.bank.account.service.dto.AccountTransferLockServiceDto;
+import shop.woosung.bank.account.service.dto.AccountWithdrawLockServiceDto;
+import shop.woosung.bank.account.service.port.AccountRepository;
+
+/**
+ * 잔액 변경은 먼저 읽지 않고 조건부 UPDATE 한 문장으로 수행한 뒤, 같은 트랜잭션에서 계좌를 한 번 읽어 반환한다.
+ * 출금 UPDATE 의 조건에 소유자와 잔액을 함께 넣으므로 성공 경로는 계좌당 UPDATE 1번과 조회 1번이다.
+ * 행 락은 UPDATE 시점부터 커밋까지만 유지되고, 영향받은 행이 없을 때만 계좌를 읽어 실패 원인을 구분한다.
+ */
+@RequiredArgsConstructor
+@Service
+public class AccountConditionalUpdateServiceImpl {
+    private final AccountRepository accountRepository;
+
+    @Transactional
+    public Account deposit(Long fullNumber, Long amount) {
+        increaseBalance(fullNumber, amount);
+        return getAccount(fullNumber);
+    }
+
+    @Transactional
+    public Account withdraw(AccountWithdrawLockServiceDto accountWithdrawLockServiceDto) {
+        Long fullNumber = accountWithdrawLockServiceDto.getFullNumber();
+        decreaseBalanceIfEnough(fullNumber, accountWithdrawLockServiceDto.getUser().getId(), accountWithdrawLockServiceDto.getAmount());
+        return getAccount(fullNumber);
+    }
+
+    @Transactional
+    public AccountTransferLockResponseDto transfer(AccountTransferLockServiceDto accountTransferLockServiceDto) {
+        Long withdrawFullNumber = accountTransferLockServiceDto.getWithdrawFullNumber();
+        Long depositFullNumber = accountTransferLockServiceDto.getDepositFullNumber();
+        Long amount = accountTransferLockServiceDto.getAmount();
+        Long userId = accountTransferLockServiceDto.getUser().getId();
+        checkSameAccount(withdrawFullNumber, depositFullNumber);
+
+        // UPDATE 가 행 락을 잡는 순서도 계좌 번호가 작은 순서로 맞춰 순환 대기를 방지한다.
+        if (withdrawFullNumber < depositFullNumber) {
+            decreaseBalanceIfEnough(withdrawFullNumber, userId, amount);
+            increaseBalance(depositFullNumber, amount);
+        } else {
+            increaseBalance(depositFullNumber, amount);
+            decreaseBalanceIfEnough(withdrawFullNumber, userId, amount);
+        }
+
+        return AccountTransferLockResponseDto.from(getAccount(withdrawFullNumber), getAccount(depositFullNumber));
+    }
+
+    private void increaseBalance(Long fullNumber, Long amount) {
+        if (!accountRepository.applyDeposit(fullNumber, amount)) {
+            throw new NotFoundAccountFullNumberException(fullNumber);
+        }
+    }
+
+    /**
+     * UPDATE 가 실패한 경우에만 계좌를 읽어 없는 계좌, 소유자 불일치, 잔액 부족 순으로 원인을 구분한다.
+     */
+    private void decreaseBalanceIfEnough(Long fullNumber, Long userId, Long amount) {
+        if (accountRepository.applyWithdraw(fullNumber, userId, amount)) {
+            return;
+        }
+        getAccount(fullNumber).checkOwner(userId);
+        throw new NotEnoughBalanceException("계좌 잔액이 부족합니다. 출금 요청 금액: " + amount);
+    }
+
+    private Account getAccount(Long fullNumber) {
+        return accountRepository.findByFullNumber(fullNumber)
+                .orElseThrow(() -> new NotFoundAccountFullNumberException(fullNumber));
+    }
+
+    private void checkSameAccount(Long withdrawFullNumber, Long depositFullNumber) {
+        if(withdrawFullNumber.equals(depositFullNumber)) {
+            throw new SameAccountTransferException(withdrawFullNumber);
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package shop.woosung.bank.account.service;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import shop.woosung.bank.account.domain.Account;
+import shop.woosung.bank.account.handler.exception.AccountCredentialBusyException;
+import shop.woosung.bank.account.handler.exception.NotFoundAccountFullNumberException;
+import shop.woosung.bank.account.handler.exception.NotMatchAccountPasswordException;
+import shop.woosung.bank.account.service.port.AccountRepository;
+import shop.woosung.bank.common.service.port.PasswordEncoder;
+import shop.woosung.bank.config.AccountProperties;
+
+import javax.annotation.PreDestroy;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 출금 계좌의 소유자와 비밀번호를 계좌 락을 잡기 전에 검증한다.
+ *
+ * 비밀번호 해시 비교(BCrypt)는 수십 ms 의 CPU 를 쓰므로 락 안에서 하면 같은 계좌의 다른 요청이 해시 계산 시간만큼 기다리게 된다.
+ * 계좌는 짧은 읽기 전용 트랜잭션으로 락 없이 읽고, 해시 비교는 트랜잭션 바깥의 전용 스레드 풀에서 수행한다.
+ * 스레드 풀은 스레드 수와 대기 수가 제한되어 있어 해시 계산이 몰려도 요청 스레드와 CPU 를 모두 점유하지 않으며,
+ * 대기 자리가 timeout 안에 나지 않으면 AccountCredentialBusyException 으로 실패시킨다.
+ *
+ * 계좌 비밀번호와 소유자는 잔액과 달리 이체 도중 바뀌지 않으므로 락 밖에서 검증한 결과를 그대로 사용할 수 있다.
+ */
+@Component
+public class AccountCredentialVerifier {
+    private final AccountRepository accountRepository;
+    private final PasswordEncoder passwordEncoder;
+    private final TransactionTemplate readOnlyTransactionTemplate;
+    private final AccountProperties.Credential properties;
+    private final ExecutorService executorService;
+    private final Semaphore permits;
+
+    public AccountCredentialVerifier(AccountRepository accountRepository, PasswordEncoder passwordEncoder,
+                                     AccountProperties accountProperties, PlatformTransactionManager transactionManager) {
+        this.accountRepository = accountRepository;
+        this.passwordEncoder = passwordEncoder;
+        this.readOnlyTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate.setReadOnly(true);
+        this.properties = accountProperties.getCredential();
+        this.permits = new Semaphore(properties.getThreads() + properties.getQueueCapacity());
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executorService = Executors.newFixedThreadPool(properties.getThreads(), runnable -> {
+            Thread thread = new Thread(runnable, "account-credential-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public void verify(Long fullNumber, Long userId, String password) {
+        Account account = readOnlyTransactionTemplate.execute(status -> accountRepository.findByFullNumber(fullNumber))
+                .orElseThrow(() -> new NotFoundAccountFullNumberException(fullNumber));
+        account.checkOwner(userId);
+
+        if (!matches(fullNumber, password, account.getPassword())) {
+            throw new NotMatchAccountPasswordException();
+        }
+    }
+
+    private boolean matches(Long fullNumber, String password, String encodedPassword) {
+        acquire(fullNumber);
+        try {
+            return CompletableFuture.supplyAsync(() -> passwordEncoder.matches(password, encodedPassword), executorService)
+                    .whenComplete((matched, exception) -> permits.release())
+                    .join();
+        } catch (CompletionException exception) {
+            if (exception.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) exception.getCause();
+            }
+            throw exception;
+        }
+    }
+
+    private void acquire(Long fullNumber) {
+        try {
+            if (!permits.tryAcquire(properties.getTimeout().toNanos(), TimeUnit.NANOSECONDS)) {
+                throw new AccountCredentialBusyException(fullNumber);
+            }
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new AccountCredentialBusyException(fullNumber);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executorService.shutdownNow();
+    }
+}
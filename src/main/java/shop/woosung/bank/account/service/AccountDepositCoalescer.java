@@ -0,0 +1,145 @@
+package shop.woosung.bank.account.service;
+
+import org.springframework.stereotype.Component;
+import shop.woosung.bank.account.controller.port.AccountLockService;
+import shop.woosung.bank.account.service.dto.AccountDepositRequestServiceDto;
+import shop.woosung.bank.account.service.dto.AccountDepositResponseDto;
+import shop.woosung.bank.config.AccountProperties;
+import shop.woosung.bank.transaction.domain.Transaction;
+import shop.woosung.bank.transaction.service.port.TransactionRepository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static shop.woosung.bank.account.util.AccountServiceToDomainConverter.depositTransactionCreateConvert;
+
+/**
+ * 같은 계좌로 짧은 시간 안에 들어온 입금을 하나로 묶어 처리한다.
+ * 묶음의 첫 요청(리더)이 window 동안 또는 maxBatchSize 가 찰 때까지 기다린 뒤 합계 금액으로 한 번만 락을 잡아 입금하고,
+ * 요청마다 거래 내역을 만들어 한 번에 저장한다. 나머지 요청은 리더가 채워 주는 결과를 기다린다.
+ * 거래 내역의 입금 후 잔액은 묶음 안의 요청 순서대로 누적한 값이다.
+ */
+@Component
+public class AccountDepositCoalescer {
+
+    private final AccountLockService accountLockService;
+    private final AccountWriteExecutor accountWriteExecutor;
+    private final TransactionRepository transactionRepository;
+    private final AccountProperties.DepositCoalescing properties;
+    private final ConcurrentMap<Long, Batch> batches = new ConcurrentHashMap<>();
+
+    public AccountDepositCoalescer(AccountLockService accountLockService, AccountWriteExecutor accountWriteExecutor,
+                                   TransactionRepository transactionRepository, AccountProperties accountProperties) {
+        this.accountLockService = accountLockService;
+        this.accountWriteExecutor = accountWriteExecutor;
+        this.transactionRepository = transactionRepository;
+        this.properties = accountProperties.getDepositCoalescing();
+    }
+
+    public boolean isEnabled() {
+        return properties.isEnabled();
+    }
+
+    public AccountDepositResponseDto deposit(AccountDepositRequestServiceDto accountDepositRequestServiceDto) {
+        Long fullNumber = accountDepositRequestServiceDto.getFullNumber();
+        DepositRequest depositRequest = new DepositRequest(accountDepositRequestServiceDto);
+
+        Batch batch;
+        boolean leader;
+        while (true) {
+            batch = batches.computeIfAbsent(fullNumber, key -> new Batch());
+            synchronized (batch) {
+                if (!batch.closed && batch.depositRequests.size() < properties.getMaxBatchSize()) {
+                    batch.depositRequests.add(depositRequest);
+                    leader = batch.depositRequests.size() == 1;
+                    if (batch.depositRequests.size() == properties.getMaxBatchSize()) {
+                        batch.notifyAll();
+                    }
+                    break;
+                }
+            }
+            batches.remove(fullNumber, batch);
+        }
+
+        if (leader) {
+            runBatch(fullNumber, batch);
+        }
+
+        try {
+            return depositRequest.future.join();
+        } catch (CompletionException exception) {
+            if (exception.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) exception.getCause();
+            }
+            throw exception;
+        }
+    }
+
+    private void runBatch(Long fullNumber, Batch batch) {
+        List<DepositRequest> depositRequests;
+        synchronized (batch) {
+            long deadline = System.nanoTime() + properties.getWindow().toNanos();
+            try {
+                long remaining;
+                while (batch.depositRequests.size() < properties.getMaxBatchSize() && (remaining = deadline - System.nanoTime()) > 0) {
+                    TimeUnit.NANOSECONDS.timedWait(batch, remaining);
+                }
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+            }
+            batch.closed = true;
+            depositRequests = List.copyOf(batch.depositRequests);
+        }
+        batches.remove(fullNumber, batch);
+
+        try {
+            depositAll(fullNumber, depositRequests);
+        } catch (RuntimeException exception) {
+            depositRequests.forEach(depositRequest -> depositRequest.future.completeExceptionally(exception));
+        }
+    }
+
+    private void depositAll(Long fullNumber, List<DepositRequest> depositRequests) {
+        long totalAmount = depositRequests.stream().mapToLong(depositRequest -> depositRequest.dto.getAmount()).sum();
+
+        List<AccountDepositResponseDto> responses = accountWriteExecutor.execute(AccountWriteOperation.DEPOSIT, List.of(fullNumber),
+                () -> accountLockService.depositAccountWithLock(fullNumber, totalAmount),
+                depositAccount -> {
+                    long runningBalance = depositAccount.getBalance() - totalAmount;
+                    List<Transaction> transactions = new ArrayList<>(depositRequests.size());
+                    for (DepositRequest depositRequest : depositRequests) {
+                        runningBalance += depositRequest.dto.getAmount();
+                        transactions.add(Transaction.createDepositTransaction(depositTransactionCreateConvert(depositRequest.dto, depositAccount, runningBalance)));
+                    }
+
+                    List<Transaction> savedTransactions = transactionRepository.saveAll(transactions);
+                    return savedTransactions.stream()
+                            .map(savedTransaction -> AccountDepositResponseDto.from(depositAccount, savedTransaction))
+                            .collect(Collectors.toList());
+                });
+
+        for (int i = 0; i < depositRequests.size(); i++) {
+            depositRequests.get(i).future.complete(responses.get(i));
+        }
+    }
+
+    private static class Batch {
+        private final List<DepositRequest> depositRequests = new ArrayList<>();
+        private boolean closed;
+    }
+
+    private static class DepositRequest {
+        private final AccountDepositRequestServiceDto dto;
+        private final CompletableFuture<AccountDepositResponseDto> future = new CompletableFuture<>();
+
+        private DepositRequest(AccountDepositRequestServiceDto dto) {
+            this.dto = dto;
+        }
+    }
+}
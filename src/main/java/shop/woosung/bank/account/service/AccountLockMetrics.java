@@ -0,0 +1,170 @@
+package shop.woosung.bank.account.service;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DeadlockLoserDataAccessException;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import shop.woosung.bank.account.service.dto.AccountLockContentionResponseDto;
+import shop.woosung.bank.common.util.SpaceSavingCounter;
+import shop.woosung.bank.config.AccountProperties;
+
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * 비관적 락(SELECT ... FOR UPDATE) 경합 지표.
+ * 대기 시간은 락 조회 쿼리 구간, 보유 시간은 트랜잭션의 첫 락 획득부터 커밋/롤백 완료까지로 측정한다.
+ * 계좌별 대기 시간은 Space-Saving 상위 K 로만 보관하여 계좌 수와 무관하게 메모리가 고정된다.
+ */
+@Component
+public class AccountLockMetrics {
+
+    private static final int MYSQL_DEADLOCK_ERROR_CODE = 1213;
+    private static final String SERIALIZATION_FAILURE_SQL_STATE = "40001";
+
+    private final Map<AccountLockOperation, Timer> timers = new EnumMap<>(AccountLockOperation.class);
+    private final SpaceSavingCounter<Long> hotAccounts;
+    private final int topK;
+
+    public AccountLockMetrics(AccountProperties accountProperties) {
+        for (AccountLockOperation operation : AccountLockOperation.values()) {
+            timers.put(operation, new Timer());
+        }
+        this.topK = accountProperties.getLockMetrics().getTopK();
+        this.hotAccounts = new SpaceSavingCounter<>(topK * 2);
+    }
+
+    public <T> T recordAccountLock(AccountLockOperation operation, Long fullNumber, Supplier<T> lockQuery) {
+        return recordLock(operation, fullNumber, lockQuery);
+    }
+
+    public <T> T recordSequenceLock(Supplier<T> lockQuery) {
+        return recordLock(AccountLockOperation.SEQUENCE, null, lockQuery);
+    }
+
+    public AccountLockContentionResponseDto snapshot() {
+        List<AccountLockContentionResponseDto.OperationDto> operations = Arrays.stream(AccountLockOperation.values())
+                .map(operation -> {
+                    Timer timer = timers.get(operation);
+                    return AccountLockContentionResponseDto.OperationDto.of(operation.name(),
+                            timer.waitCount.sum(), toMicros(timer.waitNanos.sum()), toMicros(timer.waitMaxNanos.get()),
+                            timer.holdCount.sum(), toMicros(timer.holdNanos.sum()), toMicros(timer.holdMaxNanos.get()),
+                            timer.timeouts.sum(), timer.deadlocks.sum());
+                })
+                .collect(Collectors.toList());
+
+        List<AccountLockContentionResponseDto.HotAccountDto> hotAccountDtos = hotAccounts.top(topK).stream()
+                .map(entry -> AccountLockContentionResponseDto.HotAccountDto.of(entry.getKey(), entry.getCount(), entry.getError(), entry.getHits()))
+                .collect(Collectors.toList());
+
+        return AccountLockContentionResponseDto.of(operations, hotAccountDtos);
+    }
+
+    private <T> T recordLock(AccountLockOperation operation, Long fullNumber, Supplier<T> lockQuery) {
+        Timer timer = timers.get(operation);
+        long start = System.nanoTime();
+        T locked;
+        try {
+            locked = lockQuery.get();
+        } catch (DataAccessException e) {
+            if (isDeadlock(e)) {
+                timer.deadlocks.increment();
+            } else if (e instanceof PessimisticLockingFailureException || e instanceof QueryTimeoutException) {
+                timer.timeouts.increment();
+            }
+            throw e;
+        } finally {
+            timer.recordWait(System.nanoTime() - start);
+        }
+
+        long acquiredAt = System.nanoTime();
+        if (fullNumber != null) {
+            hotAccounts.add(fullNumber, toMicros(acquiredAt - start));
+        }
+        startHold(timer, acquiredAt);
+        return locked;
+    }
+
+    /**
+     * 한 트랜잭션에서 여러 락을 잡는 경우(이체) 첫 락 획득 시점부터 한 번만 보유 시간을 잰다.
+     */
+    private void startHold(Timer timer, long acquiredAt) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        boolean alreadyHolding = TransactionSynchronizationManager.getSynchronizations().stream()
+                .anyMatch(HoldTimer.class::isInstance);
+        if (!alreadyHolding) {
+            TransactionSynchronizationManager.registerSynchronization(new HoldTimer(timer, acquiredAt));
+        }
+    }
+
+    private boolean isDeadlock(Throwable e) {
+        if (e instanceof DeadlockLoserDataAccessException) {
+            return true;
+        }
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof SQLException) {
+                SQLException sqlException = (SQLException) cause;
+                if (SERIALIZATION_FAILURE_SQL_STATE.equals(sqlException.getSQLState())
+                        || sqlException.getErrorCode() == MYSQL_DEADLOCK_ERROR_CODE) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static long toMicros(long nanos) {
+        return TimeUnit.NANOSECONDS.toMicros(nanos);
+    }
+
+    private static class Timer {
+        private final LongAdder waitCount = new LongAdder();
+        private final LongAdder waitNanos = new LongAdder();
+        private final LongAccumulator waitMaxNanos = new LongAccumulator(Long::max, 0L);
+        private final LongAdder holdCount = new LongAdder();
+        private final LongAdder holdNanos = new LongAdder();
+        private final LongAccumulator holdMaxNanos = new LongAccumulator(Long::max, 0L);
+        private final LongAdder timeouts = new LongAdder();
+        private final LongAdder deadlocks = new LongAdder();
+
+        private void recordWait(long nanos) {
+            waitCount.increment();
+            waitNanos.add(nanos);
+            waitMaxNanos.accumulate(nanos);
+        }
+
+        private void recordHold(long nanos) {
+            holdCount.increment();
+            holdNanos.add(nanos);
+            holdMaxNanos.accumulate(nanos);
+        }
+    }
+
+    private static class HoldTimer implements TransactionSynchronization {
+        private final Timer timer;
+        private final long acquiredAt;
+
+        private HoldTimer(Timer timer, long acquiredAt) {
+            this.timer = timer;
+            this.acquiredAt = acquiredAt;
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            timer.recordHold(System.nanoTime() - acquiredAt);
+        }
+    }
+}
@@ -0,0 +1,5 @@
+package shop.woosung.bank.account.service;
+
+public enum AccountLockOperation {
+    DEPOSIT, WITHDRAW, TRANSFER, PAYOUT, SEQUENCE
+}
@@ -0,0 +1,50 @@
+package shop.woosung.bank.account.service;
+
+import org.springframework.stereotype.Component;
+import shop.woosung.bank.account.service.dto.AccountLockRetryStatResponseDto;
+
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+@Component
+public class AccountLockRetryMetrics {
+
+    private final Map<AccountWriteOperation, Counter> counters = new EnumMap<>(AccountWriteOperation.class);
+
+    public AccountLockRetryMetrics() {
+        for (AccountWriteOperation operation : AccountWriteOperation.values()) {
+            counters.put(operation, new Counter());
+        }
+    }
+
+    public void recordAttempt(AccountWriteOperation operation) {
+        counters.get(operation).attempts.increment();
+    }
+
+    public void recordRetry(AccountWriteOperation operation) {
+        counters.get(operation).retries.increment();
+    }
+
+    public void recordExhausted(AccountWriteOperation operation) {
+        counters.get(operation).exhausted.increment();
+    }
+
+    public List<AccountLockRetryStatResponseDto> snapshot() {
+        return Arrays.stream(AccountWriteOperation.values())
+                .map(operation -> {
+                    Counter counter = counters.get(operation);
+                    return AccountLockRetryStatResponseDto.of(operation.name(), counter.attempts.sum(), counter.retries.sum(), counter.exhausted.sum());
+                })
+                .collect(Collectors.toList());
+    }
+
+    private static class Counter {
+        private final LongAdder attempts = new LongAdder();
+        private final LongAdder retries = new LongAdder();
+        private final LongAdder exhausted = new LongAdder();
+    }
+}
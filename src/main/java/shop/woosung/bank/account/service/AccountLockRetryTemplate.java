@@ -0,0 +1,61 @@
+package shop.woosung.bank.account.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import shop.woosung.bank.account.handler.exception.AccountConcurrentUpdateException;
+import shop.woosung.bank.config.AccountProperties;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+/**
+ * 낙관적 락 충돌 시 작업 전체를 처음부터 다시 수행한다.
+ * 이미 바깥 트랜잭션 안에서 호출되면 충돌한 트랜잭션은 롤백될 수밖에 없으므로 재시도하지 않고,
+ * 트랜잭션을 연 쪽(단일 커밋 모드의 AccountWriteExecutor)이 트랜잭션 단위로 재시도한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AccountLockRetryTemplate {
+    private final AccountLockRetryMetrics accountLockRetryMetrics;
+    private final AccountProperties accountProperties;
+
+    /**
+     * 동시에 충돌한 요청들이 같은 시점에 다시 몰리지 않도록 대기 시간에 full jitter 를 적용하고,
+     * 최대 시도 횟수를 넘기면 더 이상 재시도하지 않고 실패시킨다.
+     */
+    public <T> T execute(AccountWriteOperation operation, Supplier<T> action) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return action.get();
+        }
+        AccountProperties.Retry retry = accountProperties.getConcurrency().getRetry();
+        for (int attempt = 1; ; attempt++) {
+            accountLockRetryMetrics.recordAttempt(operation);
+            try {
+                return action.get();
+            } catch (OptimisticLockingFailureException exception) {
+                if (attempt >= retry.getMaxAttempts()) {
+                    accountLockRetryMetrics.recordExhausted(operation);
+                    throw new AccountConcurrentUpdateException(operation.name(), attempt);
+                }
+                log.debug("optimistic lock conflict, operation = {}, attempt = {}", operation, attempt);
+                accountLockRetryMetrics.recordRetry(operation);
+                backoff(operation, attempt, retry);
+            }
+        }
+    }
+
+    private void backoff(AccountWriteOperation operation, int attempt, AccountProperties.Retry retry) {
+        long ceiling = Math.min(retry.getMaxBackoff().toMillis(), retry.getInitialBackoff().toMillis() << Math.min(attempt - 1, 20));
+        long sleepMillis = ThreadLocalRandom.current().nextLong(ceiling + 1);
+        try {
+            Thread.sleep(sleepMillis);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new AccountConcurrentUpdateException(operation.name(), attempt);
+        }
+    }
+}
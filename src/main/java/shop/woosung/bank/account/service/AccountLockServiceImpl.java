@@ -7,52 +7,66 @@ import org.springframework.transaction.annotation.Transactional;
 import shop.woosung.bank.account.controller.port.AccountLockService;
 import shop.woosung.bank.account.domain.Account;
 import shop.woosung.bank.account.domain.AccountSequence;
+import shop.woosung.bank.account.domain.AccountSequenceBlock;
 import shop.woosung.bank.account.domain.AccountType;
 import shop.woosung.bank.account.handler.exception.NotFoundAccountFullNumberException;
 import shop.woosung.bank.account.handler.exception.NotFoundAccountSequenceException;
 import shop.woosung.bank.account.handler.exception.SameAccountTransferException;
+import shop.woosung.bank.account.service.dto.AccountPayoutLegDto;
+import shop.woosung.bank.account.service.dto.AccountPayoutLockResponseDto;
+import shop.woosung.bank.account.service.dto.AccountPayoutLockServiceDto;
 import shop.woosung.bank.account.service.dto.AccountTransferLockResponseDto;
 import shop.woosung.bank.account.service.dto.AccountTransferLockServiceDto;
 import shop.woosung.bank.account.service.dto.AccountWithdrawLockServiceDto;
 import shop.woosung.bank.account.service.port.AccountRepository;
 import shop.woosung.bank.account.service.port.AccountSequenceRepository;
-import shop.woosung.bank.common.service.port.PasswordEncoder;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 @RequiredArgsConstructor
 @Service
 public class AccountLockServiceImpl implements AccountLockService {
     private final AccountRepository accountRepository;
-    private final PasswordEncoder passwordEncoder;
     private final AccountSequenceRepository accountSequenceRepository;
+    private final AccountLockMetrics accountLockMetrics;
 
     @Override
     @Transactional(propagation = Propagation.REQUIRES_NEW)
     public Long getNewAccountNumber(AccountType accountType) {
-        AccountSequence accountSequence = accountSequenceRepository.findById(accountType.name())
+        return reserveAccountNumbers(accountType, 1).next().getAsLong();
+    }
+
+    /**
+     * 시퀀스 행을 잠그고 size 개의 번호를 한 번에 예약한다. 예약한 구간은 커밋 후 다른 노드와 겹치지 않는다.
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public AccountSequenceBlock reserveAccountNumbers(AccountType accountType, int size) {
+        AccountSequence accountSequence = accountLockMetrics.recordSequenceLock(() -> accountSequenceRepository.findById(accountType.name()))
                 .orElseThrow(() -> new NotFoundAccountSequenceException(accountType));
 
-        Long nextValue = accountSequence.getNextValue();
-        accountSequence.incrementNextValue();
+        AccountSequenceBlock accountSequenceBlock = accountSequence.reserve(size);
         accountSequenceRepository.save(accountSequence);
-        return nextValue;
+        return accountSequenceBlock;
     }
 
     @Override
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    @Transactional
     public Account depositAccountWithLock(Long fullNumber, Long amount) {
-        Account depositAccount = getAccountWithLock(fullNumber);
+        Account depositAccount = getAccountWithLock(AccountLockOperation.DEPOSIT, fullNumber);
         depositAccount.deposit(amount);
-        accountRepository.save(depositAccount);
+        accountRepository.update(depositAccount);
         return depositAccount;
     }
 
     @Override
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    @Transactional
     public Account withdrawWithLock(AccountWithdrawLockServiceDto accountWithdrawLockServiceDto) {
-        Account withdrawAccount = getAccountWithLock(accountWithdrawLockServiceDto.getFullNumber());
+        Account withdrawAccount = getAccountWithLock(AccountLockOperation.WITHDRAW, accountWithdrawLockServiceDto.getFullNumber());
 
         withdrawAccount.checkOwner(accountWithdrawLockServiceDto.getUser().getId());
-        withdrawAccount.checkPasswordMatch(accountWithdrawLockServiceDto.getPassword(), passwordEncoder);
         withdrawAccount.checkEnoughBalance(accountWithdrawLockServiceDto.getAmount());
         withdrawAccount.withdraw(accountWithdrawLockServiceDto.getAmount());
 
@@ -62,7 +76,7 @@ public class AccountLockServiceImpl implements AccountLockService {
     }
 
     @Override
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    @Transactional
     public AccountTransferLockResponseDto transferWithLock(AccountTransferLockServiceDto accountTransferLockServiceDto) {
         checkSameAccount(accountTransferLockServiceDto.getWithdrawFullNumber(), accountTransferLockServiceDto.getDepositFullNumber());
 
@@ -81,15 +95,14 @@ public class AccountLockServiceImpl implements AccountLockService {
         Account depositAccount;
 
         if(accountTransferLockServiceDto.getWithdrawFullNumber() < accountTransferLockServiceDto.getDepositFullNumber()) {
-            withdrawAccount = getAccountWithLock(accountTransferLockServiceDto.getWithdrawFullNumber());
-            depositAccount = getAccountWithLock(accountTransferLockServiceDto.getDepositFullNumber());
+            withdrawAccount = getAccountWithLock(AccountLockOperation.TRANSFER, accountTransferLockServiceDto.getWithdrawFullNumber());
+            depositAccount = getAccountWithLock(AccountLockOperation.TRANSFER, accountTransferLockServiceDto.getDepositFullNumber());
         } else {
-            depositAccount = getAccountWithLock(accountTransferLockServiceDto.getDepositFullNumber());
-            withdrawAccount = getAccountWithLock(accountTransferLockServiceDto.getWithdrawFullNumber());
+            depositAccount = getAccountWithLock(AccountLockOperation.TRANSFER, accountTransferLockServiceDto.getDepositFullNumber());
+            withdrawAccount = getAccountWithLock(AccountLockOperation.TRANSFER, accountTransferLockServiceDto.getWithdrawFullNumber());
         }
 
         withdrawAccount.checkOwner(accountTransferLockServiceDto.getUser().getId());
-        withdrawAccount.checkPasswordMatch(String.valueOf(accountTransferLockServiceDto.getWithdrawPassword()), passwordEncoder);
         withdrawAccount.checkEnoughBalance(accountTransferLockServiceDto.getAmount());
         withdrawAccount.withdraw(accountTransferLockServiceDto.getAmount());
 
@@ -101,8 +114,44 @@ public class AccountLockServiceImpl implements AccountLockService {
         return AccountTransferLockResponseDto.from(withdrawAccount, depositAccount);
     }
 
-    private Account getAccountWithLock(Long fullNumber) {
-        return accountRepository.findByFullNumberWithPessimisticLock(fullNumber)
+    /**
+     * 출금 계좌 하나에서 여러 계좌로 나눠 보내는 지급(급여 등) 처리.
+     * 이체와 같은 순환 대기 방지 규칙으로 출금/입금 계좌 전체를 계좌 번호 오름차순으로 한 번씩만 잠그고,
+     * 출금 계좌는 총액으로 한 번만 차감한다.
+     */
+    @Override
+    @Transactional
+    public AccountPayoutLockResponseDto payoutWithLock(AccountPayoutLockServiceDto accountPayoutLockServiceDto) {
+        Long withdrawFullNumber = accountPayoutLockServiceDto.getWithdrawFullNumber();
+        accountPayoutLockServiceDto.getLegs().forEach(leg -> checkSameAccount(withdrawFullNumber, leg.getDepositFullNumber()));
+
+        Map<Long, Account> lockedAccounts = new HashMap<>();
+        for (Long fullNumber : accountPayoutLockServiceDto.getOrderedFullNumbers()) {
+            lockedAccounts.put(fullNumber, getAccountWithLock(AccountLockOperation.PAYOUT, fullNumber));
+        }
+
+        Account withdrawAccount = lockedAccounts.get(withdrawFullNumber);
+        withdrawAccount.checkOwner(accountPayoutLockServiceDto.getUser().getId());
+        withdrawAccount.checkEnoughBalance(accountPayoutLockServiceDto.getTotalAmount());
+
+        long withdrawAccountBalance = withdrawAccount.getBalance();
+        withdrawAccount.withdraw(accountPayoutLockServiceDto.getTotalAmount());
+
+        List<AccountPayoutLockResponseDto.LegDto> legs = new ArrayList<>();
+        for (AccountPayoutLegDto leg : accountPayoutLockServiceDto.getLegs()) {
+            Account depositAccount = lockedAccounts.get(leg.getDepositFullNumber());
+            depositAccount.deposit(leg.getAmount());
+            withdrawAccountBalance -= leg.getAmount();
+            legs.add(AccountPayoutLockResponseDto.LegDto.of(depositAccount, leg.getAmount(), withdrawAccountBalance));
+        }
+
+        lockedAccounts.values().forEach(accountRepository::update);
+
+        return AccountPayoutLockResponseDto.of(withdrawAccount, legs);
+    }
+
+    private Account getAccountWithLock(AccountLockOperation operation, Long fullNumber) {
+        return accountLockMetrics.recordAccountLock(operation, fullNumber, () -> accountRepository.findByFullNumberWithPessimisticLock(fullNumber))
                 .orElseThrow(() -> new NotFoundAccountFullNumberException(fullNumber));
     }
 
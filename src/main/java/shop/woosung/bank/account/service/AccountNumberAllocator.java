@@ -0,0 +1,113 @@
+package shop.woosung.bank.account.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import shop.woosung.bank.account.domain.AccountSequenceBlock;
+import shop.woosung.bank.account.domain.AccountType;
+import shop.woosung.bank.config.AccountProperties;
+
+import javax.annotation.PreDestroy;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 계좌 번호를 시퀀스 행에서 블록(hi/lo) 단위로 예약해 두고 메모리에서 하나씩 나눠 준다.
+ *
+ * 시퀀스 행 락은 블록을 예약할 때만 잡으므로 계좌 생성이 계좌 종류별 시퀀스 행 하나에 직렬화되지 않는다.
+ * 블록은 행 락 아래에서 예약되고 커밋되므로 여러 노드가 같은 번호를 받지 않는다.
+ * 남은 번호가 refillThreshold 이하로 줄면 다음 블록을 백그라운드에서 미리 예약해 두어, 블록이 바뀌는 순간에도 요청이 DB 를 기다리지 않게 한다.
+ * 노드가 재시작되면 쓰지 않은 번호는 버려지므로 계좌 번호에 빈 구간이 생길 수 있다.
+ */
+@Slf4j
+@Component
+public class AccountNumberAllocator {
+    private final AccountLockServiceImpl accountLockServiceImpl;
+    private final AccountProperties.Sequence properties;
+    private final Map<AccountType, Allocation> allocations = new EnumMap<>(AccountType.class);
+    private final ExecutorService refillExecutor;
+
+    public AccountNumberAllocator(AccountLockServiceImpl accountLockServiceImpl, AccountProperties accountProperties) {
+        this.accountLockServiceImpl = accountLockServiceImpl;
+        this.properties = accountProperties.getSequence();
+        for (AccountType accountType : AccountType.values()) {
+            allocations.put(accountType, new Allocation());
+        }
+        this.refillExecutor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "account-number-refill");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public Long next(AccountType accountType) {
+        Allocation allocation = allocations.get(accountType);
+        while (true) {
+            AccountSequenceBlock block = allocation.current;
+            if (block != null) {
+                OptionalLong number = block.next();
+                if (number.isPresent()) {
+                    if (allocation.refill == null && block.getRemaining() <= block.getSize() * properties.getRefillThreshold()) {
+                        refillAsync(accountType, allocation);
+                    }
+                    return number.getAsLong();
+                }
+            }
+            synchronized (allocation) {
+                if (allocation.current == block) {
+                    allocation.current = takeNextBlock(accountType, allocation);
+                }
+            }
+        }
+    }
+
+    /**
+     * 노드 블록과 별개로 size 개의 연속된 번호를 시퀀스 행 한 번의 갱신으로 예약한다. 일괄 등록에서 사용한다.
+     */
+    public AccountSequenceBlock reserve(AccountType accountType, int size) {
+        return accountLockServiceImpl.reserveAccountNumbers(accountType, size);
+    }
+
+    private void refillAsync(AccountType accountType, Allocation allocation) {
+        synchronized (allocation) {
+            if (allocation.refill != null) {
+                return;
+            }
+            allocation.refill = CompletableFuture.supplyAsync(() -> reserve(accountType), refillExecutor);
+        }
+    }
+
+    /**
+     * 미리 예약 중인 블록이 있으면 그것을 쓰고, 없거나 실패했으면 호출 스레드에서 바로 예약한다.
+     */
+    private AccountSequenceBlock takeNextBlock(AccountType accountType, Allocation allocation) {
+        CompletableFuture<AccountSequenceBlock> refill = allocation.refill;
+        allocation.refill = null;
+        if (refill != null) {
+            try {
+                return refill.join();
+            } catch (CompletionException exception) {
+                log.warn("account number block refill failed, accountType = {}", accountType, exception.getCause());
+            }
+        }
+        return reserve(accountType);
+    }
+
+    private AccountSequenceBlock reserve(AccountType accountType) {
+        return accountLockServiceImpl.reserveAccountNumbers(accountType, properties.getBlockSize());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        refillExecutor.shutdownNow();
+    }
+
+    private static class Allocation {
+        private volatile AccountSequenceBlock current;
+        private volatile CompletableFuture<AccountSequenceBlock> refill;
+    }
+}
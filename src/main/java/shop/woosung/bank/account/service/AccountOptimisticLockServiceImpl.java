@@ -0,0 +1,74 @@
+package shop.woosung.bank.account.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import shop.woosung.bank.account.domain.Account;
+import shop.woosung.bank.account.handler.exception.NotFoundAccountFullNumberException;
+import shop.woosung.bank.account.handler.exception.SameAccountTransferException;
+import shop.woosung.bank.account.service.dto.AccountTransferLockResponseDto;
+import shop.woosung.bank.account.service.dto.AccountTransferLockServiceDto;
+import shop.woosung.bank.account.service.dto.AccountWithdrawLockServiceDto;
+import shop.woosung.bank.account.service.port.AccountRepository;
+
+/**
+ * 행 락 없이 읽고, 커밋 시점에 버전 컬럼으로 충돌을 검출한다.
+ * 각 메서드는 한 번의 시도만 수행하며 충돌 시 OptimisticLockingFailureException 이 발생한다.
+ * 재시도는 RoutingAccountLockService 가 담당한다.
+ */
+@RequiredArgsConstructor
+@Service
+public class AccountOptimisticLockServiceImpl {
+    private final AccountRepository accountRepository;
+
+    @Transactional
+    public Account deposit(Long fullNumber, Long amount) {
+        Account depositAccount = getAccount(fullNumber);
+        depositAccount.deposit(amount);
+        accountRepository.update(depositAccount);
+        return depositAccount;
+    }
+
+    @Transactional
+    public Account withdraw(AccountWithdrawLockServiceDto accountWithdrawLockServiceDto) {
+        Account withdrawAccount = getAccount(accountWithdrawLockServiceDto.getFullNumber());
+
+        withdrawAccount.checkOwner(accountWithdrawLockServiceDto.getUser().getId());
+        withdrawAccount.checkEnoughBalance(accountWithdrawLockServiceDto.getAmount());
+        withdrawAccount.withdraw(accountWithdrawLockServiceDto.getAmount());
+
+        accountRepository.update(withdrawAccount);
+
+        return withdrawAccount;
+    }
+
+    @Transactional
+    public AccountTransferLockResponseDto transfer(AccountTransferLockServiceDto accountTransferLockServiceDto) {
+        checkSameAccount(accountTransferLockServiceDto.getWithdrawFullNumber(), accountTransferLockServiceDto.getDepositFullNumber());
+
+        Account withdrawAccount = getAccount(accountTransferLockServiceDto.getWithdrawFullNumber());
+        Account depositAccount = getAccount(accountTransferLockServiceDto.getDepositFullNumber());
+
+        withdrawAccount.checkOwner(accountTransferLockServiceDto.getUser().getId());
+        withdrawAccount.checkEnoughBalance(accountTransferLockServiceDto.getAmount());
+        withdrawAccount.withdraw(accountTransferLockServiceDto.getAmount());
+
+        depositAccount.deposit(accountTransferLockServiceDto.getAmount());
+
+        accountRepository.update(withdrawAccount);
+        accountRepository.update(depositAccount);
+
+        return AccountTransferLockResponseDto.from(withdrawAccount, depositAccount);
+    }
+
+    private Account getAccount(Long fullNumber) {
+        return accountRepository.findByFullNumber(fullNumber)
+                .orElseThrow(() -> new NotFoundAccountFullNumberException(fullNumber));
+    }
+
+    private void checkSameAccount(Long withdrawFullNumber, Long depositFullNumber) {
+        if(withdrawFullNumber.equals(depositFullNumber)) {
+            throw new SameAccountTransferException(withdrawFullNumber);
+        }
+    }
+}
@@ -0,0 +1,324 @@
+package shop.woosung.bank.account.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import shop.woosung.bank.account.domain.Account;
+import shop.woosung.bank.account.domain.AccountTransferIntentStatus;
+import shop.woosung.bank.account.handler.exception.AccountBalanceChangedException;
+import shop.woosung.bank.account.handler.exception.AccountLockTimeoutException;
+import shop.woosung.bank.account.handler.exception.AccountTransferIntentConflictException;
+import shop.woosung.bank.account.handler.exception.NotFoundAccountFullNumberException;
+import shop.woosung.bank.account.service.port.AccountRepository;
+import shop.woosung.bank.account.service.port.AccountTransferIntentRepository;
+import shop.woosung.bank.config.AccountProperties;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 계좌 번호 해시로 정해진 파티션 스레드 하나가 그 계좌의 잔액을 메모리에서 단독으로 소유하고 변경한다.
+ * 한 계좌에 대한 변경은 항상 같은 스레드에서 순서대로 실행되므로 DB 행 락이 필요 없다.
+ *
+ * 파티션 스레드는 큐에 쌓인 명령을 최대 maxBatchSize 개씩 꺼내 메모리에 적용한 뒤,
+ * 변경된 계좌의 잔액을 한 트랜잭션으로 기록(write-behind, group commit)하고 나서야 호출자에게 결과를 돌려준다.
+ * 따라서 호출자가 성공 응답을 받은 변경은 이미 DB 에 커밋되어 있다.
+ * 기록에 실패하면 해당 배치의 명령은 모두 실패 처리하고, 변경된 계좌는 메모리에서 버려 다음 접근 시 DB 에서 다시 읽는다.
+ * 잔액은 메모리로 읽을 때의 버전이 그대로일 때만 덮어쓴다. 관리자 작업 등 엔진 밖에서 계좌가 바뀌었으면 배치 전체를 롤백하고
+ * 계좌를 다시 읽게 하여, 밖에서 바뀐 잔액을 메모리의 값으로 덮어쓰지 않는다.
+ *
+ * 거래 내역과 원장은 이 기록 트랜잭션에 포함되지 않고 응답을 받은 호출자가 별도로 커밋하므로,
+ * bank.account.partition.allow-separate-ledger-commit=true 로 그 차이를 받아들인 경우에만 시작한다.
+ *
+ * 잔액의 소유자가 이 엔진 하나라는 전제이므로 이 모드에서는 애플리케이션 인스턴스가 하나이거나
+ * 계좌 번호 기준으로 같은 인스턴스에 라우팅되어야 한다.
+ */
+@Slf4j
+@Profile("partitioned")
+@Component
+public class AccountPartitionEngine {
+
+    private final AccountRepository accountRepository;
+    private final AccountTransferIntentRepository accountTransferIntentRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate readOnlyTransactionTemplate;
+    private final AccountProperties.Partition properties;
+    private final Partition[] partitions;
+    private final Thread[] threads;
+    private volatile boolean running = true;
+
+    public AccountPartitionEngine(AccountRepository accountRepository, AccountTransferIntentRepository accountTransferIntentRepository,
+                                  PlatformTransactionManager transactionManager, AccountProperties accountProperties) {
+        this.accountRepository = accountRepository;
+        this.accountTransferIntentRepository = accountTransferIntentRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate.setReadOnly(true);
+        this.properties = accountProperties.getPartition();
+        this.partitions = new Partition[properties.getCount()];
+        this.threads = new Thread[properties.getCount()];
+        for (int i = 0; i < partitions.length; i++) {
+            partitions[i] = new Partition();
+        }
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!properties.isAllowSeparateLedgerCommit()) {
+            throw new IllegalStateException("partitioned profile commits the ledger outside the partition flush, " +
+                    "set bank.account.partition.allow-separate-ledger-commit=true to start anyway");
+        }
+        for (int i = 0; i < partitions.length; i++) {
+            threads[i] = new Thread(partitions[i], "account-partition-" + i);
+            threads[i].setDaemon(true);
+            threads[i].start();
+        }
+    }
+
+    /**
+     * 큐에 남은 명령은 모두 처리하고 종료한다.
+     */
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        for (Thread thread : threads) {
+            thread.join(properties.getSubmitTimeout().toMillis());
+        }
+    }
+
+    public boolean isSamePartition(Long fullNumber, Long otherFullNumber) {
+        return partitionOf(fullNumber) == partitionOf(otherFullNumber);
+    }
+
+    /**
+     * 계좌를 소유한 파티션 스레드에서 명령을 실행하고, 그 결과가 DB 에 커밋될 때까지 기다린다.
+     * 큐에 넣지 못한 경우에만 대기 시간 초과로 실패하며, 큐에 들어간 명령은 항상 실행 결과가 반환된다.
+     */
+    public <T> T execute(Long fullNumber, Function<Partition, T> command) {
+        Task<T> task = new Task<>(command);
+        try {
+            if (!partitions[partitionOf(fullNumber)].queue.offer(task, properties.getSubmitTimeout().toMillis(), TimeUnit.MILLISECONDS)) {
+                throw new AccountLockTimeoutException(List.of(fullNumber));
+            }
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new AccountLockTimeoutException(List.of(fullNumber));
+        }
+
+        try {
+            return task.future.join();
+        } catch (CompletionException exception) {
+            if (exception.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) exception.getCause();
+            }
+            throw exception;
+        }
+    }
+
+    private int partitionOf(Long fullNumber) {
+        int h = fullNumber.hashCode();
+        return Math.floorMod(h ^ (h >>> 16), partitions.length);
+    }
+
+    /**
+     * 파티션 스레드에서만 접근한다.
+     */
+    public class Partition implements Runnable {
+        private final BlockingQueue<Task<?>> queue = new ArrayBlockingQueue<>(properties.getQueueCapacity());
+        private final LinkedHashMap<Long, Account> accounts = new LinkedHashMap<>(16, 0.75f, true);
+        private final Map<Long, Account> dirtyAccounts = new LinkedHashMap<>();
+        /**
+         * 계좌별로 DB 에 마지막으로 커밋된 버전. 덮어쓰기 전에 다른 곳에서 바뀌었는지 확인하는 데 쓴다.
+         */
+        private final Map<Long, Long> versions = new HashMap<>();
+        private Task<?> currentTask;
+
+        public Account load(Long fullNumber) {
+            Account account = accounts.get(fullNumber);
+            if (account == null) {
+                account = readOnlyTransactionTemplate.execute(status -> accountRepository.findByFullNumber(fullNumber))
+                        .orElseThrow(() -> new NotFoundAccountFullNumberException(fullNumber));
+                accounts.put(fullNumber, account);
+                versions.put(fullNumber, account.getVersion());
+            }
+            return account;
+        }
+
+        public Account deposit(Long fullNumber, Long amount) {
+            Account account = load(fullNumber);
+            account.deposit(amount);
+            dirtyAccounts.put(fullNumber, account);
+            return copyOf(account);
+        }
+
+        public Account withdraw(Long fullNumber, Long amount) {
+            Account account = load(fullNumber);
+            account.checkEnoughBalance(amount);
+            account.withdraw(amount);
+            dirtyAccounts.put(fullNumber, account);
+            return copyOf(account);
+        }
+
+        /**
+         * 이체 의도를 PENDING 에서 WITHDRAWN 으로 바꾼다. 이 명령의 잔액 변경과 같은 트랜잭션으로 커밋된다.
+         */
+        public void markWithdrawn(List<Long> intentIds) {
+            currentTask.intentChanges.add(() -> {
+                if (!accountTransferIntentRepository.changeStatus(intentIds, AccountTransferIntentStatus.PENDING, AccountTransferIntentStatus.WITHDRAWN)) {
+                    throw new AccountTransferIntentConflictException(intentIds);
+                }
+            });
+        }
+
+        /**
+         * 입금 또는 되돌림으로 마무리된 WITHDRAWN 의도를 삭제한다. 이 명령의 잔액 변경과 같은 트랜잭션으로 커밋되며,
+         * 이미 다른 곳에서 마무리된 의도면 배치 전체를 롤백하므로 같은 금액이 두 번 입금되지 않는다.
+         */
+        public void finishIntents(List<Long> intentIds) {
+            currentTask.intentChanges.add(() -> {
+                if (!accountTransferIntentRepository.delete(intentIds, AccountTransferIntentStatus.WITHDRAWN)) {
+                    throw new AccountTransferIntentConflictException(intentIds);
+                }
+            });
+        }
+
+        @Override
+        public void run() {
+            List<Task<?>> batch = new ArrayList<>(properties.getMaxBatchSize());
+            while (running || !queue.isEmpty()) {
+                try {
+                    Task<?> first = queue.poll(100, TimeUnit.MILLISECONDS);
+                    if (first == null) {
+                        continue;
+                    }
+                    batch.add(first);
+                    queue.drainTo(batch, properties.getMaxBatchSize() - 1);
+
+                    for (Task<?> task : batch) {
+                        apply(task);
+                    }
+                    flush(batch);
+                } catch (InterruptedException exception) {
+                    Thread.currentThread().interrupt();
+                    return;
+                } catch (RuntimeException exception) {
+                    log.error("account partition loop error", exception);
+                    batch.forEach(task -> task.future.completeExceptionally(exception));
+                } finally {
+                    batch.clear();
+                }
+            }
+        }
+
+        private void apply(Task<?> task) {
+            currentTask = task;
+            try {
+                task.apply(this);
+            } catch (RuntimeException exception) {
+                task.error = exception;
+            } finally {
+                currentTask = null;
+            }
+        }
+
+        private void flush(List<Task<?>> batch) {
+            List<Runnable> intentChanges = batch.stream()
+                    .filter(task -> task.error == null)
+                    .flatMap(task -> task.intentChanges.stream())
+                    .collect(Collectors.toList());
+            RuntimeException flushError = null;
+
+            if (!dirtyAccounts.isEmpty() || !intentChanges.isEmpty()) {
+                try {
+                    transactionTemplate.executeWithoutResult(status -> {
+                        dirtyAccounts.forEach(this::overwriteBalance);
+                        intentChanges.forEach(Runnable::run);
+                    });
+                    dirtyAccounts.keySet().forEach(fullNumber -> versions.computeIfPresent(fullNumber, (key, version) -> version + 1));
+                } catch (RuntimeException exception) {
+                    log.error("account partition flush failed, accounts = {}", dirtyAccounts.keySet(), exception);
+                    flushError = exception;
+                    dirtyAccounts.keySet().forEach(this::forget);
+                }
+                dirtyAccounts.clear();
+            }
+
+            for (Task<?> task : batch) {
+                task.complete(flushError);
+            }
+            evict();
+        }
+
+        private void overwriteBalance(Long fullNumber, Account account) {
+            if (accountRepository.overwriteBalance(fullNumber, account.getBalance(), versions.get(fullNumber))) {
+                return;
+            }
+            if (accountRepository.findByFullNumber(fullNumber).isEmpty()) {
+                throw new NotFoundAccountFullNumberException(fullNumber);
+            }
+            throw new AccountBalanceChangedException(fullNumber);
+        }
+
+        private void forget(Long fullNumber) {
+            accounts.remove(fullNumber);
+            versions.remove(fullNumber);
+        }
+
+        private void evict() {
+            Iterator<Long> iterator = accounts.keySet().iterator();
+            while (accounts.size() > properties.getMaxCachedAccounts() && iterator.hasNext()) {
+                versions.remove(iterator.next());
+                iterator.remove();
+            }
+        }
+    }
+
+    private static class Task<T> {
+        private final Function<Partition, T> command;
+        private final CompletableFuture<T> future = new CompletableFuture<>();
+        private final List<Runnable> intentChanges = new ArrayList<>();
+        private T result;
+        private RuntimeException error;
+
+        private Task(Function<Partition, T> command) {
+            this.command = command;
+        }
+
+        private void apply(Partition partition) {
+            result = command.apply(partition);
+        }
+
+        private void complete(RuntimeException flushError) {
+            if (error != null) {
+                future.completeExceptionally(error);
+                return;
+            }
+            if (flushError != null) {
+                future.completeExceptionally(flushError);
+                return;
+            }
+            future.complete(result);
+        }
+    }
+
+    private static Account copyOf(Account account) {
+        return Account.builder()
+                .id(account.getId())
+                .number(account.getNumber())
+                .fullNumber(account.getFullNumber())
+                .password(account.getPassword())
+                .balance(account.getBalance())
+                .type(account.getType())
+                .version(account.getVersion())
+                .user(account.getUser())
+                .createdAt(account.getCreatedAt())
+                .updatedAt(account.getUpdatedAt())
+                .build();
+    }
+}
@@ -7,15 +7,13 @@ import org.springframework.transaction.annotation.Transactional;
 import shop.woosung.bank.account.controller.port.AccountLockService;
 import shop.woosung.bank.account.controller.port.AccountService;
 import shop.woosung.bank.account.domain.Account;
-import shop.woosung.bank.account.domain.AccountType;
-import shop.woosung.bank.account.domain.AccountTypeNumber;
+import shop.woosung.bank.account.domain.AccountSummary;
 import shop.woosung.bank.account.handler.exception.NotFoundAccountFullNumberException;
-import shop.woosung.bank.account.handler.exception.NotFoundAccountTypeNumberException;
 
 import shop.woosung.bank.account.service.dto.*;
+import shop.woosung.bank.account.service.port.AccountBalanceSlotRepository;
 import shop.woosung.bank.account.service.port.AccountRepository;
 import shop.woosung.bank.account.service.port.AccountSequenceRepository;
-import shop.woosung.bank.account.service.port.AccountTypeNumberRepository;
 import shop.woosung.bank.common.service.port.PasswordEncoder;
 import shop.woosung.bank.transaction.domain.Transaction;
 import shop.woosung.bank.transaction.domain.TransactionType;
@@ -24,8 +22,11 @@ import shop.woosung.bank.user.domain.User;
 import shop.woosung.bank.user.service.port.UserRepository;
 
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 import static shop.woosung.bank.account.util.AccountServiceToDomainConverter.*;
+import static shop.woosung.bank.account.util.AccountServiceToServiceConverter.accountPayoutLockServiceDtoConvert;
 import static shop.woosung.bank.account.util.AccountServiceToServiceConverter.accountTransferLockServiceDtoConvert;
 import static shop.woosung.bank.account.util.AccountServiceToServiceConverter.accountWithdrawLockServiceDtoConvert;
 
@@ -34,23 +35,34 @@ import static shop.woosung.bank.account.util.AccountServiceToServiceConverter.ac
 @Service
 public class AccountServiceImpl implements AccountService {
     private final AccountLockService accountLockService;
+    private final AccountWriteExecutor accountWriteExecutor;
+    private final AccountCredentialVerifier accountCredentialVerifier;
+    private final AccountBulkRegistrar accountBulkRegistrar;
+    private final AccountBalanceSlotRegistry accountBalanceSlotRegistry;
+    private final AccountBalanceSlotRepository accountBalanceSlotRepository;
+    private final AccountDepositCoalescer accountDepositCoalescer;
     private final AccountRepository accountRepository;
     private final AccountSequenceRepository accountSequenceRepository;
-    private final AccountTypeNumberRepository accountTypeNumberRepository;
+    private final AccountTypeRegistry accountTypeRegistry;
     private final UserRepository userRepository;
     private final TransactionRepository transactionRepository;
     private final PasswordEncoder passwordEncoder;
 
     @Transactional(readOnly = true)
     public AccountListResponseDto getAccountList(User user) {
-        List<Account> userAccounts = accountRepository.findByUserId(user.getId());
+        List<AccountSummary> userAccounts = accountRepository.findSummariesByUserId(user.getId());
 
-        return AccountListResponseDto.from(user, userAccounts);
+        Map<Long, Long> slotBalances = accountBalanceSlotRepository.sumBalanceByAccountFullNumbers(
+                userAccounts.stream().map(AccountSummary::getFullNumber).collect(Collectors.toList()));
+
+        return AccountListResponseDto.from(user, userAccounts.stream()
+                .map(account -> account.plusBalance(slotBalances.getOrDefault(account.getFullNumber(), 0L)))
+                .collect(Collectors.toList()));
     }
 
     @Transactional
     public AccountRegisterResponseDto register(AccountRegisterRequestServiceDto accountRegisterRequestServiceDto, User user) {
-        Long typeNumber = getTypeNumber(accountRegisterRequestServiceDto.getType());
+        Long typeNumber = accountTypeRegistry.getTypeNumber(accountRegisterRequestServiceDto.getType());
         Long newNumber = accountLockService.getNewAccountNumber(accountRegisterRequestServiceDto.getType());
 
         Account account = Account.register(accountRegisterConvert(accountRegisterRequestServiceDto, typeNumber, newNumber, user), passwordEncoder);
@@ -59,6 +71,14 @@ public class AccountServiceImpl implements AccountService {
         return AccountRegisterResponseDto.from(newAccount);
     }
 
+    /**
+     * 해시 계산 동안 커넥션을 잡고 있지 않도록 바깥 트랜잭션을 열지 않는다. INSERT 는 AccountBulkRegistrar 가 하나의 트랜잭션으로 커밋한다.
+     */
+    @Override
+    public AccountBulkRegisterResponseDto registerAll(List<AccountRegisterRequestServiceDto> accountRegisterRequestServiceDtos, User user) {
+        return AccountBulkRegisterResponseDto.from(accountBulkRegistrar.register(accountRegisterRequestServiceDtos, user));
+    }
+
     @Override
     public void deleteAccount(Long fullNumber, User user) {
         Account account = findAccountByFullNumber(fullNumber);
@@ -68,49 +88,98 @@ public class AccountServiceImpl implements AccountService {
         accountRepository.deleteById(account.getId());
     }
 
-    @Transactional
+    /**
+     * 입금, 출금, 이체는 바깥 트랜잭션을 열지 않는다.
+     * 바깥 트랜잭션이 있으면 인메모리 락(AccountLockManager)을 기다리는 동안에도 커넥션을 점유하게 되므로,
+     * 락을 획득한 요청만 AccountLockService 의 트랜잭션에서 커넥션과 DB 행 락을 잡도록 한다.
+     * 잔액 변경과 거래 내역 저장을 같은 트랜잭션으로 커밋할지는 AccountWriteExecutor 가 설정에 따라 결정한다.
+     * 출금 계좌의 소유자/비밀번호 검증은 락과 트랜잭션 밖에서 먼저 끝내고, 락 안에서는 잔액 확인과 변경만 한다.
+     */
     public AccountDepositResponseDto deposit(AccountDepositRequestServiceDto accountDepositRequestServiceDto) {
-        // TODO dto로 변경
-        Account depositAccount = accountLockService.depositAccountWithLock(accountDepositRequestServiceDto.getFullNumber(), accountDepositRequestServiceDto.getAmount());
-
-        Transaction depositTransaction = transactionRepository.save(
-                Transaction.createDepositTransaction(depositTransactionCreateConvert(accountDepositRequestServiceDto, depositAccount))
-        );
+        if (accountDepositCoalescer.isEnabled()) {
+            return accountDepositCoalescer.deposit(accountDepositRequestServiceDto);
+        }
 
-        return AccountDepositResponseDto.from(depositAccount, depositTransaction);
+        // TODO dto로 변경
+        Long fullNumber = accountDepositRequestServiceDto.getFullNumber();
+        return accountWriteExecutor.execute(AccountWriteOperation.DEPOSIT, depositLockKeys(fullNumber),
+                () -> accountLockService.depositAccountWithLock(fullNumber, accountDepositRequestServiceDto.getAmount()),
+                depositAccount -> {
+                    Transaction depositTransaction = transactionRepository.save(
+                            Transaction.createDepositTransaction(depositTransactionCreateConvert(accountDepositRequestServiceDto, depositAccount))
+                    );
+                    return AccountDepositResponseDto.from(depositAccount, depositTransaction);
+                });
     }
 
-    @Transactional
     public AccountWithdrawResponseDto withdraw(AccountWithdrawRequestServiceDto accountWithdrawRequestServiceDto, User user) {
-        // TODO dto로 변경
-        Account withdrawAccount = accountLockService.withdrawWithLock(accountWithdrawLockServiceDtoConvert(accountWithdrawRequestServiceDto, user));
+        accountCredentialVerifier.verify(accountWithdrawRequestServiceDto.getFullNumber(), user.getId(), accountWithdrawRequestServiceDto.getPassword());
 
-        // TODO 추후 트랜잭션 서비스로 이동 고려
-        Transaction transaction = Transaction.createWithdrawTransaction(withdrawTransactionCreateConvert(accountWithdrawRequestServiceDto, withdrawAccount, "ATM"));
+        // TODO dto로 변경
+        return accountWriteExecutor.execute(AccountWriteOperation.WITHDRAW, List.of(accountWithdrawRequestServiceDto.getFullNumber()),
+                () -> accountLockService.withdrawWithLock(accountWithdrawLockServiceDtoConvert(accountWithdrawRequestServiceDto, user)),
+                withdrawAccount -> {
+                    // TODO 추후 트랜잭션 서비스로 이동 고려
+                    Transaction transaction = Transaction.createWithdrawTransaction(withdrawTransactionCreateConvert(accountWithdrawRequestServiceDto, withdrawAccount, "ATM"));
 
-        Transaction withdrawTransaction = transactionRepository.save(transaction);
+                    Transaction withdrawTransaction = transactionRepository.save(transaction);
 
-        return AccountWithdrawResponseDto.from(withdrawAccount, withdrawTransaction);
+                    return AccountWithdrawResponseDto.from(withdrawAccount, withdrawTransaction);
+                });
     }
 
-    @Transactional
     public AccountTransferResponseDto transfer(AccountTransferRequestServiceDto accountTransferRequestServiceDto, User user) {
-        AccountTransferLockResponseDto accountTransferLockResponseDto = accountLockService.transferWithLock(accountTransferLockServiceDtoConvert(accountTransferRequestServiceDto, user));
-
-        Transaction transaction = Transaction.builder()
-                .withdrawAccount(accountTransferLockResponseDto.getWithdrawAccountDto().toDomain())
-                .depositAccount(accountTransferLockResponseDto.getDepositAccountDto().toDomain())
-                .withdrawAccountBalance(accountTransferLockResponseDto.getWithdrawAccountDto().getBalance())
-                .depositAccountBalance(accountTransferLockResponseDto.getDepositAccountDto().getBalance())
-                .amount(accountTransferRequestServiceDto.getAmount())
-                .type(TransactionType.TRANSFER)
-                .sender(accountTransferLockResponseDto.getWithdrawAccountDto().getFullNumber() + "")
-                .receiver(accountTransferLockResponseDto.getDepositAccountDto().getFullNumber() + "")
-                .build();
-
-        Transaction savedTransaction = transactionRepository.save(transaction);
-
-        return AccountTransferResponseDto.from(accountTransferLockResponseDto, savedTransaction);
+        accountCredentialVerifier.verify(accountTransferRequestServiceDto.getWithdrawFullNumber(), user.getId(),
+                String.valueOf(accountTransferRequestServiceDto.getWithdrawPassword()));
+
+        return accountWriteExecutor.execute(AccountWriteOperation.TRANSFER,
+                List.of(accountTransferRequestServiceDto.getWithdrawFullNumber(), accountTransferRequestServiceDto.getDepositFullNumber()),
+                () -> accountLockService.transferWithLock(accountTransferLockServiceDtoConvert(accountTransferRequestServiceDto, user)),
+                accountTransferLockResponseDto -> {
+                    Transaction transaction = Transaction.builder()
+                            .withdrawAccount(accountTransferLockResponseDto.getWithdrawAccountDto().toDomain())
+                            .depositAccount(accountTransferLockResponseDto.getDepositAccountDto().toDomain())
+                            .withdrawAccountBalance(accountTransferLockResponseDto.getWithdrawAccountDto().getBalance())
+                            .depositAccountBalance(accountTransferLockResponseDto.getDepositAccountDto().getBalance())
+                            .amount(accountTransferRequestServiceDto.getAmount())
+                            .type(TransactionType.TRANSFER)
+                            .sender(accountTransferLockResponseDto.getWithdrawAccountDto().getFullNumber() + "")
+                            .receiver(accountTransferLockResponseDto.getDepositAccountDto().getFullNumber() + "")
+                            .build();
+
+                    Transaction savedTransaction = transactionRepository.save(transaction);
+
+                    return AccountTransferResponseDto.from(accountTransferLockResponseDto, savedTransaction);
+                });
+    }
+
+    /**
+     * 지급 건별 거래 내역은 잔액 변경이 끝난 뒤 한 번의 saveAll 로 배치 저장한다.
+     */
+    public AccountPayoutResponseDto payout(AccountPayoutRequestServiceDto accountPayoutRequestServiceDto, User user) {
+        accountCredentialVerifier.verify(accountPayoutRequestServiceDto.getWithdrawFullNumber(), user.getId(),
+                String.valueOf(accountPayoutRequestServiceDto.getWithdrawPassword()));
+
+        AccountPayoutLockServiceDto accountPayoutLockServiceDto = accountPayoutLockServiceDtoConvert(accountPayoutRequestServiceDto, user);
+        return accountWriteExecutor.execute(AccountWriteOperation.PAYOUT, accountPayoutLockServiceDto.getOrderedFullNumbers(),
+                () -> accountLockService.payoutWithLock(accountPayoutLockServiceDto),
+                accountPayoutLockResponseDto -> {
+                    AccountTransferLockResponseDto.AccountDto withdrawAccountDto = accountPayoutLockResponseDto.getWithdrawAccountDto();
+                    List<Transaction> transactions = accountPayoutLockResponseDto.getLegs().stream()
+                            .map(leg -> Transaction.builder()
+                                    .withdrawAccount(withdrawAccountDto.toDomain())
+                                    .depositAccount(leg.getDepositAccountDto().toDomain())
+                                    .withdrawAccountBalance(leg.getWithdrawAccountBalance())
+                                    .depositAccountBalance(leg.getDepositAccountDto().getBalance())
+                                    .amount(leg.getAmount())
+                                    .type(TransactionType.TRANSFER)
+                                    .sender(withdrawAccountDto.getFullNumber() + "")
+                                    .receiver(leg.getDepositAccountDto().getFullNumber() + "")
+                                    .build())
+                            .collect(Collectors.toList());
+
+                    return AccountPayoutResponseDto.from(accountPayoutLockResponseDto, transactionRepository.saveAll(transactions));
+                });
     }
 
     @Transactional(readOnly = true)
@@ -121,6 +190,16 @@ public class AccountServiceImpl implements AccountService {
     }
 
 
+    /**
+     * 분할 잔액 모드 계좌의 입금은 슬롯 행 하나만 잠그므로 인메모리 락으로 직렬화하지 않는다.
+     */
+    private List<Long> depositLockKeys(Long fullNumber) {
+        if (accountBalanceSlotRegistry.isSharded(fullNumber)) {
+            return List.of();
+        }
+        return List.of(fullNumber);
+    }
+
     private Account findAccountByFullNumber(Long fullNumber) {
         return accountRepository.findByFullNumber(fullNumber)
                 .orElseThrow(() -> new NotFoundAccountFullNumberException(fullNumber));
@@ -141,10 +220,4 @@ public class AccountServiceImpl implements AccountService {
 //        // DTO 응답
 //        return new AccountDetailResDto(accountEntityPS, transactionList);
 //    }
-
-    private Long getTypeNumber(AccountType accountType) {
-        AccountTypeNumber accountTypeNumber = accountTypeNumberRepository.findById(accountType.name())
-                .orElseThrow(() -> new NotFoundAccountTypeNumberException(accountType));
-        return accountTypeNumber.getNumber();
-    }
 }
@@ -0,0 +1,78 @@
+package shop.woosung.bank.account.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import shop.woosung.bank.account.domain.AccountTransferIntent;
+import shop.woosung.bank.account.domain.AccountTransferIntentStatus;
+import shop.woosung.bank.account.service.port.AccountTransferIntentRepository;
+import shop.woosung.bank.config.AccountProperties;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 파티션 간 이체에서 마무리되지 않고 남은 이체 의도를 정리한다.
+ *
+ * PENDING 의도는 차감이 커밋되지 않은 것이므로 지우기만 한다.
+ * WITHDRAWN 의도는 차감만 커밋된 것이므로 입금을 마저 하지 않고 출금 계좌로 되돌린다.
+ * 호출자는 실패 응답을 받았거나 응답을 받지 못했고 거래 내역도 남지 않았으므로, 되돌려야 잔액과 거래 내역이 맞는다.
+ * 되돌림은 의도 삭제와 같은 트랜잭션으로 커밋되므로 원래 요청이 뒤늦게 입금이나 되돌림을 시도해도 한 번만 반영된다.
+ */
+@Slf4j
+@Profile("partitioned")
+@Component
+public class AccountTransferIntentRecoverer {
+    private final AccountPartitionEngine accountPartitionEngine;
+    private final AccountTransferIntentRepository accountTransferIntentRepository;
+    private final AccountProperties.Partition properties;
+    private final TransactionTemplate transactionTemplate;
+
+    public AccountTransferIntentRecoverer(AccountPartitionEngine accountPartitionEngine, AccountTransferIntentRepository accountTransferIntentRepository,
+                                          AccountProperties accountProperties, PlatformTransactionManager transactionManager) {
+        this.accountPartitionEngine = accountPartitionEngine;
+        this.accountTransferIntentRepository = accountTransferIntentRepository;
+        this.properties = accountProperties.getPartition();
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Scheduled(fixedDelayString = "${bank.account.partition.intent-recovery-interval:PT1M}")
+    public void recover() {
+        recover(LocalDateTime.now().minus(properties.getIntentTimeout()));
+    }
+
+    /**
+     * staleBefore 이전부터 변경이 없는 의도를 정리하고 정리한 개수를 반환한다.
+     */
+    public int recover(LocalDateTime staleBefore) {
+        List<AccountTransferIntent> intents = transactionTemplate.execute(status -> accountTransferIntentRepository.findUpdatedBefore(staleBefore));
+        int recovered = 0;
+        for (AccountTransferIntent intent : intents) {
+            try {
+                if (intent.getStatus() == AccountTransferIntentStatus.PENDING) {
+                    transactionTemplate.executeWithoutResult(status -> accountTransferIntentRepository.delete(List.of(intent.getId()), AccountTransferIntentStatus.PENDING));
+                } else {
+                    refund(intent);
+                }
+                recovered++;
+            } catch (RuntimeException exception) {
+                log.error("transfer intent recovery failed, intent = {}", intent.getId(), exception);
+            }
+        }
+        return recovered;
+    }
+
+    private void refund(AccountTransferIntent intent) {
+        Long withdrawFullNumber = intent.getWithdrawFullNumber();
+        accountPartitionEngine.execute(withdrawFullNumber, partition -> {
+            partition.deposit(withdrawFullNumber, intent.getAmount());
+            partition.finishIntents(List.of(intent.getId()));
+            return null;
+        });
+        log.warn("transfer intent refunded, intent = {}, withdraw account = {}, deposit account = {}, amount = {}",
+                intent.getId(), withdrawFullNumber, intent.getDepositFullNumber(), intent.getAmount());
+    }
+}
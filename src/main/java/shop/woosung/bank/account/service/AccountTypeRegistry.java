@@ -0,0 +1,87 @@
+package shop.woosung.bank.account.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import shop.woosung.bank.account.domain.AccountType;
+import shop.woosung.bank.account.domain.AccountTypeNumber;
+import shop.woosung.bank.account.handler.exception.NotFoundAccountTypeNumberException;
+import shop.woosung.bank.account.service.port.AccountTypeNumberRepository;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 계좌 종류별 타입 번호(계좌 번호 앞 3자리)를 메모리에 보관한다.
+ *
+ * 타입 번호는 사실상 바뀌지 않는 기준 정보이므로 계좌를 만들 때마다 테이블을 조회하지 않고 여기서 꺼내 쓴다.
+ * 계좌 종류별 행이 하나뿐인 작은 테이블이라 주기적으로 전체를 다시 읽고 내용이 바뀐 경우에만 교체하며,
+ * 관리자 API 로 즉시 다시 읽을 수도 있다.
+ * 맵은 교체만 하고 수정하지 않으므로 읽는 쪽은 락 없이 조회한다.
+ *
+ * 애플리케이션 시작 시 다른 초기화보다 먼저 읽어 비어 있을 수 있으므로, 조회한 타입이 없으면 한 번 더 읽어 본 뒤에 실패시킨다.
+ * 전체 목록도 비어 있으면 한 번 더 읽는다. 요청 검증에서 매번 부르므로 비어 있지 않은 한 테이블은 다시 읽지 않는다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class AccountTypeRegistry implements ApplicationRunner {
+
+    private final AccountTypeNumberRepository accountTypeNumberRepository;
+    private volatile Map<AccountType, Long> typeNumbers = Collections.unmodifiableMap(new EnumMap<>(AccountType.class));
+
+    @Override
+    public void run(ApplicationArguments args) {
+        reload();
+    }
+
+    @Scheduled(initialDelayString = "${bank.account.type-registry.refresh-interval:PT1M}",
+            fixedDelayString = "${bank.account.type-registry.refresh-interval:PT1M}")
+    public synchronized Map<AccountType, Long> reload() {
+        Map<AccountType, Long> loadedTypeNumbers = new EnumMap<>(AccountType.class);
+        for (AccountTypeNumber accountTypeNumber : accountTypeNumberRepository.findAll()) {
+            loadedTypeNumbers.put(accountTypeNumber.getAccountType(), accountTypeNumber.getNumber());
+        }
+
+        if (!loadedTypeNumbers.equals(typeNumbers)) {
+            typeNumbers = Collections.unmodifiableMap(loadedTypeNumbers);
+            log.info("account type numbers reloaded, typeNumbers = {}", typeNumbers);
+        }
+        return typeNumbers;
+    }
+
+    public Long getTypeNumber(AccountType accountType) {
+        Long typeNumber = typeNumbers.get(accountType);
+        if (typeNumber == null) {
+            typeNumber = reloadIfMissing(accountType);
+        }
+        return typeNumber;
+    }
+
+    public Map<AccountType, Long> getTypeNumbers() {
+        Map<AccountType, Long> currentTypeNumbers = typeNumbers;
+        if (currentTypeNumbers.isEmpty()) {
+            currentTypeNumbers = reloadIfEmpty();
+        }
+        return currentTypeNumbers;
+    }
+
+    private synchronized Map<AccountType, Long> reloadIfEmpty() {
+        return typeNumbers.isEmpty() ? reload() : typeNumbers;
+    }
+
+    private synchronized Long reloadIfMissing(AccountType accountType) {
+        Long typeNumber = typeNumbers.get(accountType);
+        if (typeNumber == null) {
+            typeNumber = reload().get(accountType);
+        }
+        if (typeNumber == null) {
+            throw new NotFoundAccountTypeNumberException(accountType);
+        }
+        return typeNumber;
+    }
+}
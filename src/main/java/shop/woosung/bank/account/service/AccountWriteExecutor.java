@@ -0,0 +1,57 @@
+package shop.woosung.bank.account.service;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import shop.woosung.bank.account.service.port.AccountLockManager;
+import shop.woosung.bank.config.AccountProperties;
+
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * 잔액 변경과 거래 내역 저장을 인메모리 락(AccountLockManager) 안에서 실행한다.
+ *
+ * 기본 모드에서는 잔액 변경이 AccountLockService 의 트랜잭션으로 먼저 커밋되고, 거래 내역은 락을 놓은 뒤 별도 트랜잭션으로 저장된다.
+ * 이 별도 트랜잭션은 거래와 원장 항목을 함께 커밋하므로 원장 없이 거래만 남지 않는다.
+ * 단일 커밋 모드(bank.account.concurrency.single-commit)에서는 둘을 하나의 트랜잭션으로 묶어 한 커넥션에서 한 번만 커밋하므로,
+ * 잔액만 커밋되고 거래 내역이 없는 구간이 사라진다. 인메모리 락은 트랜잭션 바깥에서 잡으므로 락을 기다리는 동안 커넥션을 점유하지 않는다.
+ * 낙관적 락 충돌은 트랜잭션 전체를 롤백한 뒤 AccountLockRetryTemplate 으로 처음부터 다시 수행한다.
+ */
+@Component
+public class AccountWriteExecutor {
+    private final AccountLockManager accountLockManager;
+    private final AccountLockRetryTemplate accountLockRetryTemplate;
+    private final AccountProperties.Concurrency properties;
+    private final TransactionTemplate transactionTemplate;
+
+    public AccountWriteExecutor(AccountLockManager accountLockManager, AccountLockRetryTemplate accountLockRetryTemplate,
+                                AccountProperties accountProperties, PlatformTransactionManager transactionManager) {
+        this.accountLockManager = accountLockManager;
+        this.accountLockRetryTemplate = accountLockRetryTemplate;
+        this.properties = accountProperties.getConcurrency();
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * @param lockKeys      인메모리 락을 잡을 계좌 번호 (비어 있으면 락 없이 실행)
+     * @param balanceChange 잔액 변경 (AccountLockService 호출)
+     * @param ledgerWrite   잔액 변경 결과로 거래 내역을 저장하고 응답을 만든다.
+     */
+    public <T, R> R execute(AccountWriteOperation operation, List<Long> lockKeys, Supplier<T> balanceChange, Function<T, R> ledgerWrite) {
+        if (!properties.isSingleCommit()) {
+            T balanceChanged = executeWithLock(lockKeys, balanceChange);
+            return transactionTemplate.execute(status -> ledgerWrite.apply(balanceChanged));
+        }
+        return executeWithLock(lockKeys, () -> accountLockRetryTemplate.execute(operation,
+                () -> transactionTemplate.execute(status -> ledgerWrite.apply(balanceChange.get()))));
+    }
+
+    private <T> T executeWithLock(List<Long> lockKeys, Supplier<T> action) {
+        if (lockKeys.isEmpty()) {
+            return action.get();
+        }
+        return accountLockManager.executeWithLock(lockKeys, action);
+    }
+}
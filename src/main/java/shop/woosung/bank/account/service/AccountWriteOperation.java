@@ -0,0 +1,5 @@
+package shop.woosung.bank.account.service;
+
+public enum AccountWriteOperation {
+    DEPOSIT, WITHDRAW, TRANSFER, PAYOUT
+}
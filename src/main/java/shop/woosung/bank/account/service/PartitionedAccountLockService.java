@@ -0,0 +1,211 @@
+package shop.woosung.bank.account.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import shop.woosung.bank.account.controller.port.AccountLockService;
+import shop.woosung.bank.account.domain.Account;
+import shop.woosung.bank.account.domain.AccountTransferIntent;
+import shop.woosung.bank.account.domain.AccountTransferIntentStatus;
+import shop.woosung.bank.account.domain.AccountType;
+import shop.woosung.bank.account.handler.exception.NotFoundAccountFullNumberException;
+import shop.woosung.bank.account.handler.exception.SameAccountTransferException;
+import shop.woosung.bank.account.service.dto.AccountPayoutLegDto;
+import shop.woosung.bank.account.service.dto.AccountPayoutLockResponseDto;
+import shop.woosung.bank.account.service.dto.AccountPayoutLockServiceDto;
+import shop.woosung.bank.account.service.dto.AccountTransferLockResponseDto;
+import shop.woosung.bank.account.service.dto.AccountTransferLockServiceDto;
+import shop.woosung.bank.account.service.dto.AccountWithdrawLockServiceDto;
+import shop.woosung.bank.account.service.port.AccountRepository;
+import shop.woosung.bank.account.service.port.AccountTransferIntentRepository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * partitioned 프로필에서 사용하는 AccountLockService.
+ * 잔액 변경은 AccountPartitionEngine 의 파티션 스레드에서만 일어나며 DB 행 락을 사용하지 않는다.
+ * 비밀번호 검증은 AccountCredentialVerifier 가 호출 전에 끝내고, 계좌 존재와 소유자 확인처럼 잔액과 무관한 작업은
+ * 파티션 스레드를 막지 않도록 호출 스레드에서 먼저 수행한다.
+ */
+@Slf4j
+@Primary
+@Profile("partitioned")
+@Service
+public class PartitionedAccountLockService implements AccountLockService {
+    private final AccountPartitionEngine accountPartitionEngine;
+    private final AccountNumberAllocator accountNumberAllocator;
+    private final AccountRepository accountRepository;
+    private final AccountTransferIntentRepository accountTransferIntentRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate readOnlyTransactionTemplate;
+
+    public PartitionedAccountLockService(AccountPartitionEngine accountPartitionEngine, AccountNumberAllocator accountNumberAllocator,
+                                         AccountRepository accountRepository, AccountTransferIntentRepository accountTransferIntentRepository,
+                                         PlatformTransactionManager transactionManager) {
+        this.accountPartitionEngine = accountPartitionEngine;
+        this.accountNumberAllocator = accountNumberAllocator;
+        this.accountRepository = accountRepository;
+        this.accountTransferIntentRepository = accountTransferIntentRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate.setReadOnly(true);
+    }
+
+    @Override
+    public Long getNewAccountNumber(AccountType accountType) {
+        return accountNumberAllocator.next(accountType);
+    }
+
+    @Override
+    public Account depositAccountWithLock(Long fullNumber, Long amount) {
+        return accountPartitionEngine.execute(fullNumber, partition -> partition.deposit(fullNumber, amount));
+    }
+
+    @Override
+    public Account withdrawWithLock(AccountWithdrawLockServiceDto accountWithdrawLockServiceDto) {
+        Long fullNumber = accountWithdrawLockServiceDto.getFullNumber();
+        Account withdrawAccount = getAccount(fullNumber);
+        withdrawAccount.checkOwner(accountWithdrawLockServiceDto.getUser().getId());
+
+        return accountPartitionEngine.execute(fullNumber, partition -> partition.withdraw(fullNumber, accountWithdrawLockServiceDto.getAmount()));
+    }
+
+    /**
+     * 두 계좌가 같은 파티션이면 한 명령으로 출금과 입금을 함께 적용한다.
+     * 다른 파티션이면 출금 파티션에서 차감이 커밋된 뒤에 입금 파티션으로 넘기는 2단계로 처리한다.
+     * 차감을 먼저 하므로 어느 시점에도 음수 잔액이 보이지 않으며, 입금 단계가 실패하면 출금 파티션에 되돌림 입금을 보낸다.
+     * 차감 전에 이체 의도를 기록하고 각 단계의 잔액 변경과 의도의 상태 변경을 함께 커밋하므로, 되돌림까지 실패하거나
+     * 프로세스가 중간에 종료되어도 AccountTransferIntentRecoverer 가 남은 의도를 찾아 출금 계좌로 되돌린다.
+     */
+    @Override
+    public AccountTransferLockResponseDto transferWithLock(AccountTransferLockServiceDto accountTransferLockServiceDto) {
+        Long withdrawFullNumber = accountTransferLockServiceDto.getWithdrawFullNumber();
+        Long depositFullNumber = accountTransferLockServiceDto.getDepositFullNumber();
+        Long amount = accountTransferLockServiceDto.getAmount();
+        checkSameAccount(withdrawFullNumber, depositFullNumber);
+
+        Account withdrawAccount = getAccount(withdrawFullNumber);
+        withdrawAccount.checkOwner(accountTransferLockServiceDto.getUser().getId());
+        getAccount(depositFullNumber);
+
+        if (accountPartitionEngine.isSamePartition(withdrawFullNumber, depositFullNumber)) {
+            return accountPartitionEngine.execute(withdrawFullNumber, partition -> {
+                partition.load(depositFullNumber);
+                return AccountTransferLockResponseDto.from(partition.withdraw(withdrawFullNumber, amount), partition.deposit(depositFullNumber, amount));
+            });
+        }
+
+        List<Long> intentIds = recordIntents(List.of(AccountTransferIntent.create(withdrawFullNumber, depositFullNumber, amount)));
+        Account withdrawnAccount = withdraw(withdrawFullNumber, amount, intentIds);
+        try {
+            Account depositedAccount = accountPartitionEngine.execute(depositFullNumber, partition -> {
+                Account account = partition.deposit(depositFullNumber, amount);
+                partition.finishIntents(intentIds);
+                return account;
+            });
+            return AccountTransferLockResponseDto.from(withdrawnAccount, depositedAccount);
+        } catch (RuntimeException exception) {
+            log.error("transfer deposit leg failed, refund withdraw account = {}, amount = {}", withdrawFullNumber, amount, exception);
+            refund(withdrawFullNumber, amount, intentIds, exception);
+            throw exception;
+        }
+    }
+
+    /**
+     * 출금 파티션에서 총액을 한 번에 차감한 뒤 각 입금 계좌의 파티션으로 건별 입금을 보낸다.
+     * 입금 도중 실패하면 아직 입금되지 않은 금액만 출금 계좌로 되돌린다. 이체와 마찬가지로 건별 이체 의도를 먼저 기록한다.
+     */
+    @Override
+    public AccountPayoutLockResponseDto payoutWithLock(AccountPayoutLockServiceDto accountPayoutLockServiceDto) {
+        Long withdrawFullNumber = accountPayoutLockServiceDto.getWithdrawFullNumber();
+        accountPayoutLockServiceDto.getLegs().forEach(leg -> checkSameAccount(withdrawFullNumber, leg.getDepositFullNumber()));
+
+        Account withdrawAccount = getAccount(withdrawFullNumber);
+        withdrawAccount.checkOwner(accountPayoutLockServiceDto.getUser().getId());
+        accountPayoutLockServiceDto.getOrderedFullNumbers().forEach(this::getAccount);
+
+        Long totalAmount = accountPayoutLockServiceDto.getTotalAmount();
+        List<Long> intentIds = recordIntents(accountPayoutLockServiceDto.getLegs().stream()
+                .map(leg -> AccountTransferIntent.create(withdrawFullNumber, leg.getDepositFullNumber(), leg.getAmount()))
+                .collect(Collectors.toList()));
+        Account withdrawnAccount = withdraw(withdrawFullNumber, totalAmount, intentIds);
+
+        long withdrawAccountBalance = withdrawnAccount.getBalance() + totalAmount;
+        long notDepositedAmount = totalAmount;
+        List<AccountPayoutLockResponseDto.LegDto> legs = new ArrayList<>();
+        try {
+            for (AccountPayoutLegDto leg : accountPayoutLockServiceDto.getLegs()) {
+                List<Long> legIntentIds = List.of(intentIds.get(legs.size()));
+                Account depositedAccount = accountPartitionEngine.execute(leg.getDepositFullNumber(), partition -> {
+                    Account account = partition.deposit(leg.getDepositFullNumber(), leg.getAmount());
+                    partition.finishIntents(legIntentIds);
+                    return account;
+                });
+                notDepositedAmount -= leg.getAmount();
+                withdrawAccountBalance -= leg.getAmount();
+                legs.add(AccountPayoutLockResponseDto.LegDto.of(depositedAccount, leg.getAmount(), withdrawAccountBalance));
+            }
+        } catch (RuntimeException exception) {
+            long refundAmount = notDepositedAmount;
+            log.error("payout deposit leg failed, refund withdraw account = {}, amount = {}, deposited legs = {}", withdrawFullNumber, refundAmount, legs.size(), exception);
+            refund(withdrawFullNumber, refundAmount, intentIds.subList(legs.size(), intentIds.size()), exception);
+            throw exception;
+        }
+
+        return AccountPayoutLockResponseDto.of(withdrawnAccount, legs);
+    }
+
+    private List<Long> recordIntents(List<AccountTransferIntent> accountTransferIntents) {
+        return transactionTemplate.execute(status -> accountTransferIntentRepository.saveAll(accountTransferIntents)).stream()
+                .map(AccountTransferIntent::getId)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 차감과 의도의 WITHDRAWN 전환을 함께 커밋한다. 차감이 커밋되지 않았으면 PENDING 의도는 바로 지운다.
+     */
+    private Account withdraw(Long withdrawFullNumber, Long amount, List<Long> intentIds) {
+        try {
+            return accountPartitionEngine.execute(withdrawFullNumber, partition -> {
+                Account account = partition.withdraw(withdrawFullNumber, amount);
+                partition.markWithdrawn(intentIds);
+                return account;
+            });
+        } catch (RuntimeException exception) {
+            transactionTemplate.executeWithoutResult(status -> accountTransferIntentRepository.delete(intentIds, AccountTransferIntentStatus.PENDING));
+            throw exception;
+        }
+    }
+
+    /**
+     * 되돌림도 실패하면 의도가 WITHDRAWN 으로 남으므로 AccountTransferIntentRecoverer 가 나중에 되돌린다.
+     */
+    private void refund(Long withdrawFullNumber, Long amount, List<Long> intentIds, RuntimeException cause) {
+        try {
+            accountPartitionEngine.execute(withdrawFullNumber, partition -> {
+                partition.deposit(withdrawFullNumber, amount);
+                partition.finishIntents(intentIds);
+                return null;
+            });
+        } catch (RuntimeException exception) {
+            log.error("refund failed, left for intent recovery, withdraw account = {}, amount = {}, intents = {}", withdrawFullNumber, amount, intentIds, exception);
+            cause.addSuppressed(exception);
+        }
+    }
+
+    private Account getAccount(Long fullNumber) {
+        return readOnlyTransactionTemplate.execute(status -> accountRepository.findByFullNumber(fullNumber))
+                .orElseThrow(() -> new NotFoundAccountFullNumberException(fullNumber));
+    }
+
+    private void checkSameAccount(Long withdrawFullNumber, Long depositFullNumber) {
+        if(withdrawFullNumber.equals(depositFullNumber)) {
+            throw new SameAccountTransferException(withdrawFullNumber);
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package shop.woosung.bank.account.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+import shop.woosung.bank.account.controller.port.AccountLockService;
+import shop.woosung.bank.account.domain.Account;
+import shop.woosung.bank.account.domain.AccountType;
+import shop.woosung.bank.account.service.dto.AccountPayoutLockResponseDto;
+import shop.woosung.bank.account.service.dto.AccountPayoutLockServiceDto;
+import shop.woosung.bank.account.service.dto.AccountTransferLockResponseDto;
+import shop.woosung.bank.account.service.dto.AccountTransferLockServiceDto;
+import shop.woosung.bank.account.service.dto.AccountWithdrawLockServiceDto;
+import shop.woosung.bank.config.AccountProperties;
+
+/**
+ * 작업(입금/출금/이체)별로 설정된 동시성 전략(비관적 락, 낙관적 락, 조건부 UPDATE)에 맞는 구현으로 위임한다.
+ * 분할 잔액 모드 계좌는 설정과 관계없이 슬롯을 다루는 구현으로 위임한다.
+ * 이체/지급은 입금 계좌만 분할 잔액 모드여도 위임해야 응답과 거래 내역의 입금 후 잔액에 슬롯 잔액이 포함된다.
+ */
+@Primary
+@Profile("!partitioned")
+@Service
+@RequiredArgsConstructor
+public class RoutingAccountLockService implements AccountLockService {
+    private final AccountLockServiceImpl pessimisticLockService;
+    private final AccountOptimisticLockServiceImpl optimisticLockService;
+    private final AccountConditionalUpdateServiceImpl conditionalUpdateService;
+    private final AccountBalanceSlotServiceImpl accountBalanceSlotService;
+    private final AccountBalanceSlotRegistry accountBalanceSlotRegistry;
+    private final AccountLockRetryTemplate accountLockRetryTemplate;
+    private final AccountNumberAllocator accountNumberAllocator;
+    private final AccountProperties accountProperties;
+
+    @Override
+    public Long getNewAccountNumber(AccountType accountType) {
+        return accountNumberAllocator.next(accountType);
+    }
+
+    @Override
+    public Account depositAccountWithLock(Long fullNumber, Long amount) {
+        if (accountBalanceSlotRegistry.isSharded(fullNumber)) {
+            return accountBalanceSlotService.deposit(fullNumber, amount, accountBalanceSlotRegistry.getSlotCount(fullNumber));
+        }
+        switch (accountProperties.getConcurrency().getDeposit()) {
+            case OPTIMISTIC:
+                return accountLockRetryTemplate.execute(AccountWriteOperation.DEPOSIT, () -> optimisticLockService.deposit(fullNumber, amount));
+            case CONDITIONAL_UPDATE:
+                return conditionalUpdateService.deposit(fullNumber, amount);
+            default:
+                return pessimisticLockService.depositAccountWithLock(fullNumber, amount);
+        }
+    }
+
+    @Override
+    public Account withdrawWithLock(AccountWithdrawLockServiceDto accountWithdrawLockServiceDto) {
+        if (accountBalanceSlotRegistry.isSharded(accountWithdrawLockServiceDto.getFullNumber())) {
+            return accountBalanceSlotService.withdraw(accountWithdrawLockServiceDto);
+        }
+        switch (accountProperties.getConcurrency().getWithdraw()) {
+            case OPTIMISTIC:
+                return accountLockRetryTemplate.execute(AccountWriteOperation.WITHDRAW, () -> optimisticLockService.withdraw(accountWithdrawLockServiceDto));
+            case CONDITIONAL_UPDATE:
+                return conditionalUpdateService.withdraw(accountWithdrawLockServiceDto);
+            default:
+                return pessimisticLockService.withdrawWithLock(accountWithdrawLockServiceDto);
+        }
+    }
+
+    @Override
+    public AccountTransferLockResponseDto transferWithLock(AccountTransferLockServiceDto accountTransferLockServiceDto) {
+        if (accountBalanceSlotRegistry.isSharded(accountTransferLockServiceDto.getWithdrawFullNumber())
+                || accountBalanceSlotRegistry.isSharded(accountTransferLockServiceDto.getDepositFullNumber())) {
+            return accountBalanceSlotService.transfer(accountTransferLockServiceDto);
+        }
+        switch (accountProperties.getConcurrency().getTransfer()) {
+            case OPTIMISTIC:
+                return accountLockRetryTemplate.execute(AccountWriteOperation.TRANSFER, () -> optimisticLockService.transfer(accountTransferLockServiceDto));
+            case CONDITIONAL_UPDATE:
+                return conditionalUpdateService.transfer(accountTransferLockServiceDto);
+            default:
+                return pessimisticLockService.transferWithLock(accountTransferLockServiceDto);
+        }
+    }
+
+    /**
+     * 지급은 출금 계좌를 한 번만 잠그는 것이 목적이므로 설정된 전략과 관계없이 비관적 락으로 처리한다.
+     */
+    @Override
+    public AccountPayoutLockResponseDto payoutWithLock(AccountPayoutLockServiceDto accountPayoutLockServiceDto) {
+        if (accountPayoutLockServiceDto.getOrderedFullNumbers().stream().anyMatch(accountBalanceSlotRegistry::isSharded)) {
+            return accountBalanceSlotService.payout(accountPayoutLockServiceDto);
+        }
+        return pessimisticLockService.payoutWithLock(accountPayoutLockServiceDto);
+    }
+}
@@ -0,0 +1,22 @@
+package shop.woosung.bank.account.service.dto;
+
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import shop.woosung.bank.account.domain.Account;
+
+@Getter
+@Builder(access = AccessLevel.PRIVATE)
+public class AccountBalanceSlotResponseDto {
+    private final Long fullNumber;
+    private final Integer slotCount;
+    private final Long balance;
+
+    public static AccountBalanceSlotResponseDto from(Account account, int slotCount) {
+        return AccountBalanceSlotResponseDto.builder()
+                .fullNumber(account.getFullNumber())
+                .slotCount(slotCount)
+                .balance(account.getBalance())
+                .build();
+    }
+}
@@ -0,0 +1,23 @@
+package shop.woosung.bank.account.service.dto;
+
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import shop.woosung.bank.account.domain.Account;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Getter
+@Builder(access = AccessLevel.PRIVATE)
+public class AccountBulkRegisterResponseDto {
+    private final int count;
+    private final List<AccountRegisterResponseDto> accounts;
+
+    public static AccountBulkRegisterResponseDto from(List<Account> accounts) {
+        return AccountBulkRegisterResponseDto.builder()
+                .count(accounts.size())
+                .accounts(accounts.stream().map(AccountRegisterResponseDto::from).collect(Collectors.toList()))
+                .build();
+    }
+}
@@ -3,7 +3,7 @@ package shop.woosung.bank.account.service.dto;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
-import shop.woosung.bank.account.domain.Account;
+import shop.woosung.bank.account.domain.AccountSummary;
 import shop.woosung.bank.account.domain.AccountType;
 import shop.woosung.bank.user.domain.User;
 
@@ -17,7 +17,7 @@ public class AccountListResponseDto {
     private String username;
     private List<AccountDto> accounts;
 
-    public static AccountListResponseDto from(User user, List<Account> accounts) {
+    public static AccountListResponseDto from(User user, List<AccountSummary> accounts) {
         return AccountListResponseDto.builder()
                 .username(user.getName())
                 .accounts(accounts.stream()
@@ -33,7 +33,7 @@ public class AccountListResponseDto {
         private final Long balance;
         private final AccountType type;
 
-        public AccountDto(Account account) {
+        public AccountDto(AccountSummary account) {
             this.id = account.getId();
             this.fullNumber = account.getFullNumber();
             this.balance = account.getBalance();
@@ -0,0 +1,68 @@
+package shop.woosung.bank.account.service.dto;
+
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder(access = AccessLevel.PRIVATE)
+public class AccountLockContentionResponseDto {
+    private final List<OperationDto> operations;
+    private final List<HotAccountDto> hotAccounts;
+
+    public static AccountLockContentionResponseDto of(List<OperationDto> operations, List<HotAccountDto> hotAccounts) {
+        return AccountLockContentionResponseDto.builder()
+                .operations(operations)
+                .hotAccounts(hotAccounts)
+                .build();
+    }
+
+    @Getter
+    @Builder(access = AccessLevel.PRIVATE)
+    public static class OperationDto {
+        private final String operation;
+        private final Long waitCount;
+        private final Long waitTotalMicros;
+        private final Long waitMaxMicros;
+        private final Long holdCount;
+        private final Long holdTotalMicros;
+        private final Long holdMaxMicros;
+        private final Long timeouts;
+        private final Long deadlocks;
+
+        public static OperationDto of(String operation, long waitCount, long waitTotalMicros, long waitMaxMicros,
+                                      long holdCount, long holdTotalMicros, long holdMaxMicros, long timeouts, long deadlocks) {
+            return OperationDto.builder()
+                    .operation(operation)
+                    .waitCount(waitCount)
+                    .waitTotalMicros(waitTotalMicros)
+                    .waitMaxMicros(waitMaxMicros)
+                    .holdCount(holdCount)
+                    .holdTotalMicros(holdTotalMicros)
+                    .holdMaxMicros(holdMaxMicros)
+                    .timeouts(timeouts)
+                    .deadlocks(deadlocks)
+                    .build();
+        }
+    }
+
+    @Getter
+    @Builder(access = AccessLevel.PRIVATE)
+    public static class HotAccountDto {
+        private final Long fullNumber;
+        private final Long waitMicros;
+        private final Long waitMicrosOverestimate;
+        private final Long acquisitions;
+
+        public static HotAccountDto of(Long fullNumber, long waitMicros, long waitMicrosOverestimate, long acquisitions) {
+            return HotAccountDto.builder()
+                    .fullNumber(fullNumber)
+                    .waitMicros(waitMicros)
+                    .waitMicrosOverestimate(waitMicrosOverestimate)
+                    .acquisitions(acquisitions)
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package shop.woosung.bank.account.service.dto;
+
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder(access = AccessLevel.PRIVATE)
+public class AccountLockRetryStatResponseDto {
+    private final String operation;
+    private final Long attempts;
+    private final Long retries;
+    private final Long exhausted;
+
+    public static AccountLockRetryStatResponseDto of(String operation, long attempts, long retries, long exhausted) {
+        return AccountLockRetryStatResponseDto.builder()
+                .operation(operation)
+                .attempts(attempts)
+                .retries(retries)
+                .exhausted(exhausted)
+                .build();
+    }
+}
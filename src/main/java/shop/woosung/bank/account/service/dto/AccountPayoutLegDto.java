@@ -0,0 +1,16 @@
+package shop.woosung.bank.account.service.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+public class AccountPayoutLegDto {
+    private final Long depositFullNumber;
+    private final Long amount;
+
+    @Builder
+    public AccountPayoutLegDto(Long depositFullNumber, Long amount) {
+        this.depositFullNumber = depositFullNumber;
+        this.amount = amount;
+    }
+}
@@ -0,0 +1,41 @@
+package shop.woosung.bank.account.service.dto;
+
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import shop.woosung.bank.account.domain.Account;
+
+import java.util.List;
+
+@Getter
+@Builder(access = AccessLevel.PRIVATE)
+public class AccountPayoutLockResponseDto {
+    private final AccountTransferLockResponseDto.AccountDto withdrawAccountDto;
+    private final List<LegDto> legs;
+
+    public static AccountPayoutLockResponseDto of(Account withdrawAccount, List<LegDto> legs) {
+        return AccountPayoutLockResponseDto.builder()
+                .withdrawAccountDto(AccountTransferLockResponseDto.AccountDto.from(withdrawAccount))
+                .legs(legs)
+                .build();
+    }
+
+    @Getter
+    @Builder(access = AccessLevel.PRIVATE)
+    public static class LegDto {
+        private final AccountTransferLockResponseDto.AccountDto depositAccountDto;
+        private final Long amount;
+        /**
+         * 이 건까지 반영했을 때의 출금 계좌 잔액 (출금은 총액으로 한 번에 하지만 거래 내역은 건별 잔액을 남긴다)
+         */
+        private final Long withdrawAccountBalance;
+
+        public static LegDto of(Account depositAccount, Long amount, Long withdrawAccountBalance) {
+            return LegDto.builder()
+                    .depositAccountDto(AccountTransferLockResponseDto.AccountDto.from(depositAccount))
+                    .amount(amount)
+                    .withdrawAccountBalance(withdrawAccountBalance)
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package shop.woosung.bank.account.service.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+import shop.woosung.bank.account.handler.exception.NotEnoughBalanceException;
+import shop.woosung.bank.user.domain.User;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+@Getter
+public class AccountPayoutLockServiceDto {
+    private final Long withdrawFullNumber;
+    private final Long withdrawPassword;
+    private final List<AccountPayoutLegDto> legs;
+    private final User user;
+
+    @Builder
+    public AccountPayoutLockServiceDto(Long withdrawFullNumber, Long withdrawPassword, List<AccountPayoutLegDto> legs, User user) {
+        this.withdrawFullNumber = withdrawFullNumber;
+        this.withdrawPassword = withdrawPassword;
+        this.legs = legs;
+        this.user = user;
+    }
+
+    /**
+     * 건별 금액의 합. long 범위를 넘는 총액은 어떤 잔액으로도 지급할 수 없으므로 음수로 넘치기 전에 잔액 부족으로 막는다.
+     */
+    public Long getTotalAmount() {
+        long totalAmount = 0L;
+        for (AccountPayoutLegDto leg : legs) {
+            try {
+                totalAmount = Math.addExact(totalAmount, leg.getAmount());
+            } catch (ArithmeticException exception) {
+                throw new NotEnoughBalanceException("지급 총액이 너무 큽니다. 출금 계좌 : " + withdrawFullNumber);
+            }
+        }
+        return totalAmount;
+    }
+
+    /**
+     * 출금 계좌와 모든 입금 계좌를 중복 없이 오름차순으로 정렬한 목록, 락 획득 순서로 사용한다.
+     */
+    public List<Long> getOrderedFullNumbers() {
+        return Stream.concat(Stream.of(withdrawFullNumber), legs.stream().map(AccountPayoutLegDto::getDepositFullNumber))
+                .distinct()
+                .sorted()
+                .collect(Collectors.toList());
+    }
+}
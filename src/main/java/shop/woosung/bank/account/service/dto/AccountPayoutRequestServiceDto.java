@@ -0,0 +1,20 @@
+package shop.woosung.bank.account.service.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class AccountPayoutRequestServiceDto {
+    private final Long withdrawFullNumber;
+    private final Long withdrawPassword;
+    private final List<AccountPayoutLegDto> legs;
+
+    @Builder
+    public AccountPayoutRequestServiceDto(Long withdrawFullNumber, Long withdrawPassword, List<AccountPayoutLegDto> legs) {
+        this.withdrawFullNumber = withdrawFullNumber;
+        this.withdrawPassword = withdrawPassword;
+        this.legs = legs;
+    }
+}
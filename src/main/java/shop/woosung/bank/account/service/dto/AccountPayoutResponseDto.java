@@ -0,0 +1,29 @@
+package shop.woosung.bank.account.service.dto;
+
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import shop.woosung.bank.transaction.domain.Transaction;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Getter
+@Builder(access = AccessLevel.PRIVATE)
+public class AccountPayoutResponseDto {
+    private final Long id;
+    private final Long fullNumber;
+    private final Long balance;
+    private final Long totalAmount;
+    private final List<AccountTransferResponseDto.TransactionDto> transactions;
+
+    public static AccountPayoutResponseDto from(AccountPayoutLockResponseDto accountPayoutLockResponseDto, List<Transaction> transactions) {
+        return AccountPayoutResponseDto.builder()
+                .id(accountPayoutLockResponseDto.getWithdrawAccountDto().getId())
+                .fullNumber(accountPayoutLockResponseDto.getWithdrawAccountDto().getFullNumber())
+                .balance(accountPayoutLockResponseDto.getWithdrawAccountDto().getBalance())
+                .totalAmount(transactions.stream().mapToLong(Transaction::getAmount).sum())
+                .transactions(transactions.stream().map(AccountTransferResponseDto.TransactionDto::from).collect(Collectors.toList()))
+                .build();
+    }
+}
@@ -25,6 +25,7 @@ public class AccountTransferLockResponseDto {
         private final Long id;
         private final Long fullNumber;
         private final Long balance;
+        private final Long version;
         private final User user;
 
 
@@ -33,6 +34,7 @@ public class AccountTransferLockResponseDto {
                     .id(account.getId())
                     .fullNumber(account.getFullNumber())
                     .balance(account.getBalance())
+                    .version(account.getVersion())
                     .user(account.getUser())
                     .build();
         }
@@ -42,6 +44,7 @@ public class AccountTransferLockResponseDto {
                     .id(this.id)
                     .fullNumber(this.fullNumber)
                     .balance(this.balance)
+                    .version(this.version)
                     .user(user)
                     .build();
         }
@@ -0,0 +1,20 @@
+package shop.woosung.bank.account.service.dto;
+
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import shop.woosung.bank.account.domain.AccountType;
+
+@Getter
+@Builder(access = AccessLevel.PRIVATE)
+public class AccountTypeNumberResponseDto {
+    private final AccountType accountType;
+    private final Long number;
+
+    public static AccountTypeNumberResponseDto of(AccountType accountType, Long number) {
+        return AccountTypeNumberResponseDto.builder()
+                .accountType(accountType)
+                .number(number)
+                .build();
+    }
+}
@@ -0,0 +1,37 @@
+package shop.woosung.bank.account.service.port;
+
+import shop.woosung.bank.account.domain.AccountBalanceSlot;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+public interface AccountBalanceSlotRepository {
+
+    AccountBalanceSlot save(AccountBalanceSlot accountBalanceSlot);
+
+    /**
+     * 지정한 슬롯 행 하나만 단일 UPDATE 로 증가시킨다. 슬롯이 없으면 false 를 반환한다.
+     */
+    boolean increaseBalance(Long accountFullNumber, Integer slot, Long amount);
+
+    Long sumBalance(Long accountFullNumber);
+
+    /**
+     * 계좌 행 잔액 + 슬롯 잔액 합계를 한 문장으로 읽는다.
+     */
+    Optional<Long> findTotalBalance(Long accountFullNumber);
+
+    Map<Long, Long> sumBalanceByAccountFullNumbers(List<Long> accountFullNumbers);
+
+    /**
+     * 슬롯 번호 순서로 모든 슬롯 행을 잠근 뒤 잔액을 0 으로 만들고, 비운 금액의 합을 반환한다.
+     */
+    Long drainWithLock(Long accountFullNumber);
+
+    Map<Long, Integer> findSlotCounts();
+
+    int countByAccountFullNumber(Long accountFullNumber);
+
+    void deleteByAccountFullNumber(Long accountFullNumber);
+}
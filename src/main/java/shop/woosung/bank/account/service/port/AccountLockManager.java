@@ -0,0 +1,9 @@
+package shop.woosung.bank.account.service.port;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+public interface AccountLockManager {
+
+    <T> T executeWithLock(List<Long> fullNumbers, Supplier<T> action);
+}
@@ -1,15 +1,21 @@
 package shop.woosung.bank.account.service.port;
 
 import shop.woosung.bank.account.domain.Account;
+import shop.woosung.bank.account.domain.AccountSummary;
 
 import java.util.List;
 import java.util.Optional;
 
 public interface AccountRepository {
-    List<Account> findByUserId(Long userId);
+    /**
+     * 사용자의 계좌 목록을 사용자 조인 없이 목록에 필요한 컬럼만 한 번의 쿼리로 조회한다.
+     */
+    List<AccountSummary> findSummariesByUserId(Long userId);
 
     Account save(Account account);
 
+    List<Account> saveAll(List<Account> accounts);
+
     Optional<Account> findByFullNumber(Long fullNumber);
 
     void deleteById(Long id);
@@ -17,4 +23,21 @@ public interface AccountRepository {
     Optional<Account> findByFullNumberWithPessimisticLock(Long fullNumber);
 
     void update(Account account);
+
+    /**
+     * 잔액을 단일 UPDATE 로 증가시키고 변경된 잔액은 다시 읽지 않는다. 대상 계좌가 없으면 false 를 반환한다.
+     */
+    boolean applyDeposit(Long fullNumber, Long amount);
+
+    /**
+     * 소유자가 맞고 잔액이 충분할 때만 단일 UPDATE 로 차감하고 변경된 잔액은 다시 읽지 않는다.
+     * 계좌가 없거나 소유자가 다르거나 잔액이 부족하면 false 를 반환한다.
+     */
+    boolean applyWithdraw(Long fullNumber, Long userId, Long amount);
+
+    /**
+     * 메모리에서 계산한 잔액으로 덮어쓴다. 잔액의 단일 소유자가 있는 경우에만 사용한다.
+     * 읽은 뒤 다른 곳에서 계좌가 변경되어 버전이 expectedVersion 과 다르거나 대상 계좌가 없으면 덮어쓰지 않고 false 를 반환한다.
+     */
+    boolean overwriteBalance(Long fullNumber, Long balance, Long expectedVersion);
 }
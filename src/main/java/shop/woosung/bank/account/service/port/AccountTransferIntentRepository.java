@@ -0,0 +1,27 @@
+package shop.woosung.bank.account.service.port;
+
+import shop.woosung.bank.account.domain.AccountTransferIntent;
+import shop.woosung.bank.account.domain.AccountTransferIntentStatus;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface AccountTransferIntentRepository {
+
+    List<AccountTransferIntent> saveAll(List<AccountTransferIntent> accountTransferIntents);
+
+    /**
+     * 마지막 변경이 주어진 시각보다 오래된 의도를 조회한다.
+     */
+    List<AccountTransferIntent> findUpdatedBefore(LocalDateTime updatedAt);
+
+    /**
+     * 모든 의도가 from 상태일 때만 to 로 바꾼다. 하나라도 이미 다른 상태면 false 를 반환하며, 호출자는 트랜잭션을 롤백해야 한다.
+     */
+    boolean changeStatus(List<Long> intentIds, AccountTransferIntentStatus from, AccountTransferIntentStatus to);
+
+    /**
+     * 모든 의도가 status 상태일 때만 삭제한다. 하나라도 이미 처리되었으면 false 를 반환하며, 호출자는 트랜잭션을 롤백해야 한다.
+     */
+    boolean delete(List<Long> intentIds, AccountTransferIntentStatus status);
+}
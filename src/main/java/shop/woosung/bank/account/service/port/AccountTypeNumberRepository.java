@@ -9,6 +9,8 @@ import java.util.Optional;
 public interface AccountTypeNumberRepository {
     Optional<AccountTypeNumber> findById(String accountType);
 
+    List<AccountTypeNumber> findAll();
+
     AccountTypeNumber save(AccountTypeNumber accountTypeNumber);
 
 }
@@ -1,14 +1,21 @@
 package shop.woosung.bank.account.util;
 
+import shop.woosung.bank.account.controller.dto.AccountBulkRegisterRequestDto;
 import shop.woosung.bank.account.controller.dto.AccountDepositRequestDto;
+import shop.woosung.bank.account.controller.dto.AccountPayoutRequestDto;
 import shop.woosung.bank.account.controller.dto.AccountRegisterRequestDto;
 import shop.woosung.bank.account.controller.dto.AccountTransferRequestDto;
 import shop.woosung.bank.account.controller.dto.AccountWithdrawRequestDto;
 import shop.woosung.bank.account.service.dto.AccountDepositRequestServiceDto;
+import shop.woosung.bank.account.service.dto.AccountPayoutLegDto;
+import shop.woosung.bank.account.service.dto.AccountPayoutRequestServiceDto;
 import shop.woosung.bank.account.service.dto.AccountRegisterRequestServiceDto;
 import shop.woosung.bank.account.service.dto.AccountTransferRequestServiceDto;
 import shop.woosung.bank.account.service.dto.AccountWithdrawRequestServiceDto;
 
+import java.util.List;
+import java.util.stream.Collectors;
+
 public class AccountControllerToServiceConverter {
 
     public static AccountRegisterRequestServiceDto accountRegisterRequestConvert(AccountRegisterRequestDto accountRegisterRequestDto){
@@ -19,6 +26,12 @@ public class AccountControllerToServiceConverter {
                 .build();
     }
 
+    public static List<AccountRegisterRequestServiceDto> accountBulkRegisterRequestConvert(AccountBulkRegisterRequestDto accountBulkRegisterRequestDto){
+        return accountBulkRegisterRequestDto.getAccounts().stream()
+                .map(AccountControllerToServiceConverter::accountRegisterRequestConvert)
+                .collect(Collectors.toList());
+    }
+
     public static AccountDepositRequestServiceDto accountDepositRequestConvert(AccountDepositRequestDto accountDepositRequestDto){
         return AccountDepositRequestServiceDto.builder()
                 .fullNumber(accountDepositRequestDto.getFullNumber())
@@ -47,4 +60,17 @@ public class AccountControllerToServiceConverter {
                 .transactionType(accountTransferRequestDto.getTransactionType())
                 .build();
     }
+
+    public static AccountPayoutRequestServiceDto accountPayoutRequestConvert(AccountPayoutRequestDto accountPayoutRequestDto){
+        return AccountPayoutRequestServiceDto.builder()
+                .withdrawFullNumber(accountPayoutRequestDto.getWithdrawFullNumber())
+                .withdrawPassword(accountPayoutRequestDto.getWithdrawPassword())
+                .legs(accountPayoutRequestDto.getLegs().stream()
+                        .map(leg -> AccountPayoutLegDto.builder()
+                                .depositFullNumber(leg.getDepositFullNumber())
+                                .amount(leg.getAmount())
+                                .build())
+                        .collect(Collectors.toList()))
+                .build();
+    }
 }
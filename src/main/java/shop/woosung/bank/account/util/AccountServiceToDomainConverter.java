@@ -24,9 +24,13 @@ public class AccountServiceToDomainConverter {
 
     // TODO 여기있는게 맞을까?
     static public DepositTransactionCreate depositTransactionCreateConvert(AccountDepositRequestServiceDto accountDepositRequestServiceDto, Account depositAccount) {
+        return depositTransactionCreateConvert(accountDepositRequestServiceDto, depositAccount, depositAccount.getBalance());
+    }
+
+    static public DepositTransactionCreate depositTransactionCreateConvert(AccountDepositRequestServiceDto accountDepositRequestServiceDto, Account depositAccount, Long depositAccountBalance) {
         return DepositTransactionCreate.builder()
                 .depositAccount(depositAccount)
-                .depositAccountBalance(depositAccount.getBalance())
+                .depositAccountBalance(depositAccountBalance)
                 .amount(accountDepositRequestServiceDto.getAmount())
                 .type(accountDepositRequestServiceDto.getTransactionType())
                 .sender(accountDepositRequestServiceDto.getSender())
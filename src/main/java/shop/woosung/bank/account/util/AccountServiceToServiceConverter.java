@@ -1,5 +1,7 @@
 package shop.woosung.bank.account.util;
 
+import shop.woosung.bank.account.service.dto.AccountPayoutLockServiceDto;
+import shop.woosung.bank.account.service.dto.AccountPayoutRequestServiceDto;
 import shop.woosung.bank.account.service.dto.AccountTransferLockServiceDto;
 import shop.woosung.bank.account.service.dto.AccountTransferRequestServiceDto;
 import shop.woosung.bank.account.service.dto.AccountWithdrawLockServiceDto;
@@ -26,4 +28,13 @@ public class AccountServiceToServiceConverter {
                 .user(user)
                 .build();
     }
+
+    public static AccountPayoutLockServiceDto accountPayoutLockServiceDtoConvert(AccountPayoutRequestServiceDto accountPayoutRequestServiceDto, User user){
+        return AccountPayoutLockServiceDto.builder()
+                .withdrawFullNumber(accountPayoutRequestServiceDto.getWithdrawFullNumber())
+                .withdrawPassword(accountPayoutRequestServiceDto.getWithdrawPassword())
+                .legs(accountPayoutRequestServiceDto.getLegs())
+                .user(user)
+                .build();
+    }
 }
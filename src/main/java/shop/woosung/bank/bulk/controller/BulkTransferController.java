@@ -0,0 +1,69 @@
+package shop.woosung.bank.bulk.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+import shop.woosung.bank.bulk.controller.port.BulkTransferService;
+import shop.woosung.bank.bulk.domain.BulkTransferFormat;
+import shop.woosung.bank.bulk.handler.exception.BulkTransferFileException;
+import shop.woosung.bank.bulk.service.dto.BulkTransferJobResponseDto;
+import shop.woosung.bank.common.ApiResponse;
+import shop.woosung.bank.config.auth.LoginUser;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+@Profile("!partitioned")
+@RequiredArgsConstructor
+@RequestMapping("/api")
+@RestController
+public class BulkTransferController {
+
+    private final BulkTransferService bulkTransferService;
+
+    /**
+     * format 을 생략하면 파일 확장자(.ndjson, .jsonl)로 판단하고, 그 외에는 CSV 로 처리한다.
+     */
+    @PostMapping(value = "/s/bulk-transfers", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<ApiResponse<BulkTransferJobResponseDto>> register(@RequestParam("file") MultipartFile file,
+                                                                            @RequestParam(value = "format", required = false) BulkTransferFormat format,
+                                                                            @AuthenticationPrincipal LoginUser loginUser) {
+        try (InputStream inputStream = file.getInputStream()) {
+            BulkTransferJobResponseDto bulkTransferJobResponseDto = bulkTransferService.register(inputStream, resolveFormat(format, file.getOriginalFilename()), loginUser.getUser());
+
+            return ResponseEntity.status(HttpStatus.CREATED).body(ApiResponse.success("일괄 이체 작업 등록 완료", bulkTransferJobResponseDto));
+        } catch (IOException exception) {
+            throw new BulkTransferFileException("업로드 파일 읽기 실패", exception);
+        }
+    }
+
+    @GetMapping("/s/bulk-transfers/{jobId}")
+    public ResponseEntity<ApiResponse<BulkTransferJobResponseDto>> getJob(@PathVariable Long jobId,
+                                                                          @AuthenticationPrincipal LoginUser loginUser) {
+        BulkTransferJobResponseDto bulkTransferJobResponseDto = bulkTransferService.getJob(jobId, loginUser.getUser());
+
+        return ResponseEntity.status(HttpStatus.OK).body(ApiResponse.success(bulkTransferJobResponseDto));
+    }
+
+    @GetMapping(value = "/s/bulk-transfers/{jobId}/result", produces = "text/csv")
+    public ResponseEntity<Resource> getResult(@PathVariable Long jobId,
+                                              @AuthenticationPrincipal LoginUser loginUser) {
+        return ResponseEntity.status(HttpStatus.OK).body(bulkTransferService.getResult(jobId, loginUser.getUser()));
+    }
+
+    private BulkTransferFormat resolveFormat(BulkTransferFormat format, String filename) {
+        if (format != null) {
+            return format;
+        }
+        if (filename != null && (filename.endsWith(".ndjson") || filename.endsWith(".jsonl"))) {
+            return BulkTransferFormat.NDJSON;
+        }
+        return BulkTransferFormat.CSV;
+    }
+}
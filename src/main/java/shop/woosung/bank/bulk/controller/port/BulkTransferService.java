@@ -0,0 +1,17 @@
+package shop.woosung.bank.bulk.controller.port;
+
+import org.springframework.core.io.Resource;
+import shop.woosung.bank.bulk.domain.BulkTransferFormat;
+import shop.woosung.bank.bulk.service.dto.BulkTransferJobResponseDto;
+import shop.woosung.bank.user.domain.User;
+
+import java.io.InputStream;
+
+public interface BulkTransferService {
+
+    BulkTransferJobResponseDto register(InputStream inputStream, BulkTransferFormat format, User user);
+
+    BulkTransferJobResponseDto getJob(Long jobId, User user);
+
+    Resource getResult(Long jobId, User user);
+}
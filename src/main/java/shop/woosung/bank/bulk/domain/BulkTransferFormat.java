@@ -0,0 +1,5 @@
+package shop.woosung.bank.bulk.domain;
+
+public enum BulkTransferFormat {
+    CSV, NDJSON
+}
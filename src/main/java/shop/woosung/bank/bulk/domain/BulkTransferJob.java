@@ -0,0 +1,99 @@
+package shop.woosung.bank.bulk.domain;
+
+import lombok.Builder;
+import lombok.Getter;
+import shop.woosung.bank.bulk.handler.exception.NotBulkTransferJobOwnerException;
+
+import java.time.LocalDateTime;
+
+@Getter
+public class BulkTransferJob {
+    private final Long id;
+    private final Long userId;
+    private final BulkTransferFormat format;
+    private BulkTransferJobStatus status;
+    private final String sourcePath;
+    private final String resultPath;
+    private Long committedLines;
+    private Long successCount;
+    private Long failureCount;
+    private String errorMessage;
+    private final String owner;
+    private final LocalDateTime leaseUntil;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+    private final LocalDateTime createdAt;
+    private final LocalDateTime updatedAt;
+
+    @Builder
+    public BulkTransferJob(Long id, Long userId, BulkTransferFormat format, BulkTransferJobStatus status, String sourcePath, String resultPath,
+                           Long committedLines, Long successCount, Long failureCount, String errorMessage,
+                           String owner, LocalDateTime leaseUntil, LocalDateTime startedAt, LocalDateTime finishedAt, LocalDateTime createdAt, LocalDateTime updatedAt) {
+        this.id = id;
+        this.userId = userId;
+        this.format = format;
+        this.status = status;
+        this.sourcePath = sourcePath;
+        this.resultPath = resultPath;
+        this.committedLines = committedLines;
+        this.successCount = successCount;
+        this.failureCount = failureCount;
+        this.errorMessage = errorMessage;
+        this.owner = owner;
+        this.leaseUntil = leaseUntil;
+        this.startedAt = startedAt;
+        this.finishedAt = finishedAt;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+    }
+
+    public static BulkTransferJob create(Long userId, BulkTransferFormat format, String sourcePath, String resultPath) {
+        return BulkTransferJob.builder()
+                .userId(userId)
+                .format(format)
+                .status(BulkTransferJobStatus.PENDING)
+                .sourcePath(sourcePath)
+                .resultPath(resultPath)
+                .committedLines(0L)
+                .successCount(0L)
+                .failureCount(0L)
+                .build();
+    }
+
+    public boolean isResumable() {
+        return status == BulkTransferJobStatus.PENDING || status == BulkTransferJobStatus.RUNNING;
+    }
+
+    public void start() {
+        status = BulkTransferJobStatus.RUNNING;
+        if (startedAt == null) {
+            startedAt = LocalDateTime.now();
+        }
+    }
+
+    /**
+     * 청크 트랜잭션이 커밋된 뒤에만 호출한다. DB 의 진행 위치는 BulkTransferJobRepository.commitChunk 가 같은 트랜잭션에서 갱신한다.
+     */
+    public void commitChunk(long lines, long success, long failure) {
+        committedLines += lines;
+        successCount += success;
+        failureCount += failure;
+    }
+
+    public void complete() {
+        status = BulkTransferJobStatus.COMPLETED;
+        finishedAt = LocalDateTime.now();
+    }
+
+    public void fail(String errorMessage) {
+        status = BulkTransferJobStatus.FAILED;
+        this.errorMessage = errorMessage;
+        finishedAt = LocalDateTime.now();
+    }
+
+    public void checkOwner(Long userId) {
+        if (!this.userId.equals(userId)) {
+            throw new NotBulkTransferJobOwnerException();
+        }
+    }
+}
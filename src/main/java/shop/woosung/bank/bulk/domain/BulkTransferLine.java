@@ -0,0 +1,88 @@
+package shop.woosung.bank.bulk.domain;
+
+import lombok.Builder;
+import lombok.Getter;
+import shop.woosung.bank.transaction.domain.TransactionType;
+
+import java.util.stream.Stream;
+
+/**
+ * 파일의 한 줄(입금 또는 이체 한 건). 형식 오류가 있으면 errorMessage 에 사유를 담고 처리 시 실패로 기록한다.
+ */
+@Getter
+public class BulkTransferLine {
+    private final long lineNumber;
+    private final TransactionType type;
+    private final Long withdrawFullNumber;
+    private final String withdrawPassword;
+    private final Long depositFullNumber;
+    private final Long amount;
+    private final String sender;
+    private final String tel;
+    private final String errorMessage;
+
+    @Builder
+    public BulkTransferLine(long lineNumber, TransactionType type, Long withdrawFullNumber, String withdrawPassword, Long depositFullNumber,
+                            Long amount, String sender, String tel, String errorMessage) {
+        this.lineNumber = lineNumber;
+        this.type = type;
+        this.withdrawFullNumber = withdrawFullNumber;
+        this.withdrawPassword = withdrawPassword;
+        this.depositFullNumber = depositFullNumber;
+        this.amount = amount;
+        this.sender = sender;
+        this.tel = tel;
+        this.errorMessage = errorMessage;
+    }
+
+    public static BulkTransferLine invalid(long lineNumber, String errorMessage) {
+        return BulkTransferLine.builder()
+                .lineNumber(lineNumber)
+                .errorMessage(errorMessage)
+                .build();
+    }
+
+    public boolean isValid() {
+        return errorMessage == null;
+    }
+
+    public boolean isTransfer() {
+        return type == TransactionType.TRANSFER;
+    }
+
+    /**
+     * 이 줄이 잠가야 하는 계좌 번호
+     */
+    public Stream<Long> getFullNumbers() {
+        if (!isValid()) {
+            return Stream.empty();
+        }
+        return isTransfer() ? Stream.of(withdrawFullNumber, depositFullNumber) : Stream.of(depositFullNumber);
+    }
+
+    /**
+     * 형식 검증. 통과하면 자기 자신을, 실패하면 사유를 담은 줄을 반환한다.
+     */
+    public BulkTransferLine validate() {
+        if (type != TransactionType.DEPOSIT && type != TransactionType.TRANSFER) {
+            return invalid(lineNumber, "type 은 DEPOSIT 또는 TRANSFER 만 가능합니다.");
+        }
+        if (depositFullNumber == null) {
+            return invalid(lineNumber, "depositFullNumber 가 없습니다.");
+        }
+        if (amount == null || amount <= 0) {
+            return invalid(lineNumber, "amount 는 0보다 커야 합니다.");
+        }
+        if (isTransfer()) {
+            if (withdrawFullNumber == null || withdrawPassword == null || withdrawPassword.isBlank()) {
+                return invalid(lineNumber, "이체는 withdrawFullNumber, withdrawPassword 가 필요합니다.");
+            }
+            if (withdrawFullNumber.equals(depositFullNumber)) {
+                return invalid(lineNumber, "출금 계좌와 입금 계좌가 같습니다.");
+            }
+        } else if (sender == null || sender.isBlank()) {
+            return invalid(lineNumber, "입금은 sender 가 필요합니다.");
+        }
+        return this;
+    }
+}
@@ -0,0 +1,47 @@
+package shop.woosung.bank.bulk.domain;
+
+import lombok.Getter;
+
+@Getter
+public class BulkTransferLineResult {
+    public static final String SUCCESS = "SUCCESS";
+    public static final String FAILED = "FAILED";
+    public static final String UNKNOWN = "UNKNOWN";
+
+    private final long lineNumber;
+    private final String status;
+    private final String message;
+
+    private BulkTransferLineResult(long lineNumber, String status, String message) {
+        this.lineNumber = lineNumber;
+        this.status = status;
+        this.message = message;
+    }
+
+    public static BulkTransferLineResult success(long lineNumber, Long transactionId) {
+        return new BulkTransferLineResult(lineNumber, SUCCESS, String.valueOf(transactionId));
+    }
+
+    public static BulkTransferLineResult failed(long lineNumber, String message) {
+        return new BulkTransferLineResult(lineNumber, FAILED, message);
+    }
+
+    /**
+     * 청크는 커밋되었지만 결과 파일에 쓰기 전에 서버가 종료된 줄
+     */
+    public static BulkTransferLineResult unknown(long lineNumber) {
+        return new BulkTransferLineResult(lineNumber, UNKNOWN, "재시작 전에 커밋된 줄이라 결과를 확인할 수 없습니다.");
+    }
+
+    public boolean isSuccess() {
+        return SUCCESS.equals(status);
+    }
+
+    public String toCsv() {
+        return lineNumber + "," + status + ",\"" + message.replace("\"", "\"\"") + "\"";
+    }
+
+    public static long parseLineNumber(String csvLine) {
+        return Long.parseLong(csvLine.substring(0, csvLine.indexOf(',')));
+    }
+}
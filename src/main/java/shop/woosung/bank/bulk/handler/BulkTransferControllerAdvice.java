@@ -0,0 +1,39 @@
+package shop.woosung.bank.bulk.handler;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import shop.woosung.bank.bulk.handler.exception.BulkTransferFileException;
+import shop.woosung.bank.bulk.handler.exception.NotBulkTransferJobOwnerException;
+import shop.woosung.bank.bulk.handler.exception.NotFoundBulkTransferJobException;
+import shop.woosung.bank.common.ApiResponse;
+
+import javax.servlet.http.HttpServletRequest;
+
+@Slf4j
+@RestControllerAdvice
+public class BulkTransferControllerAdvice {
+
+    @ExceptionHandler(NotFoundBulkTransferJobException.class)
+    public ResponseEntity<ApiResponse<Object>> handleNotFoundBulkTransferJobException(HttpServletRequest request, NotFoundBulkTransferJobException exception) {
+        log.error("request.getRequestURI() = {}, ", request.getRequestURI());
+        log.error("NotFoundBulkTransferJobException = {}", exception.getMessage());
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(ApiResponse.error("일괄 이체 작업을 찾을 수 없습니다."));
+    }
+
+    @ExceptionHandler(NotBulkTransferJobOwnerException.class)
+    public ResponseEntity<ApiResponse<Object>> handleNotBulkTransferJobOwnerException(HttpServletRequest request, NotBulkTransferJobOwnerException exception) {
+        log.error("request.getRequestURI() = {}, ", request.getRequestURI());
+        log.error("NotBulkTransferJobOwnerException = {}", exception.getMessage());
+        return ResponseEntity.status(HttpStatus.FORBIDDEN).body(ApiResponse.error("일괄 이체 작업 소유자 불일치"));
+    }
+
+    @ExceptionHandler(BulkTransferFileException.class)
+    public ResponseEntity<ApiResponse<Object>> handleBulkTransferFileException(HttpServletRequest request, BulkTransferFileException exception) {
+        log.error("request.getRequestURI() = {}, ", request.getRequestURI());
+        log.error("BulkTransferFileException = {}", exception.getMessage(), exception);
+        return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(ApiResponse.error("일괄 이체 파일 처리 오류"));
+    }
+}
@@ -0,0 +1,7 @@
+package shop.woosung.bank.bulk.handler.exception;
+
+public class BulkTransferFileException extends RuntimeException {
+    public BulkTransferFileException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,7 @@
+package shop.woosung.bank.bulk.handler.exception;
+
+public class BulkTransferLeaseLostException extends RuntimeException {
+    public BulkTransferLeaseLostException(Long jobId) {
+        super(jobId + " 일괄 이체 작업의 소유권을 다른 서버가 가져갔습니다.");
+    }
+}
@@ -0,0 +1,7 @@
+package shop.woosung.bank.bulk.handler.exception;
+
+public class NotBulkTransferJobOwnerException extends RuntimeException {
+    public NotBulkTransferJobOwnerException() {
+        super("일괄 이체 작업 소유자가 아닙니다.");
+    }
+}
@@ -0,0 +1,7 @@
+package shop.woosung.bank.bulk.handler.exception;
+
+public class NotFoundBulkTransferJobException extends RuntimeException {
+    public NotFoundBulkTransferJobException(Long jobId) {
+        super(jobId + " 일괄 이체 작업을 찾을 수 없습니다.");
+    }
+}
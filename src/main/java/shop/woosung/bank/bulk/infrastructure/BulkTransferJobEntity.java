@@ -0,0 +1,106 @@
+package shop.woosung.bank.bulk.infrastructure;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.GenericGenerator;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+import shop.woosung.bank.bulk.domain.BulkTransferFormat;
+import shop.woosung.bank.bulk.domain.BulkTransferJob;
+import shop.woosung.bank.bulk.domain.BulkTransferJobStatus;
+import shop.woosung.bank.common.infrastructure.BaseTimeEntity;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@EntityListeners(AuditingEntityListener.class)
+@Table(indexes = @Index(name = "idx_bulk_transfer_job_status", columnList = "status"))
+@Entity
+public class BulkTransferJobEntity extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(generator = "time-ordered-id")
+    @GenericGenerator(name = "time-ordered-id", strategy = "shop.woosung.bank.common.infrastructure.TimeOrderedIdGenerator")
+    private Long id;
+
+    @Column(nullable = false)
+    private Long userId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private BulkTransferFormat format;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private BulkTransferJobStatus status;
+
+    @Column(nullable = false)
+    private String sourcePath;
+
+    @Column(nullable = false)
+    private String resultPath;
+
+    @Column(nullable = false)
+    private Long committedLines;
+
+    @Column(nullable = false)
+    private Long successCount;
+
+    @Column(nullable = false)
+    private Long failureCount;
+
+    private String errorMessage;
+
+    @Column(length = 36)
+    private String owner;
+
+    private LocalDateTime leaseUntil;
+
+    private LocalDateTime startedAt;
+
+    private LocalDateTime finishedAt;
+
+    public static BulkTransferJobEntity fromModel(BulkTransferJob bulkTransferJob) {
+        BulkTransferJobEntity bulkTransferJobEntity = new BulkTransferJobEntity();
+        bulkTransferJobEntity.id = bulkTransferJob.getId();
+        bulkTransferJobEntity.userId = bulkTransferJob.getUserId();
+        bulkTransferJobEntity.format = bulkTransferJob.getFormat();
+        bulkTransferJobEntity.status = bulkTransferJob.getStatus();
+        bulkTransferJobEntity.sourcePath = bulkTransferJob.getSourcePath();
+        bulkTransferJobEntity.resultPath = bulkTransferJob.getResultPath();
+        bulkTransferJobEntity.committedLines = bulkTransferJob.getCommittedLines();
+        bulkTransferJobEntity.successCount = bulkTransferJob.getSuccessCount();
+        bulkTransferJobEntity.failureCount = bulkTransferJob.getFailureCount();
+        bulkTransferJobEntity.errorMessage = bulkTransferJob.getErrorMessage();
+        bulkTransferJobEntity.owner = bulkTransferJob.getOwner();
+        bulkTransferJobEntity.leaseUntil = bulkTransferJob.getLeaseUntil();
+        bulkTransferJobEntity.startedAt = bulkTransferJob.getStartedAt();
+        bulkTransferJobEntity.finishedAt = bulkTransferJob.getFinishedAt();
+        bulkTransferJobEntity.createdAt = bulkTransferJob.getCreatedAt();
+        bulkTransferJobEntity.updatedAt = bulkTransferJob.getUpdatedAt();
+        return bulkTransferJobEntity;
+    }
+
+    public BulkTransferJob toModel() {
+        return BulkTransferJob.builder()
+                .id(id)
+                .userId(userId)
+                .format(format)
+                .status(status)
+                .sourcePath(sourcePath)
+                .resultPath(resultPath)
+                .committedLines(committedLines)
+                .successCount(successCount)
+                .failureCount(failureCount)
+                .errorMessage(errorMessage)
+                .owner(owner)
+                .leaseUntil(leaseUntil)
+                .startedAt(startedAt)
+                .finishedAt(finishedAt)
+                .createdAt(createdAt)
+                .updatedAt(updatedAt)
+                .build();
+    }
+}
@@ -0,0 +1,39 @@
+package shop.woosung.bank.bulk.infrastructure;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
+import shop.woosung.bank.bulk.domain.BulkTransferJobStatus;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface BulkTransferJobJpaRepository extends JpaRepository<BulkTransferJobEntity, Long> {
+
+    List<BulkTransferJobEntity> findByStatusInOrderByIdAsc(Collection<BulkTransferJobStatus> statuses);
+
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE BulkTransferJobEntity j SET j.owner = :owner, j.leaseUntil = :leaseUntil, j.status = :running, " +
+            "j.startedAt = COALESCE(j.startedAt, :now), j.updatedAt = :now " +
+            "WHERE j.id = :id AND j.status IN :resumable AND (j.owner IS NULL OR j.leaseUntil < :now)")
+    int claim(Long id, String owner, LocalDateTime now, LocalDateTime leaseUntil,
+              BulkTransferJobStatus running, Collection<BulkTransferJobStatus> resumable);
+
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE BulkTransferJobEntity j SET j.committedLines = j.committedLines + :lines, " +
+            "j.successCount = j.successCount + :success, j.failureCount = j.failureCount + :failure, " +
+            "j.leaseUntil = :leaseUntil, j.updatedAt = :now " +
+            "WHERE j.id = :id AND j.owner = :owner")
+    int commitChunk(Long id, String owner, long lines, long success, long failure, LocalDateTime now, LocalDateTime leaseUntil);
+
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE BulkTransferJobEntity j SET j.status = :status, j.errorMessage = :errorMessage, j.finishedAt = :now, " +
+            "j.owner = NULL, j.leaseUntil = NULL, j.updatedAt = :now " +
+            "WHERE j.id = :id AND j.owner = :owner")
+    int finish(Long id, String owner, BulkTransferJobStatus status, String errorMessage, LocalDateTime now);
+}
@@ -0,0 +1,57 @@
+package shop.woosung.bank.bulk.infrastructure;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+import shop.woosung.bank.bulk.domain.BulkTransferJob;
+import shop.woosung.bank.bulk.domain.BulkTransferJobStatus;
+import shop.woosung.bank.bulk.service.port.BulkTransferJobRepository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+@RequiredArgsConstructor
+@Repository
+public class BulkTransferJobRepositoryImpl implements BulkTransferJobRepository {
+
+    private static final List<BulkTransferJobStatus> RESUMABLE_STATUSES = List.of(BulkTransferJobStatus.PENDING, BulkTransferJobStatus.RUNNING);
+
+    private final BulkTransferJobJpaRepository bulkTransferJobJpaRepository;
+
+    @Override
+    public BulkTransferJob save(BulkTransferJob bulkTransferJob) {
+        return bulkTransferJobJpaRepository.save(BulkTransferJobEntity.fromModel(bulkTransferJob)).toModel();
+    }
+
+    @Override
+    public Optional<BulkTransferJob> findById(Long id) {
+        return bulkTransferJobJpaRepository.findById(id).map(BulkTransferJobEntity::toModel);
+    }
+
+    @Override
+    public List<BulkTransferJob> findResumable() {
+        return bulkTransferJobJpaRepository.findByStatusInOrderByIdAsc(RESUMABLE_STATUSES).stream()
+                .map(BulkTransferJobEntity::toModel)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public Optional<BulkTransferJob> claim(Long id, String owner, LocalDateTime leaseUntil) {
+        if (bulkTransferJobJpaRepository.claim(id, owner, LocalDateTime.now(), leaseUntil, BulkTransferJobStatus.RUNNING, RESUMABLE_STATUSES) == 0) {
+            return Optional.empty();
+        }
+        return findById(id);
+    }
+
+    @Override
+    public boolean commitChunk(Long id, String owner, long lines, long success, long failure, LocalDateTime leaseUntil) {
+        return bulkTransferJobJpaRepository.commitChunk(id, owner, lines, success, failure, LocalDateTime.now(), leaseUntil) > 0;
+    }
+
+    @Override
+    public boolean finish(BulkTransferJob bulkTransferJob) {
+        return bulkTransferJobJpaRepository.finish(bulkTransferJob.getId(), bulkTransferJob.getOwner(), bulkTransferJob.getStatus(),
+                bulkTransferJob.getErrorMessage(), LocalDateTime.now()) > 0;
+    }
+}
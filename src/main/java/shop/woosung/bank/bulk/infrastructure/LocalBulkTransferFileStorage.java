@@ -0,0 +1,91 @@
+package shop.woosung.bank.bulk.infrastructure;
+
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+import shop.woosung.bank.bulk.domain.BulkTransferLineResult;
+import shop.woosung.bank.bulk.handler.exception.BulkTransferFileException;
+import shop.woosung.bank.bulk.service.port.BulkTransferFileStorage;
+import shop.woosung.bank.config.BulkTransferProperties;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.UUID;
+
+@Component
+public class LocalBulkTransferFileStorage implements BulkTransferFileStorage {
+    private static final String RESULT_SUFFIX = ".result.csv";
+
+    private final Path storageDir;
+
+    public LocalBulkTransferFileStorage(BulkTransferProperties bulkTransferProperties) {
+        this.storageDir = Paths.get(bulkTransferProperties.getStorageDir());
+    }
+
+    @Override
+    public String storeSource(InputStream inputStream) {
+        try {
+            Files.createDirectories(storageDir);
+            Path sourcePath = storageDir.resolve(UUID.randomUUID() + ".upload");
+            Files.copy(inputStream, sourcePath);
+            return sourcePath.toString();
+        } catch (IOException exception) {
+            throw new BulkTransferFileException("업로드 파일 저장 실패", exception);
+        }
+    }
+
+    @Override
+    public String resultPathOf(String sourcePath) {
+        return sourcePath + RESULT_SUFFIX;
+    }
+
+    @Override
+    public BufferedReader openSource(String sourcePath) {
+        try {
+            return Files.newBufferedReader(Paths.get(sourcePath), StandardCharsets.UTF_8);
+        } catch (IOException exception) {
+            throw new BulkTransferFileException("업로드 파일 열기 실패: " + sourcePath, exception);
+        }
+    }
+
+    @Override
+    public BufferedWriter openResult(String resultPath) {
+        try {
+            return Files.newBufferedWriter(Paths.get(resultPath), StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        } catch (IOException exception) {
+            throw new BulkTransferFileException("결과 파일 열기 실패: " + resultPath, exception);
+        }
+    }
+
+    @Override
+    public long lastResultLineNumber(String resultPath) {
+        Path path = Paths.get(resultPath);
+        if (!Files.exists(path)) {
+            return 0L;
+        }
+        try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            long lastLineNumber = 0L;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (!line.isBlank()) {
+                    lastLineNumber = BulkTransferLineResult.parseLineNumber(line);
+                }
+            }
+            return lastLineNumber;
+        } catch (IOException exception) {
+            throw new BulkTransferFileException("결과 파일 읽기 실패: " + resultPath, exception);
+        }
+    }
+
+    @Override
+    public Resource loadResult(String resultPath) {
+        return new FileSystemResource(resultPath);
+    }
+}
@@ -0,0 +1,209 @@
+package shop.woosung.bank.bulk.service;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import shop.woosung.bank.account.controller.port.AccountLockService;
+import shop.woosung.bank.account.domain.Account;
+import shop.woosung.bank.account.service.AccountCredentialVerifier;
+import shop.woosung.bank.account.service.dto.AccountTransferLockResponseDto;
+import shop.woosung.bank.account.service.dto.AccountTransferLockServiceDto;
+import shop.woosung.bank.account.service.port.AccountLockManager;
+import shop.woosung.bank.account.service.port.AccountRepository;
+import shop.woosung.bank.bulk.domain.BulkTransferJob;
+import shop.woosung.bank.bulk.domain.BulkTransferLine;
+import shop.woosung.bank.bulk.domain.BulkTransferLineResult;
+import shop.woosung.bank.bulk.handler.exception.BulkTransferLeaseLostException;
+import shop.woosung.bank.bulk.service.port.BulkTransferJobRepository;
+import shop.woosung.bank.config.BulkTransferProperties;
+import shop.woosung.bank.transaction.domain.Transaction;
+import shop.woosung.bank.transaction.domain.TransactionType;
+import shop.woosung.bank.transaction.service.port.TransactionRepository;
+import shop.woosung.bank.user.domain.User;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * 청크 하나를 한 트랜잭션으로 적용한다.
+ *
+ * 잔액 변경은 단건 요청과 같은 AccountLockService 의 메서드로 하므로 소유자, 잔액, 분할 잔액 모드 규칙이 한 곳에만 있다.
+ * 그 메서드에서 예외가 나면 청크 트랜잭션이 rollback-only 가 되고, JpaTransactionManager 는 savepoint(NESTED)를 지원하지 않으므로
+ * 실패한 줄을 기록한 뒤 청크를 롤백하고 실패한 줄을 뺀 나머지로 다시 적용한다. 실패한 줄은 잔액을 바꾸기 전에 예외가 나므로
+ * 다시 적용해도 나머지 줄의 결과는 같고, 다시 적용하는 횟수는 실패한 줄 수를 넘지 않는다.
+ * 형식 오류와 비밀번호 불일치는 락을 잡기 전에 걸러 내므로 다시 적용할 일이 없다.
+ * 인메모리 락과 계좌 행 락은 청크의 모든 계좌에 대해 계좌 번호 오름차순으로 먼저 잡으므로, 줄마다 잡는 행 락은 이미 가진 락이다.
+ * 잔액 변경, 거래 내역, 작업 진행 위치가 같은 트랜잭션으로 커밋되므로 재시작 시 마지막 커밋 청크 다음 줄부터 이어서 처리할 수 있다.
+ * 진행 위치는 작업을 가져간 owner 일 때만 갱신되며, 소유를 잃었으면 청크 전체를 롤백한다.
+ * 메모리의 작업 객체는 여기서 바꾸지 않는다. 커밋된 뒤 호출한 쪽이 반영한다.
+ *
+ * partitioned 프로필에서는 잔액이 파티션 스레드 메모리에 있으므로 DB 를 직접 갱신하는 이 경로를 사용하지 않는다.
+ */
+@Profile("!partitioned")
+@Component
+public class BulkTransferChunkProcessor {
+    private final AccountLockService accountLockService;
+    private final AccountRepository accountRepository;
+    private final AccountLockManager accountLockManager;
+    private final TransactionRepository transactionRepository;
+    private final BulkTransferJobRepository bulkTransferJobRepository;
+    private final AccountCredentialVerifier accountCredentialVerifier;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration leaseDuration;
+
+    public BulkTransferChunkProcessor(AccountLockService accountLockService, AccountRepository accountRepository,
+                                      AccountLockManager accountLockManager, TransactionRepository transactionRepository,
+                                      BulkTransferJobRepository bulkTransferJobRepository, AccountCredentialVerifier accountCredentialVerifier,
+                                      PlatformTransactionManager transactionManager, BulkTransferProperties bulkTransferProperties) {
+        this.accountLockService = accountLockService;
+        this.accountRepository = accountRepository;
+        this.accountLockManager = accountLockManager;
+        this.transactionRepository = transactionRepository;
+        this.bulkTransferJobRepository = bulkTransferJobRepository;
+        this.accountCredentialVerifier = accountCredentialVerifier;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.leaseDuration = bulkTransferProperties.getLeaseDuration();
+    }
+
+    /**
+     * @param consumedLines 이 청크가 차지하는 파일의 줄 수 (빈 줄, 헤더 포함)
+     */
+    public List<BulkTransferLineResult> process(BulkTransferJob bulkTransferJob, List<BulkTransferLine> lines, long consumedLines) {
+        List<Long> orderedFullNumbers = lines.stream()
+                .flatMap(BulkTransferLine::getFullNumbers)
+                .distinct()
+                .sorted()
+                .collect(Collectors.toList());
+
+        Map<Long, BulkTransferLineResult> failures = verifyLines(bulkTransferJob.getUserId(), lines);
+
+        return accountLockManager.executeWithLock(orderedFullNumbers, () -> {
+            List<BulkTransferLineResult> results;
+            do {
+                results = transactionTemplate.execute(status -> {
+                    orderedFullNumbers.forEach(accountRepository::findByFullNumberWithPessimisticLock);
+                    List<BulkTransferLineResult> applied = apply(bulkTransferJob.getUserId(), lines, failures);
+                    if (applied == null) {
+                        status.setRollbackOnly();
+                        return null;
+                    }
+
+                    long success = applied.stream().filter(BulkTransferLineResult::isSuccess).count();
+                    if (!bulkTransferJobRepository.commitChunk(bulkTransferJob.getId(), bulkTransferJob.getOwner(), consumedLines,
+                            success, applied.size() - success, LocalDateTime.now().plus(leaseDuration))) {
+                        throw new BulkTransferLeaseLostException(bulkTransferJob.getId());
+                    }
+                    return applied;
+                });
+            } while (results == null);
+            return results;
+        });
+    }
+
+    /**
+     * 형식 오류와 비밀번호 불일치로 실패할 줄을 락을 잡기 전에 찾는다.
+     * 비밀번호 해시 비교는 비용이 크므로 같은 계좌/비밀번호 조합은 청크 안에서 한 번만 검증한다.
+     */
+    private Map<Long, BulkTransferLineResult> verifyLines(Long userId, List<BulkTransferLine> lines) {
+        Map<String, RuntimeException> credentialFailures = new HashMap<>();
+        Map<Long, BulkTransferLineResult> failures = new HashMap<>();
+        for (BulkTransferLine line : lines) {
+            if (!line.isValid()) {
+                failures.put(line.getLineNumber(), BulkTransferLineResult.failed(line.getLineNumber(), line.getErrorMessage()));
+                continue;
+            }
+            if (!line.isTransfer()) {
+                continue;
+            }
+            String credentialKey = line.getWithdrawFullNumber() + ":" + line.getWithdrawPassword();
+            if (!credentialFailures.containsKey(credentialKey)) {
+                credentialFailures.put(credentialKey, verifyCredential(userId, line));
+            }
+            RuntimeException credentialFailure = credentialFailures.get(credentialKey);
+            if (credentialFailure != null) {
+                failures.put(line.getLineNumber(), BulkTransferLineResult.failed(line.getLineNumber(), credentialFailure.getMessage()));
+            }
+        }
+        return failures;
+    }
+
+    private RuntimeException verifyCredential(Long userId, BulkTransferLine line) {
+        try {
+            accountCredentialVerifier.verify(line.getWithdrawFullNumber(), userId, line.getWithdrawPassword());
+            return null;
+        } catch (RuntimeException exception) {
+            return exception;
+        }
+    }
+
+    /**
+     * 이미 실패한 줄은 건너뛴다. 새로 실패한 줄이 있으면 failures 에 더하고 null 을 돌려주어 청크를 다시 적용하게 한다.
+     */
+    private List<BulkTransferLineResult> apply(Long userId, List<BulkTransferLine> lines, Map<Long, BulkTransferLineResult> failures) {
+        User user = User.builder().id(userId).build();
+        List<Long> appliedLineNumbers = new ArrayList<>();
+        List<Transaction> transactions = new ArrayList<>();
+        int knownFailures = failures.size();
+
+        for (BulkTransferLine line : lines) {
+            if (failures.containsKey(line.getLineNumber())) {
+                continue;
+            }
+            try {
+                transactions.add(line.isTransfer() ? applyTransfer(user, line) : applyDeposit(line));
+                appliedLineNumbers.add(line.getLineNumber());
+            } catch (RuntimeException exception) {
+                // 계좌 없음, 도메인 검증 예외(소유자, 잔액)
+                failures.put(line.getLineNumber(), BulkTransferLineResult.failed(line.getLineNumber(), exception.getMessage()));
+            }
+        }
+        if (failures.size() > knownFailures) {
+            return null;
+        }
+
+        List<Transaction> savedTransactions = transactionRepository.saveAll(transactions);
+
+        Map<Long, BulkTransferLineResult> results = new HashMap<>(failures);
+        for (int i = 0; i < savedTransactions.size(); i++) {
+            results.put(appliedLineNumbers.get(i), BulkTransferLineResult.success(appliedLineNumbers.get(i), savedTransactions.get(i).getId()));
+        }
+        return lines.stream().map(line -> results.get(line.getLineNumber())).collect(Collectors.toList());
+    }
+
+    private Transaction applyDeposit(BulkTransferLine line) {
+        Account depositAccount = accountLockService.depositAccountWithLock(line.getDepositFullNumber(), line.getAmount());
+
+        return Transaction.builder()
+                .depositAccount(depositAccount)
+                .depositAccountBalance(depositAccount.getBalance())
+                .amount(line.getAmount())
+                .type(TransactionType.DEPOSIT)
+                .sender(line.getSender())
+                .receiver(depositAccount.getFullNumber().toString())
+                .tel(line.getTel())
+                .build();
+    }
+
+    private Transaction applyTransfer(User user, BulkTransferLine line) {
+        AccountTransferLockResponseDto accountTransferLockResponseDto = accountLockService.transferWithLock(AccountTransferLockServiceDto.builder()
+                .withdrawFullNumber(line.getWithdrawFullNumber())
+                .depositFullNumber(line.getDepositFullNumber())
+                .amount(line.getAmount())
+                .user(user)
+                .build());
+
+        return Transaction.builder()
+                .withdrawAccount(accountTransferLockResponseDto.getWithdrawAccountDto().toDomain())
+                .depositAccount(accountTransferLockResponseDto.getDepositAccountDto().toDomain())
+                .withdrawAccountBalance(accountTransferLockResponseDto.getWithdrawAccountDto().getBalance())
+                .depositAccountBalance(accountTransferLockResponseDto.getDepositAccountDto().getBalance())
+                .amount(line.getAmount())
+                .type(TransactionType.TRANSFER)
+                .sender(accountTransferLockResponseDto.getWithdrawAccountDto().getFullNumber().toString())
+                .receiver(accountTransferLockResponseDto.getDepositAccountDto().getFullNumber().toString())
+                .build();
+    }
+}
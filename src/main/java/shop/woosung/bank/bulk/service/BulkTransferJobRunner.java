@@ -0,0 +1,196 @@
+package shop.woosung.bank.bulk.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import shop.woosung.bank.bulk.domain.BulkTransferJob;
+import shop.woosung.bank.bulk.domain.BulkTransferLine;
+import shop.woosung.bank.bulk.domain.BulkTransferLineResult;
+import shop.woosung.bank.bulk.handler.exception.BulkTransferLeaseLostException;
+import shop.woosung.bank.bulk.service.port.BulkTransferFileStorage;
+import shop.woosung.bank.bulk.service.port.BulkTransferJobRepository;
+import shop.woosung.bank.config.BulkTransferProperties;
+
+import javax.annotation.PreDestroy;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 업로드 파일을 한 줄씩 읽어 청크 단위로 BulkTransferChunkProcessor 에 넘긴다.
+ * 서버 시작 시와 주기적으로 완료되지 않은 작업을 찾아 마지막으로 커밋된 줄 다음부터 다시 처리한다.
+ * 결과 파일은 청크 커밋 후에 기록하므로, 커밋 후 기록 전에 종료된 줄은 재시작 시 UNKNOWN 으로 남긴다.
+ *
+ * 여러 서버가 같은 작업을 동시에 처리하지 않도록 실행 전에 작업을 임대(owner, leaseUntil)로 가져가고,
+ * 청크를 커밋할 때마다 임대를 연장한다. 임대가 끝난 작업은 다른 서버가 가져갈 수 있으며,
+ * 그 뒤 이전 owner 의 청크 커밋은 진행 위치 갱신이 실패해 롤백된다.
+ */
+@Slf4j
+@Profile("!partitioned")
+@Component
+public class BulkTransferJobRunner implements ApplicationRunner {
+    private final BulkTransferJobRepository bulkTransferJobRepository;
+    private final BulkTransferFileStorage bulkTransferFileStorage;
+    private final BulkTransferLineParser bulkTransferLineParser;
+    private final BulkTransferChunkProcessor bulkTransferChunkProcessor;
+    private final int chunkSize;
+    private final Duration leaseDuration;
+    private final ExecutorService executorService;
+    private final Set<Long> submittedJobIds = ConcurrentHashMap.newKeySet();
+
+    public BulkTransferJobRunner(BulkTransferJobRepository bulkTransferJobRepository, BulkTransferFileStorage bulkTransferFileStorage,
+                                 BulkTransferLineParser bulkTransferLineParser, BulkTransferChunkProcessor bulkTransferChunkProcessor,
+                                 BulkTransferProperties bulkTransferProperties) {
+        this.bulkTransferJobRepository = bulkTransferJobRepository;
+        this.bulkTransferFileStorage = bulkTransferFileStorage;
+        this.bulkTransferLineParser = bulkTransferLineParser;
+        this.bulkTransferChunkProcessor = bulkTransferChunkProcessor;
+        this.chunkSize = bulkTransferProperties.getChunkSize();
+        this.leaseDuration = bulkTransferProperties.getLeaseDuration();
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executorService = Executors.newFixedThreadPool(bulkTransferProperties.getWorkers(), runnable -> {
+            Thread thread = new Thread(runnable, "bulk-transfer-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        resume();
+    }
+
+    /**
+     * 다른 서버가 처리하다 멈춘 작업은 임대가 끝난 뒤에 가져온다. 이 서버에 이미 넘긴 작업은 다시 넘기지 않는다.
+     */
+    @Scheduled(initialDelayString = "${bank.bulk-transfer.resume-interval:PT1M}",
+            fixedDelayString = "${bank.bulk-transfer.resume-interval:PT1M}")
+    public void resume() {
+        LocalDateTime now = LocalDateTime.now();
+        bulkTransferJobRepository.findResumable().stream()
+                .filter(bulkTransferJob -> bulkTransferJob.getOwner() == null || bulkTransferJob.getLeaseUntil().isBefore(now))
+                .filter(bulkTransferJob -> !submittedJobIds.contains(bulkTransferJob.getId()))
+                .forEach(bulkTransferJob -> {
+                    log.info("resume bulk transfer job = {}, committed lines = {}", bulkTransferJob.getId(), bulkTransferJob.getCommittedLines());
+                    submit(bulkTransferJob);
+                });
+    }
+
+    public void submit(BulkTransferJob bulkTransferJob) {
+        if (!submittedJobIds.add(bulkTransferJob.getId())) {
+            return;
+        }
+        executorService.execute(() -> {
+            try {
+                execute(bulkTransferJob);
+            } finally {
+                submittedJobIds.remove(bulkTransferJob.getId());
+            }
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executorService.shutdownNow();
+    }
+
+    private void execute(BulkTransferJob bulkTransferJob) {
+        Optional<BulkTransferJob> claimedJob = bulkTransferJobRepository.claim(bulkTransferJob.getId(), UUID.randomUUID().toString(),
+                LocalDateTime.now().plus(leaseDuration));
+        if (claimedJob.isEmpty()) {
+            log.info("bulk transfer job = {} is finished or owned by another runner, skip", bulkTransferJob.getId());
+            return;
+        }
+        BulkTransferJob runningJob = claimedJob.get();
+
+        try (BufferedReader reader = bulkTransferFileStorage.openSource(runningJob.getSourcePath());
+             BufferedWriter writer = bulkTransferFileStorage.openResult(runningJob.getResultPath())) {
+            long lineNumber = skipCommittedLines(runningJob, reader, writer);
+
+            List<BulkTransferLine> chunk = new ArrayList<>(chunkSize);
+            long consumedLines = 0;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                consumedLines++;
+                bulkTransferLineParser.parse(runningJob.getFormat(), line, lineNumber).ifPresent(chunk::add);
+
+                if (chunk.size() >= chunkSize) {
+                    processChunk(writer, runningJob, chunk, consumedLines);
+                    chunk = new ArrayList<>(chunkSize);
+                    consumedLines = 0;
+                    if (Thread.currentThread().isInterrupted()) {
+                        log.info("bulk transfer job = {} stopped at line {}, will resume after lease expires", runningJob.getId(), lineNumber);
+                        return;
+                    }
+                }
+            }
+            if (consumedLines > 0) {
+                processChunk(writer, runningJob, chunk, consumedLines);
+            }
+
+            runningJob.complete();
+            finish(runningJob);
+        } catch (BulkTransferLeaseLostException exception) {
+            log.warn("bulk transfer job = {} was taken over by another runner after {} committed lines", runningJob.getId(), runningJob.getCommittedLines());
+        } catch (IOException | RuntimeException exception) {
+            log.error("bulk transfer job = {} failed after {} committed lines", runningJob.getId(), runningJob.getCommittedLines(), exception);
+            runningJob.fail(exception.getMessage());
+            finish(runningJob);
+        }
+    }
+
+    /**
+     * 청크 트랜잭션이 커밋된 뒤에만 메모리의 진행 위치를 옮기고 결과를 기록한다.
+     */
+    private void processChunk(BufferedWriter writer, BulkTransferJob runningJob, List<BulkTransferLine> chunk, long consumedLines) throws IOException {
+        List<BulkTransferLineResult> results = bulkTransferChunkProcessor.process(runningJob, chunk, consumedLines);
+        long success = results.stream().filter(BulkTransferLineResult::isSuccess).count();
+        runningJob.commitChunk(consumedLines, success, results.size() - success);
+        writeResults(writer, results);
+    }
+
+    private void finish(BulkTransferJob runningJob) {
+        if (!bulkTransferJobRepository.finish(runningJob)) {
+            log.warn("bulk transfer job = {} was taken over by another runner, {} not recorded", runningJob.getId(), runningJob.getStatus());
+        }
+    }
+
+    private long skipCommittedLines(BulkTransferJob bulkTransferJob, BufferedReader reader, BufferedWriter writer) throws IOException {
+        long lastResultLineNumber = bulkTransferFileStorage.lastResultLineNumber(bulkTransferJob.getResultPath());
+        long lineNumber = 0;
+        String line;
+        while (lineNumber < bulkTransferJob.getCommittedLines() && (line = reader.readLine()) != null) {
+            lineNumber++;
+            if (lineNumber > lastResultLineNumber && bulkTransferLineParser.parse(bulkTransferJob.getFormat(), line, lineNumber).isPresent()) {
+                writer.write(BulkTransferLineResult.unknown(lineNumber).toCsv());
+                writer.newLine();
+            }
+        }
+        writer.flush();
+        return lineNumber;
+    }
+
+    private void writeResults(BufferedWriter writer, List<BulkTransferLineResult> results) throws IOException {
+        for (BulkTransferLineResult result : results) {
+            writer.write(result.toCsv());
+            writer.newLine();
+        }
+        writer.flush();
+    }
+}
@@ -0,0 +1,86 @@
+package shop.woosung.bank.bulk.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import shop.woosung.bank.bulk.domain.BulkTransferFormat;
+import shop.woosung.bank.bulk.domain.BulkTransferLine;
+import shop.woosung.bank.transaction.domain.TransactionType;
+
+import java.util.Optional;
+
+/**
+ * 한 줄씩 파싱하므로 파일 전체를 메모리에 올리지 않는다.
+ *
+ * CSV  : type,withdrawFullNumber,withdrawPassword,depositFullNumber,amount,sender,tel (첫 줄이 type 으로 시작하면 헤더로 보고 건너뛴다)
+ * NDJSON: {"type":"TRANSFER","withdrawFullNumber":..,"withdrawPassword":"..","depositFullNumber":..,"amount":..,"sender":"..","tel":".."}
+ * 빈 줄과 헤더는 결과를 남기지 않는다.
+ */
+@RequiredArgsConstructor
+@Component
+public class BulkTransferLineParser {
+    private static final int CSV_COLUMNS = 7;
+
+    private final ObjectMapper objectMapper;
+
+    public Optional<BulkTransferLine> parse(BulkTransferFormat format, String line, long lineNumber) {
+        if (line.isBlank() || isCsvHeader(format, line, lineNumber)) {
+            return Optional.empty();
+        }
+        try {
+            BulkTransferLine parsed = format == BulkTransferFormat.NDJSON ? parseJson(line, lineNumber) : parseCsv(line, lineNumber);
+            return Optional.of(parsed.validate());
+        } catch (IllegalArgumentException | JsonProcessingException exception) {
+            return Optional.of(BulkTransferLine.invalid(lineNumber, "형식 오류: " + exception.getMessage()));
+        }
+    }
+
+    private boolean isCsvHeader(BulkTransferFormat format, String line, long lineNumber) {
+        return format == BulkTransferFormat.CSV && lineNumber == 1 && line.trim().toLowerCase().startsWith("type");
+    }
+
+    private BulkTransferLine parseCsv(String line, long lineNumber) {
+        String[] columns = line.split(",", -1);
+        if (columns.length != CSV_COLUMNS) {
+            throw new IllegalArgumentException("컬럼 수가 " + CSV_COLUMNS + " 개가 아닙니다.");
+        }
+        return BulkTransferLine.builder()
+                .lineNumber(lineNumber)
+                .type(TransactionType.valueOf(columns[0].trim()))
+                .withdrawFullNumber(toLong(columns[1]))
+                .withdrawPassword(toText(columns[2]))
+                .depositFullNumber(toLong(columns[3]))
+                .amount(toLong(columns[4]))
+                .sender(toText(columns[5]))
+                .tel(toText(columns[6]))
+                .build();
+    }
+
+    private BulkTransferLine parseJson(String line, long lineNumber) throws JsonProcessingException {
+        JsonNode node = objectMapper.readTree(line);
+        return BulkTransferLine.builder()
+                .lineNumber(lineNumber)
+                .type(TransactionType.valueOf(node.path("type").asText()))
+                .withdrawFullNumber(toLong(node.path("withdrawFullNumber").asText(null)))
+                .withdrawPassword(toText(node.path("withdrawPassword").asText(null)))
+                .depositFullNumber(toLong(node.path("depositFullNumber").asText(null)))
+                .amount(toLong(node.path("amount").asText(null)))
+                .sender(toText(node.path("sender").asText(null)))
+                .tel(toText(node.path("tel").asText(null)))
+                .build();
+    }
+
+    private Long toLong(String value) {
+        String text = toText(value);
+        return text == null ? null : Long.valueOf(text);
+    }
+
+    private String toText(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        return value.trim();
+    }
+}
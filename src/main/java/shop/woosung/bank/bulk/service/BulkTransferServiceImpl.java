@@ -0,0 +1,56 @@
+package shop.woosung.bank.bulk.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Service;
+import shop.woosung.bank.bulk.controller.port.BulkTransferService;
+import shop.woosung.bank.bulk.domain.BulkTransferFormat;
+import shop.woosung.bank.bulk.domain.BulkTransferJob;
+import shop.woosung.bank.bulk.handler.exception.NotFoundBulkTransferJobException;
+import shop.woosung.bank.bulk.service.dto.BulkTransferJobResponseDto;
+import shop.woosung.bank.bulk.service.port.BulkTransferFileStorage;
+import shop.woosung.bank.bulk.service.port.BulkTransferJobRepository;
+import shop.woosung.bank.user.domain.User;
+
+import java.io.InputStream;
+
+@Profile("!partitioned")
+@RequiredArgsConstructor
+@Service
+public class BulkTransferServiceImpl implements BulkTransferService {
+    private final BulkTransferJobRepository bulkTransferJobRepository;
+    private final BulkTransferFileStorage bulkTransferFileStorage;
+    private final BulkTransferJobRunner bulkTransferJobRunner;
+
+    /**
+     * 업로드는 파일로 옮기기만 하고 처리는 작업 스레드에서 진행한다.
+     */
+    @Override
+    public BulkTransferJobResponseDto register(InputStream inputStream, BulkTransferFormat format, User user) {
+        String sourcePath = bulkTransferFileStorage.storeSource(inputStream);
+        BulkTransferJob bulkTransferJob = bulkTransferJobRepository.save(
+                BulkTransferJob.create(user.getId(), format, sourcePath, bulkTransferFileStorage.resultPathOf(sourcePath)));
+
+        bulkTransferJobRunner.submit(bulkTransferJob);
+
+        return BulkTransferJobResponseDto.from(bulkTransferJob);
+    }
+
+    @Override
+    public BulkTransferJobResponseDto getJob(Long jobId, User user) {
+        return BulkTransferJobResponseDto.from(findOwnedJob(jobId, user));
+    }
+
+    @Override
+    public Resource getResult(Long jobId, User user) {
+        return bulkTransferFileStorage.loadResult(findOwnedJob(jobId, user).getResultPath());
+    }
+
+    private BulkTransferJob findOwnedJob(Long jobId, User user) {
+        BulkTransferJob bulkTransferJob = bulkTransferJobRepository.findById(jobId)
+                .orElseThrow(() -> new NotFoundBulkTransferJobException(jobId));
+        bulkTransferJob.checkOwner(user.getId());
+        return bulkTransferJob;
+    }
+}
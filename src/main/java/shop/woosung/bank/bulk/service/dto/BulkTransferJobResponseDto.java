@@ -0,0 +1,52 @@
+package shop.woosung.bank.bulk.service.dto;
+
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import shop.woosung.bank.bulk.domain.BulkTransferJob;
+import shop.woosung.bank.common.util.CustomDateUtil;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+@Getter
+@Builder(access = AccessLevel.PRIVATE)
+public class BulkTransferJobResponseDto {
+    private final Long id;
+    private final String status;
+    private final String format;
+    private final Long committedLines;
+    private final Long successCount;
+    private final Long failureCount;
+    /**
+     * 작업 시작부터 마지막 커밋(완료 시 종료 시각)까지 초당 처리한 줄 수
+     */
+    private final Long linesPerSecond;
+    private final String errorMessage;
+    private final String startedAt;
+    private final String finishedAt;
+
+    public static BulkTransferJobResponseDto from(BulkTransferJob bulkTransferJob) {
+        return BulkTransferJobResponseDto.builder()
+                .id(bulkTransferJob.getId())
+                .status(bulkTransferJob.getStatus().name())
+                .format(bulkTransferJob.getFormat().name())
+                .committedLines(bulkTransferJob.getCommittedLines())
+                .successCount(bulkTransferJob.getSuccessCount())
+                .failureCount(bulkTransferJob.getFailureCount())
+                .linesPerSecond(linesPerSecond(bulkTransferJob))
+                .errorMessage(bulkTransferJob.getErrorMessage())
+                .startedAt(bulkTransferJob.getStartedAt() == null ? null : CustomDateUtil.toStringFormat(bulkTransferJob.getStartedAt()))
+                .finishedAt(bulkTransferJob.getFinishedAt() == null ? null : CustomDateUtil.toStringFormat(bulkTransferJob.getFinishedAt()))
+                .build();
+    }
+
+    private static Long linesPerSecond(BulkTransferJob bulkTransferJob) {
+        if (bulkTransferJob.getStartedAt() == null) {
+            return 0L;
+        }
+        LocalDateTime end = bulkTransferJob.getFinishedAt() != null ? bulkTransferJob.getFinishedAt() : bulkTransferJob.getUpdatedAt();
+        long millis = end == null ? 0 : Duration.between(bulkTransferJob.getStartedAt(), end).toMillis();
+        return millis <= 0 ? bulkTransferJob.getCommittedLines() : bulkTransferJob.getCommittedLines() * 1000 / millis;
+    }
+}
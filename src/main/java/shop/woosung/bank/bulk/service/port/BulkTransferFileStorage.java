@@ -0,0 +1,31 @@
+package shop.woosung.bank.bulk.service.port;
+
+import org.springframework.core.io.Resource;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.InputStream;
+
+public interface BulkTransferFileStorage {
+
+    /**
+     * 업로드 스트림을 그대로 파일로 옮기고 저장 경로를 반환한다.
+     */
+    String storeSource(InputStream inputStream);
+
+    String resultPathOf(String sourcePath);
+
+    BufferedReader openSource(String sourcePath);
+
+    /**
+     * 이어쓰기 모드로 연다.
+     */
+    BufferedWriter openResult(String resultPath);
+
+    /**
+     * 결과 파일에 마지막으로 기록된 줄 번호, 없으면 0
+     */
+    long lastResultLineNumber(String resultPath);
+
+    Resource loadResult(String resultPath);
+}
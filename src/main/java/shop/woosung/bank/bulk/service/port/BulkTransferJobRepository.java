@@ -0,0 +1,31 @@
+package shop.woosung.bank.bulk.service.port;
+
+import shop.woosung.bank.bulk.domain.BulkTransferJob;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface BulkTransferJobRepository {
+
+    BulkTransferJob save(BulkTransferJob bulkTransferJob);
+
+    Optional<BulkTransferJob> findById(Long id);
+
+    List<BulkTransferJob> findResumable();
+
+    /**
+     * 소유자가 없거나 임대 기간이 지난 작업만 owner 로 가져온다. 다른 서버가 처리 중이면 비어 있다.
+     */
+    Optional<BulkTransferJob> claim(Long id, String owner, LocalDateTime leaseUntil);
+
+    /**
+     * 청크 트랜잭션 안에서 진행 위치를 더하고 임대 기간을 늘린다. owner 가 작업을 잃었으면 false.
+     */
+    boolean commitChunk(Long id, String owner, long lines, long success, long failure, LocalDateTime leaseUntil);
+
+    /**
+     * owner 가 아직 작업을 가지고 있을 때만 종료 상태를 기록하고 소유를 놓는다.
+     */
+    boolean finish(BulkTransferJob bulkTransferJob);
+}
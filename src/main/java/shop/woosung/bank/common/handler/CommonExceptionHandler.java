@@ -16,6 +16,8 @@ import org.springframework.web.method.annotation.MethodArgumentTypeMismatchExcep
 import shop.woosung.bank.common.ApiResponse;
 
 import javax.servlet.http.HttpServletRequest;
+import javax.validation.ConstraintViolation;
+import javax.validation.ConstraintViolationException;
 import java.util.Arrays;
 import java.util.Map;
 
@@ -34,6 +36,17 @@ public class CommonExceptionHandler {
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(ApiResponse.error(bindingResult));
     }
 
+    @ExceptionHandler(ConstraintViolationException.class)
+    public ResponseEntity<ApiResponse<Object>> handleConstraintViolationException(HttpServletRequest request, ConstraintViolationException exception) {
+        log.error("request.getRequestURI() = {}, ", request.getRequestURI());
+        log.error("ConstraintViolationException = {}", exception.getMessage());
+        String message = exception.getConstraintViolations().stream()
+                .map(ConstraintViolation::getMessage)
+                .findFirst()
+                .orElse(BAD_REQUEST_MESSAGE);
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(ApiResponse.error(message));
+    }
+
     @ExceptionHandler(HttpMessageNotReadableException.class)
     public ResponseEntity<ApiResponse<Object>> handleNotReadBodyException(HttpServletRequest request, HttpMessageNotReadableException exception) {
         log.error("request.getRequestURI() = {}, ", request.getRequestURI());
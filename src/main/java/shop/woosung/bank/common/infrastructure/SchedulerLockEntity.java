@@ -0,0 +1,26 @@
+package shop.woosung.bank.common.infrastructure;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import java.time.LocalDateTime;
+
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+public class SchedulerLockEntity {
+
+    @Id
+    @Column(length = 64)
+    private String lockName;
+
+    @Column(nullable = false, length = 36)
+    private String lockedBy;
+
+    @Column(nullable = false)
+    private LocalDateTime lockedUntil;
+}
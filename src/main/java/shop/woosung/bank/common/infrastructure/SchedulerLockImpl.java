@@ -0,0 +1,55 @@
+package shop.woosung.bank.common.infrastructure;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import shop.woosung.bank.common.service.port.SchedulerLock;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * scheduler_lock_entity 의 행 하나를 이름 단위 잠금으로 쓴다.
+ *
+ * 기한이 지난 행을 조건부 UPDATE 로 가져오고, 행이 없으면 INSERT 한다. 두 서버가 동시에 INSERT 하면 PK 충돌로 한쪽만 성공한다.
+ * 잠금마다 새 토큰을 쓰므로 같은 서버 안에서도 겹쳐 실행되지 않으며, 기한이 지나 다른 서버가 가져간 잠금은 풀지 않는다.
+ * 호출하는 쪽이 트랜잭션 안에 있으면 안 된다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class SchedulerLockImpl implements SchedulerLock {
+
+    private final SchedulerLockJpaRepository schedulerLockJpaRepository;
+
+    @Override
+    public <T> Optional<T> executeWithLock(String name, Duration lockAtMostFor, Supplier<T> task) {
+        String token = UUID.randomUUID().toString();
+        if (!acquire(name, token, lockAtMostFor)) {
+            log.debug("scheduler lock = {} is held by another runner, skip", name);
+            return Optional.empty();
+        }
+        try {
+            return Optional.ofNullable(task.get());
+        } finally {
+            schedulerLockJpaRepository.release(name, token, LocalDateTime.now());
+        }
+    }
+
+    private boolean acquire(String name, String token, Duration lockAtMostFor) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime lockedUntil = now.plus(lockAtMostFor);
+        if (schedulerLockJpaRepository.acquireExpired(name, token, now, lockedUntil) > 0) {
+            return true;
+        }
+        try {
+            return schedulerLockJpaRepository.insertLock(name, token, lockedUntil) > 0;
+        } catch (DataIntegrityViolationException exception) {
+            return false;
+        }
+    }
+}
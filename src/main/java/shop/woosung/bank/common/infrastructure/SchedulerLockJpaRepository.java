@@ -0,0 +1,28 @@
+package shop.woosung.bank.common.infrastructure;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+public interface SchedulerLockJpaRepository extends JpaRepository<SchedulerLockEntity, String> {
+
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO scheduler_lock_entity (lock_name, locked_by, locked_until) VALUES (:lockName, :lockedBy, :lockedUntil)",
+            nativeQuery = true)
+    int insertLock(String lockName, String lockedBy, LocalDateTime lockedUntil);
+
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE SchedulerLockEntity l SET l.lockedBy = :lockedBy, l.lockedUntil = :lockedUntil " +
+            "WHERE l.lockName = :lockName AND l.lockedUntil <= :now")
+    int acquireExpired(String lockName, String lockedBy, LocalDateTime now, LocalDateTime lockedUntil);
+
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE SchedulerLockEntity l SET l.lockedUntil = :now WHERE l.lockName = :lockName AND l.lockedBy = :lockedBy")
+    int release(String lockName, String lockedBy, LocalDateTime now);
+}
@@ -0,0 +1,18 @@
+package shop.woosung.bank.common.service.port;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * 여러 서버에서 같은 스케줄 작업이 동시에 돌지 않도록 DB 에 잡는 이름 단위 잠금.
+ */
+public interface SchedulerLock {
+
+    /**
+     * 잠금을 잡은 경우에만 task 를 실행하고 결과를 돌려준다. 다른 서버가 잡고 있으면 실행하지 않고 비어 있다.
+     *
+     * @param lockAtMostFor 잠금을 잡은 서버가 풀지 못하고 죽었을 때 다른 서버가 가져갈 수 있기까지의 시간. 작업 시간보다 넉넉해야 한다.
+     */
+    <T> Optional<T> executeWithLock(String name, Duration lockAtMostFor, Supplier<T> task);
+}
@@ -0,0 +1,165 @@
+package shop.woosung.bank.common.util;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Space-Saving 알고리즘으로 가중치 합이 큰 상위 키를 고정된 메모리 안에서 추적한다.
+ * 추적 중인 키가 capacity 를 넘으면 가중치가 가장 작은 키를 새 키로 교체하고,
+ * 교체된 키의 가중치를 새 키의 오차(overestimate)로 넘겨받는다.
+ * 실제 상위 키의 가중치는 누락되지 않으며, 결과 값은 실제보다 최대 error 만큼 클 수 있다.
+ *
+ * 락 획득마다 호출되므로 기록은 스레드 번호로 고른 stripe 하나에만 하고, 각 stripe 가 자기 락을 가진다.
+ * 서로 다른 stripe 에 기록하는 스레드끼리는 경합하지 않는다.
+ * top() 은 stripe 들을 합치는데, 어떤 stripe 에서 추적되지 않는 키는 그 stripe 의 최솟값만큼 세었을 수 있으므로
+ * 그 값을 가중치와 오차에 함께 더한다. 합친 결과도 실제보다 작지 않고 최대 error 만큼만 크다.
+ */
+public class SpaceSavingCounter<K> {
+
+    private final Stripe<K>[] stripes;
+
+    public SpaceSavingCounter(int capacity) {
+        this(capacity, Runtime.getRuntime().availableProcessors());
+    }
+
+    public SpaceSavingCounter(int capacity, int stripeCount) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("capacity must be positive : " + capacity);
+        }
+        if (stripeCount < 1) {
+            throw new IllegalArgumentException("stripeCount must be positive : " + stripeCount);
+        }
+        @SuppressWarnings("unchecked")
+        Stripe<K>[] newStripes = (Stripe<K>[]) new Stripe<?>[Integer.highestOneBit(stripeCount * 2 - 1)];
+        for (int i = 0; i < newStripes.length; i++) {
+            newStripes[i] = new Stripe<>(capacity);
+        }
+        this.stripes = newStripes;
+    }
+
+    public void add(K key, long weight) {
+        stripes[(int) Thread.currentThread().getId() & (stripes.length - 1)].add(key, weight);
+    }
+
+    public List<Entry<K>> top(int limit) {
+        List<Map<K, Entry<K>>> snapshots = new ArrayList<>(stripes.length);
+        long[] minCounts = new long[stripes.length];
+        for (int i = 0; i < stripes.length; i++) {
+            snapshots.add(stripes[i].snapshot());
+            minCounts[i] = stripes[i].minCount(snapshots.get(i));
+        }
+
+        Map<K, Entry<K>> merged = new HashMap<>();
+        for (Map<K, Entry<K>> snapshot : snapshots) {
+            for (K key : snapshot.keySet()) {
+                merged.computeIfAbsent(key, ignored -> mergeOf(key, snapshots, minCounts));
+            }
+        }
+
+        List<Entry<K>> result = new ArrayList<>(merged.values());
+        result.sort(Comparator.comparingLong((Entry<K> e) -> e.count).reversed());
+        return result.size() > limit ? result.subList(0, limit) : result;
+    }
+
+    private Entry<K> mergeOf(K key, List<Map<K, Entry<K>>> snapshots, long[] minCounts) {
+        Entry<K> merged = new Entry<>(key, 0L, 0L);
+        merged.hits = 0;
+        for (int i = 0; i < snapshots.size(); i++) {
+            Entry<K> entry = snapshots.get(i).get(key);
+            if (entry == null) {
+                merged.count += minCounts[i];
+                merged.error += minCounts[i];
+            } else {
+                merged.count += entry.count;
+                merged.error += entry.error;
+                merged.hits += entry.hits;
+            }
+        }
+        return merged;
+    }
+
+    private static final class Stripe<K> {
+        private final int capacity;
+        private final Map<K, Entry<K>> entries;
+
+        private Stripe(int capacity) {
+            this.capacity = capacity;
+            this.entries = new HashMap<>(capacity * 2);
+        }
+
+        private synchronized void add(K key, long weight) {
+            Entry<K> entry = entries.get(key);
+            if (entry != null) {
+                entry.count += weight;
+                entry.hits++;
+                return;
+            }
+            if (entries.size() < capacity) {
+                entries.put(key, new Entry<>(key, weight, 0L));
+                return;
+            }
+            Entry<K> min = entries.values().stream().min(Comparator.comparingLong(e -> e.count)).orElseThrow();
+            entries.remove(min.key);
+            entries.put(key, new Entry<>(key, min.count + weight, min.count));
+        }
+
+        private synchronized Map<K, Entry<K>> snapshot() {
+            Map<K, Entry<K>> snapshot = new HashMap<>(entries.size() * 2);
+            for (Entry<K> entry : entries.values()) {
+                snapshot.put(entry.key, entry.copy());
+            }
+            return snapshot;
+        }
+
+        /**
+         * 가득 차지 않은 stripe 는 추적하지 않는 키를 한 번도 세지 않았으므로 0 이다.
+         */
+        private long minCount(Map<K, Entry<K>> snapshot) {
+            if (snapshot.size() < capacity) {
+                return 0L;
+            }
+            return snapshot.values().stream().mapToLong(e -> e.count).min().orElse(0L);
+        }
+    }
+
+    public static final class Entry<K> {
+        private final K key;
+        private long count;
+        private long error;
+        private long hits = 1;
+
+        private Entry(K key, long count, long error) {
+            this.key = key;
+            this.count = count;
+            this.error = error;
+        }
+
+        private Entry<K> copy() {
+            Entry<K> copy = new Entry<>(key, count, error);
+            copy.hits = hits;
+            return copy;
+        }
+
+        public K getKey() {
+            return key;
+        }
+
+        public long getCount() {
+            return count;
+        }
+
+        public long getError() {
+            return error;
+        }
+
+        /**
+         * 현재 키로 추적되기 시작한 이후의 관측 횟수
+         */
+        public long getHits() {
+            return hits;
+        }
+    }
+}
@@ -0,0 +1,176 @@
+package shop.woosung.bank.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@ConfigurationProperties(prefix = "bank.account")
+public class AccountProperties {
+
+    private final Lock lock = new Lock();
+    private final Concurrency concurrency = new Concurrency();
+    private final Partition partition = new Partition();
+    private final DepositCoalescing depositCoalescing = new DepositCoalescing();
+    private final LockMetrics lockMetrics = new LockMetrics();
+    private final Credential credential = new Credential();
+    private final Sequence sequence = new Sequence();
+    private final BulkRegister bulkRegister = new BulkRegister();
+
+    @Getter
+    @Setter
+    public static class Lock {
+        /**
+         * 인메모리 계좌 락 스트라이프 개수 (2의 제곱수로 올림)
+         */
+        private int stripes = 1024;
+        /**
+         * 인메모리 계좌 락 최대 대기 시간
+         */
+        private Duration timeout = Duration.ofSeconds(5);
+    }
+
+    @Getter
+    @Setter
+    public static class Concurrency {
+        /**
+         * 입금 동시성 제어 전략
+         */
+        private LockStrategy deposit = LockStrategy.PESSIMISTIC;
+        /**
+         * 출금 동시성 제어 전략
+         */
+        private LockStrategy withdraw = LockStrategy.PESSIMISTIC;
+        /**
+         * 이체 동시성 제어 전략
+         */
+        private LockStrategy transfer = LockStrategy.PESSIMISTIC;
+        /**
+         * 잔액 변경과 거래 내역 저장을 하나의 트랜잭션으로 커밋할지 여부 (partitioned 프로필의 잔액 변경에는 적용되지 않는다)
+         */
+        private boolean singleCommit = false;
+        private final Retry retry = new Retry();
+    }
+
+    @Getter
+    @Setter
+    public static class Retry {
+        /**
+         * 낙관적 락 충돌 시 최대 시도 횟수 (최초 시도 포함)
+         */
+        private int maxAttempts = 5;
+        /**
+         * 첫 재시도 대기 시간 상한, 재시도마다 두 배씩 증가한다.
+         */
+        private Duration initialBackoff = Duration.ofMillis(10);
+        /**
+         * 재시도 대기 시간 상한의 최댓값
+         */
+        private Duration maxBackoff = Duration.ofMillis(200);
+    }
+
+    @Getter
+    @Setter
+    public static class Partition {
+        /**
+         * 파티션(단일 쓰기 스레드) 개수
+         */
+        private int count = Runtime.getRuntime().availableProcessors();
+        /**
+         * 파티션별 대기 큐 크기
+         */
+        private int queueCapacity = 10_000;
+        /**
+         * 한 번의 write-behind 커밋에 묶을 최대 명령 수
+         */
+        private int maxBatchSize = 256;
+        /**
+         * 파티션별로 메모리에 유지할 최대 계좌 수
+         */
+        private int maxCachedAccounts = 100_000;
+        /**
+         * 대기 큐가 가득 찼을 때 최대 대기 시간
+         */
+        private Duration submitTimeout = Duration.ofSeconds(5);
+        /**
+         * 이 시간 동안 마무리되지 않은 파티션 간 이체 의도는 중단된 것으로 보고 복구한다. submitTimeout 보다 충분히 길어야 한다.
+         */
+        private Duration intentTimeout = Duration.ofMinutes(1);
+        /**
+         * 잔액은 파티션의 write-behind 트랜잭션으로, 거래 내역과 원장은 그 뒤 별도 트랜잭션으로 커밋된다.
+         * 그 사이에 실패하거나 프로세스가 종료되면 거래 내역 없이 잔액만 바뀐 계좌가 남으므로, 이를 감수할 때만 true 로 두고 시작한다.
+         */
+        private boolean allowSeparateLedgerCommit = false;
+    }
+
+    @Getter
+    @Setter
+    public static class DepositCoalescing {
+        /**
+         * 같은 계좌로 동시에 들어온 입금을 묶어서 처리할지 여부
+         */
+        private boolean enabled = false;
+        /**
+         * 첫 입금 이후 같은 계좌의 입금을 모으는 최대 대기 시간
+         */
+        private Duration window = Duration.ofMillis(2);
+        /**
+         * 한 번에 묶을 최대 입금 수
+         */
+        private int maxBatchSize = 32;
+    }
+
+    @Getter
+    @Setter
+    public static class LockMetrics {
+        /**
+         * 락 대기 시간이 가장 긴 계좌를 몇 개까지 노출할지
+         */
+        private int topK = 20;
+    }
+
+    @Getter
+    @Setter
+    public static class Credential {
+        /**
+         * 계좌 비밀번호 해시 비교 전용 스레드 수
+         */
+        private int threads = Runtime.getRuntime().availableProcessors();
+        /**
+         * 스레드가 모두 사용 중일 때 대기할 수 있는 최대 검증 요청 수
+         */
+        private int queueCapacity = 256;
+        /**
+         * 대기 자리가 날 때까지 기다리는 최대 시간
+         */
+        private Duration timeout = Duration.ofSeconds(5);
+    }
+
+    @Getter
+    @Setter
+    public static class Sequence {
+        /**
+         * 시퀀스 행을 한 번 잠글 때 예약할 계좌 번호 수
+         */
+        private int blockSize = 1000;
+        /**
+         * 남은 번호가 블록 크기의 이 비율 이하가 되면 다음 블록을 미리 예약한다.
+         */
+        private double refillThreshold = 0.2;
+    }
+
+    @Getter
+    @Setter
+    public static class BulkRegister {
+        /**
+         * 일괄 등록 시 계좌 비밀번호 해시를 계산하는 전용 스레드 수
+         */
+        private int threads = Runtime.getRuntime().availableProcessors();
+    }
+
+    public enum LockStrategy {
+        PESSIMISTIC, OPTIMISTIC, CONDITIONAL_UPDATE
+    }
+}
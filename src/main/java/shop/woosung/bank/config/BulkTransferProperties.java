@@ -0,0 +1,31 @@
+package shop.woosung.bank.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.nio.file.Paths;
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "bank.bulk-transfer")
+public class BulkTransferProperties {
+    /**
+     * 업로드 파일과 결과 파일을 저장할 디렉터리
+     */
+    private String storageDir = Paths.get(System.getProperty("java.io.tmpdir"), "ws-bank", "bulk-transfer").toString();
+    /**
+     * 한 트랜잭션으로 커밋할 줄 수
+     */
+    private int chunkSize = 500;
+    /**
+     * 동시에 처리할 작업 수
+     */
+    private int workers = 1;
+    /**
+     * 작업을 가져간 서버가 소유를 유지하는 기간. 청크를 커밋할 때마다 연장되며, 지나면 다른 서버가 이어서 처리한다.
+     * 청크 하나의 처리 시간과 서버 간 시계 차이보다 넉넉해야 한다.
+     */
+    private Duration leaseDuration = Duration.ofMinutes(5);
+}
@@ -0,0 +1,104 @@
+package shop.woosung.bank.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@ConfigurationProperties(prefix = "bank.transaction")
+public class TransactionProperties {
+
+    private final Page page = new Page();
+    private final Partition partition = new Partition();
+    private final Archive archive = new Archive();
+    private final Statement statement = new Statement();
+    private final Checkpoint checkpoint = new Checkpoint();
+
+    @Getter
+    @Setter
+    public static class Page {
+        /**
+         * 거래 내역 목록의 기본 페이지 크기
+         */
+        private int defaultSize = 5;
+        /**
+         * 요청할 수 있는 최대 페이지 크기 (더 크게 요청하면 이 값으로 줄인다)
+         */
+        private int maxSize = 100;
+    }
+
+    @Getter
+    @Setter
+    public static class Partition {
+        /**
+         * 현재 달을 포함해 운영 테이블에 남겨 둘 달 수. 0 이면 떼어 내지 않는다.
+         */
+        private int retentionMonths = 0;
+        /**
+         * 현재 달 이후로 미리 만들어 둘 월 파티션 수
+         */
+        private int premakeMonths = 3;
+        /**
+         * 파티션 작업을 한 서버만 실행하도록 잡는 잠금의 최대 유지 시간. 잡은 서버가 죽으면 이 시간이 지나야 다른 서버가 실행한다.
+         */
+        private Duration lockAtMostFor = Duration.ofHours(1);
+    }
+
+    @Getter
+    @Setter
+    public static class Archive {
+        /**
+         * 운영 테이블에서 떼어 낸 달을 세그먼트 파일로 보관하고 오래된 내역 조회에 사용할지 여부
+         */
+        private boolean enabled = false;
+        /**
+         * 세그먼트 파일을 두는 디렉터리
+         */
+        private String directory = "ledger-archive";
+        /**
+         * directory 가 모든 서버가 같이 쓰는 내구성 있는 저장소(복제되는 공유 볼륨 등)인지 여부.
+         * true 일 때만 세그먼트를 만든 뒤 DB 의 월 테이블을 지운다. false 면 서버마다 월 테이블에서 자기 세그먼트를 만들고 월 테이블은 남긴다.
+         */
+        private boolean sharedStorage = false;
+        /**
+         * 압축 블록 하나에 담는 원장 행 수 (희소 인덱스는 블록마다 하나)
+         */
+        private int blockRows = 256;
+    }
+
+    @Getter
+    @Setter
+    public static class Statement {
+        /**
+         * 명세서를 내려줄 때 DB 커서에서 한 번에 가져오는 행 수
+         */
+        private int fetchSize = 1_000;
+    }
+
+    @Getter
+    @Setter
+    public static class Checkpoint {
+        /**
+         * 잔액 체크포인트를 주기적으로 쓸지 여부. 켜려면 bank.account.concurrency.single-commit=true 이고 partitioned 프로필이 아니어야 한다.
+         */
+        private boolean enabled = false;
+        /**
+         * 잔액 체크포인트 간격. 시점 잔액 조회는 가까운 체크포인트에서 이 간격 이내의 원장만 다시 더한다.
+         */
+        private Duration interval = Duration.ofDays(1);
+        /**
+         * 체크포인트를 쓸 때 한 트랜잭션에서 처리하는 계좌 수
+         */
+        private int chunkSize = 1_000;
+        /**
+         * 체크포인트 시각이 이 시간만큼 지난 뒤에 쓴다. 그 시각 전에 시작해 아직 커밋되지 않은 거래가 없도록 가장 긴 트랜잭션/락 대기 시간보다 길게 둔다.
+         */
+        private Duration safetyMargin = Duration.ofMinutes(5);
+        /**
+         * 체크포인트 작업을 한 서버만 실행하도록 잡는 잠금의 최대 유지 시간. 잡은 서버가 죽으면 이 시간이 지나야 다른 서버가 실행한다.
+         */
+        private Duration lockAtMostFor = Duration.ofMinutes(30);
+    }
+}
@@ -1,15 +1,29 @@
 package shop.woosung.bank.transaction.controller;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import shop.woosung.bank.account.controller.validation.AccountFullNumber;
 import shop.woosung.bank.common.ApiResponse;
 import shop.woosung.bank.config.auth.LoginUser;
 import shop.woosung.bank.transaction.controller.port.TransactionService;
+import shop.woosung.bank.transaction.service.dto.TransactionBalanceResponseDto;
 import shop.woosung.bank.transaction.service.dto.TransactionResponseListDto;
+import shop.woosung.bank.transaction.service.dto.TransactionStatement;
 
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@Validated
 @RequiredArgsConstructor
 @RequestMapping("/api")
 @RestController
@@ -19,13 +33,50 @@ public class TransactionController {
 
     @GetMapping("/s/account/{accountFullNumber}/transaction")
     public ResponseEntity<ApiResponse<TransactionResponseListDto>> findTransactionList(
-            @PathVariable Long accountFullNumber,
+            @PathVariable @AccountFullNumber Long accountFullNumber,
             @RequestParam(value = "type", defaultValue = "ALL") String type,
-            @RequestParam(value = "page", defaultValue = "0") Integer page,
+            @RequestParam(value = "page", required = false) Integer page,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", required = false) Integer size,
             @AuthenticationPrincipal LoginUser loginUser) {
 
-        TransactionResponseListDto transactionResponseListDto = transactionService.getTransactionList(accountFullNumber, type, page, loginUser.getUser());
+        // page 를 지정한 기존 요청은 오프셋 방식으로, 그 외에는 커서 방식으로 조회한다.
+        TransactionResponseListDto transactionResponseListDto = page != null && cursor == null
+                ? transactionService.getTransactionList(accountFullNumber, type, page, loginUser.getUser())
+                : transactionService.getTransactionList(accountFullNumber, type, cursor, size, loginUser.getUser());
 
         return ResponseEntity.status(HttpStatus.OK).body(ApiResponse.success("입출금 목록보기 성공", transactionResponseListDto));
     }
+
+    @GetMapping("/s/account/{accountFullNumber}/balance")
+    public ResponseEntity<ApiResponse<TransactionBalanceResponseDto>> findBalanceAt(
+            @PathVariable @AccountFullNumber Long accountFullNumber,
+            @RequestParam(value = "at") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime at,
+            @AuthenticationPrincipal LoginUser loginUser) {
+
+        TransactionBalanceResponseDto transactionBalanceResponseDto = transactionService.getBalanceAt(accountFullNumber, at, loginUser.getUser());
+
+        return ResponseEntity.status(HttpStatus.OK).body(ApiResponse.success("시점 잔액 조회 성공", transactionBalanceResponseDto));
+    }
+
+    /**
+     * 명세서는 ApiResponse 로 감싸지 않고 응답 스트림에 바로 쓴다. 길이를 미리 정하지 않으므로 chunked 로 전송된다.
+     */
+    @GetMapping("/s/account/{accountFullNumber}/statement")
+    public void exportStatement(
+            @PathVariable @AccountFullNumber Long accountFullNumber,
+            @RequestParam(value = "from", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(value = "to", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(value = "format", defaultValue = "csv") String format,
+            @AuthenticationPrincipal LoginUser loginUser,
+            HttpServletResponse response) throws IOException {
+
+        TransactionStatement statement = transactionService.getStatement(accountFullNumber, from, to, format, loginUser.getUser());
+
+        response.setStatus(HttpStatus.OK.value());
+        response.setContentType(statement.getFormat().getContentType());
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(statement.getFileName()).build().toString());
+        transactionService.writeStatement(statement, response.getOutputStream());
+    }
 }
@@ -1,9 +1,24 @@
 package shop.woosung.bank.transaction.controller.port;
 
+import shop.woosung.bank.transaction.service.dto.TransactionBalanceResponseDto;
 import shop.woosung.bank.transaction.service.dto.TransactionResponseListDto;
+import shop.woosung.bank.transaction.service.dto.TransactionStatement;
 import shop.woosung.bank.user.domain.User;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
 public interface TransactionService {
 
     TransactionResponseListDto getTransactionList(Long accountNumber, String type, int page, User user);
+
+    TransactionResponseListDto getTransactionList(Long accountNumber, String type, String cursor, Integer size, User user);
+
+    TransactionStatement getStatement(Long accountFullNumber, LocalDate from, LocalDate to, String format, User user);
+
+    void writeStatement(TransactionStatement statement, OutputStream outputStream) throws IOException;
+
+    TransactionBalanceResponseDto getBalanceAt(Long accountFullNumber, LocalDateTime at, User user);
 }
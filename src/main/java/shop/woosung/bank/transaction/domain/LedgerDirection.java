@@ -0,0 +1,8 @@
+package shop.woosung.bank.transaction.domain;
+
+/**
+ * 원장 항목이 계좌 입장에서 돈이 나간 것인지 들어온 것인지. 거래 내역 조회의 type(WITHDRAW, DEPOSIT) 과 이름을 맞춘다.
+ */
+public enum LedgerDirection {
+    WITHDRAW, DEPOSIT
+}
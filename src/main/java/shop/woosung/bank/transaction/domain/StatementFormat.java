@@ -0,0 +1,23 @@
+package shop.woosung.bank.transaction.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import shop.woosung.bank.transaction.handler.exception.InvalidStatementRequestException;
+
+@Getter
+@AllArgsConstructor
+public enum StatementFormat {
+    CSV("text/csv", "csv"), NDJSON("application/x-ndjson", "ndjson");
+
+    private final String contentType;
+    private final String extension;
+
+    public static StatementFormat of(String format) {
+        for (StatementFormat statementFormat : values()) {
+            if (statementFormat.name().equalsIgnoreCase(format)) {
+                return statementFormat;
+            }
+        }
+        throw new InvalidStatementRequestException("지원하지 않는 명세서 형식입니다. format : " + format);
+    }
+}
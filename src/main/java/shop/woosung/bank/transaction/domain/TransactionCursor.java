@@ -0,0 +1,47 @@
+package shop.woosung.bank.transaction.domain;
+
+import shop.woosung.bank.transaction.handler.exception.InvalidTransactionCursorException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 거래 내역 목록의 다음 페이지 위치. 마지막으로 내려준 거래 id 를 담는다.
+ *
+ * 거래 id 는 시간 순서로 증가하므로 id 만으로 최신순 정렬과 위치 지정이 된다.
+ * 클라이언트가 형식에 의존하지 않도록 버전을 붙여 Base64(URL-safe) 로 감싼 문자열로만 주고받는다.
+ */
+public class TransactionCursor {
+    private static final String VERSION_PREFIX = "t1:";
+
+    private final Long lastId;
+
+    private TransactionCursor(Long lastId) {
+        this.lastId = lastId;
+    }
+
+    public static TransactionCursor after(Long lastId) {
+        return new TransactionCursor(lastId);
+    }
+
+    public static TransactionCursor decode(String cursor) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            if (!decoded.startsWith(VERSION_PREFIX)) {
+                throw new InvalidTransactionCursorException(cursor);
+            }
+            return new TransactionCursor(Long.parseLong(decoded.substring(VERSION_PREFIX.length())));
+        } catch (IllegalArgumentException exception) {
+            throw new InvalidTransactionCursorException(cursor);
+        }
+    }
+
+    public String encode() {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((VERSION_PREFIX + lastId).getBytes(StandardCharsets.UTF_8));
+    }
+
+    public Long getLastId() {
+        return lastId;
+    }
+}
@@ -0,0 +1,31 @@
+package shop.woosung.bank.transaction.domain;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 거래 내역 조회용 읽기 모델. 계좌와 소유자 없이 화면에 필요한 컬럼과 조회하는 계좌 기준 거래 후 잔액만 담는다.
+ */
+@Getter
+public class TransactionHistory {
+    private final Long id;
+    private final TransactionType type;
+    private final Long amount;
+    private final String sender;
+    private final String receiver;
+    private final String tel;
+    private final LocalDateTime createdAt;
+    private final Long balance;
+
+    public TransactionHistory(Long id, TransactionType type, Long amount, String sender, String receiver, String tel, LocalDateTime createdAt, Long balance) {
+        this.id = id;
+        this.type = type;
+        this.amount = amount;
+        this.sender = sender;
+        this.receiver = receiver;
+        this.tel = tel;
+        this.createdAt = createdAt;
+        this.balance = balance;
+    }
+}
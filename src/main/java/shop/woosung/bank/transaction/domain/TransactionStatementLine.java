@@ -0,0 +1,34 @@
+package shop.woosung.bank.transaction.domain;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 거래 명세서의 한 줄. 계좌 기준으로 돈이 나갔는지 들어왔는지(direction)와 거래 후 잔액을 함께 담는다.
+ */
+@Getter
+public class TransactionStatementLine {
+    private final Long id;
+    private final LocalDateTime createdAt;
+    private final TransactionType type;
+    private final LedgerDirection direction;
+    private final Long amount;
+    private final Long balance;
+    private final String sender;
+    private final String receiver;
+    private final String tel;
+
+    public TransactionStatementLine(Long id, LocalDateTime createdAt, TransactionType type, LedgerDirection direction, Long amount, Long balance,
+                                    String sender, String receiver, String tel) {
+        this.id = id;
+        this.createdAt = createdAt;
+        this.type = type;
+        this.direction = direction;
+        this.amount = amount;
+        this.balance = balance;
+        this.sender = sender;
+        this.receiver = receiver;
+        this.tel = tel;
+    }
+}
@@ -0,0 +1,31 @@
+package shop.woosung.bank.transaction.handler;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import shop.woosung.bank.common.ApiResponse;
+import shop.woosung.bank.transaction.handler.exception.InvalidStatementRequestException;
+import shop.woosung.bank.transaction.handler.exception.InvalidTransactionCursorException;
+
+import javax.servlet.http.HttpServletRequest;
+
+@Slf4j
+@RestControllerAdvice
+public class TransactionControllerAdvice {
+
+    @ExceptionHandler(InvalidTransactionCursorException.class)
+    public ResponseEntity<ApiResponse<Object>> handleInvalidTransactionCursorException(HttpServletRequest request, InvalidTransactionCursorException exception) {
+        log.error("request.getRequestURI() = {}, ", request.getRequestURI());
+        log.error("InvalidTransactionCursorException = {}", exception.getMessage());
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(ApiResponse.error("잘못된 페이지 요청"));
+    }
+
+    @ExceptionHandler(InvalidStatementRequestException.class)
+    public ResponseEntity<ApiResponse<Object>> handleInvalidStatementRequestException(HttpServletRequest request, InvalidStatementRequestException exception) {
+        log.error("request.getRequestURI() = {}, ", request.getRequestURI());
+        log.error("InvalidStatementRequestException = {}", exception.getMessage());
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(ApiResponse.error(exception.getMessage()));
+    }
+}
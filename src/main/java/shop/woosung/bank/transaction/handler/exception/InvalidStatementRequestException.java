@@ -0,0 +1,7 @@
+package shop.woosung.bank.transaction.handler.exception;
+
+public class InvalidStatementRequestException extends RuntimeException {
+    public InvalidStatementRequestException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package shop.woosung.bank.transaction.handler.exception;
+
+public class InvalidTransactionCursorException extends RuntimeException {
+    public InvalidTransactionCursorException(String cursor) {
+        super("잘못된 거래 내역 커서입니다. cursor : " + cursor);
+    }
+}
@@ -0,0 +1,140 @@
+package shop.woosung.bank.transaction.infrastructure;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import shop.woosung.bank.common.infrastructure.TimeOrderedIdGenerator;
+import shop.woosung.bank.config.TransactionProperties;
+import shop.woosung.bank.transaction.domain.LedgerDirection;
+import shop.woosung.bank.transaction.infrastructure.archive.TransactionArchiveStoreImpl;
+import shop.woosung.bank.transaction.infrastructure.entity.BalanceCheckpointEntity;
+import shop.woosung.bank.transaction.service.port.BalanceCheckpointStore;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 계좌 잔액 체크포인트를 쓰고, 체크포인트에서 원장을 이어 더해 시점 잔액을 구한다.
+ *
+ * 체크포인트 잔액은 이전 체크포인트에 쌓아 가지 않고 매번 현재 잔액(분할 잔액 슬롯 포함)에서 체크포인트 이후 원장을 빼서 구한다.
+ * 관리자 잔액 변경처럼 원장에 남지 않는 변경이 있어도 오차가 다음 체크포인트로 이어지지 않고, 뺄 원장은 체크포인트 이후 분량뿐이다.
+ * 현재 잔액과 원장을 한 트랜잭션에서 같이 읽으므로 잔액 변경과 거래 저장이 같은 트랜잭션으로 커밋되는 설정을 전제로 한다.
+ * 그 설정이 아니면 BalanceCheckpointJob 이 시작하지 않으며, 체크포인트가 없는 계좌의 시점 잔액은 매번 현재 잔액에서 거슬러 구한다.
+ */
+@Repository
+public class BalanceCheckpointStoreImpl implements BalanceCheckpointStore {
+    private static final String NET_AMOUNT = "coalesce(sum(case when l.direction = 'DEPOSIT' then t.amount else -t.amount end), 0)";
+    private static final String CURRENT_BALANCE = "a.balance + coalesce((select sum(s.balance) from account_balance_slot_entity s where s.account_full_number = a.full_number), 0)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final BalanceCheckpointJpaRepository balanceCheckpointJpaRepository;
+    private final TransactionArchiveStoreImpl transactionArchiveStore;
+    private final TransactionProperties transactionProperties;
+
+    public BalanceCheckpointStoreImpl(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                                      BalanceCheckpointJpaRepository balanceCheckpointJpaRepository,
+                                      TransactionArchiveStoreImpl transactionArchiveStore, TransactionProperties transactionProperties) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.balanceCheckpointJpaRepository = balanceCheckpointJpaRepository;
+        this.transactionArchiveStore = transactionArchiveStore;
+        this.transactionProperties = transactionProperties;
+    }
+
+    /**
+     * 계좌 id 순으로 chunk-size 개씩 나눠 트랜잭션마다 현재 잔액과 체크포인트 이후 원장을 같이 읽는다.
+     * 직전 체크포인트 시각 이후 원장이 있거나 아직 체크포인트가 없는 계좌만 쓴다.
+     */
+    @Override
+    public int checkpoint(LocalDateTime at) {
+        long boundaryId = boundaryIdOf(at);
+        Long previousBoundaryId = jdbcTemplate.queryForObject(
+                "select max(boundary_transaction_id) from balance_checkpoint_entity where boundary_transaction_id < ?", Long.class, boundaryId);
+
+        String sql = "select a.id, " + CURRENT_BALANCE + " - (select " + NET_AMOUNT + " from ledger_entry_entity l join transaction_entity t on t.id = l.transaction_id " +
+                "where l.account_id = a.id and l.transaction_id >= ?) " +
+                "from account_entity a " +
+                "where a.id > ? " +
+                "and not exists (select 1 from balance_checkpoint_entity c where c.account_id = a.id and c.boundary_transaction_id = ?) " +
+                (previousBoundaryId == null ? "" :
+                        "and (exists (select 1 from ledger_entry_entity l where l.account_id = a.id and l.transaction_id >= ? and l.transaction_id < ?) " +
+                        "or not exists (select 1 from balance_checkpoint_entity c where c.account_id = a.id and c.boundary_transaction_id < ?)) ") +
+                "order by a.id limit ?";
+        int chunkSize = transactionProperties.getCheckpoint().getChunkSize();
+
+        int written = 0;
+        AtomicLong lastAccountId = new AtomicLong(0L);
+        while (true) {
+            Integer count = transactionTemplate.execute(status -> {
+                Object[] parameters = previousBoundaryId == null
+                        ? new Object[]{boundaryId, lastAccountId.get(), boundaryId, chunkSize}
+                        : new Object[]{boundaryId, lastAccountId.get(), boundaryId, previousBoundaryId, boundaryId, boundaryId, chunkSize};
+                List<BalanceCheckpointEntity> checkpoints = jdbcTemplate.query(sql,
+                        (rs, rowNum) -> BalanceCheckpointEntity.of(rs.getLong(1), boundaryId, at, rs.getLong(2)), parameters);
+                if (checkpoints.isEmpty()) {
+                    return 0;
+                }
+                balanceCheckpointJpaRepository.saveAll(checkpoints);
+                lastAccountId.set(checkpoints.get(checkpoints.size() - 1).getAccountId());
+                return checkpoints.size();
+            });
+            if (count == null || count == 0) {
+                break;
+            }
+            written += count;
+            if (count < chunkSize) {
+                break;
+            }
+        }
+        return written;
+    }
+
+    /**
+     * at 이전 체크포인트가 있으면 그 뒤 원장을 더하고, 없으면 at 이후 첫 체크포인트에서 그 사이 원장을 뺀다.
+     * 어느 쪽이든 읽는 원장은 체크포인트 간격 안의 거래뿐이다. 체크포인트가 하나도 없는 계좌만 현재 잔액에서 거슬러 올라간다.
+     */
+    @Override
+    public long findBalanceAt(Long accountId, LocalDateTime at) {
+        long boundaryId = boundaryIdOf(at);
+
+        List<long[]> before = jdbcTemplate.query("select boundary_transaction_id, balance from balance_checkpoint_entity " +
+                        "where account_id = ? and boundary_transaction_id <= ? order by boundary_transaction_id desc limit 1",
+                (rs, rowNum) -> new long[]{rs.getLong(1), rs.getLong(2)}, accountId, boundaryId);
+        if (!before.isEmpty()) {
+            return before.get(0)[1] + netAmount(accountId, before.get(0)[0], boundaryId);
+        }
+
+        List<long[]> after = jdbcTemplate.query("select boundary_transaction_id, balance from balance_checkpoint_entity " +
+                        "where account_id = ? and boundary_transaction_id > ? order by boundary_transaction_id asc limit 1",
+                (rs, rowNum) -> new long[]{rs.getLong(1), rs.getLong(2)}, accountId, boundaryId);
+        if (!after.isEmpty()) {
+            return after.get(0)[1] - netAmount(accountId, boundaryId, after.get(0)[0]);
+        }
+
+        Long currentBalance = jdbcTemplate.queryForObject("select " + CURRENT_BALANCE + " from account_entity a where a.id = ?", Long.class, accountId);
+        return currentBalance - netAmount(accountId, boundaryId, Long.MAX_VALUE);
+    }
+
+    /**
+     * [fromId, toId) 범위 거래로 계좌 잔액이 바뀐 양 (입금 +, 출금 -). 세그먼트로 옮긴 달이 걸리면 보관소에서도 읽는다.
+     */
+    private long netAmount(Long accountId, long fromId, long toId) {
+        Long net = jdbcTemplate.queryForObject("select " + NET_AMOUNT + " from ledger_entry_entity l join transaction_entity t on t.id = l.transaction_id " +
+                "where l.account_id = ? and l.transaction_id >= ? and l.transaction_id < ?", Long.class, accountId, fromId, toId);
+        if (!transactionArchiveStore.isEnabled()) {
+            return net;
+        }
+        AtomicLong archived = new AtomicLong();
+        transactionArchiveStore.forEachAscending(accountId, fromId, toId, row -> archived.addAndGet(
+                row.getDirection() == LedgerDirection.DEPOSIT ? row.getHistory().getAmount() : -row.getHistory().getAmount()));
+        return net + archived.get();
+    }
+
+    private long boundaryIdOf(LocalDateTime at) {
+        return TimeOrderedIdGenerator.lowestIdAt(at.atZone(ZoneId.systemDefault()).toInstant());
+    }
+}
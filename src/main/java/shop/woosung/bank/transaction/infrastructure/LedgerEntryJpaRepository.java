@@ -0,0 +1,7 @@
+package shop.woosung.bank.transaction.infrastructure;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import shop.woosung.bank.transaction.infrastructure.entity.LedgerEntryEntity;
+
+public interface LedgerEntryJpaRepository extends JpaRepository<LedgerEntryEntity, Long> {
+}
@@ -0,0 +1,87 @@
+package shop.woosung.bank.transaction.infrastructure;
+
+import shop.woosung.bank.common.infrastructure.TimeOrderedIdGenerator;
+
+import java.time.Instant;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * 거래/원장 테이블을 나누는 한 달 구간.
+ *
+ * 거래 id 는 발급 시각 순서이므로 달의 경계는 그 달 1일 0시의 id 하한으로 바뀌고,
+ * 파티션 경계와 조회 조건 모두 created_at 대신 id 범위로 표현한다. (월 경계는 서버 시간대 기준)
+ */
+public class TransactionMonth {
+    private static final DateTimeFormatter SUFFIX_FORMAT = DateTimeFormatter.ofPattern("yyyyMM");
+
+    private final YearMonth month;
+
+    private TransactionMonth(YearMonth month) {
+        this.month = month;
+    }
+
+    public static TransactionMonth of(YearMonth month) {
+        return new TransactionMonth(month);
+    }
+
+    public static TransactionMonth ofId(long id) {
+        return new TransactionMonth(YearMonth.from(TimeOrderedIdGenerator.timestampOf(id).atZone(ZoneId.systemDefault())));
+    }
+
+    /**
+     * pYYYYMM 형식의 파티션 이름을 읽는다. 형식이 다르면(pmax 등) null 이다.
+     */
+    public static TransactionMonth ofPartitionName(String partitionName) {
+        if (partitionName == null || !partitionName.matches("p\\d{6}")) {
+            return null;
+        }
+        return new TransactionMonth(YearMonth.parse(partitionName.substring(1), SUFFIX_FORMAT));
+    }
+
+    /**
+     * 월 테이블 이름 끝의 yyyyMM 을 읽는다. ex) ledger_entry_entity_202401
+     */
+    public static TransactionMonth ofTableName(String tableName) {
+        return new TransactionMonth(YearMonth.parse(tableName.substring(tableName.length() - 6), SUFFIX_FORMAT));
+    }
+
+    public YearMonth getMonth() {
+        return month;
+    }
+
+    /**
+     * 이 달에 발급된 id 의 하한 (포함)
+     */
+    public long lowestId() {
+        return lowestIdOf(month);
+    }
+
+    /**
+     * 이 달에 발급된 id 의 상한 (제외). 다음 달의 하한과 같다.
+     */
+    public long upperId() {
+        return lowestIdOf(month.plusMonths(1));
+    }
+
+    public TransactionMonth next() {
+        return new TransactionMonth(month.plusMonths(1));
+    }
+
+    public String partitionName() {
+        return "p" + month.format(SUFFIX_FORMAT);
+    }
+
+    /**
+     * 운영 테이블에서 떼어 낸 이 달의 행을 담는 월 테이블 이름. ex) transaction_entity_202401
+     */
+    public String tableName(String table) {
+        return table + "_" + month.format(SUFFIX_FORMAT);
+    }
+
+    private static long lowestIdOf(YearMonth month) {
+        Instant start = month.atDay(1).atStartOfDay(ZoneId.systemDefault()).toInstant();
+        return TimeOrderedIdGenerator.lowestIdAt(start);
+    }
+}
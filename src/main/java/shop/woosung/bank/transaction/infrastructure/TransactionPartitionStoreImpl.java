@@ -0,0 +1,258 @@
+package shop.woosung.bank.transaction.infrastructure;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import shop.woosung.bank.common.infrastructure.TimeOrderedIdGenerator;
+import shop.woosung.bank.transaction.service.port.TransactionPartitionStore;
+
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * 거래/원장 테이블의 월 단위 저장 구조를 관리한다.
+ *
+ * MySQL/MariaDB 에서 테이블이 pYYYYMM(+ pmax) RANGE 파티션으로 되어 있으면 DB 파티션을 그대로 쓴다.
+ * 다음 달 파티션은 pmax 를 쪼개서 미리 만들고, 보관 기간이 지난 달은 EXCHANGE PARTITION 으로 월 테이블과 맞바꾼 뒤 파티션을 지운다.
+ * 파티션을 지원하지 않는 DB(H2 MySQL 모드 테스트 환경)나 파티션으로 바꾸지 않은 테이블은
+ * 그 달의 id 범위를 월 테이블로 복사하고 운영 테이블에서 지우는 방식으로 같은 결과(월 테이블 + 작은 운영 테이블)를 만든다.
+ *
+ * 파티션 키는 PK 에 포함되어야 하므로 운영 DB 의 원장 테이블은 PK 를 (id, transaction_id) 로 두고 파티션으로 바꿔야 한다.
+ * 시간 순서 id 도입 전의 IDENTITY id 거래는 rekeyLegacyRows 가 created_at 시각의 id 로 옮긴다. 옮긴 거래를 가리키던 이전 커서는 맞지 않게 된다.
+ */
+@Slf4j
+@Repository
+public class TransactionPartitionStoreImpl implements TransactionPartitionStore {
+    /**
+     * 테이블별 월 구분 컬럼. 원장 행은 거래와 같은 달에 들어가도록 거래 id 로 나눈다.
+     */
+    private static final Map<String, String> PARTITION_KEYS = new LinkedHashMap<>();
+
+    static {
+        PARTITION_KEYS.put("ledger_entry_entity", "transaction_id");
+        PARTITION_KEYS.put("transaction_entity", "id");
+    }
+
+    private static final int LEGACY_REKEY_BATCH_SIZE = 1_000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private volatile Boolean nativePartitioning;
+    private volatile long retainedFromId = 0L;
+
+    public TransactionPartitionStoreImpl(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Override
+    public void prepare(YearMonth through) {
+        for (String table : PARTITION_KEYS.keySet()) {
+            List<TransactionMonth> partitions = nativePartitions(table);
+            if (partitions.isEmpty()) {
+                continue;
+            }
+            TransactionMonth next = partitions.get(partitions.size() - 1).next();
+            while (!next.getMonth().isAfter(through)) {
+                jdbcTemplate.execute("alter table " + table + " reorganize partition pmax into (" +
+                        "partition " + next.partitionName() + " values less than (" + next.upperId() + "), " +
+                        "partition pmax values less than maxvalue)");
+                log.info("transaction partition added, table = {}, partition = {}", table, next.partitionName());
+                next = next.next();
+            }
+        }
+    }
+
+    /**
+     * 기준일 첫날(UTC)이 지난 뒤 만들어진 행만 바꾼다. 그 전의 행은 id 로 읽어도 가장 오래된 달(2023-01)이므로 그대로 둔다.
+     * 배치마다 거래 id 와 원장의 거래 id 를 한 트랜잭션에서 바꾸며, 바뀐 행은 조회 대상에서 빠지므로 남은 행이 없을 때까지 반복한다.
+     * 새 id 는 created_at 순서대로 그 밀리초의 id 하한부터 쓰고, 이미 발급된 시간 순서 id 와 겹칠 수 있는 구간에서만 존재 여부를 확인한다.
+     */
+    @Override
+    public int rekeyLegacyRows() {
+        LocalDateTime legacyFrom = LocalDateTime.ofInstant(TimeOrderedIdGenerator.timestampOf(TimeOrderedIdGenerator.LEGACY_ID_CEILING), ZoneId.systemDefault());
+        Long firstTimeOrderedId = jdbcTemplate.queryForObject("select min(id) from transaction_entity where id >= ?", Long.class,
+                TimeOrderedIdGenerator.LEGACY_ID_CEILING);
+
+        int rekeyed = 0;
+        AtomicLong lastAssignedId = new AtomicLong(TimeOrderedIdGenerator.LEGACY_ID_CEILING - 1);
+        while (true) {
+            Integer count = transactionTemplate.execute(status -> {
+                List<long[]> rows = jdbcTemplate.query("select id, created_at from transaction_entity where id < ? and created_at >= ? " +
+                                "order by created_at, id limit ?",
+                        (rs, rowNum) -> new long[]{rs.getLong(1), rs.getTimestamp(2).toLocalDateTime().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli()},
+                        TimeOrderedIdGenerator.LEGACY_ID_CEILING, legacyFrom, LEGACY_REKEY_BATCH_SIZE);
+                List<Object[]> changes = new ArrayList<>(rows.size());
+                for (long[] row : rows) {
+                    long newId = Math.max(TimeOrderedIdGenerator.lowestIdAt(Instant.ofEpochMilli(row[1])), lastAssignedId.get() + 1);
+                    while (firstTimeOrderedId != null && newId >= firstTimeOrderedId && transactionExists(newId)) {
+                        newId++;
+                    }
+                    lastAssignedId.set(newId);
+                    changes.add(new Object[]{newId, row[0]});
+                }
+                jdbcTemplate.batchUpdate("update transaction_entity set id = ? where id = ?", changes);
+                jdbcTemplate.batchUpdate("update ledger_entry_entity set transaction_id = ? where transaction_id = ?", changes);
+                return rows.size();
+            });
+            if (count == null || count == 0) {
+                break;
+            }
+            rekeyed += count;
+        }
+        if (rekeyed > 0) {
+            log.info("legacy transaction ids rekeyed by created_at, transactions = {}", rekeyed);
+        }
+        return rekeyed;
+    }
+
+    @Override
+    public List<YearMonth> detachBefore(YearMonth cutoff) {
+        Set<YearMonth> detached = new TreeSet<>();
+        for (Map.Entry<String, String> partitionKey : PARTITION_KEYS.entrySet()) {
+            String table = partitionKey.getKey();
+            List<TransactionMonth> partitions = nativePartitions(table);
+            if (partitions.isEmpty()) {
+                String key = partitionKey.getValue();
+                for (TransactionMonth month = oldestMonth(table, key); month != null && month.getMonth().isBefore(cutoff); month = oldestMonth(table, key)) {
+                    moveMonth(table, key, month);
+                    detached.add(month.getMonth());
+                }
+                continue;
+            }
+            for (TransactionMonth month : partitions) {
+                if (month.getMonth().isBefore(cutoff)) {
+                    exchangePartition(table, month);
+                    detached.add(month.getMonth());
+                }
+            }
+        }
+        retainedFromId = Math.max(retainedFromId, TransactionMonth.of(cutoff).lowestId());
+        return new ArrayList<>(detached);
+    }
+
+    @Override
+    public List<YearMonth> detachedMonths() {
+        Set<String> tables = tableNames();
+        return tables.stream()
+                .filter(table -> table.matches("ledger_entry_entity_\\d{6}"))
+                .map(TransactionMonth::ofTableName)
+                .filter(month -> tables.contains(month.tableName("transaction_entity")))
+                .map(TransactionMonth::getMonth)
+                .sorted()
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 이 서버에서 마지막으로 떼어 낸 경계의 id 하한. 이보다 작은 id 는 운영 테이블에 없으므로 조회 하한으로 써서 파티션을 덜 읽는다.
+     * 보관 기간 경계가 지나도 실제로 떼어 내기 전까지는 올라가지 않으므로 아직 운영 테이블에 있는 행을 조회에서 빠뜨리지 않는다.
+     */
+    public long getRetainedFromId() {
+        return retainedFromId;
+    }
+
+    private void exchangePartition(String table, TransactionMonth month) {
+        String monthTable = month.tableName(table);
+        if (!tableExists(monthTable)) {
+            jdbcTemplate.execute("create table " + monthTable + " like " + table);
+            jdbcTemplate.execute("alter table " + monthTable + " remove partitioning");
+        }
+        jdbcTemplate.execute("alter table " + table + " exchange partition " + month.partitionName() + " with table " + monthTable);
+        jdbcTemplate.execute("alter table " + table + " drop partition " + month.partitionName());
+        log.info("transaction partition detached, table = {}, partition = {}", table, month.partitionName());
+    }
+
+    private void moveMonth(String table, String key, TransactionMonth month) {
+        String monthTable = month.tableName(table);
+        String range = " where " + key + " >= " + month.lowestId() + " and " + key + " < " + month.upperId();
+        jdbcTemplate.execute("create table if not exists " + monthTable + " as select * from " + table + " where 1 = 0");
+        Integer moved = transactionTemplate.execute(status -> {
+            jdbcTemplate.update("insert into " + monthTable + " select * from " + table + range);
+            return jdbcTemplate.update("delete from " + table + range);
+        });
+        log.info("transaction month detached, table = {}, monthTable = {}, rows = {}", table, monthTable, moved);
+    }
+
+    /**
+     * 파티션 없는 테이블에서 가장 오래된 행이 속한 달. 비어 있으면 null 이다.
+     * 앞의 달을 옮기고 나면 다음으로 행이 있는 달이 나오므로 빈 달은 건너뛴다.
+     */
+    private TransactionMonth oldestMonth(String table, String key) {
+        Long oldestId = jdbcTemplate.queryForObject("select min(" + key + ") from " + table, Long.class);
+        return oldestId == null ? null : TransactionMonth.ofId(oldestId);
+    }
+
+    /**
+     * DB 파티션으로 나뉜 테이블의 월 파티션 목록(오래된 순). 파티션이 없거나 지원하지 않는 DB 면 빈 목록이다.
+     */
+    private List<TransactionMonth> nativePartitions(String table) {
+        if (!isNativePartitioning()) {
+            return List.of();
+        }
+        return jdbcTemplate.queryForList("select partition_name from information_schema.partitions " +
+                        "where table_schema = database() and table_name = ? and partition_name is not null " +
+                        "order by partition_ordinal_position", String.class, table)
+                .stream()
+                .map(TransactionMonth::ofPartitionName)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
+
+    private Set<String> tableNames() {
+        try {
+            return JdbcUtils.extractDatabaseMetaData(jdbcTemplate.getDataSource(), metaData -> {
+                Set<String> tables = new HashSet<>();
+                try (ResultSet resultSet = metaData.getTables(null, null, "%", new String[]{"TABLE"})) {
+                    while (resultSet.next()) {
+                        tables.add(resultSet.getString("TABLE_NAME").toLowerCase(Locale.ROOT));
+                    }
+                }
+                return tables;
+            });
+        } catch (MetaDataAccessException exception) {
+            throw new IllegalStateException("table lookup failed", exception);
+        }
+    }
+
+    private boolean transactionExists(long id) {
+        Integer count = jdbcTemplate.queryForObject("select count(*) from transaction_entity where id = ?", Integer.class, id);
+        return count != null && count > 0;
+    }
+
+    private boolean tableExists(String table) {
+        Integer count = jdbcTemplate.queryForObject("select count(*) from information_schema.tables " +
+                "where table_schema = database() and table_name = ?", Integer.class, table);
+        return count != null && count > 0;
+    }
+
+    private boolean isNativePartitioning() {
+        if (nativePartitioning == null) {
+            try {
+                String productName = JdbcUtils.extractDatabaseMetaData(jdbcTemplate.getDataSource(), DatabaseMetaData::getDatabaseProductName);
+                nativePartitioning = "MySQL".equalsIgnoreCase(productName) || "MariaDB".equalsIgnoreCase(productName);
+            } catch (MetaDataAccessException exception) {
+                throw new IllegalStateException("database product name lookup failed", exception);
+            }
+        }
+        return nativePartitioning;
+    }
+}
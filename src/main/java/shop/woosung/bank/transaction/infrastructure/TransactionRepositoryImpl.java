@@ -1,61 +1,203 @@
 package shop.woosung.bank.transaction.infrastructure;
 
 import lombok.RequiredArgsConstructor;
+import org.hibernate.jpa.QueryHints;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import shop.woosung.bank.common.infrastructure.TimeOrderedIdGenerator;
+import shop.woosung.bank.config.TransactionProperties;
+import shop.woosung.bank.transaction.domain.LedgerDirection;
 import shop.woosung.bank.transaction.domain.Transaction;
+import shop.woosung.bank.transaction.domain.TransactionHistory;
+import shop.woosung.bank.transaction.domain.TransactionStatementLine;
 import shop.woosung.bank.transaction.domain.TransactionType;
+import shop.woosung.bank.transaction.infrastructure.archive.TransactionArchiveStoreImpl;
+import shop.woosung.bank.transaction.infrastructure.entity.LedgerEntryEntity;
 import shop.woosung.bank.transaction.infrastructure.entity.TransactionEntity;
 import shop.woosung.bank.transaction.service.port.TransactionRepository;
 
 import javax.persistence.EntityManager;
 import javax.persistence.TypedQuery;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @RequiredArgsConstructor
 @Repository
 public class TransactionRepositoryImpl implements TransactionRepository {
 
     private final TransactionJpaRepository transactionJpaRepository;
+    private final LedgerEntryJpaRepository ledgerEntryJpaRepository;
     private final EntityManager em;
+    private final TransactionPartitionStoreImpl transactionPartitionStore;
+    private final TransactionArchiveStoreImpl transactionArchiveStore;
+    private final TransactionProperties transactionProperties;
 
+    /**
+     * 운영 테이블에서 한 페이지를 다 채우지 못하면 세그먼트 파일로 보관된 오래된 달에서 이어서 채운다.
+     */
     @Override
-    public List<Transaction> findTransactionList(Long accountId, String type, Integer page) {
-        String sql = "select t from TransactionEntity t ";
+    public List<TransactionHistory> findTransactionHistory(Long accountFullNumber, Long userId, String type, Integer page, int size) {
+        List<TransactionHistory> histories = historyQuery(accountFullNumber, userId, type, Long.MAX_VALUE)
+                .setFirstResult(page * size)
+                .setMaxResults(size)
+                .getResultList();
+        if (histories.size() == size || !transactionArchiveStore.isEnabled()) {
+            return histories;
+        }
 
-        if (type.equals(TransactionType.WITHDRAW.name())) {
-            sql += "join fetch t.withdrawAccount wa ";
-            sql += "where t.withdrawAccount.id = :withdrawAccountId ";
-        } else if (type.equals(TransactionType.DEPOSIT.name())) {
-            sql += "join fetch t.depositAccount da ";
-            sql += "where t.depositAccount.id = :depositAccountId ";
-        } else {
-            sql += "left join fetch t.withdrawAccount wa ";
-            sql += "left join fetch t.depositAccount da ";
-            sql += "where t.withdrawAccount.id = :withdrawAccountId ";
-            sql += "or ";
-            sql += "t.depositAccount.id = :depositAccountId ";
+        Long accountId = findOwnedAccountId(accountFullNumber, userId);
+        if (accountId == null) {
+            return histories;
+        }
+        int skip = histories.isEmpty() ? (int) Math.max(page * size - countRetained(accountId, type), 0) : 0;
+        return withArchived(histories, accountId, type, Long.MAX_VALUE, skip, size);
+    }
+
+    @Override
+    public List<TransactionHistory> findTransactionHistoryBefore(Long accountFullNumber, Long userId, String type, Long beforeId, int limit) {
+        long before = beforeId == null ? Long.MAX_VALUE : beforeId;
+        List<TransactionHistory> histories = historyQuery(accountFullNumber, userId, type, before)
+                .setMaxResults(limit)
+                .getResultList();
+        if (histories.size() == limit || !transactionArchiveStore.isEnabled()) {
+            return histories;
+        }
+
+        Long accountId = findOwnedAccountId(accountFullNumber, userId);
+        if (accountId == null) {
+            return histories;
         }
+        long archivedBefore = histories.isEmpty() ? before : histories.get(histories.size() - 1).getId();
+        return withArchived(histories, accountId, type, archivedBefore, 0, limit);
+    }
+
+    private List<TransactionHistory> withArchived(List<TransactionHistory> histories, Long accountId, String type, long beforeId, int skip, int limit) {
+        List<TransactionHistory> merged = new ArrayList<>(histories);
+        merged.addAll(transactionArchiveStore.findBefore(accountId, directionOf(type), beforeId, skip, limit - histories.size()));
+        return merged;
+    }
+
+    private Long findOwnedAccountId(Long accountFullNumber, Long userId) {
+        return em.createQuery("select a.id from AccountEntity a where a.fullNumber = :accountFullNumber and a.user.id = :userId", Long.class)
+                .setParameter("accountFullNumber", accountFullNumber)
+                .setParameter("userId", userId)
+                .getResultStream()
+                .findFirst()
+                .orElse(null);
+    }
+
+    private long countRetained(Long accountId, String type) {
+        LedgerDirection direction = directionOf(type);
+        TypedQuery<Long> query = em.createQuery("select count(l) from LedgerEntryEntity l " +
+                        "where l.accountId = :accountId " +
+                        (direction != null ? "and l.direction = :direction " : "") +
+                        "and l.transaction.id >= :fromId", Long.class)
+                .setParameter("accountId", accountId)
+                .setParameter("fromId", transactionPartitionStore.getRetainedFromId());
+        if (direction != null) {
+            query.setParameter("direction", direction);
+        }
+        return query.getSingleResult();
+    }
 
-        TypedQuery<TransactionEntity> query = em.createQuery(sql, TransactionEntity.class);
+    /**
+     * 계좌번호와 소유자 조건을 원장 조회에 함께 걸어 소유 확인과 내역 조회를 한 번에 한다.
+     * 원장의 (계좌 id, [방향,] 거래 id) 인덱스를 거래 id 내림차순으로 읽다가 limit 개에서 멈추므로 페이지 깊이와 관계없이 비용이 같고,
+     * 잔액은 원장에 남긴 그 계좌 기준 거래 후 잔액을 쓰므로 계좌 엔티티를 읽어 올 필요가 없다.
+     * 원장과 거래 양쪽에 같은 id(시간) 범위를 걸어 두어 월 파티션 중 아직 떼어 내지 않은 달, 커서 이전의 파티션만 읽는다.
+     */
+    private TypedQuery<TransactionHistory> historyQuery(Long accountFullNumber, Long userId, String type, long beforeId) {
+        LedgerDirection direction = directionOf(type);
 
+        String sql = "select new shop.woosung.bank.transaction.domain.TransactionHistory(" +
+                "t.id, t.type, t.amount, t.sender, t.receiver, t.tel, t.createdAt, l.balanceAfter) " +
+                "from LedgerEntryEntity l join l.transaction t, AccountEntity a " +
+                "where a.fullNumber = :accountFullNumber and a.user.id = :userId " +
+                "and l.accountId = a.id " +
+                (direction != null ? "and l.direction = :direction " : "") +
+                "and l.transaction.id >= :fromId and l.transaction.id < :beforeId " +
+                "and t.id >= :fromId and t.id < :beforeId " +
+                "order by l.transaction.id desc";
+
+        TypedQuery<TransactionHistory> query = em.createQuery(sql, TransactionHistory.class)
+                .setParameter("accountFullNumber", accountFullNumber)
+                .setParameter("userId", userId)
+                .setParameter("fromId", transactionPartitionStore.getRetainedFromId())
+                .setParameter("beforeId", beforeId);
+        if (direction != null) {
+            query.setParameter("direction", direction);
+        }
+        return query;
+    }
+
+    private LedgerDirection directionOf(String type) {
         if (type.equals(TransactionType.WITHDRAW.name())) {
-            query  = query.setParameter("withdrawAccountId", accountId);
-        } else if (type.equals(TransactionType.DEPOSIT.name())) {
-            query  = query.setParameter("depositAccountId", accountId);
-        } else {
-            query  = query.setParameter("withdrawAccountId", accountId);
-            query  = query.setParameter("depositAccountId", accountId);
+            return LedgerDirection.WITHDRAW;
         }
-        query.setFirstResult(page * 5);
-        query.setMaxResults(5);
+        if (type.equals(TransactionType.DEPOSIT.name())) {
+            return LedgerDirection.DEPOSIT;
+        }
+        return null;
+    }
 
-        return query.getResultList().stream()
-                .map(TransactionEntity::toModel).collect(Collectors.toList());
+    /**
+     * 보관된 달을 먼저 읽고, 운영 테이블은 원장의 (계좌 id, 거래 id) 인덱스 범위를 정방향 커서로 읽는다.
+     * 결과가 엔티티가 아닌 생성자 프로젝션이라 영속성 컨텍스트에 쌓이지 않는다.
+     */
+    @Override
+    public void forEachStatementLine(Long accountId, LocalDateTime from, LocalDateTime to, Consumer<TransactionStatementLine> consumer) {
+        long fromId = from == null ? 0L : TimeOrderedIdGenerator.lowestIdAt(from.atZone(ZoneId.systemDefault()).toInstant());
+        long toId = to == null ? Long.MAX_VALUE : TimeOrderedIdGenerator.lowestIdAt(to.atZone(ZoneId.systemDefault()).toInstant());
+
+        if (transactionArchiveStore.isEnabled()) {
+            transactionArchiveStore.forEachAscending(accountId, fromId, toId, row -> consumer.accept(row.toStatementLine()));
+        }
+
+        String sql = "select new shop.woosung.bank.transaction.domain.TransactionStatementLine(" +
+                "t.id, t.createdAt, t.type, l.direction, t.amount, l.balanceAfter, t.sender, t.receiver, t.tel) " +
+                "from LedgerEntryEntity l join l.transaction t " +
+                "where l.accountId = :accountId " +
+                "and l.transaction.id >= :fromId and l.transaction.id < :toId " +
+                "and t.id >= :fromId and t.id < :toId " +
+                "order by l.transaction.id asc";
+        try (Stream<TransactionStatementLine> lines = em.createQuery(sql, TransactionStatementLine.class)
+                .setParameter("accountId", accountId)
+                .setParameter("fromId", fromId)
+                .setParameter("toId", toId)
+                .setHint(QueryHints.HINT_FETCH_SIZE, transactionProperties.getStatement().getFetchSize())
+                .setHint(QueryHints.HINT_READONLY, true)
+                .getResultStream()) {
+            lines.forEach(consumer);
+        }
     }
 
+    /**
+     * 거래와 원장 항목을 한 트랜잭션으로 커밋한다. 호출자의 트랜잭션이 있으면 거기에 참여한다.
+     * 조회 API 는 원장만 읽으므로, 거래만 커밋되고 원장이 없으면 어떤 API 에도 보이지 않는 거래가 남는다.
+     */
+    @Transactional
     @Override
     public Transaction save(Transaction transaction) {
-        return transactionJpaRepository.save(TransactionEntity.fromModel(transaction)).toModel();
+        TransactionEntity transactionEntity = transactionJpaRepository.save(TransactionEntity.fromModel(transaction));
+        ledgerEntryJpaRepository.saveAll(LedgerEntryEntity.entriesOf(transactionEntity));
+        return transactionEntity.toModel();
+    }
+
+    @Transactional
+    @Override
+    public List<Transaction> saveAll(List<Transaction> transactions) {
+        List<TransactionEntity> transactionEntities = transactions.stream()
+                .map(TransactionEntity::fromModel).collect(Collectors.toList());
+        List<TransactionEntity> savedTransactionEntities = transactionJpaRepository.saveAll(transactionEntities);
+        ledgerEntryJpaRepository.saveAll(savedTransactionEntities.stream()
+                .flatMap(transactionEntity -> LedgerEntryEntity.entriesOf(transactionEntity).stream())
+                .collect(Collectors.toList()));
+        return savedTransactionEntities.stream()
+                .map(TransactionEntity::toModel).collect(Collectors.toList());
     }
-}
\ No newline at end of file
+}
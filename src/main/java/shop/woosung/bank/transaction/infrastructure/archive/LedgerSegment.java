@@ -0,0 +1,202 @@
+package shop.woosung.bank.transaction.infrastructure.archive;
+
+import shop.woosung.bank.transaction.domain.LedgerDirection;
+import shop.woosung.bank.transaction.domain.TransactionHistory;
+import shop.woosung.bank.transaction.domain.TransactionType;
+
+import java.io.ByteArrayInputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+/**
+ * 읽기 전용으로 메모리 매핑한 세그먼트 파일 하나(한 달 치 원장).
+ *
+ * 희소 인덱스만 힙에 올리고, 조회할 때는 인덱스를 이진 탐색해 찾는 계좌가 시작되는 블록부터 매핑된 버퍼에서 바로 압축을 푼다.
+ * 파일은 한 번 쓰고 바꾸지 않으므로 여러 스레드가 락 없이 읽는다.
+ */
+class LedgerSegment implements Closeable {
+    private static final LedgerDirection[] DIRECTIONS = LedgerDirection.values();
+
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+    private final BlockIndex[] index;
+
+    private LedgerSegment(FileChannel channel, MappedByteBuffer buffer, BlockIndex[] index) {
+        this.channel = channel;
+        this.buffer = buffer;
+        this.index = index;
+    }
+
+    static LedgerSegment open(Path path) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+        try {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            int footer = buffer.limit() - Long.BYTES - Integer.BYTES;
+            if (footer < Integer.BYTES || buffer.getInt(footer + Long.BYTES) != LedgerSegmentWriter.MAGIC) {
+                throw new IOException("not a ledger segment : " + path);
+            }
+            ByteBuffer indexBuffer = buffer.duplicate().position((int) buffer.getLong(footer));
+            BlockIndex[] index = new BlockIndex[indexBuffer.getInt()];
+            for (int i = 0; i < index.length; i++) {
+                index[i] = new BlockIndex(indexBuffer.getLong(), indexBuffer.getLong(), indexBuffer.getLong(),
+                        indexBuffer.getInt(), indexBuffer.getInt(), indexBuffer.getInt());
+            }
+            return new LedgerSegment(channel, buffer, index);
+        } catch (IOException | RuntimeException exception) {
+            channel.close();
+            throw exception;
+        }
+    }
+
+    /**
+     * accountId 계좌에서 beforeId 보다 작은 거래를 최신순으로 consumer 에 넘긴다. consumer 가 false 를 반환하면 멈춘다.
+     */
+    void scan(long accountId, long beforeId, Predicate<LedgerSegmentRow> consumer) {
+        if (index.length == 0) {
+            return;
+        }
+        for (int block = startBlock(accountId, beforeId); block < index.length; block++) {
+            DataInputStream in = new DataInputStream(new ByteArrayInputStream(inflate(index[block])));
+            try {
+                for (int row = 0; row < index[block].rowCount; row++) {
+                    LedgerSegmentRow ledgerSegmentRow = readRow(in);
+                    if (ledgerSegmentRow.getAccountId() > accountId) {
+                        return;
+                    }
+                    if (ledgerSegmentRow.getAccountId() < accountId || ledgerSegmentRow.getTransactionId() >= beforeId) {
+                        continue;
+                    }
+                    if (!consumer.test(ledgerSegmentRow)) {
+                        return;
+                    }
+                }
+            } catch (IOException exception) {
+                throw new IllegalStateException("ledger segment block is corrupted", exception);
+            }
+        }
+    }
+
+    /**
+     * accountId 계좌에서 fromId 이상 toId 미만의 거래를 오래된 순으로 consumer 에 넘긴다.
+     * 파일은 계좌 안에서 최신순으로 정렬되어 있으므로 해당 범위의 블록을 뒤에서부터 하나씩 풀어 거꾸로 읽는다. 메모리에는 블록 하나만 둔다.
+     */
+    void scanAscending(long accountId, long fromId, long toId, Consumer<LedgerSegmentRow> consumer) {
+        if (index.length == 0) {
+            return;
+        }
+        int firstBlock = startBlock(accountId, toId);
+        for (int block = startBlock(accountId, fromId); block >= firstBlock; block--) {
+            List<LedgerSegmentRow> rows = new ArrayList<>(index[block].rowCount);
+            DataInputStream in = new DataInputStream(new ByteArrayInputStream(inflate(index[block])));
+            try {
+                for (int row = 0; row < index[block].rowCount; row++) {
+                    rows.add(readRow(in));
+                }
+            } catch (IOException exception) {
+                throw new IllegalStateException("ledger segment block is corrupted", exception);
+            }
+            for (int row = rows.size() - 1; row >= 0; row--) {
+                LedgerSegmentRow ledgerSegmentRow = rows.get(row);
+                if (ledgerSegmentRow.getAccountId() == accountId
+                        && ledgerSegmentRow.getTransactionId() >= fromId && ledgerSegmentRow.getTransactionId() < toId) {
+                    consumer.accept(ledgerSegmentRow);
+                }
+            }
+        }
+    }
+
+    /**
+     * 첫 행이 (accountId, beforeId) 보다 앞서는 마지막 블록. 찾는 행은 이 블록이나 그 뒤에서 시작한다. 블록이 하나 이상 있어야 한다.
+     */
+    private int startBlock(long accountId, long beforeId) {
+        int low = 0;
+        int high = index.length - 1;
+        int start = 0;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (LedgerSegmentRow.compare(index[mid].firstAccountId, index[mid].firstTransactionId, accountId, beforeId) <= 0) {
+                start = mid;
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return start;
+    }
+
+    private byte[] inflate(BlockIndex blockIndex) {
+        ByteBuffer compressed = buffer.duplicate()
+                .position((int) blockIndex.offset)
+                .limit((int) blockIndex.offset + blockIndex.compressedLength);
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(compressed);
+            byte[] raw = new byte[blockIndex.rawLength];
+            int length = 0;
+            while (length < raw.length && !inflater.finished()) {
+                length += inflater.inflate(raw, length, raw.length - length);
+            }
+            return raw;
+        } catch (DataFormatException exception) {
+            throw new IllegalStateException("ledger segment block is corrupted", exception);
+        } finally {
+            inflater.end();
+        }
+    }
+
+    private LedgerSegmentRow readRow(DataInputStream in) throws IOException {
+        long accountId = in.readLong();
+        long transactionId = in.readLong();
+        LedgerDirection direction = DIRECTIONS[in.readByte()];
+        long balance = in.readLong();
+        TransactionType type = TransactionType.valueOf(in.readUTF());
+        long amount = in.readLong();
+        String sender = readNullable(in);
+        String receiver = readNullable(in);
+        String tel = readNullable(in);
+        LocalDateTime createdAt = LocalDateTime.ofEpochSecond(in.readLong(), in.readInt(), ZoneOffset.UTC);
+        return new LedgerSegmentRow(accountId, direction, new TransactionHistory(transactionId, type, amount, sender, receiver, tel, createdAt,
+                balance == LedgerSegmentWriter.NULL_BALANCE ? null : balance));
+    }
+
+    private String readNullable(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    static class BlockIndex {
+        final long firstAccountId;
+        final long firstTransactionId;
+        final long offset;
+        final int compressedLength;
+        final int rawLength;
+        final int rowCount;
+
+        BlockIndex(long firstAccountId, long firstTransactionId, long offset, int compressedLength, int rawLength, int rowCount) {
+            this.firstAccountId = firstAccountId;
+            this.firstTransactionId = firstTransactionId;
+            this.offset = offset;
+            this.compressedLength = compressedLength;
+            this.rawLength = rawLength;
+            this.rowCount = rowCount;
+        }
+    }
+}
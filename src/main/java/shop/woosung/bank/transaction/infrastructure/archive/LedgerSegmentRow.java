@@ -0,0 +1,39 @@
+package shop.woosung.bank.transaction.infrastructure.archive;
+
+import lombok.Getter;
+import shop.woosung.bank.transaction.domain.LedgerDirection;
+import shop.woosung.bank.transaction.domain.TransactionHistory;
+import shop.woosung.bank.transaction.domain.TransactionStatementLine;
+
+/**
+ * 세그먼트 파일에 담는 원장 행 하나. 계좌 id 와 방향으로 찾고, 내역 조회에 필요한 값은 TransactionHistory 로 그대로 돌려준다.
+ */
+@Getter
+public class LedgerSegmentRow {
+    private final long accountId;
+    private final LedgerDirection direction;
+    private final TransactionHistory history;
+
+    public LedgerSegmentRow(long accountId, LedgerDirection direction, TransactionHistory history) {
+        this.accountId = accountId;
+        this.direction = direction;
+        this.history = history;
+    }
+
+    public TransactionStatementLine toStatementLine() {
+        return new TransactionStatementLine(history.getId(), history.getCreatedAt(), history.getType(), direction, history.getAmount(), history.getBalance(),
+                history.getSender(), history.getReceiver(), history.getTel());
+    }
+
+    public long getTransactionId() {
+        return history.getId();
+    }
+
+    /**
+     * 세그먼트 정렬 순서. 계좌 id 오름차순, 같은 계좌 안에서는 최신 거래가 먼저 오도록 거래 id 내림차순이다.
+     */
+    static int compare(long accountId, long transactionId, long otherAccountId, long otherTransactionId) {
+        int byAccount = Long.compare(accountId, otherAccountId);
+        return byAccount != 0 ? byAccount : Long.compare(otherTransactionId, transactionId);
+    }
+}
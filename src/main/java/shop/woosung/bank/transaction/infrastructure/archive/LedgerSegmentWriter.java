@@ -0,0 +1,135 @@
+package shop.woosung.bank.transaction.infrastructure.archive;
+
+import shop.woosung.bank.transaction.domain.TransactionHistory;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.Deflater;
+
+/**
+ * 정렬된 원장 행을 받아 세그먼트 파일을 한 번에 이어 쓴다.
+ *
+ * 파일 구성: [압축 블록]... [희소 인덱스] [인덱스 위치(long)] [MAGIC(int)]
+ * 블록은 blockRows 개 행을 Deflate 로 압축한 것이고, 인덱스에는 블록마다 첫 행의 (계좌 id, 거래 id) 와 위치만 남긴다.
+ * 행을 블록 단위로만 메모리에 두므로 달 하나가 아무리 커도 쓰는 동안의 메모리는 블록 하나 크기다.
+ * 닫을 때 파일 내용을 디스크까지 내려 쓴(fsync) 뒤에 돌아온다.
+ */
+class LedgerSegmentWriter implements Closeable {
+    static final int MAGIC = 0x4C534731;
+    static final long NULL_BALANCE = Long.MIN_VALUE;
+
+    private final FileChannel channel;
+    private final DataOutputStream out;
+    private final int blockRows;
+    private final ByteArrayOutputStream block = new ByteArrayOutputStream();
+    private final DataOutputStream blockOut = new DataOutputStream(block);
+    private final Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+    private final byte[] deflateBuffer = new byte[64 * 1024];
+    private final List<LedgerSegment.BlockIndex> index = new ArrayList<>();
+
+    private long position;
+    private int blockRowCount;
+    private long firstAccountId;
+    private long firstTransactionId;
+    private long lastAccountId = Long.MIN_VALUE;
+    private long lastTransactionId = Long.MAX_VALUE;
+
+    LedgerSegmentWriter(Path path, int blockRows) throws IOException {
+        this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+        this.out = new DataOutputStream(new BufferedOutputStream(Channels.newOutputStream(channel), 64 * 1024));
+        this.blockRows = blockRows;
+    }
+
+    void append(LedgerSegmentRow row) throws IOException {
+        if (LedgerSegmentRow.compare(lastAccountId, lastTransactionId, row.getAccountId(), row.getTransactionId()) >= 0) {
+            throw new IllegalStateException("ledger segment rows must be sorted by (account id asc, transaction id desc)");
+        }
+        lastAccountId = row.getAccountId();
+        lastTransactionId = row.getTransactionId();
+
+        if (blockRowCount == 0) {
+            firstAccountId = row.getAccountId();
+            firstTransactionId = row.getTransactionId();
+        }
+        writeRow(row);
+        if (++blockRowCount == blockRows) {
+            flushBlock();
+        }
+    }
+
+    private void writeRow(LedgerSegmentRow row) throws IOException {
+        TransactionHistory history = row.getHistory();
+        blockOut.writeLong(row.getAccountId());
+        blockOut.writeLong(history.getId());
+        blockOut.writeByte(row.getDirection().ordinal());
+        blockOut.writeLong(history.getBalance() == null ? NULL_BALANCE : history.getBalance());
+        blockOut.writeUTF(history.getType().name());
+        blockOut.writeLong(history.getAmount());
+        writeNullable(history.getSender());
+        writeNullable(history.getReceiver());
+        writeNullable(history.getTel());
+        blockOut.writeLong(history.getCreatedAt().toEpochSecond(ZoneOffset.UTC));
+        blockOut.writeInt(history.getCreatedAt().getNano());
+    }
+
+    private void writeNullable(String value) throws IOException {
+        blockOut.writeBoolean(value != null);
+        if (value != null) {
+            blockOut.writeUTF(value);
+        }
+    }
+
+    private void flushBlock() throws IOException {
+        if (blockRowCount == 0) {
+            return;
+        }
+        blockOut.flush();
+        byte[] raw = block.toByteArray();
+        deflater.reset();
+        deflater.setInput(raw);
+        deflater.finish();
+        long offset = position;
+        while (!deflater.finished()) {
+            int length = deflater.deflate(deflateBuffer);
+            out.write(deflateBuffer, 0, length);
+            position += length;
+        }
+        index.add(new LedgerSegment.BlockIndex(firstAccountId, firstTransactionId, offset, (int) (position - offset), raw.length, blockRowCount));
+        block.reset();
+        blockRowCount = 0;
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            flushBlock();
+            long indexOffset = position;
+            out.writeInt(index.size());
+            for (LedgerSegment.BlockIndex blockIndex : index) {
+                out.writeLong(blockIndex.firstAccountId);
+                out.writeLong(blockIndex.firstTransactionId);
+                out.writeLong(blockIndex.offset);
+                out.writeInt(blockIndex.compressedLength);
+                out.writeInt(blockIndex.rawLength);
+                out.writeInt(blockIndex.rowCount);
+            }
+            out.writeLong(indexOffset);
+            out.writeInt(MAGIC);
+            out.flush();
+            channel.force(true);
+        } finally {
+            deflater.end();
+            out.close();
+        }
+    }
+}
@@ -0,0 +1,240 @@
+package shop.woosung.bank.transaction.infrastructure.archive;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+import shop.woosung.bank.config.TransactionProperties;
+import shop.woosung.bank.transaction.domain.LedgerDirection;
+import shop.woosung.bank.transaction.domain.TransactionHistory;
+import shop.woosung.bank.transaction.domain.TransactionType;
+import shop.woosung.bank.transaction.infrastructure.TransactionMonth;
+import shop.woosung.bank.transaction.service.port.TransactionArchiveStore;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.AccessDeniedException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.sql.Timestamp;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.Consumer;
+
+/**
+ * 운영 테이블에서 떼어 낸 달의 원장을 로컬 디스크의 세그먼트 파일(달마다 하나)로 보관하고, 오래된 내역 조회를 DB 없이 처리한다.
+ *
+ * 세그먼트는 (계좌 id, 거래 id 내림차순) 으로 정렬되어 한 계좌의 내역이 연속된 블록에 모여 있으므로,
+ * 조회는 최근 달의 세그먼트부터 희소 인덱스로 계좌 위치를 찾아 필요한 만큼만 압축을 푼다.
+ * 파일은 임시 파일에 다 쓰고 fsync 한 뒤 이름을 바꾸고 디렉터리까지 fsync 해서 올리므로, 중간에 실패해도 다음 실행에서 다시 만든다.
+ *
+ * 월 테이블은 디렉터리가 모든 서버가 같이 보는 내구성 있는 저장소(shared-storage)일 때만 지운다.
+ * 로컬 디스크라면 월 테이블을 남겨 두고 서버마다 refresh 에서 자기 세그먼트를 만든다. 어느 쪽이든 다른 서버에도 같은 내역이 보인다.
+ */
+@Slf4j
+@Repository
+public class TransactionArchiveStoreImpl implements TransactionArchiveStore {
+    private static final DateTimeFormatter FILE_MONTH_FORMAT = DateTimeFormatter.ofPattern("yyyyMM");
+    private static final String FILE_PREFIX = "ledger-";
+    private static final String FILE_SUFFIX = ".seg";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionProperties.Archive properties;
+    private final ConcurrentNavigableMap<YearMonth, LedgerSegment> segments = new ConcurrentSkipListMap<>(Comparator.reverseOrder());
+
+    public TransactionArchiveStoreImpl(DataSource dataSource, TransactionProperties transactionProperties) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(1_000);
+        this.properties = transactionProperties.getArchive();
+    }
+
+    /**
+     * 디렉터리에 있는 세그먼트 중 아직 열지 않은 파일을 연다.
+     */
+    @PostConstruct
+    public synchronized void openSegments() throws IOException {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        Path directory = Files.createDirectories(directory());
+        List<YearMonth> opened = new ArrayList<>();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, FILE_PREFIX + "[0-9][0-9][0-9][0-9][0-9][0-9]" + FILE_SUFFIX)) {
+            for (Path file : files) {
+                YearMonth month = monthOf(file);
+                if (!segments.containsKey(month)) {
+                    segments.put(month, LedgerSegment.open(file));
+                    opened.add(month);
+                }
+            }
+        }
+        if (!opened.isEmpty()) {
+            log.info("ledger archive opened, directory = {}, segments = {}", directory, opened);
+        }
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return properties.isEnabled();
+    }
+
+    @Override
+    public void archive(YearMonth month) {
+        ensureSegment(month);
+        if (!properties.isSharedStorage()) {
+            return;
+        }
+        TransactionMonth transactionMonth = TransactionMonth.of(month);
+        jdbcTemplate.execute("drop table " + transactionMonth.tableName("ledger_entry_entity"));
+        jdbcTemplate.execute("drop table " + transactionMonth.tableName("transaction_entity"));
+    }
+
+    @Override
+    public void refresh(List<YearMonth> detachedMonths) {
+        try {
+            openSegments();
+        } catch (IOException exception) {
+            throw new UncheckedIOException("ledger archive refresh failed", exception);
+        }
+        if (!properties.isSharedStorage()) {
+            detachedMonths.forEach(this::ensureSegment);
+        }
+    }
+
+    /**
+     * 이 서버에 이미 열려 있거나 디렉터리에 파일이 있으면 그대로 쓰고, 없을 때만 월 테이블에서 새로 만든다.
+     */
+    private synchronized void ensureSegment(YearMonth month) {
+        if (segments.containsKey(month)) {
+            return;
+        }
+        Path file = directory().resolve(FILE_PREFIX + month.format(FILE_MONTH_FORMAT) + FILE_SUFFIX);
+        Path temporary = directory().resolve(file.getFileName() + ".tmp");
+        try {
+            if (Files.notExists(file)) {
+                int rows = writeSegment(TransactionMonth.of(month), temporary);
+                Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                forceDirectory();
+                log.info("ledger month archived, month = {}, rows = {}, bytes = {}", month, rows, Files.size(file));
+            }
+            segments.put(month, LedgerSegment.open(file));
+        } catch (IOException exception) {
+            throw new UncheckedIOException("ledger archive failed : " + month, exception);
+        }
+    }
+
+    /**
+     * 이름 바꾸기가 디스크에 남도록 디렉터리를 fsync 한다. 디렉터리를 열 수 없는 OS(Windows)에서는 건너뛴다.
+     */
+    private void forceDirectory() throws IOException {
+        try (FileChannel channel = FileChannel.open(directory(), StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (AccessDeniedException exception) {
+            log.debug("directory fsync is not supported, directory = {}", directory());
+        }
+    }
+
+    private int writeSegment(TransactionMonth month, Path temporary) throws IOException {
+        String sql = "select l.account_id, l.direction, l.balance_after, t.id, t.type, t.amount, t.sender, t.receiver, t.tel, t.created_at " +
+                "from " + month.tableName("ledger_entry_entity") + " l " +
+                "join " + month.tableName("transaction_entity") + " t on t.id = l.transaction_id " +
+                "order by l.account_id asc, l.transaction_id desc";
+        int[] rows = {0};
+        try (LedgerSegmentWriter writer = new LedgerSegmentWriter(temporary, properties.getBlockRows())) {
+            jdbcTemplate.query(sql, (RowCallbackHandler) resultSet -> {
+                long balance = resultSet.getLong("balance_after");
+                Long balanceAfter = resultSet.wasNull() ? null : balance;
+                TransactionHistory history = new TransactionHistory(
+                        resultSet.getLong("id"),
+                        TransactionType.valueOf(resultSet.getString("type")),
+                        resultSet.getLong("amount"),
+                        resultSet.getString("sender"),
+                        resultSet.getString("receiver"),
+                        resultSet.getString("tel"),
+                        resultSet.getObject("created_at", Timestamp.class).toLocalDateTime(),
+                        balanceAfter);
+                try {
+                    writer.append(new LedgerSegmentRow(resultSet.getLong("account_id"), LedgerDirection.valueOf(resultSet.getString("direction")), history));
+                } catch (IOException exception) {
+                    throw new UncheckedIOException(exception);
+                }
+                rows[0]++;
+            });
+        } catch (UncheckedIOException exception) {
+            throw exception.getCause();
+        }
+        return rows[0];
+    }
+
+    /**
+     * 보관된 달 중 accountId 계좌에서 beforeId 보다 작은 거래를 최신순으로 skip 개 건너뛰고 최대 limit 개 읽는다.
+     * direction 이 null 이면 방향과 관계없이 읽는다.
+     */
+    public List<TransactionHistory> findBefore(long accountId, LedgerDirection direction, long beforeId, int skip, int limit) {
+        List<TransactionHistory> histories = new ArrayList<>(Math.min(limit, 1_024));
+        int[] skipped = {0};
+        for (Map.Entry<YearMonth, LedgerSegment> segment : segments.entrySet()) {
+            if (histories.size() >= limit) {
+                break;
+            }
+            if (TransactionMonth.of(segment.getKey()).lowestId() >= beforeId) {
+                continue;
+            }
+            segment.getValue().scan(accountId, beforeId, row -> {
+                if (direction != null && row.getDirection() != direction) {
+                    return true;
+                }
+                if (skipped[0] < skip) {
+                    skipped[0]++;
+                    return true;
+                }
+                histories.add(row.getHistory());
+                return histories.size() < limit;
+            });
+        }
+        return histories;
+    }
+
+    /**
+     * 보관된 달 중 accountId 계좌에서 fromId 이상 toId 미만의 거래를 오래된 달부터 오래된 순으로 consumer 에 넘긴다.
+     */
+    public void forEachAscending(long accountId, long fromId, long toId, Consumer<LedgerSegmentRow> consumer) {
+        for (Map.Entry<YearMonth, LedgerSegment> segment : segments.descendingMap().entrySet()) {
+            TransactionMonth month = TransactionMonth.of(segment.getKey());
+            if (month.upperId() <= fromId || month.lowestId() >= toId) {
+                continue;
+            }
+            segment.getValue().scanAscending(accountId, fromId, toId, consumer);
+        }
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        for (LedgerSegment segment : segments.values()) {
+            segment.close();
+        }
+        segments.clear();
+    }
+
+    private Path directory() {
+        return Paths.get(properties.getDirectory());
+    }
+
+    private YearMonth monthOf(Path file) {
+        String name = file.getFileName().toString();
+        return YearMonth.parse(name.substring(FILE_PREFIX.length(), name.length() - FILE_SUFFIX.length()), FILE_MONTH_FORMAT);
+    }
+}
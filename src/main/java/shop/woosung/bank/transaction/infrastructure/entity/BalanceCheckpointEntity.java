@@ -0,0 +1,50 @@
+package shop.woosung.bank.transaction.infrastructure.entity;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.GenericGenerator;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * 체크포인트 시각 직전까지의 거래를 반영한 계좌 잔액 스냅샷.
+ * boundaryTransactionId 는 체크포인트 시각에 발급되는 거래 id 의 하한으로, 이보다 작은 id 의 거래까지 balance 에 반영되어 있다.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_balance_checkpoint_account_boundary", columnNames = {"account_id", "boundary_transaction_id"}))
+@Entity
+public class BalanceCheckpointEntity {
+
+    @Id
+    @GeneratedValue(generator = "time-ordered-id")
+    @GenericGenerator(name = "time-ordered-id", strategy = "shop.woosung.bank.common.infrastructure.TimeOrderedIdGenerator")
+    private Long id;
+
+    @Column(name = "account_id", nullable = false)
+    private Long accountId;
+
+    @Column(name = "boundary_transaction_id", nullable = false)
+    private Long boundaryTransactionId;
+
+    @Column(nullable = false)
+    private LocalDateTime checkpointAt;
+
+    @Column(nullable = false)
+    private Long balance;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    public static BalanceCheckpointEntity of(Long accountId, Long boundaryTransactionId, LocalDateTime checkpointAt, Long balance) {
+        BalanceCheckpointEntity balanceCheckpointEntity = new BalanceCheckpointEntity();
+        balanceCheckpointEntity.accountId = accountId;
+        balanceCheckpointEntity.boundaryTransactionId = boundaryTransactionId;
+        balanceCheckpointEntity.checkpointAt = checkpointAt;
+        balanceCheckpointEntity.balance = balance;
+        balanceCheckpointEntity.createdAt = LocalDateTime.now();
+        return balanceCheckpointEntity;
+    }
+}
@@ -0,0 +1,73 @@
+package shop.woosung.bank.transaction.infrastructure.entity;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.GenericGenerator;
+import shop.woosung.bank.transaction.domain.LedgerDirection;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 계좌별 거래 내역 조회용 원장 항목. 거래 한 건이 닿는 계좌마다 한 행씩 거래와 같은 트랜잭션에서 쓴다.
+ *
+ * 거래 테이블은 출금/입금 계좌 두 컬럼 중 하나로 찾아야 해서 전체 조회가 OR 조건이 되지만,
+ * 원장은 계좌 하나당 (account_id, transaction_id) 로 정렬되어 있어 모든 조회가 인덱스 범위 하나를 역순으로 읽는 것으로 끝난다.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(indexes = {
+        @Index(name = "idx_ledger_account_transaction", columnList = "account_id, transaction_id"),
+        @Index(name = "idx_ledger_account_direction_transaction", columnList = "account_id, direction, transaction_id")
+})
+@Entity
+public class LedgerEntryEntity {
+
+    @Id
+    @GeneratedValue(generator = "time-ordered-id")
+    @GenericGenerator(name = "time-ordered-id", strategy = "shop.woosung.bank.common.infrastructure.TimeOrderedIdGenerator")
+    private Long id;
+
+    @Column(name = "account_id", nullable = false)
+    private Long accountId;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "transaction_id", nullable = false, foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT))
+    private TransactionEntity transaction;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private LedgerDirection direction;
+
+    private Long balanceAfter;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    private static LedgerEntryEntity of(Long accountId, TransactionEntity transaction, LedgerDirection direction, Long balanceAfter) {
+        LedgerEntryEntity ledgerEntryEntity = new LedgerEntryEntity();
+        ledgerEntryEntity.accountId = accountId;
+        ledgerEntryEntity.transaction = transaction;
+        ledgerEntryEntity.direction = direction;
+        ledgerEntryEntity.balanceAfter = balanceAfter;
+        ledgerEntryEntity.createdAt = transaction.getCreatedAt();
+        return ledgerEntryEntity;
+    }
+
+    /**
+     * 저장된 거래에서 출금 계좌와 입금 계좌 각각의 원장 항목을 만든다. 입금만 있는 거래는 항목이 하나다.
+     */
+    public static List<LedgerEntryEntity> entriesOf(TransactionEntity transaction) {
+        List<LedgerEntryEntity> entries = new ArrayList<>(2);
+        if (transaction.getWithdrawAccount() != null) {
+            entries.add(of(transaction.getWithdrawAccount().getId(), transaction, LedgerDirection.WITHDRAW, transaction.getWithdrawAccountBalance()));
+        }
+        if (transaction.getDepositAccount() != null) {
+            entries.add(of(transaction.getDepositAccount().getId(), transaction, LedgerDirection.DEPOSIT, transaction.getDepositAccountBalance()));
+        }
+        return entries;
+    }
+}
@@ -0,0 +1,88 @@
+package shop.woosung.bank.transaction.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.env.Environment;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import shop.woosung.bank.common.service.port.SchedulerLock;
+import shop.woosung.bank.config.AccountProperties;
+import shop.woosung.bank.config.TransactionProperties;
+import shop.woosung.bank.transaction.service.port.BalanceCheckpointStore;
+
+import javax.annotation.PostConstruct;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+
+/**
+ * 체크포인트 간격(bank.transaction.checkpoint.interval)마다 계좌 잔액 스냅샷을 남긴다.
+ *
+ * 체크포인트 시각은 간격 단위로 맞춘 시각(기본 하루면 매일 0시)이라 월말 잔액은 항상 체크포인트 하나로 바로 나온다.
+ * 이미 쓴 시각은 다시 쓰지 않으므로 주기를 간격보다 짧게 두어 늦게 돌더라도 빠지는 체크포인트가 없게 한다.
+ *
+ * 체크포인트 잔액은 현재 잔액에서 이후 원장을 빼서 구하므로 잔액 변경과 원장이 한 트랜잭션으로 커밋되어야 한다.
+ * 잔액만 커밋되고 원장은 아직인 거래가 스냅샷에 들어가면 이후 모든 시점 잔액에 오차로 남으므로,
+ * 단일 커밋 모드가 아니거나 partitioned 프로필(잔액을 나중에 몰아서 쓰는 엔진)이면 체크포인트를 켠 채로 시작하지 않는다.
+ * 같은 이유로 체크포인트 시각이 safety-margin 만큼 지나 그 전에 시작한 거래가 모두 커밋된 뒤에만 쓰고,
+ * 여러 서버가 같은 시각의 스냅샷을 겹쳐 쓰지 않도록 DB 잠금을 잡은 서버만 실행한다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class BalanceCheckpointJob {
+    private static final String LOCK_NAME = "balance-checkpoint";
+    private static final LocalDateTime ALIGN_ORIGIN = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private final BalanceCheckpointStore balanceCheckpointStore;
+    private final TransactionProperties transactionProperties;
+    private final AccountProperties accountProperties;
+    private final Environment environment;
+    private final SchedulerLock schedulerLock;
+
+    @PostConstruct
+    void checkSingleCommit() {
+        if (!transactionProperties.getCheckpoint().isEnabled()) {
+            return;
+        }
+        if (!accountProperties.getConcurrency().isSingleCommit() || Arrays.asList(environment.getActiveProfiles()).contains("partitioned")) {
+            throw new IllegalStateException("bank.transaction.checkpoint.enabled requires bank.account.concurrency.single-commit=true " +
+                    "and no partitioned profile");
+        }
+    }
+
+    @Scheduled(initialDelayString = "${bank.transaction.checkpoint.check-interval:PT10M}",
+            fixedDelayString = "${bank.transaction.checkpoint.check-interval:PT10M}")
+    public void run() {
+        if (transactionProperties.getCheckpoint().isEnabled()) {
+            run(LocalDateTime.now());
+        }
+    }
+
+    /**
+     * 다른 서버가 실행 중이면 아무것도 쓰지 않고 0 을 돌려준다.
+     */
+    public int run(LocalDateTime now) {
+        TransactionProperties.Checkpoint properties = transactionProperties.getCheckpoint();
+        return schedulerLock.executeWithLock(LOCK_NAME, properties.getLockAtMostFor(), () -> runLocked(now.minus(properties.getSafetyMargin())))
+                .orElse(0);
+    }
+
+    private int runLocked(LocalDateTime settledAt) {
+        LocalDateTime checkpointAt = checkpointAt(settledAt);
+        int written = balanceCheckpointStore.checkpoint(checkpointAt);
+        if (written > 0) {
+            log.info("balance checkpoint written, checkpointAt = {}, accounts = {}", checkpointAt, written);
+        }
+        return written;
+    }
+
+    /**
+     * now 이전의 마지막 체크포인트 시각. 로컬 시간 기준으로 간격 단위로 내림한다.
+     */
+    LocalDateTime checkpointAt(LocalDateTime now) {
+        long interval = transactionProperties.getCheckpoint().getInterval().getSeconds();
+        long elapsed = Duration.between(ALIGN_ORIGIN, now).getSeconds();
+        return ALIGN_ORIGIN.plusSeconds(elapsed - Math.floorMod(elapsed, interval));
+    }
+}
@@ -0,0 +1,80 @@
+package shop.woosung.bank.transaction.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import shop.woosung.bank.common.service.port.SchedulerLock;
+import shop.woosung.bank.config.TransactionProperties;
+import shop.woosung.bank.transaction.service.port.TransactionArchiveStore;
+import shop.woosung.bank.transaction.service.port.TransactionPartitionStore;
+
+import java.time.YearMonth;
+import java.util.List;
+
+/**
+ * 거래/원장 테이블의 월 파티션을 관리한다.
+ *
+ * 다음 몇 달 치 파티션을 미리 만들어 두고, 보관 기간(현재 달 포함 retention-months 달)이 지난 달은 운영 테이블에서 떼어 월 테이블로 옮긴다.
+ * 운영 테이블과 인덱스가 최근 거래만 담게 되어 내역 조회와 인덱스 갱신 비용이 쌓인 기간과 무관해진다.
+ * 보관소를 켜 두면 떼어 낸 월 테이블은 세그먼트 파일로 옮기고, 공유 저장소일 때만 월 테이블을 지운다.
+ * 이미 처리한 달은 건너뛰므로 여러 번 실행해도 된다.
+ * 시간 순서 id 이전에 쌓인 IDENTITY id 거래는 id 로 달을 알 수 없으므로, 먼저 created_at 시각의 id 로 바꾼 뒤에 나눈다.
+ * 여러 서버가 같은 테이블에 REORGANIZE/EXCHANGE PARTITION 이나 복사+삭제를 겹쳐 실행하지 않도록 DB 잠금을 잡은 서버만 실행한다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class TransactionPartitionJob {
+    private static final String LOCK_NAME = "transaction-partition";
+
+    private final TransactionPartitionStore transactionPartitionStore;
+    private final TransactionArchiveStore transactionArchiveStore;
+    private final TransactionProperties transactionProperties;
+    private final SchedulerLock schedulerLock;
+
+    @Scheduled(initialDelayString = "${bank.transaction.partition.check-interval:PT1H}",
+            fixedDelayString = "${bank.transaction.partition.check-interval:PT1H}")
+    public void run() {
+        run(YearMonth.now());
+    }
+
+    /**
+     * 보관소는 서버마다 세그먼트를 열어야 하므로 잠금 없이 모든 서버에서 실행한다.
+     */
+    @Scheduled(fixedDelayString = "${bank.transaction.archive.refresh-interval:PT1M}")
+    public void refreshArchive() {
+        if (transactionArchiveStore.isEnabled()) {
+            transactionArchiveStore.refresh(transactionPartitionStore.detachedMonths());
+        }
+    }
+
+    /**
+     * 다른 서버가 실행 중이면 아무것도 하지 않고 빈 목록을 돌려준다.
+     */
+    public List<YearMonth> run(YearMonth current) {
+        return schedulerLock.executeWithLock(LOCK_NAME, transactionProperties.getPartition().getLockAtMostFor(), () -> runLocked(current))
+                .orElse(List.of());
+    }
+
+    private List<YearMonth> runLocked(YearMonth current) {
+        TransactionProperties.Partition properties = transactionProperties.getPartition();
+        transactionPartitionStore.rekeyLegacyRows();
+        transactionPartitionStore.prepare(current.plusMonths(properties.getPremakeMonths()));
+
+        if (properties.getRetentionMonths() <= 0) {
+            return List.of();
+        }
+        List<YearMonth> detached = transactionPartitionStore.detachBefore(current.minusMonths(properties.getRetentionMonths() - 1L));
+        if (!detached.isEmpty()) {
+            log.info("transaction months detached, months = {}", detached);
+        }
+
+        if (transactionArchiveStore.isEnabled()) {
+            for (YearMonth month : transactionPartitionStore.detachedMonths()) {
+                transactionArchiveStore.archive(month);
+            }
+        }
+        return detached;
+    }
+}
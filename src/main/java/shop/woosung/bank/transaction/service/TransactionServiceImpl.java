@@ -5,26 +5,115 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import shop.woosung.bank.account.service.AccountServiceImpl;
 import shop.woosung.bank.account.service.dto.AccountDto;
+import shop.woosung.bank.config.TransactionProperties;
 import shop.woosung.bank.transaction.controller.port.TransactionService;
-import shop.woosung.bank.transaction.domain.Transaction;
+import shop.woosung.bank.transaction.domain.StatementFormat;
+import shop.woosung.bank.transaction.domain.TransactionCursor;
+import shop.woosung.bank.transaction.domain.TransactionHistory;
+import shop.woosung.bank.transaction.handler.exception.InvalidStatementRequestException;
+import shop.woosung.bank.transaction.service.dto.TransactionBalanceResponseDto;
 import shop.woosung.bank.transaction.service.dto.TransactionResponseListDto;
+import shop.woosung.bank.transaction.service.dto.TransactionStatement;
+import shop.woosung.bank.transaction.service.port.BalanceCheckpointStore;
 import shop.woosung.bank.transaction.service.port.TransactionRepository;
 import shop.woosung.bank.user.domain.User;
 
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 
 @RequiredArgsConstructor
 @Service
 public class TransactionServiceImpl implements TransactionService {
+    private static final int STATEMENT_BUFFER_SIZE = 64 * 1024;
+
     private final TransactionRepository transactionRepository;
     private final AccountServiceImpl accountService;
+    private final TransactionProperties transactionProperties;
+    private final BalanceCheckpointStore balanceCheckpointStore;
 
+    /**
+     * 소유 확인은 내역 조회 조건에 함께 들어가 있다. 결과가 비었을 때만 계좌가 없는지, 소유자가 아닌지 구분하려고 따로 확인한다.
+     */
     @Transactional(readOnly = true)
     public TransactionResponseListDto getTransactionList(Long accountFullNumber, String type, int page, User user) {
-        AccountDto accountDto = accountService.checkAccountOwner(accountFullNumber, user);
+        List<TransactionHistory> transactionList = transactionRepository.findTransactionHistory(accountFullNumber, user.getId(), type, page, transactionProperties.getPage().getDefaultSize());
+        if (transactionList.isEmpty()) {
+            accountService.checkAccountOwner(accountFullNumber, user);
+        }
+
+        return TransactionResponseListDto.from(transactionList);
+    }
+
+    /**
+     * 커서(마지막으로 받은 거래 id) 이후를 조회하므로 앞 페이지를 읽고 버리지 않고, 사이에 새 거래가 들어와도 페이지가 밀리지 않는다.
+     * 다음 페이지가 있는지 알기 위해 한 건을 더 읽는다.
+     */
+    @Transactional(readOnly = true)
+    public TransactionResponseListDto getTransactionList(Long accountFullNumber, String type, String cursor, Integer size, User user) {
+        int pageSize = pageSize(size);
+        Long beforeId = cursor == null ? null : TransactionCursor.decode(cursor).getLastId();
+        List<TransactionHistory> transactionList = transactionRepository.findTransactionHistoryBefore(accountFullNumber, user.getId(), type, beforeId, pageSize + 1);
+        if (transactionList.isEmpty()) {
+            accountService.checkAccountOwner(accountFullNumber, user);
+        }
+
+        if (transactionList.size() <= pageSize) {
+            return TransactionResponseListDto.from(transactionList);
+        }
+        List<TransactionHistory> page = transactionList.subList(0, pageSize);
+        return TransactionResponseListDto.from(page, TransactionCursor.after(page.get(pageSize - 1).getId()).encode());
+    }
 
-        List<Transaction> transactionList = transactionRepository.findTransactionList(accountDto.getId(), type, page);
+    /**
+     * 응답을 쓰기 시작하면 상태 코드를 바꿀 수 없으므로, 형식과 기간 검증, 소유 확인은 쓰기 전에 끝낸다.
+     */
+    @Transactional(readOnly = true)
+    public TransactionStatement getStatement(Long accountFullNumber, LocalDate from, LocalDate to, String format, User user) {
+        StatementFormat statementFormat = StatementFormat.of(format);
+        if (from != null && to != null && from.isAfter(to)) {
+            throw new InvalidStatementRequestException("조회 시작일이 종료일보다 늦습니다. from : " + from + ", to : " + to);
+        }
+        AccountDto account = accountService.checkAccountOwner(accountFullNumber, user);
+        return new TransactionStatement(account.getId(), account.getFullNumber(), from, to, statementFormat);
+    }
+
+    /**
+     * 원장을 거래 id 오름차순 커서로 읽으면서 한 줄씩 바로 출력에 쓴다. 목록을 만들지 않아 거래 수와 상관없이 메모리 사용량이 일정하다.
+     */
+    @Transactional(readOnly = true)
+    public void writeStatement(TransactionStatement statement, OutputStream outputStream) throws IOException {
+        BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8), STATEMENT_BUFFER_SIZE);
+        TransactionStatementWriter statementWriter = TransactionStatementWriter.of(statement.getFormat(), writer);
+        statementWriter.writeHeader();
+        try {
+            transactionRepository.forEachStatementLine(statement.getAccountId(), statement.getFromTime(), statement.getToTime(), statementWriter::write);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        statementWriter.flush();
+    }
+
+    /**
+     * 거래 내역 전체를 다시 계산하지 않고 at 에 가장 가까운 잔액 체크포인트에서 체크포인트 간격 안의 원장만 반영한다.
+     */
+    @Transactional(readOnly = true)
+    public TransactionBalanceResponseDto getBalanceAt(Long accountFullNumber, LocalDateTime at, User user) {
+        AccountDto account = accountService.checkAccountOwner(accountFullNumber, user);
+        return TransactionBalanceResponseDto.of(account.getFullNumber(), at, balanceCheckpointStore.findBalanceAt(account.getId(), at));
+    }
 
-        return TransactionResponseListDto.from(accountDto, transactionList);
+    private int pageSize(Integer size) {
+        TransactionProperties.Page properties = transactionProperties.getPage();
+        if (size == null) {
+            return properties.getDefaultSize();
+        }
+        return Math.max(1, Math.min(size, properties.getMaxSize()));
     }
 }
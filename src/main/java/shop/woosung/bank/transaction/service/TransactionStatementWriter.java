@@ -0,0 +1,168 @@
+package shop.woosung.bank.transaction.service;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import shop.woosung.bank.transaction.domain.LedgerDirection;
+import shop.woosung.bank.transaction.domain.StatementFormat;
+import shop.woosung.bank.transaction.domain.TransactionStatementLine;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * 명세서 한 줄을 받는 즉시 출력에 쓴다. 줄을 모아 두지 않으므로 거래가 많아도 메모리 사용량이 늘지 않는다.
+ */
+public abstract class TransactionStatementWriter {
+    private static final DateTimeFormatter DATE_TIME_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    protected final Writer writer;
+
+    protected TransactionStatementWriter(Writer writer) {
+        this.writer = writer;
+    }
+
+    public static TransactionStatementWriter of(StatementFormat format, Writer writer) throws IOException {
+        if (format == StatementFormat.NDJSON) {
+            return new NdjsonWriter(writer);
+        }
+        return new CsvWriter(writer);
+    }
+
+    public abstract void writeHeader() throws IOException;
+
+    protected abstract void writeLine(TransactionStatementLine line) throws IOException;
+
+    /**
+     * 커서를 읽는 Consumer 안에서 쓰려고 IOException 을 UncheckedIOException 으로 감싼다.
+     */
+    public void write(TransactionStatementLine line) {
+        try {
+            writeLine(line);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public void flush() throws IOException {
+        writer.flush();
+    }
+
+    protected static String directionOf(LedgerDirection direction) {
+        return direction == LedgerDirection.WITHDRAW ? "출금" : "입금";
+    }
+
+    protected static String dateTimeOf(TransactionStatementLine line) {
+        return line.getCreatedAt() == null ? null : line.getCreatedAt().format(DATE_TIME_FORMAT);
+    }
+
+    private static class CsvWriter extends TransactionStatementWriter {
+
+        private CsvWriter(Writer writer) {
+            super(writer);
+        }
+
+        @Override
+        public void writeHeader() throws IOException {
+            writer.write("id,createdAt,type,direction,amount,balance,sender,receiver,tel\n");
+        }
+
+        @Override
+        protected void writeLine(TransactionStatementLine line) throws IOException {
+            writer.write(String.valueOf(line.getId()));
+            writer.write(',');
+            writeField(dateTimeOf(line));
+            writer.write(',');
+            writeField(line.getType().getValue());
+            writer.write(',');
+            writeField(directionOf(line.getDirection()));
+            writer.write(',');
+            writeField(line.getAmount() == null ? null : line.getAmount().toString());
+            writer.write(',');
+            writeField(line.getBalance() == null ? null : line.getBalance().toString());
+            writer.write(',');
+            writeField(neutralizeFormula(line.getSender()));
+            writer.write(',');
+            writeField(neutralizeFormula(line.getReceiver()));
+            writer.write(',');
+            writeField(neutralizeFormula(line.getTel()));
+            writer.write('\n');
+        }
+
+        /**
+         * 보낸 사람, 받는 사람, 연락처는 공개 입금 API 로 누구나 넣을 수 있는 값이다.
+         * 스프레드시트가 수식으로 해석하는 문자(= + - @ 탭 CR)로 시작하면 앞에 ' 를 붙여 글자 그대로 보이게 한다.
+         */
+        private static String neutralizeFormula(String value) {
+            if (value == null || value.isEmpty() || "=+-@\t\r".indexOf(value.charAt(0)) < 0) {
+                return value;
+            }
+            return "'" + value;
+        }
+
+        /**
+         * 쉼표, 따옴표, 줄바꿈이 들어간 값은 따옴표로 감싸고 안의 따옴표는 두 번 쓴다 (RFC 4180).
+         */
+        private void writeField(String value) throws IOException {
+            if (value == null) {
+                return;
+            }
+            if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+                writer.write(value);
+                return;
+            }
+            writer.write('"');
+            writer.write(value.replace("\"", "\"\""));
+            writer.write('"');
+        }
+    }
+
+    private static class NdjsonWriter extends TransactionStatementWriter {
+        private final JsonGenerator generator;
+
+        private NdjsonWriter(Writer writer) throws IOException {
+            super(writer);
+            this.generator = JSON_FACTORY.createGenerator(writer)
+                    .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                    .disable(JsonGenerator.Feature.FLUSH_PASSED_TO_STREAM);
+            this.generator.setRootValueSeparator(null);
+        }
+
+        @Override
+        public void writeHeader() {
+        }
+
+        @Override
+        protected void writeLine(TransactionStatementLine line) throws IOException {
+            generator.writeStartObject();
+            generator.writeNumberField("id", line.getId());
+            generator.writeStringField("createdAt", dateTimeOf(line));
+            generator.writeStringField("type", line.getType().getValue());
+            generator.writeStringField("direction", directionOf(line.getDirection()));
+            writeNumber("amount", line.getAmount());
+            writeNumber("balance", line.getBalance());
+            generator.writeStringField("sender", line.getSender());
+            generator.writeStringField("receiver", line.getReceiver());
+            generator.writeStringField("tel", line.getTel());
+            generator.writeEndObject();
+            generator.flush();
+            writer.write('\n');
+        }
+
+        private void writeNumber(String name, Long value) throws IOException {
+            if (value == null) {
+                generator.writeNullField(name);
+                return;
+            }
+            generator.writeNumberField(name, value);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            generator.flush();
+            super.flush();
+        }
+    }
+}
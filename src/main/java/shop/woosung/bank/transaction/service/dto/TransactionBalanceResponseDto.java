@@ -0,0 +1,27 @@
+package shop.woosung.bank.transaction.service.dto;
+
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import shop.woosung.bank.common.util.CustomDateUtil;
+
+import java.time.LocalDateTime;
+
+@Builder(access = AccessLevel.PRIVATE)
+@Getter
+public class TransactionBalanceResponseDto {
+    private final Long fullNumber;
+    /**
+     * 이 시각 직전까지의 거래를 반영한 잔액이다.
+     */
+    private final String at;
+    private final Long balance;
+
+    public static TransactionBalanceResponseDto of(Long fullNumber, LocalDateTime at, long balance) {
+        return TransactionBalanceResponseDto.builder()
+                .fullNumber(fullNumber)
+                .at(CustomDateUtil.toStringFormat(at))
+                .balance(balance)
+                .build();
+    }
+}
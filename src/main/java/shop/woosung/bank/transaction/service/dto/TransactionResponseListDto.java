@@ -3,9 +3,8 @@ package shop.woosung.bank.transaction.service.dto;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
-import shop.woosung.bank.account.service.dto.AccountDto;
 import shop.woosung.bank.common.util.CustomDateUtil;
-import shop.woosung.bank.transaction.domain.Transaction;
+import shop.woosung.bank.transaction.domain.TransactionHistory;
 
 import java.util.List;
 import java.util.stream.Collectors;
@@ -15,11 +14,20 @@ import java.util.stream.Collectors;
 @Getter
 public class TransactionResponseListDto {
     private List<TransactionDto> transactions;
+    /**
+     * 다음 페이지를 요청할 때 넘길 커서. 다음 페이지가 없으면 null 이다.
+     */
+    private String next;
 
-    public static TransactionResponseListDto from(AccountDto accountDto, List<Transaction> transactions) {
+    public static TransactionResponseListDto from(List<TransactionHistory> transactions) {
+        return from(transactions, null);
+    }
+
+    public static TransactionResponseListDto from(List<TransactionHistory> transactions, String next) {
         return TransactionResponseListDto.builder()
+                .next(next)
                 .transactions(transactions.stream()
-                        .map(transaction -> new TransactionDto(transaction, accountDto.getFullNumber()))
+                        .map(TransactionDto::new)
                         .collect(Collectors.toList()))
                 .build();
     }
@@ -35,7 +43,7 @@ public class TransactionResponseListDto {
         private final String createdAt;
         private final Long balance;
 
-        public TransactionDto(Transaction transaction, Long accountFullNumber) {
+        public TransactionDto(TransactionHistory transaction) {
             this.id = transaction.getId();
             this.type = transaction.getType().getValue();
             this.amount = transaction.getAmount();
@@ -43,14 +51,7 @@ public class TransactionResponseListDto {
             this.receiver = transaction.getReceiver();
             this.tel = transaction.getTel() == null ? "없음" : transaction.getTel();
             this.createdAt = CustomDateUtil.toStringFormat(transaction.getCreatedAt());
-
-            if (transaction.getDepositAccount() == null) {
-                this.balance = transaction.getWithdrawAccountBalance();
-            } else if (transaction.getWithdrawAccount() == null || transaction.getDepositAccount().getFullNumber() == accountFullNumber.longValue()) {
-                this.balance = transaction.getDepositAccountBalance();
-            } else {
-                this.balance = transaction.getWithdrawAccountBalance();
-            }
+            this.balance = transaction.getBalance();
         }
     }
-}
\ No newline at end of file
+}
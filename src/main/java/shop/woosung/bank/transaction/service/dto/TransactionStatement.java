@@ -0,0 +1,42 @@
+package shop.woosung.bank.transaction.service.dto;
+
+import lombok.Getter;
+import shop.woosung.bank.transaction.domain.StatementFormat;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 소유 확인을 마친 명세서 요청. 기간은 from 일자 0시부터 to 일자 다음날 0시 전까지다 (null 이면 제한 없음).
+ */
+@Getter
+public class TransactionStatement {
+    private final Long accountId;
+    private final Long accountFullNumber;
+    private final LocalDate from;
+    private final LocalDate to;
+    private final StatementFormat format;
+
+    public TransactionStatement(Long accountId, Long accountFullNumber, LocalDate from, LocalDate to, StatementFormat format) {
+        this.accountId = accountId;
+        this.accountFullNumber = accountFullNumber;
+        this.from = from;
+        this.to = to;
+        this.format = format;
+    }
+
+    public LocalDateTime getFromTime() {
+        return from == null ? null : from.atStartOfDay();
+    }
+
+    public LocalDateTime getToTime() {
+        return to == null ? null : to.plusDays(1).atStartOfDay();
+    }
+
+    public String getFileName() {
+        return "statement-" + accountFullNumber
+                + (from == null ? "" : "-" + from)
+                + (to == null ? "" : "-" + to)
+                + "." + format.getExtension();
+    }
+}
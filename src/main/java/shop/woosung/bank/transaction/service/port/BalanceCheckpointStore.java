@@ -0,0 +1,17 @@
+package shop.woosung.bank.transaction.service.port;
+
+import java.time.LocalDateTime;
+
+public interface BalanceCheckpointStore {
+
+    /**
+     * at 시각의 잔액 체크포인트를 쓰고, 새로 쓴 계좌 수를 반환한다.
+     * 직전 체크포인트 이후 거래가 없는 계좌는 이전 체크포인트가 그대로 유효하므로 건너뛴다. 이미 쓴 시각이면 아무것도 하지 않는다.
+     */
+    int checkpoint(LocalDateTime at);
+
+    /**
+     * at 시각 직전까지의 거래를 반영한 잔액. 가장 가까운 체크포인트에서 그 사이의 원장만 더하거나 뺀다.
+     */
+    long findBalanceAt(Long accountId, LocalDateTime at);
+}
@@ -0,0 +1,19 @@
+package shop.woosung.bank.transaction.service.port;
+
+import java.time.YearMonth;
+import java.util.List;
+
+public interface TransactionArchiveStore {
+
+    boolean isEnabled();
+
+    /**
+     * 떼어 낸 달의 거래/원장 월 테이블로 세그먼트 파일을 만든다. 공유 저장소일 때만 월 테이블을 지우므로 한 서버에서만 호출해야 한다.
+     */
+    void archive(YearMonth month);
+
+    /**
+     * 다른 서버가 만든 세그먼트 파일을 열고, 공유 저장소가 아니면 아직 이 서버에 없는 달의 세그먼트를 월 테이블에서 만든다. 서버마다 호출한다.
+     */
+    void refresh(List<YearMonth> detachedMonths);
+}
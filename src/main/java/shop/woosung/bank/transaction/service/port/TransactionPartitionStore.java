@@ -0,0 +1,28 @@
+package shop.woosung.bank.transaction.service.port;
+
+import java.time.YearMonth;
+import java.util.List;
+
+public interface TransactionPartitionStore {
+
+    /**
+     * through 달까지 월 파티션이 있도록 만든다. 파티션을 지원하지 않는 DB 에서는 아무것도 하지 않는다.
+     */
+    void prepare(YearMonth through);
+
+    /**
+     * 시간 순서 id 이전에 IDENTITY 로 발급된 거래(와 그 원장)의 id 를 created_at 시각의 id 로 바꾸고, 바꾼 거래 수를 반환한다.
+     * 바꾼 뒤에는 월 구분, 명세서 기간, 잔액 체크포인트 경계가 모두 id 만으로 맞게 나뉜다.
+     */
+    int rekeyLegacyRows();
+
+    /**
+     * cutoff 달 이전의 거래/원장 행을 운영 테이블에서 떼어 월 테이블로 옮기고, 옮긴 달을 반환한다.
+     */
+    List<YearMonth> detachBefore(YearMonth cutoff);
+
+    /**
+     * 운영 테이블에서 떼어 내 거래/원장 월 테이블이 모두 남아 있는 달 (오래된 순)
+     */
+    List<YearMonth> detachedMonths();
+}
@@ -1,12 +1,33 @@
 package shop.woosung.bank.transaction.service.port;
 
 import shop.woosung.bank.transaction.domain.Transaction;
+import shop.woosung.bank.transaction.domain.TransactionHistory;
+import shop.woosung.bank.transaction.domain.TransactionStatementLine;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.function.Consumer;
 
 public interface TransactionRepository {
 
-    List<Transaction> findTransactionList(Long accountId, String type, Integer page);
+    /**
+     * 사용자가 소유한 계좌의 거래 내역을 최신순(id 내림차순)으로 page 번째 size 개 조회한다. 소유자가 아니거나 없는 계좌면 빈 목록이다.
+     */
+    List<TransactionHistory> findTransactionHistory(Long accountFullNumber, Long userId, String type, Integer page, int size);
+
+    /**
+     * 사용자가 소유한 계좌의 거래 중 beforeId 보다 작은 id 의 거래를 최신순으로 최대 limit 개 조회한다.
+     * beforeId 가 null 이면 가장 최근 거래부터 조회하고, 소유자가 아니거나 없는 계좌면 빈 목록이다.
+     */
+    List<TransactionHistory> findTransactionHistoryBefore(Long accountFullNumber, Long userId, String type, Long beforeId, int limit);
+
+    /**
+     * accountId 계좌의 from 이상 to 미만 거래를 오래된 순으로 하나씩 consumer 에 넘긴다. from, to 가 null 이면 그쪽 범위를 두지 않는다.
+     * 목록으로 모으지 않고 DB 커서와 보관 세그먼트에서 읽는 대로 넘기므로 거래 수와 관계없이 메모리 사용량이 일정하다.
+     */
+    void forEachStatementLine(Long accountId, LocalDateTime from, LocalDateTime to, Consumer<TransactionStatementLine> consumer);
 
     Transaction save(Transaction transaction);
+
+    List<Transaction> saveAll(List<Transaction> transactions);
 }
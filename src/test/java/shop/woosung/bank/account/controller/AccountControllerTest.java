@@ -14,14 +14,20 @@ import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.ResultActions;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.validation.beanvalidation.LocalValidatorFactoryBean;
+import shop.woosung.bank.account.controller.dto.AccountBulkRegisterRequestDto;
 import shop.woosung.bank.account.controller.dto.AccountDepositRequestDto;
+import shop.woosung.bank.account.controller.dto.AccountPayoutRequestDto;
 import shop.woosung.bank.account.controller.dto.AccountRegisterRequestDto;
 import shop.woosung.bank.account.controller.dto.AccountWithdrawRequestDto;
 import shop.woosung.bank.account.controller.port.AccountService;
 import shop.woosung.bank.account.domain.Account;
+import shop.woosung.bank.account.domain.AccountNumberCodec;
+import shop.woosung.bank.account.domain.AccountSummary;
 import shop.woosung.bank.account.domain.AccountType;
 import shop.woosung.bank.account.handler.AccountControllerAdvice;
 import shop.woosung.bank.account.handler.exception.*;
+import shop.woosung.bank.account.service.dto.AccountBulkRegisterResponseDto;
 import shop.woosung.bank.account.service.dto.AccountDepositResponseDto;
 import shop.woosung.bank.account.service.dto.AccountListResponseDto;
 import shop.woosung.bank.account.service.dto.AccountRegisterResponseDto;
@@ -36,6 +42,8 @@ import java.util.List;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
@@ -48,6 +56,8 @@ class AccountControllerTest {
     private MockMvc mvc;
     @Autowired
     private ObjectMapper om;
+    @Autowired
+    private LocalValidatorFactoryBean validator;
     @Mock
     private AccountService accountService;
     @InjectMocks
@@ -55,16 +65,16 @@ class AccountControllerTest {
 
     @BeforeEach
     public void init() {
-        this.mvc = MockMvcBuilders.standaloneSetup(accountController).setControllerAdvice(new AccountControllerAdvice()).build();
+        this.mvc = MockMvcBuilders.standaloneSetup(accountController).setControllerAdvice(new AccountControllerAdvice()).setValidator(validator).build();
     }
 
     @DisplayName("자신의 모든 계좌를 조회할 수 있다.")
     @Test
     public void get_own_account_list_success_response() throws Exception {
         // given
-        List<Account> accounts = new ArrayList<>();
-        accounts.add(Account.builder().number(1111111111L).fullNumber(2321111111111L).balance(1000L).type(AccountType.NORMAL).user(User.builder().id(1L).build()).build());
-        accounts.add(Account.builder().number(1111111112L).fullNumber(3431111111112L).balance(2000L).type(AccountType.SAVING).user(User.builder().id(1L).build()).build());
+        List<AccountSummary> accounts = new ArrayList<>();
+        accounts.add(new AccountSummary(1L, 2321111111111L, 1000L, AccountType.NORMAL));
+        accounts.add(new AccountSummary(2L, 3431111111112L, 2000L, AccountType.SAVING));
         AccountListResponseDto accountListResponseDto = AccountListResponseDto.from(User.builder().name("test1").build(), accounts);
 
         // stub
@@ -118,6 +128,60 @@ class AccountControllerTest {
         resultActions.andExpect(jsonPath("$.data.balance").value(0L));
     }
 
+    @DisplayName("계좌 일괄 생성 성공시 생성된 계좌를 요청 순서대로 응답한다.")
+    @Test
+    void register_all_accounts_success_response() throws Exception {
+        // given
+        AccountBulkRegisterRequestDto accountBulkRegisterRequestDto = AccountBulkRegisterRequestDto.builder()
+                .accounts(List.of(
+                        AccountRegisterRequestDto.builder().password("1234").type(AccountType.NORMAL).build(),
+                        AccountRegisterRequestDto.builder().password("5678").type(AccountType.SAVING).build()))
+                .build();
+        String requestBody = om.writeValueAsString(accountBulkRegisterRequestDto);
+        List<Account> accounts = List.of(
+                Account.builder().id(1L).fullNumber(2321111111111L).number(1111111111L).balance(0L).type(AccountType.NORMAL).build(),
+                Account.builder().id(2L).fullNumber(3431111111112L).number(1111111112L).balance(0L).type(AccountType.SAVING).build());
+
+        // stub
+        when(accountService.registerAll(any(), any())).thenReturn(AccountBulkRegisterResponseDto.from(accounts));
+
+        // when
+        ResultActions resultActions = mvc.perform(
+                post("/api/s/account/bulk")
+                    .content(requestBody)
+                    .contentType(MediaType.APPLICATION_JSON));
+
+        // then
+        resultActions.andExpect(status().isCreated());
+        resultActions.andExpect(jsonPath("$.message").value("계좌 일괄 등록 성공"));
+        resultActions.andExpect(jsonPath("$.data.count").value(2));
+        resultActions.andExpect(jsonPath("$.data.accounts[0].fullNumber").value(2321111111111L));
+        resultActions.andExpect(jsonPath("$.data.accounts[1].fullNumber").value(3431111111112L));
+        resultActions.andExpect(jsonPath("$.data.accounts[0].number").doesNotExist());
+    }
+
+    @DisplayName("계좌 일괄 생성시 비밀번호 형식이 잘못된 계좌가 있으면 서비스를 호출하지 않고 에러를 응답한다.")
+    @Test
+    void if_invalid_account_when_register_all_accounts_return_error_without_service_call() throws Exception {
+        // given
+        AccountBulkRegisterRequestDto accountBulkRegisterRequestDto = AccountBulkRegisterRequestDto.builder()
+                .accounts(List.of(
+                        AccountRegisterRequestDto.builder().password("1234").type(AccountType.NORMAL).build(),
+                        AccountRegisterRequestDto.builder().password("12345").type(AccountType.NORMAL).build()))
+                .build();
+        String requestBody = om.writeValueAsString(accountBulkRegisterRequestDto);
+
+        // when
+        ResultActions resultActions = mvc.perform(
+                post("/api/s/account/bulk")
+                    .content(requestBody)
+                    .contentType(MediaType.APPLICATION_JSON));
+
+        // then
+        resultActions.andExpect(status().isBadRequest());
+        verify(accountService, never()).registerAll(any(), any());
+    }
+
     @DisplayName("계좌 생성시 계좌 종류에 맞는 계좌 type 번호가 없으면 에러를 응답한다.")
     @Test
     void if_not_found_account_type_when_register_account_return_error() throws Exception {
@@ -236,6 +300,48 @@ class AccountControllerTest {
         resultActions.andExpect(jsonPath("$.data.transaction.createdAt").value("2023-08-11T15:30"));
     }
 
+    @DisplayName("계좌 입금시 계좌번호의 검증 숫자가 맞지 않으면 서비스를 호출하지 않고 에러를 응답한다.")
+    @Test
+    void if_malformed_account_number_when_deposit_account_return_error_without_service_call() throws Exception {
+        // given
+        AccountDepositRequestDto accountDepositRequestDto = AccountDepositRequestDto
+                .builder().amount(1000L).fullNumber(23211111111115L)
+                .transactionType(TransactionType.DEPOSIT).sender("ATM").tel("01012341234").build();
+
+        String requestBody = om.writeValueAsString(accountDepositRequestDto);
+
+        // when
+        ResultActions resultActions = mvc.perform(
+                post("/api/account/deposit")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(requestBody));
+
+        // then
+        resultActions.andExpect(status().isBadRequest());
+        verify(accountService, never()).deposit(any());
+    }
+
+    @DisplayName("계좌 입금시 계좌번호 앞 3자리가 등록된 계좌 종류 번호가 아니면 서비스를 호출하지 않고 에러를 응답한다.")
+    @Test
+    void if_unknown_type_number_when_deposit_account_return_error_without_service_call() throws Exception {
+        // given
+        AccountDepositRequestDto accountDepositRequestDto = AccountDepositRequestDto
+                .builder().amount(1000L).fullNumber(AccountNumberCodec.compose(999L, 1L))
+                .transactionType(TransactionType.DEPOSIT).sender("ATM").tel("01012341234").build();
+
+        String requestBody = om.writeValueAsString(accountDepositRequestDto);
+
+        // when
+        ResultActions resultActions = mvc.perform(
+                post("/api/account/deposit")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(requestBody));
+
+        // then
+        resultActions.andExpect(status().isBadRequest());
+        verify(accountService, never()).deposit(any());
+    }
+
     @DisplayName("계좌 입금시 계좌번호를 찾을 수 없다면 에러를 응답한다.")
     @Test
     void if_not_found_account_number_when_deposit_account_return_error() throws Exception {
@@ -386,4 +492,27 @@ class AccountControllerTest {
         resultActions.andExpect(jsonPath("$.message").value("잔액 부족"));
         resultActions.andExpect(jsonPath("$.data").isEmpty());
     }
-}
\ No newline at end of file
+
+    @DisplayName("지급 건별 금액이 한도를 넘으면 서비스를 호출하지 않고 에러를 응답한다.")
+    @Test
+    void if_leg_amount_over_limit_when_payout_return_error_without_service_call() throws Exception {
+        // given
+        AccountPayoutRequestDto accountPayoutRequestDto = AccountPayoutRequestDto.builder()
+                .withdrawFullNumber(2321111111111L).withdrawPassword(1234L)
+                .legs(List.of(
+                        AccountPayoutRequestDto.LegDto.builder().depositFullNumber(AccountNumberCodec.compose(232L, 2L)).amount(Long.MAX_VALUE / 2 + 1).build(),
+                        AccountPayoutRequestDto.LegDto.builder().depositFullNumber(AccountNumberCodec.compose(232L, 3L)).amount(Long.MAX_VALUE / 2 + 1).build()))
+                .build();
+        String requestBody = om.writeValueAsString(accountPayoutRequestDto);
+
+        // when
+        ResultActions resultActions = mvc.perform(
+                post("/api/s/account/payout")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(requestBody));
+
+        // then
+        resultActions.andExpect(status().isBadRequest());
+        verify(accountService, never()).payout(any(), any());
+    }
+}
@@ -0,0 +1,123 @@
+package shop.woosung.bank.account.domain;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AccountNumberCodecTest {
+
+    @DisplayName("계좌 종류 번호와 시퀀스로 검증 숫자가 붙은 14자리 계좌 번호를 만든다.")
+    @Test
+    void compose_full_number_with_check_digit() {
+        // when
+        long result = AccountNumberCodec.compose(232L, 1111111111L);
+
+        // then
+        assertThat(result).isEqualTo(23211111111114L);
+        assertThat(AccountNumberCodec.isWellFormed(result)).isTrue();
+    }
+
+    @DisplayName("시퀀스가 10자리보다 짧으면 앞을 0으로 채운다.")
+    @Test
+    void compose_pad_short_sequence() {
+        // when
+        long result = AccountNumberCodec.compose(787L, 42L);
+
+        // then
+        assertThat(result / 10).isEqualTo(7870000000042L);
+        assertThat(AccountNumberCodec.isWellFormed(result)).isTrue();
+    }
+
+    @DisplayName("계좌 번호의 숫자 하나를 잘못 입력하면 잘못된 번호로 판단한다.")
+    @Test
+    void single_digit_typo_is_not_well_formed() {
+        // given
+        long fullNumber = AccountNumberCodec.compose(232L, 1234567890L);
+        String digits = Long.toString(fullNumber);
+
+        // when & then
+        for (int position = 1; position < digits.length(); position++) {
+            for (char replacement = '0'; replacement <= '9'; replacement++) {
+                if (digits.charAt(position) == replacement) {
+                    continue;
+                }
+                long typo = Long.parseLong(digits.substring(0, position) + replacement + digits.substring(position + 1));
+                assertThat(AccountNumberCodec.isWellFormed(typo)).as("typo %d", typo).isFalse();
+            }
+        }
+    }
+
+    @DisplayName("인접한 두 숫자를 바꿔 입력하면 잘못된 번호로 판단한다.")
+    @Test
+    void adjacent_transposition_is_not_well_formed() {
+        // given
+        long fullNumber = AccountNumberCodec.compose(232L, 1234567890L);
+
+        String digits = Long.toString(fullNumber);
+
+        // when & then
+        for (int position = 0; position < digits.length() - 1; position++) {
+            char left = digits.charAt(position);
+            char right = digits.charAt(position + 1);
+            if (left == right || (left - '0') + (right - '0') == 9 && Math.abs(left - right) == 9) {
+                continue;
+            }
+            long transposed = Long.parseLong(digits.substring(0, position) + right + left + digits.substring(position + 2));
+            assertThat(AccountNumberCodec.isWellFormed(transposed)).as("transposed %d", transposed).isFalse();
+        }
+    }
+
+    @DisplayName("검증 숫자 도입 전의 13자리 번호는 허용하고, 그 외 자릿수는 허용하지 않는다.")
+    @ParameterizedTest
+    @ValueSource(longs = {2321111111111L, 3431111111112L})
+    void legacy_13_digits_number_is_well_formed(long fullNumber) {
+        assertThat(AccountNumberCodec.isWellFormed(fullNumber)).isTrue();
+        assertThat(AccountNumberCodec.isWellFormed(fullNumber / 10)).isFalse();
+        assertThat(AccountNumberCodec.isWellFormed(fullNumber * 100)).isFalse();
+        assertThat(AccountNumberCodec.isWellFormed(-fullNumber)).isFalse();
+    }
+
+    @DisplayName("계좌 종류 번호가 3자리가 아니거나 시퀀스가 10자리를 넘으면 예외를 발생시킨다.")
+    @Test
+    void if_out_of_range_when_compose_throw_exception() {
+        assertThatThrownBy(() -> AccountNumberCodec.compose(23L, 1L))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> AccountNumberCodec.compose(232L, 10_000_000_000L))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @DisplayName("개발용 data.sql 의 계좌 번호는 dev SAVING 타입 번호(787)와 시퀀스로 만든 번호다.")
+    @ParameterizedTest
+    @CsvSource({"12121, 78700000121212", "12122, 78700000121220"})
+    void dev_seed_full_numbers_are_composed(long number, long fullNumber) {
+        assertThat(AccountNumberCodec.compose(787L, number)).isEqualTo(fullNumber);
+        assertThat(AccountNumberCodec.isWellFormed(fullNumber)).isTrue();
+    }
+
+    @DisplayName("앞 3자리가 주어진 계좌 종류 번호 목록에 없으면 검증 숫자가 맞아도 잘못된 번호다.")
+    @Test
+    void if_unknown_type_number_then_not_well_formed() {
+        // given
+        List<Long> typeNumbers = List.of(232L, 787L);
+
+        // when
+        long known = AccountNumberCodec.compose(787L, 12121L);
+        long unknown = AccountNumberCodec.compose(999L, 12121L);
+
+        // then
+        assertThat(AccountNumberCodec.typeNumberOf(known)).isEqualTo(787L);
+        assertThat(AccountNumberCodec.typeNumberOf(2321111111111L)).isEqualTo(232L);
+        assertThat(AccountNumberCodec.isWellFormed(known, typeNumbers)).isTrue();
+        assertThat(AccountNumberCodec.isWellFormed(2321111111111L, typeNumbers)).isTrue();
+        assertThat(AccountNumberCodec.isWellFormed(unknown)).isTrue();
+        assertThat(AccountNumberCodec.isWellFormed(unknown, typeNumbers)).isFalse();
+        assertThat(AccountNumberCodec.isWellFormed(9991111111111L, typeNumbers)).isFalse();
+    }
+}
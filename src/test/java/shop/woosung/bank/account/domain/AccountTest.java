@@ -44,7 +44,7 @@ class AccountTest {
 
         // then
         assertThat(result.getNumber()).isEqualTo(11111111L);
-        assertThat(result.getFullNumber()).isEqualTo(23211111111L);
+        assertThat(result.getFullNumber()).isEqualTo(23200111111117L);
         assertThat(result.getPassword()).isEqualTo("aaaa-bbbb-cccc");
         assertThat(result.getBalance()).isEqualTo(1000L);
         assertThat(result.getType()).isEqualTo(AccountType.NORMAL);
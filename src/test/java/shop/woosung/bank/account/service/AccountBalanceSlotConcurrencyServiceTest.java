@@ -0,0 +1,158 @@
+package shop.woosung.bank.account.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.ActiveProfiles;
+import shop.woosung.bank.account.controller.port.AccountAdminService;
+import shop.woosung.bank.account.controller.port.AccountService;
+import shop.woosung.bank.account.domain.Account;
+import shop.woosung.bank.account.domain.AccountType;
+import shop.woosung.bank.account.service.dto.*;
+import shop.woosung.bank.account.service.port.AccountRepository;
+import shop.woosung.bank.common.infrastructure.PasswordEncoderImpl;
+import shop.woosung.bank.transaction.domain.TransactionType;
+import shop.woosung.bank.user.domain.User;
+import shop.woosung.bank.user.domain.UserRole;
+import shop.woosung.bank.user.service.port.UserRepository;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+@Slf4j
+@ActiveProfiles("test")
+@SpringBootTest
+class AccountBalanceSlotConcurrencyServiceTest {
+    @Autowired
+    private AccountService accountService;
+    @Autowired
+    private AccountAdminService accountAdminService;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private AccountRepository accountRepository;
+    @MockBean
+    private PasswordEncoderImpl passwordEncoderImpl;
+
+    @BeforeEach
+    void setUp() {
+        when(passwordEncoderImpl.encode(anyString())).thenReturn("aaaa-bbbb-cccc");
+        when(passwordEncoderImpl.matches(anyString(), anyString())).thenReturn(true);
+    }
+
+    @DisplayName("분할 잔액 모드 계좌에 입금과 출금 요청을 동시에 보내도 최종 금액이 정확해야 하고, 해제 후에도 잔액이 유지된다.")
+    @Test
+    void balance_slot_account_deposit_and_withdraw_concurrent_requests() throws Exception {
+        // given
+        User user = userRepository.save(User.builder().email("slot1@test.com").password("1234").name("test").role(UserRole.CUSTOMER).build());
+        accountRepository.save(Account.builder().number(11111141L).fullNumber(23411111141L).password("aaaa-bbbb-cccc").balance(1000L).type(AccountType.NORMAL).user(user).build());
+        accountAdminService.enableBalanceSlots(23411111141L, 8);
+
+        AccountDepositRequestServiceDto accountDepositRequestServiceDto = AccountDepositRequestServiceDto.builder()
+                .fullNumber(23411111141L)
+                .amount(1000L)
+                .transactionType(TransactionType.DEPOSIT)
+                .sender("32311111111")
+                .tel("010-1111-1111")
+                .build();
+        AccountWithdrawRequestServiceDto accountWithdrawRequestServiceDto = AccountWithdrawRequestServiceDto.builder()
+                .fullNumber(23411111141L)
+                .amount(500L)
+                .transactionType(TransactionType.WITHDRAW)
+                .password("aaaa-bbbb-cccc")
+                .build();
+
+        AtomicInteger failCount = new AtomicInteger();
+        int depositCount = 200;
+        int withdrawCount = 20;
+        ExecutorService executorService = Executors.newFixedThreadPool(25);
+        CountDownLatch latch = new CountDownLatch(depositCount + withdrawCount);
+
+        // when
+        long startedAt = System.nanoTime();
+        for (int i = 0; i < depositCount + withdrawCount; i++) {
+            boolean isWithdraw = i % 11 == 10;
+            executorService.submit(() -> {
+                try {
+                    if (isWithdraw) {
+                        accountService.withdraw(accountWithdrawRequestServiceDto, user);
+                    } else {
+                        accountService.deposit(accountDepositRequestServiceDto);
+                    }
+                } catch (RuntimeException exception) {
+                    failCount.incrementAndGet();
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await();
+        executorService.shutdown();
+        log.info("balance slot deposit/withdraw elapsed = {}ms", (System.nanoTime() - startedAt) / 1_000_000);
+
+        // then
+        assertThat(failCount.get()).isEqualTo(0);
+        assertThat(accountService.getAccountList(user).getAccounts().get(0).getBalance()).isEqualTo(1000L + 200 * 1000L - 20 * 500L);
+
+        AccountBalanceSlotResponseDto accountBalanceSlotResponseDto = accountAdminService.disableBalanceSlots(23411111141L);
+        assertThat(accountBalanceSlotResponseDto.getBalance()).isEqualTo(191000L);
+        assertThat(accountService.getAccountList(user).getAccounts().get(0).getBalance()).isEqualTo(191000L);
+    }
+
+    @DisplayName("입금 계좌만 분할 잔액 모드여도 이체와 지급의 입금 후 잔액에는 슬롯 잔액이 포함된다.")
+    @Test
+    void balance_slot_deposit_target_transfer_and_payout_include_slot_balance() {
+        // given
+        User user = userRepository.save(User.builder().email("slot2@test.com").password("1234").name("test").role(UserRole.CUSTOMER).build());
+        accountRepository.save(Account.builder().number(11111197L).fullNumber(23411111197L).password("aaaa-bbbb-cccc").balance(10000L).type(AccountType.NORMAL).user(user).build());
+        accountRepository.save(Account.builder().number(11111198L).fullNumber(23411111198L).password("aaaa-bbbb-cccc").balance(1000L).type(AccountType.NORMAL).user(user).build());
+        accountAdminService.enableBalanceSlots(23411111198L, 4);
+
+        AccountDepositRequestServiceDto accountDepositRequestServiceDto = AccountDepositRequestServiceDto.builder()
+                .fullNumber(23411111198L)
+                .amount(1000L)
+                .transactionType(TransactionType.DEPOSIT)
+                .sender("32311111111")
+                .tel("010-1111-1111")
+                .build();
+        for (int i = 0; i < 3; i++) {
+            accountService.deposit(accountDepositRequestServiceDto);
+        }
+
+        AccountTransferRequestServiceDto accountTransferRequestServiceDto = AccountTransferRequestServiceDto.builder()
+                .withdrawFullNumber(23411111197L)
+                .depositFullNumber(23411111198L)
+                .withdrawPassword(1234L)
+                .amount(500L)
+                .transactionType(TransactionType.TRANSFER)
+                .build();
+        AccountPayoutRequestServiceDto accountPayoutRequestServiceDto = AccountPayoutRequestServiceDto.builder()
+                .withdrawFullNumber(23411111197L)
+                .withdrawPassword(1234L)
+                .legs(List.of(
+                        AccountPayoutLegDto.builder().depositFullNumber(23411111198L).amount(300L).build(),
+                        AccountPayoutLegDto.builder().depositFullNumber(23411111198L).amount(200L).build()))
+                .build();
+
+        // when
+        AccountTransferResponseDto transferResult = accountService.transfer(accountTransferRequestServiceDto, user);
+        accountService.deposit(accountDepositRequestServiceDto);
+        AccountPayoutResponseDto payoutResult = accountService.payout(accountPayoutRequestServiceDto, user);
+
+        // then
+        assertThat(transferResult.getTransaction().getDepositAccountBalance()).isEqualTo(4500L);
+        assertThat(payoutResult.getTransactions()).extracting("depositAccountBalance").containsExactly(5800L, 6000L);
+        assertThat(accountAdminService.disableBalanceSlots(23411111198L).getBalance()).isEqualTo(6000L);
+    }
+}
@@ -0,0 +1,115 @@
+package shop.woosung.bank.account.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import shop.woosung.bank.account.domain.Account;
+import shop.woosung.bank.account.domain.AccountNumberCodec;
+import shop.woosung.bank.account.domain.AccountSequenceBlock;
+import shop.woosung.bank.account.domain.AccountType;
+import shop.woosung.bank.account.handler.exception.NotFoundAccountTypeNumberException;
+import shop.woosung.bank.account.service.dto.AccountRegisterRequestServiceDto;
+import shop.woosung.bank.account.service.port.AccountRepository;
+import shop.woosung.bank.common.service.port.PasswordEncoder;
+import shop.woosung.bank.config.AccountProperties;
+import shop.woosung.bank.user.domain.User;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AccountBulkRegistrarTest {
+    @Mock
+    private AccountNumberAllocator accountNumberAllocator;
+    @Mock
+    private AccountTypeRegistry accountTypeRegistry;
+    @Mock
+    private AccountRepository accountRepository;
+    @Mock
+    private PasswordEncoder passwordEncoder;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private AccountBulkRegistrar accountBulkRegistrar;
+
+    @BeforeEach
+    void setUp() {
+        AccountProperties accountProperties = new AccountProperties();
+        accountProperties.getBulkRegister().setThreads(4);
+        accountBulkRegistrar = new AccountBulkRegistrar(accountNumberAllocator, accountTypeRegistry,
+                accountRepository, passwordEncoder, accountProperties, transactionManager);
+    }
+
+    @AfterEach
+    void tearDown() {
+        accountBulkRegistrar.shutdown();
+    }
+
+    @DisplayName("계좌 종류별로 번호를 한 번에 예약하고, 요청 순서대로 계좌를 만들어 한 번에 저장한다.")
+    @Test
+    void register_all_reserve_numbers_once_per_type_and_keep_request_order() {
+        // given
+        User user = User.builder().id(1L).build();
+        List<AccountRegisterRequestServiceDto> requests = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            requests.add(AccountRegisterRequestServiceDto.builder()
+                    .password(String.format("%04d", i)).balance(i).type(i % 3 == 0 ? AccountType.SAVING : AccountType.NORMAL).build());
+        }
+
+        // stub
+        when(accountTypeRegistry.getTypeNumber(AccountType.NORMAL)).thenReturn(232L);
+        when(accountTypeRegistry.getTypeNumber(AccountType.SAVING)).thenReturn(343L);
+        when(accountNumberAllocator.reserve(AccountType.NORMAL, 6)).thenReturn(new AccountSequenceBlock(101L, 1L, 6));
+        when(accountNumberAllocator.reserve(AccountType.SAVING, 4)).thenReturn(new AccountSequenceBlock(501L, 1L, 4));
+        when(passwordEncoder.encode(anyString())).thenAnswer(invocation -> "encoded-" + invocation.getArgument(0));
+        when(accountRepository.saveAll(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // when
+        List<Account> accounts = accountBulkRegistrar.register(requests, user);
+
+        // then
+        assertThat(accounts).hasSize(10);
+        assertThat(accounts.stream().map(Account::getPassword).collect(Collectors.toList()))
+                .containsExactlyElementsOf(requests.stream().map(request -> "encoded-" + request.getPassword()).collect(Collectors.toList()));
+        assertThat(accounts.stream().map(Account::getBalance).collect(Collectors.toList()))
+                .containsExactly(0L, 1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L, 9L);
+        assertThat(accounts.stream().map(Account::getNumber).collect(Collectors.toList()))
+                .containsExactly(501L, 101L, 102L, 502L, 103L, 104L, 503L, 105L, 106L, 504L);
+        assertThat(accounts.get(0).getFullNumber()).isEqualTo(AccountNumberCodec.compose(343L, 501L));
+        assertThat(accounts.get(1).getFullNumber()).isEqualTo(AccountNumberCodec.compose(232L, 101L));
+        assertThat(accounts).allMatch(account -> account.getUser() == user);
+        verify(accountRepository, times(1)).saveAll(any());
+        verify(transactionManager, times(1)).commit(any());
+    }
+
+    @DisplayName("계좌 종류 번호가 없으면 번호를 예약하거나 해시를 계산하지 않고 예외를 발생시킨다.")
+    @Test
+    void if_not_found_account_type_number_when_register_all_throw_exception() {
+        // given
+        List<AccountRegisterRequestServiceDto> requests = List.of(
+                AccountRegisterRequestServiceDto.builder().password("1234").type(AccountType.NORMAL).build());
+
+        // stub
+        when(accountTypeRegistry.getTypeNumber(AccountType.NORMAL)).thenThrow(new NotFoundAccountTypeNumberException(AccountType.NORMAL));
+
+        // when & then
+        assertThatThrownBy(() -> accountBulkRegistrar.register(requests, User.builder().id(1L).build()))
+                .isInstanceOf(NotFoundAccountTypeNumberException.class);
+        verify(accountNumberAllocator, never()).reserve(any(), anyInt());
+        verify(passwordEncoder, never()).encode(anyString());
+        verify(accountRepository, never()).saveAll(any());
+    }
+}
@@ -23,6 +23,7 @@ import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.anyString;
@@ -83,6 +84,52 @@ class AccountConcurrencyServiceTest {
         assertThat(accountFullNemberSet).hasSize(threadCount);
     }
 
+    @DisplayName("계좌 일괄 생성과 건별 생성이 동시에 일어나도 계좌번호가 중복되지 않고, 일괄 생성 결과는 요청 순서를 따른다.")
+    @Test
+    void account_register_all_with_concurrent_single_registers_not_have_duplicate_accounts() throws Exception {
+        // given
+        User user = userRepository.save(User.builder().email("testbulk@test.com").password("1234").name("test").role(UserRole.CUSTOMER).build());
+        List<AccountRegisterRequestServiceDto> bulkRequests = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            bulkRequests.add(AccountRegisterRequestServiceDto.builder()
+                    .type(i % 2 == 0 ? AccountType.NORMAL : AccountType.SAVING).balance(i).password("1111").build());
+        }
+        AccountRegisterRequestServiceDto normalAccountRegisterServiceDto = AccountRegisterRequestServiceDto.builder()
+                .type(AccountType.NORMAL)
+                .password("1111")
+                .build();
+
+        List<Long> singleFullNumbers = Collections.synchronizedList(new ArrayList<>());
+        ExecutorService executorService = Executors.newFixedThreadPool(10);
+        int threadCount = 50;
+        CountDownLatch latch = new CountDownLatch(threadCount);
+
+        // when
+        for (int i = 0; i < threadCount; i++) {
+            executorService.submit(() -> {
+                try {
+                    singleFullNumbers.add(accountService.register(normalAccountRegisterServiceDto, user).getFullNumber());
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        AccountBulkRegisterResponseDto accountBulkRegisterResponseDto = accountService.registerAll(bulkRequests, user);
+        latch.await();
+        executorService.shutdown();
+
+        List<Long> bulkFullNumbers = accountBulkRegisterResponseDto.getAccounts().stream()
+                .map(AccountRegisterResponseDto::getFullNumber).collect(Collectors.toList());
+        Set<Long> allFullNumbers = new HashSet<>(bulkFullNumbers);
+        allFullNumbers.addAll(singleFullNumbers);
+
+        // then
+        assertThat(accountBulkRegisterResponseDto.getCount()).isEqualTo(1000);
+        assertThat(accountBulkRegisterResponseDto.getAccounts().get(999).getBalance()).isEqualTo(999L);
+        assertThat(allFullNumbers).hasSize(1000 + threadCount);
+        assertThat(accountService.getAccountList(user).getAccounts()).hasSize(1000 + threadCount);
+    }
+
     @DisplayName("계좌 입금 요청을 동시에 100개를 보냈을 때 최종 금액이 모든 요청 금액을 합친 것과 같아야한다.")
     @Test
     void account_deposit_100_concurrent_requests_not_() throws Exception {
@@ -0,0 +1,121 @@
+package shop.woosung.bank.account.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.ActiveProfiles;
+import shop.woosung.bank.account.controller.port.AccountService;
+import shop.woosung.bank.account.domain.Account;
+import shop.woosung.bank.account.domain.AccountType;
+import shop.woosung.bank.account.handler.exception.NotAccountOwnerException;
+import shop.woosung.bank.account.handler.exception.NotEnoughBalanceException;
+import shop.woosung.bank.account.service.dto.AccountListResponseDto;
+import shop.woosung.bank.account.service.dto.AccountWithdrawLockServiceDto;
+import shop.woosung.bank.account.service.dto.AccountWithdrawRequestServiceDto;
+import shop.woosung.bank.account.service.port.AccountRepository;
+import shop.woosung.bank.common.infrastructure.PasswordEncoderImpl;
+import shop.woosung.bank.transaction.domain.TransactionType;
+import shop.woosung.bank.user.domain.User;
+import shop.woosung.bank.user.domain.UserRole;
+import shop.woosung.bank.user.service.port.UserRepository;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+@ActiveProfiles("test")
+@SpringBootTest(properties = {
+        "bank.account.concurrency.deposit=CONDITIONAL_UPDATE",
+        "bank.account.concurrency.withdraw=CONDITIONAL_UPDATE",
+        "bank.account.concurrency.transfer=CONDITIONAL_UPDATE"
+})
+class AccountConditionalUpdateConcurrencyServiceTest {
+    @Autowired
+    private AccountService accountService;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private AccountRepository accountRepository;
+    @Autowired
+    private AccountConditionalUpdateServiceImpl accountConditionalUpdateService;
+    @MockBean
+    private PasswordEncoderImpl passwordEncoderImpl;
+
+    @BeforeEach
+    void setUp() {
+        when(passwordEncoderImpl.encode(anyString())).thenReturn("aaaa-bbbb-cccc");
+        when(passwordEncoderImpl.matches(anyString(), anyString())).thenReturn(true);
+    }
+
+    @DisplayName("조건부 UPDATE 모드에서 잔액보다 많은 출금 요청이 동시에 들어오면 잔액만큼만 출금되고 나머지는 잔액 부족으로 실패한다.")
+    @Test
+    void conditional_update_account_withdraw_100_concurrent_requests_never_overdraw() throws Exception {
+        // given
+        User user = userRepository.save(User.builder().email("testcond@test.com").password("aaaa-bbbb-cccc").name("test").role(UserRole.CUSTOMER).build());
+        accountRepository.save(Account.builder().number(11111131L).fullNumber(23311111131L).password("aaaa-bbbb-cccc").balance(5000L).type(AccountType.NORMAL).user(user).build());
+
+        AccountWithdrawRequestServiceDto accountWithdrawRequestServiceDto = AccountWithdrawRequestServiceDto.builder()
+                .fullNumber(23311111131L)
+                .amount(100L)
+                .transactionType(TransactionType.WITHDRAW)
+                .password("aaaa-bbbb-cccc")
+                .build();
+
+        AtomicInteger successCount = new AtomicInteger();
+        AtomicInteger notEnoughBalanceCount = new AtomicInteger();
+        int threadCount = 100;
+        ExecutorService executorService = Executors.newFixedThreadPool(25);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+
+        // when
+        for (int i = 0; i < threadCount; i++) {
+            executorService.submit(() -> {
+                try {
+                    accountService.withdraw(accountWithdrawRequestServiceDto, user);
+                    successCount.incrementAndGet();
+                } catch (NotEnoughBalanceException exception) {
+                    notEnoughBalanceCount.incrementAndGet();
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await();
+        executorService.shutdown();
+
+        // then
+        AccountListResponseDto accountListResponseDto = accountService.getAccountList(user);
+        assertThat(successCount.get()).isEqualTo(50);
+        assertThat(notEnoughBalanceCount.get()).isEqualTo(50);
+        assertThat(accountListResponseDto.getAccounts().get(0).getBalance()).isEqualTo(0L);
+    }
+
+    @DisplayName("조건부 UPDATE 출금은 소유자와 잔액을 UPDATE 조건으로 확인하므로, 다른 사용자의 출금과 잔액 초과 출금은 잔액을 바꾸지 않는다.")
+    @Test
+    void conditional_update_withdraw_guards_owner_and_balance_in_update() {
+        // given
+        User owner = userRepository.save(User.builder().email("cond2@test.com").password("aaaa-bbbb-cccc").name("test").role(UserRole.CUSTOMER).build());
+        User other = userRepository.save(User.builder().email("cond3@test.com").password("aaaa-bbbb-cccc").name("test").role(UserRole.CUSTOMER).build());
+        accountRepository.save(Account.builder().number(11111132L).fullNumber(23311111132L).password("aaaa-bbbb-cccc").balance(1000L).type(AccountType.NORMAL).user(owner).build());
+
+        // when // then
+        assertThatThrownBy(() -> accountConditionalUpdateService.withdraw(AccountWithdrawLockServiceDto.builder()
+                .user(other).fullNumber(23311111132L).amount(100L).build()))
+                .isInstanceOf(NotAccountOwnerException.class);
+        assertThatThrownBy(() -> accountConditionalUpdateService.withdraw(AccountWithdrawLockServiceDto.builder()
+                .user(owner).fullNumber(23311111132L).amount(1001L).build()))
+                .isInstanceOf(NotEnoughBalanceException.class);
+        assertThat(accountConditionalUpdateService.withdraw(AccountWithdrawLockServiceDto.builder()
+                .user(owner).fullNumber(23311111132L).amount(100L).build()).getBalance()).isEqualTo(900L);
+        assertThat(accountRepository.findByFullNumber(23311111132L).get().getBalance()).isEqualTo(900L);
+    }
+}
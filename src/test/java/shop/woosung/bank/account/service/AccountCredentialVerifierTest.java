@@ -0,0 +1,149 @@
+package shop.woosung.bank.account.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import shop.woosung.bank.account.domain.Account;
+import shop.woosung.bank.account.handler.exception.AccountCredentialBusyException;
+import shop.woosung.bank.account.handler.exception.NotAccountOwnerException;
+import shop.woosung.bank.account.handler.exception.NotFoundAccountFullNumberException;
+import shop.woosung.bank.account.handler.exception.NotMatchAccountPasswordException;
+import shop.woosung.bank.account.service.port.AccountRepository;
+import shop.woosung.bank.common.service.port.PasswordEncoder;
+import shop.woosung.bank.config.AccountProperties;
+import shop.woosung.bank.user.domain.User;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AccountCredentialVerifierTest {
+    private AccountCredentialVerifier accountCredentialVerifier;
+    @Mock
+    private AccountRepository accountRepository;
+    @Mock
+    private PasswordEncoder passwordEncoder;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @BeforeEach
+    void setUp() {
+        AccountProperties accountProperties = new AccountProperties();
+        accountProperties.getCredential().setThreads(1);
+        accountProperties.getCredential().setQueueCapacity(0);
+        accountProperties.getCredential().setTimeout(Duration.ofMillis(50));
+        accountCredentialVerifier = new AccountCredentialVerifier(accountRepository, passwordEncoder, accountProperties, transactionManager);
+    }
+
+    @AfterEach
+    void tearDown() {
+        accountCredentialVerifier.shutdown();
+    }
+
+    @DisplayName("소유자와 비밀번호가 일치하면 검증에 성공하고, 비밀번호 비교는 전용 스레드에서 수행된다.")
+    @Test
+    void verify_success_on_credential_thread() {
+        // given
+        User user = User.builder().id(1L).build();
+        Account account = Account.builder().fullNumber(123456789L).password("aaaa-bbbb-cccc").user(user).build();
+        AtomicReference<String> threadName = new AtomicReference<>();
+
+        // stub
+        when(accountRepository.findByFullNumber(123456789L)).thenReturn(Optional.of(account));
+        when(passwordEncoder.matches("1234", "aaaa-bbbb-cccc")).thenAnswer(invocation -> {
+            threadName.set(Thread.currentThread().getName());
+            return true;
+        });
+
+        // when
+        accountCredentialVerifier.verify(123456789L, 1L, "1234");
+
+        // then
+        assertThat(threadName.get()).startsWith("account-credential-");
+    }
+
+    @DisplayName("계좌 출금시 계좌 비밀번호가 일치하지 않으면 예외를 발생시킨다.")
+    @Test
+    void if_not_match_password_throw_exception() {
+        // given
+        User user = User.builder().id(1L).build();
+        Account account = Account.builder().fullNumber(123456789L).password("aaaa-bbbb-cccc").user(user).build();
+
+        // stub
+        when(accountRepository.findByFullNumber(123456789L)).thenReturn(Optional.of(account));
+        when(passwordEncoder.matches("1235", "aaaa-bbbb-cccc")).thenReturn(false);
+
+        // when & then
+        assertThatThrownBy(() -> accountCredentialVerifier.verify(123456789L, 1L, "1235"))
+                .isInstanceOf(NotMatchAccountPasswordException.class);
+    }
+
+    @DisplayName("자신의 계좌가 아니면 비밀번호를 비교하지 않고 예외를 발생시킨다.")
+    @Test
+    void if_not_owner_throw_exception_without_hashing() {
+        // given
+        User anotherUser = User.builder().id(2L).build();
+        Account account = Account.builder().fullNumber(123456789L).password("aaaa-bbbb-cccc").user(anotherUser).build();
+
+        // stub
+        when(accountRepository.findByFullNumber(123456789L)).thenReturn(Optional.of(account));
+
+        // when & then
+        assertThatThrownBy(() -> accountCredentialVerifier.verify(123456789L, 1L, "1234"))
+                .isInstanceOf(NotAccountOwnerException.class);
+        verify(passwordEncoder, never()).matches(anyString(), anyString());
+    }
+
+    @DisplayName("계좌가 없으면 예외를 발생시킨다.")
+    @Test
+    void if_not_exist_account_throw_exception() {
+        // stub
+        when(accountRepository.findByFullNumber(123456789L)).thenReturn(Optional.empty());
+
+        // when & then
+        assertThatThrownBy(() -> accountCredentialVerifier.verify(123456789L, 1L, "1234"))
+                .isInstanceOf(NotFoundAccountFullNumberException.class);
+    }
+
+    @DisplayName("검증 스레드와 대기 자리가 모두 차 있으면 timeout 뒤에 예외를 발생시킨다.")
+    @Test
+    void if_credential_pool_full_throw_exception() throws Exception {
+        // given
+        User user = User.builder().id(1L).build();
+        Account account = Account.builder().fullNumber(123456789L).password("aaaa-bbbb-cccc").user(user).build();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        // stub
+        when(accountRepository.findByFullNumber(123456789L)).thenReturn(Optional.of(account));
+        when(passwordEncoder.matches("1234", "aaaa-bbbb-cccc")).thenAnswer(invocation -> {
+            started.countDown();
+            release.await();
+            return true;
+        });
+
+        // when
+        CompletableFuture<Void> first = CompletableFuture.runAsync(() -> accountCredentialVerifier.verify(123456789L, 1L, "1234"));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // then
+        assertThatThrownBy(() -> accountCredentialVerifier.verify(123456789L, 1L, "1234"))
+                .isInstanceOf(AccountCredentialBusyException.class);
+        release.countDown();
+        first.get(5, TimeUnit.SECONDS);
+    }
+}
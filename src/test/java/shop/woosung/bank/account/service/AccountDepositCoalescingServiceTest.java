@@ -0,0 +1,94 @@
+package shop.woosung.bank.account.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.ActiveProfiles;
+import shop.woosung.bank.account.controller.port.AccountService;
+import shop.woosung.bank.account.domain.Account;
+import shop.woosung.bank.account.domain.AccountType;
+import shop.woosung.bank.account.service.dto.AccountDepositRequestServiceDto;
+import shop.woosung.bank.account.service.dto.AccountDepositResponseDto;
+import shop.woosung.bank.account.service.port.AccountRepository;
+import shop.woosung.bank.common.infrastructure.PasswordEncoderImpl;
+import shop.woosung.bank.transaction.domain.TransactionType;
+import shop.woosung.bank.user.domain.User;
+import shop.woosung.bank.user.domain.UserRole;
+import shop.woosung.bank.user.service.port.UserRepository;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+@ActiveProfiles("test")
+@SpringBootTest(properties = {
+        "bank.account.deposit-coalescing.enabled=true",
+        "bank.account.deposit-coalescing.window=20ms"
+})
+class AccountDepositCoalescingServiceTest {
+    @Autowired
+    private AccountService accountService;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private AccountRepository accountRepository;
+    @MockBean
+    private PasswordEncoderImpl passwordEncoderImpl;
+
+    @BeforeEach
+    void setUp() {
+        when(passwordEncoderImpl.encode(anyString())).thenReturn("aaaa-bbbb-cccc");
+    }
+
+    @DisplayName("입금 묶음 처리 시 동시에 들어온 입금마다 거래 내역이 생성되고, 입금 후 잔액은 서로 겹치지 않게 누적되어야 한다.")
+    @Test
+    void coalesced_account_deposit_100_concurrent_requests_have_distinct_running_balance() throws Exception {
+        // given
+        User user = userRepository.save(User.builder().email("coal1@test.com").password("1234").name("test").role(UserRole.CUSTOMER).build());
+        accountRepository.save(Account.builder().number(11111161L).fullNumber(23411111161L).password("aaaa-bbbb-cccc").balance(1000L).type(AccountType.NORMAL).user(user).build());
+
+        AccountDepositRequestServiceDto accountDepositRequestServiceDto = AccountDepositRequestServiceDto.builder()
+                .fullNumber(23411111161L)
+                .amount(1000L)
+                .transactionType(TransactionType.DEPOSIT)
+                .sender("32311111111")
+                .tel("010-1111-1111")
+                .build();
+
+        Set<Long> depositAccountBalances = ConcurrentHashMap.newKeySet();
+        Set<Long> transactionIds = ConcurrentHashMap.newKeySet();
+        int threadCount = 100;
+        ExecutorService executorService = Executors.newFixedThreadPool(25);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+
+        // when
+        for (int i = 0; i < threadCount; i++) {
+            executorService.submit(() -> {
+                try {
+                    AccountDepositResponseDto accountDepositResponseDto = accountService.deposit(accountDepositRequestServiceDto);
+                    depositAccountBalances.add(accountDepositResponseDto.getTransaction().getDepositAccountBalance());
+                    transactionIds.add(accountDepositResponseDto.getTransaction().getId());
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await();
+        executorService.shutdown();
+
+        // then
+        assertThat(transactionIds).hasSize(threadCount);
+        assertThat(depositAccountBalances).hasSize(threadCount);
+        assertThat(depositAccountBalances).contains(2000L, 101000L);
+        assertThat(accountService.getAccountList(user).getAccounts().get(0).getBalance()).isEqualTo(101000L);
+    }
+}
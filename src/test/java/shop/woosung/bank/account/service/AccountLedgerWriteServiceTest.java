@@ -0,0 +1,79 @@
+package shop.woosung.bank.account.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.test.context.ActiveProfiles;
+import shop.woosung.bank.account.controller.port.AccountService;
+import shop.woosung.bank.account.domain.Account;
+import shop.woosung.bank.account.domain.AccountType;
+import shop.woosung.bank.account.service.dto.AccountDepositRequestServiceDto;
+import shop.woosung.bank.account.service.port.AccountRepository;
+import shop.woosung.bank.common.infrastructure.PasswordEncoderImpl;
+import shop.woosung.bank.transaction.domain.TransactionType;
+import shop.woosung.bank.transaction.infrastructure.LedgerEntryJpaRepository;
+import shop.woosung.bank.transaction.infrastructure.TransactionJpaRepository;
+import shop.woosung.bank.user.domain.User;
+import shop.woosung.bank.user.domain.UserRole;
+import shop.woosung.bank.user.service.port.UserRepository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.when;
+
+@ActiveProfiles("test")
+@SpringBootTest(properties = "bank.account.concurrency.single-commit=false")
+class AccountLedgerWriteServiceTest {
+    @Autowired
+    private AccountService accountService;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private AccountRepository accountRepository;
+    @Autowired
+    private TransactionJpaRepository transactionJpaRepository;
+    @SpyBean
+    private LedgerEntryJpaRepository ledgerEntryJpaRepository;
+    @MockBean
+    private PasswordEncoderImpl passwordEncoderImpl;
+
+    @BeforeEach
+    void setUp() {
+        when(passwordEncoderImpl.encode(anyString())).thenReturn("aaaa-bbbb-cccc");
+        when(passwordEncoderImpl.matches(anyString(), anyString())).thenReturn(true);
+    }
+
+    @DisplayName("단일 커밋 모드가 아니어도 원장 저장이 실패하면 거래 행만 커밋되지 않는다.")
+    @Test
+    void ledger_failure_does_not_leave_transaction_without_ledger() {
+        // given
+        User user = userRepository.save(User.builder().email("ledger1@test.com").password("1234").name("test").role(UserRole.CUSTOMER).build());
+        accountRepository.save(Account.builder().number(11111203L).fullNumber(23411111203L).password("aaaa-bbbb-cccc").balance(10000L).type(AccountType.NORMAL).user(user).build());
+        long transactionCountBefore = transactionJpaRepository.count();
+        long ledgerCountBefore = ledgerEntryJpaRepository.count();
+
+        AccountDepositRequestServiceDto accountDepositRequestServiceDto = AccountDepositRequestServiceDto.builder()
+                .fullNumber(23411111203L)
+                .amount(1000L)
+                .transactionType(TransactionType.DEPOSIT)
+                .sender("32311111111")
+                .tel("010-1111-1111")
+                .build();
+
+        // stub
+        doThrow(new IllegalStateException("ledger failure")).when(ledgerEntryJpaRepository).saveAll(anyIterable());
+
+        // when & then
+        assertThatThrownBy(() -> accountService.deposit(accountDepositRequestServiceDto))
+                .hasRootCauseInstanceOf(IllegalStateException.class);
+        assertThat(transactionJpaRepository.count()).isEqualTo(transactionCountBefore);
+        assertThat(ledgerEntryJpaRepository.count()).isEqualTo(ledgerCountBefore);
+    }
+}
@@ -0,0 +1,101 @@
+package shop.woosung.bank.account.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.ActiveProfiles;
+import shop.woosung.bank.account.controller.port.AccountAdminService;
+import shop.woosung.bank.account.controller.port.AccountService;
+import shop.woosung.bank.account.domain.Account;
+import shop.woosung.bank.account.domain.AccountType;
+import shop.woosung.bank.account.service.dto.AccountDepositRequestServiceDto;
+import shop.woosung.bank.account.service.dto.AccountLockContentionResponseDto;
+import shop.woosung.bank.account.service.port.AccountRepository;
+import shop.woosung.bank.common.infrastructure.PasswordEncoderImpl;
+import shop.woosung.bank.transaction.domain.TransactionType;
+import shop.woosung.bank.user.domain.User;
+import shop.woosung.bank.user.domain.UserRole;
+import shop.woosung.bank.user.service.port.UserRepository;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+@ActiveProfiles("test")
+@SpringBootTest(properties = "bank.account.lock-metrics.top-k=3")
+class AccountLockContentionMetricsServiceTest {
+    @Autowired
+    private AccountService accountService;
+    @Autowired
+    private AccountAdminService accountAdminService;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private AccountRepository accountRepository;
+    @MockBean
+    private PasswordEncoderImpl passwordEncoderImpl;
+
+    @BeforeEach
+    void setUp() {
+        when(passwordEncoderImpl.encode(anyString())).thenReturn("aaaa-bbbb-cccc");
+    }
+
+    @DisplayName("동시에 입금하면 입금 락 대기/보유 시간이 요청마다 기록되고, 경합 계좌가 상위 계좌로 노출된다.")
+    @Test
+    void concurrent_deposit_records_lock_wait_hold_and_hot_account() throws Exception {
+        // given
+        User user = userRepository.save(User.builder().email("lockm1@test.com").password("1234").name("test").role(UserRole.CUSTOMER).build());
+        accountRepository.save(Account.builder().number(11111171L).fullNumber(23411111171L).password("aaaa-bbbb-cccc").balance(1000L).type(AccountType.NORMAL).user(user).build());
+
+        AccountDepositRequestServiceDto accountDepositRequestServiceDto = AccountDepositRequestServiceDto.builder()
+                .fullNumber(23411111171L)
+                .amount(1000L)
+                .transactionType(TransactionType.DEPOSIT)
+                .sender("32311111111")
+                .tel("010-1111-1111")
+                .build();
+
+        AccountLockContentionResponseDto.OperationDto before = getOperation(accountAdminService.getLockContention(), "DEPOSIT");
+        int threadCount = 50;
+        ExecutorService executorService = Executors.newFixedThreadPool(10);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+
+        // when
+        for (int i = 0; i < threadCount; i++) {
+            executorService.submit(() -> {
+                try {
+                    accountService.deposit(accountDepositRequestServiceDto);
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await();
+        executorService.shutdown();
+
+        // then
+        AccountLockContentionResponseDto result = accountAdminService.getLockContention();
+        AccountLockContentionResponseDto.OperationDto after = getOperation(result, "DEPOSIT");
+        assertThat(after.getWaitCount() - before.getWaitCount()).isEqualTo(threadCount);
+        assertThat(after.getHoldCount() - before.getHoldCount()).isEqualTo(threadCount);
+        assertThat(after.getHoldMaxMicros()).isPositive();
+        assertThat(after.getTimeouts()).isZero();
+        assertThat(after.getDeadlocks()).isZero();
+        assertThat(result.getHotAccounts()).hasSizeLessThanOrEqualTo(3);
+        assertThat(result.getHotAccounts().get(0).getFullNumber()).isEqualTo(23411111171L);
+    }
+
+    private AccountLockContentionResponseDto.OperationDto getOperation(AccountLockContentionResponseDto dto, String operation) {
+        return dto.getOperations().stream()
+                .filter(operationDto -> operationDto.getOperation().equals(operation))
+                .findFirst()
+                .orElseThrow();
+    }
+}
@@ -5,9 +5,11 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import shop.woosung.bank.account.domain.Account;
 import shop.woosung.bank.account.domain.AccountSequence;
+import shop.woosung.bank.account.domain.AccountSequenceBlock;
 import shop.woosung.bank.account.domain.AccountType;
 import shop.woosung.bank.account.handler.exception.*;
 import shop.woosung.bank.account.service.dto.AccountTransferLockResponseDto;
@@ -15,7 +17,7 @@ import shop.woosung.bank.account.service.dto.AccountTransferLockServiceDto;
 import shop.woosung.bank.account.service.dto.AccountWithdrawLockServiceDto;
 import shop.woosung.bank.account.service.port.AccountRepository;
 import shop.woosung.bank.account.service.port.AccountSequenceRepository;
-import shop.woosung.bank.common.service.port.PasswordEncoder;
+import shop.woosung.bank.config.AccountProperties;
 import shop.woosung.bank.user.domain.User;
 
 import java.util.Optional;
@@ -33,8 +35,8 @@ class AccountLockServiceImplTest {
     private AccountRepository accountRepository;
     @Mock
     private AccountSequenceRepository accountSequenceRepository;
-    @Mock
-    private PasswordEncoder passwordEncoder;
+    @Spy
+    private AccountLockMetrics accountLockMetrics = new AccountLockMetrics(new AccountProperties());
 
     @DisplayName("새로운 계좌 번호를 가져오는 것에 성공한다.")
     @Test
@@ -53,6 +55,24 @@ class AccountLockServiceImplTest {
         assertThat(accountSequence.getNextValue()).isEqualTo(1000001L);
     }
 
+    @DisplayName("시퀀스 행을 한 번 잠가 계좌 번호 여러 개를 한 번에 예약한다.")
+    @Test
+    void reserve_account_numbers() {
+        // given
+        AccountSequence accountSequence = AccountSequence.builder().sequenceName(AccountType.NORMAL).nextValue(1000000L).incrementBy(1L).build();
+
+        // stub
+        when(accountSequenceRepository.findById(anyString())).thenReturn(Optional.of(accountSequence));
+
+        // when
+        AccountSequenceBlock result = accountLockService.reserveAccountNumbers(AccountType.NORMAL, 1000);
+
+        // then
+        assertThat(result.next().getAsLong()).isEqualTo(1000000L);
+        assertThat(result.getRemaining()).isEqualTo(999L);
+        assertThat(accountSequence.getNextValue()).isEqualTo(1001000L);
+    }
+
     @DisplayName("새로운 계좌 번호를 가져올 때 존재하지 않는 타입이면 예외를 발생시킨다.")
     @Test
     void if_not_found_account_type_when_get_account_sequence_number_throw_exception() {
@@ -113,7 +133,6 @@ class AccountLockServiceImplTest {
 
         // stub
         when(accountRepository.findByFullNumberWithPessimisticLock(anyLong())).thenReturn(Optional.of(account));
-        when(passwordEncoder.matches(anyString(), anyString())).thenReturn(true);
 
         // when
         Account result = accountLockService.withdrawWithLock(accountWithdrawLockServiceDto);
@@ -167,27 +186,6 @@ class AccountLockServiceImplTest {
                 .isInstanceOf(NotAccountOwnerException.class);
     }
 
-    @DisplayName("계좌 출금시 계좌 비밀번호가 일치하지 않으면 예외를 발생시킨다.")
-    @Test
-    void if_not_match_password_when_account_withdraw_throw_exception() {
-        // given
-        User user = User.builder().id(1L).build();
-        AccountWithdrawLockServiceDto accountWithdrawLockServiceDto = AccountWithdrawLockServiceDto.builder()
-                .user(user)
-                .fullNumber(123456789L)
-                .password("1234")
-                .amount(10000L)
-                .build();
-        Account account = Account.builder().fullNumber(123456789L).balance(1000L).password("dddd-eeee-ffff").user(user).build();
-
-        // stub
-        when(accountRepository.findByFullNumberWithPessimisticLock(anyLong())).thenReturn(Optional.of(account));
-
-        // when & then
-        assertThatThrownBy(() -> accountLockService.withdrawWithLock(accountWithdrawLockServiceDto))
-                .isInstanceOf(NotMatchAccountPasswordException.class);
-    }
-
     @DisplayName("계좌 출금시 잔액이 부족하면 예외를 발생시킨다.")
     @Test
     void if_not_enough_balance_when_account_withdraw_throw_exception() {
@@ -202,7 +200,6 @@ class AccountLockServiceImplTest {
         Account account = Account.builder().fullNumber(123456789L).balance(1000L).password("aaaa-bbbb-cccc").user(user).build();
 
         // stub
-        when(passwordEncoder.matches(anyString(), anyString())).thenReturn(true);
         when(accountRepository.findByFullNumberWithPessimisticLock(anyLong())).thenReturn(Optional.of(account));
 
         // when & then
@@ -222,7 +219,6 @@ class AccountLockServiceImplTest {
         Account depositAccount = Account.builder().id(2L).fullNumber(123456789L).balance(0L).build();
         when(accountRepository.findByFullNumberWithPessimisticLock(eq(999999999L))).thenReturn(Optional.of(withdrawAccount));
         when(accountRepository.findByFullNumberWithPessimisticLock(eq(123456789L))).thenReturn(Optional.of(depositAccount));
-        when(passwordEncoder.matches(eq("1234"), eq("1234"))).thenReturn(true);
 
         // when
         AccountTransferLockResponseDto result = accountLockService.transferWithLock(accountTransferLockServiceDto);
@@ -296,25 +292,6 @@ class AccountLockServiceImplTest {
                 .isInstanceOf(NotAccountOwnerException.class);
     }
 
-    @DisplayName("계좌 이체시 출금 계좌의 비밀번호가 일치하지않으면 예외를 발생시킨다.")
-    @Test
-    void if_not_match_password_when_account_transfer_throw_exception() {
-        // given
-        User user = User.builder().id(1L).build();
-        AccountTransferLockServiceDto accountTransferLockServiceDto = AccountTransferLockServiceDto.builder().withdrawFullNumber(999999999L).withdrawPassword(1235L).depositFullNumber(123456789L).user(user).build();
-
-        // stub
-        Account withdrawAccount = Account.builder().id(1L).fullNumber(999999999L).password("1234").user(user).build();
-        Account depositAccount = Account.builder().id(2L).fullNumber(123456789L).build();
-        when(accountRepository.findByFullNumberWithPessimisticLock(eq(999999999L))).thenReturn(Optional.of(withdrawAccount));
-        when(accountRepository.findByFullNumberWithPessimisticLock(eq(123456789L))).thenReturn(Optional.of(depositAccount));
-        when(passwordEncoder.matches(eq("1235"), eq("1234"))).thenReturn(false);
-
-        // when & then
-        assertThatThrownBy(() -> accountLockService.transferWithLock(accountTransferLockServiceDto))
-                .isInstanceOf(NotMatchAccountPasswordException.class);
-    }
-
     @DisplayName("계좌 이체시 출금 계좌의 금액이 부족하면 예외를 발생시킨다.")
     @Test
     void if_not_enough_balance_when_account_transfer_throw_exception() {
@@ -327,7 +304,6 @@ class AccountLockServiceImplTest {
         Account depositAccount = Account.builder().id(2L).fullNumber(123456789L).build();
         when(accountRepository.findByFullNumberWithPessimisticLock(eq(999999999L))).thenReturn(Optional.of(withdrawAccount));
         when(accountRepository.findByFullNumberWithPessimisticLock(eq(123456789L))).thenReturn(Optional.of(depositAccount));
-        when(passwordEncoder.matches(eq("1234"), eq("1234"))).thenReturn(true);
 
         // when & then
         assertThatThrownBy(() -> accountLockService.transferWithLock(accountTransferLockServiceDto))
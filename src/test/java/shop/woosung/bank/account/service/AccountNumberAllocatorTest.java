@@ -0,0 +1,145 @@
+package shop.woosung.bank.account.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import shop.woosung.bank.account.domain.AccountSequenceBlock;
+import shop.woosung.bank.account.domain.AccountType;
+import shop.woosung.bank.account.handler.exception.NotFoundAccountSequenceException;
+import shop.woosung.bank.config.AccountProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AccountNumberAllocatorTest {
+    @Mock
+    private AccountLockServiceImpl accountLockServiceImpl;
+    private AccountNumberAllocator accountNumberAllocator;
+
+    @AfterEach
+    void tearDown() {
+        accountNumberAllocator.shutdown();
+    }
+
+    @DisplayName("블록 하나를 예약하면 블록 안의 번호는 DB 없이 순서대로 나눠 준다.")
+    @Test
+    void allocate_numbers_from_reserved_block() {
+        // given
+        accountNumberAllocator = createAllocator(10, 0.0);
+
+        // stub
+        when(accountLockServiceImpl.reserveAccountNumbers(AccountType.NORMAL, 10)).thenReturn(new AccountSequenceBlock(1000L, 1L, 10));
+
+        // when
+        List<Long> numbers = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            numbers.add(accountNumberAllocator.next(AccountType.NORMAL));
+        }
+
+        // then
+        assertThat(numbers).containsExactly(1000L, 1001L, 1002L, 1003L, 1004L);
+        verify(accountLockServiceImpl, times(1)).reserveAccountNumbers(any(), anyInt());
+    }
+
+    @DisplayName("남은 번호가 기준 이하가 되면 다음 블록을 미리 예약하고, 현재 블록을 다 쓰면 이어서 사용한다.")
+    @Test
+    void refill_next_block_before_current_block_runs_out() {
+        // given
+        accountNumberAllocator = createAllocator(4, 0.5);
+
+        // stub
+        when(accountLockServiceImpl.reserveAccountNumbers(AccountType.SAVING, 4))
+                .thenReturn(new AccountSequenceBlock(1000L, 1L, 4))
+                .thenReturn(new AccountSequenceBlock(5000L, 1L, 4));
+
+        // when
+        accountNumberAllocator.next(AccountType.SAVING);
+        accountNumberAllocator.next(AccountType.SAVING);
+        verify(accountLockServiceImpl, timeout(1000).times(2)).reserveAccountNumbers(AccountType.SAVING, 4);
+        List<Long> numbers = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            numbers.add(accountNumberAllocator.next(AccountType.SAVING));
+        }
+
+        // then
+        assertThat(numbers).containsExactly(1002L, 1003L, 5000L);
+        verify(accountLockServiceImpl, times(2)).reserveAccountNumbers(AccountType.SAVING, 4);
+    }
+
+    @DisplayName("미리 예약이 실패하면 블록이 바뀌는 시점에 호출 스레드에서 다시 예약한다.")
+    @Test
+    void if_refill_failed_reserve_on_caller_thread() {
+        // given
+        accountNumberAllocator = createAllocator(2, 0.5);
+
+        // stub
+        when(accountLockServiceImpl.reserveAccountNumbers(AccountType.NORMAL, 2))
+                .thenReturn(new AccountSequenceBlock(1000L, 1L, 2))
+                .thenThrow(new NotFoundAccountSequenceException(AccountType.NORMAL))
+                .thenReturn(new AccountSequenceBlock(3000L, 1L, 2));
+
+        // when
+        Long first = accountNumberAllocator.next(AccountType.NORMAL);
+        verify(accountLockServiceImpl, timeout(1000).times(2)).reserveAccountNumbers(AccountType.NORMAL, 2);
+        Long second = accountNumberAllocator.next(AccountType.NORMAL);
+        Long third = accountNumberAllocator.next(AccountType.NORMAL);
+
+        // then
+        assertThat(List.of(first, second, third)).containsExactly(1000L, 1001L, 3000L);
+    }
+
+    @DisplayName("여러 스레드가 동시에 번호를 받아도 중복되는 번호가 없어야 한다.")
+    @Test
+    void concurrent_allocation_not_have_duplicate_numbers() throws Exception {
+        // given
+        accountNumberAllocator = createAllocator(100, 0.2);
+        AtomicLong nextValue = new AtomicLong(1000L);
+
+        // stub
+        when(accountLockServiceImpl.reserveAccountNumbers(eq(AccountType.NORMAL), eq(100)))
+                .thenAnswer(invocation -> new AccountSequenceBlock(nextValue.getAndAdd(100), 1L, 100));
+
+        int threadCount = 8;
+        int numbersPerThread = 500;
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        Set<Long> numbers = ConcurrentHashMap.newKeySet();
+        CountDownLatch latch = new CountDownLatch(threadCount);
+
+        // when
+        for (int i = 0; i < threadCount; i++) {
+            executorService.submit(() -> {
+                try {
+                    for (int j = 0; j < numbersPerThread; j++) {
+                        numbers.add(accountNumberAllocator.next(AccountType.NORMAL));
+                    }
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await();
+        executorService.shutdown();
+
+        // then
+        assertThat(numbers).hasSize(threadCount * numbersPerThread);
+    }
+
+    private AccountNumberAllocator createAllocator(int blockSize, double refillThreshold) {
+        AccountProperties accountProperties = new AccountProperties();
+        accountProperties.getSequence().setBlockSize(blockSize);
+        accountProperties.getSequence().setRefillThreshold(refillThreshold);
+        return new AccountNumberAllocator(accountLockServiceImpl, accountProperties);
+    }
+}
@@ -0,0 +1,222 @@
+package shop.woosung.bank.account.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import shop.woosung.bank.account.controller.port.AccountService;
+import shop.woosung.bank.account.domain.Account;
+import shop.woosung.bank.account.domain.AccountTransferIntent;
+import shop.woosung.bank.account.domain.AccountType;
+import shop.woosung.bank.account.handler.exception.AccountBalanceChangedException;
+import shop.woosung.bank.account.handler.exception.NotEnoughBalanceException;
+import shop.woosung.bank.account.service.dto.*;
+import shop.woosung.bank.account.service.port.AccountRepository;
+import shop.woosung.bank.account.service.port.AccountTransferIntentRepository;
+import shop.woosung.bank.common.infrastructure.PasswordEncoderImpl;
+import shop.woosung.bank.config.AccountProperties;
+import shop.woosung.bank.transaction.domain.TransactionType;
+import shop.woosung.bank.user.domain.User;
+import shop.woosung.bank.user.domain.UserRole;
+import shop.woosung.bank.user.service.port.UserRepository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+@ActiveProfiles({"test", "partitioned"})
+@SpringBootTest(properties = {"bank.account.partition.count=4", "bank.account.partition.allow-separate-ledger-commit=true"})
+class AccountPartitionedConcurrencyServiceTest {
+    @Autowired
+    private AccountService accountService;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private AccountRepository accountRepository;
+    @Autowired
+    private AccountTransferIntentRepository accountTransferIntentRepository;
+    @Autowired
+    private AccountPartitionEngine accountPartitionEngine;
+    @Autowired
+    private AccountTransferIntentRecoverer accountTransferIntentRecoverer;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @MockBean
+    private PasswordEncoderImpl passwordEncoderImpl;
+
+    @BeforeEach
+    void setUp() {
+        when(passwordEncoderImpl.encode(anyString())).thenReturn("aaaa-bbbb-cccc");
+        when(passwordEncoderImpl.matches(anyString(), anyString())).thenReturn(true);
+    }
+
+    @DisplayName("파티션 모드에서 같은 계좌에 입금 요청을 동시에 100개를 보내도 최종 금액이 모든 요청 금액을 합친 것과 같아야한다.")
+    @Test
+    void partitioned_account_deposit_100_concurrent_requests() throws Exception {
+        // given
+        User user = userRepository.save(User.builder().email("part1@test.com").password("1234").name("test").role(UserRole.CUSTOMER).build());
+        accountRepository.save(Account.builder().number(11111151L).fullNumber(23411111151L).password("aaaa-bbbb-cccc").balance(1000L).type(AccountType.NORMAL).user(user).build());
+
+        AccountDepositRequestServiceDto accountDepositRequestServiceDto = AccountDepositRequestServiceDto.builder()
+                .fullNumber(23411111151L)
+                .amount(1000L)
+                .transactionType(TransactionType.DEPOSIT)
+                .sender("32311111111")
+                .tel("010-1111-1111")
+                .build();
+
+        AtomicLong maxAmount = new AtomicLong(0);
+        int threadCount = 100;
+        ExecutorService executorService = Executors.newFixedThreadPool(25);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+
+        // when
+        for (int i = 0; i < threadCount; i++) {
+            executorService.submit(() -> {
+                try {
+                    AccountDepositResponseDto accountDepositResponseDto = accountService.deposit(accountDepositRequestServiceDto);
+                    maxAmount.accumulateAndGet(accountDepositResponseDto.getTransaction().getDepositAccountBalance(), Math::max);
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await();
+        executorService.shutdown();
+
+        // then
+        assertThat(maxAmount.get()).isEqualTo(101000L);
+        assertThat(accountService.getAccountList(user).getAccounts().get(0).getBalance()).isEqualTo(101000L);
+    }
+
+    @DisplayName("파티션 모드에서 여러 계좌 사이의 이체를 동시에 보내도 총액이 보존되고 잔액이 음수가 되지 않는다.")
+    @Test
+    void partitioned_account_transfer_between_partitions_never_overdraw() throws Exception {
+        // given
+        User user = userRepository.save(User.builder().email("part2@test.com").password("aaaa-bbbb-cccc").name("test").role(UserRole.CUSTOMER).build());
+        List<Long> fullNumbers = List.of(23711111151L, 23711111152L, 23711111153L, 23711111154L);
+        for (Long fullNumber : fullNumbers) {
+            accountRepository.save(Account.builder().number(fullNumber % 100000000L).fullNumber(fullNumber).password("aaaa-bbbb-cccc").balance(3000L).type(AccountType.NORMAL).user(user).build());
+        }
+
+        AtomicInteger successCount = new AtomicInteger();
+        AtomicInteger notEnoughBalanceCount = new AtomicInteger();
+        int threadCount = 200;
+        ExecutorService executorService = Executors.newFixedThreadPool(25);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+
+        // when
+        for (int i = 0; i < threadCount; i++) {
+            AccountTransferRequestServiceDto accountTransferRequestServiceDto = AccountTransferRequestServiceDto.builder()
+                    .withdrawFullNumber(fullNumbers.get(i % 4))
+                    .depositFullNumber(fullNumbers.get((i + 1 + i / 4 % 3) % 4))
+                    .withdrawPassword(1234L)
+                    .amount(1000L)
+                    .transactionType(TransactionType.TRANSFER)
+                    .build();
+            executorService.submit(() -> {
+                try {
+                    accountService.transfer(accountTransferRequestServiceDto, user);
+                    successCount.incrementAndGet();
+                } catch (NotEnoughBalanceException exception) {
+                    notEnoughBalanceCount.incrementAndGet();
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await();
+        executorService.shutdown();
+
+        // then
+        AccountListResponseDto accountListResponseDto = accountService.getAccountList(user);
+        assertThat(successCount.get() + notEnoughBalanceCount.get()).isEqualTo(threadCount);
+        assertThat(accountListResponseDto.getAccounts())
+                .extracting(AccountListResponseDto.AccountDto::getBalance)
+                .allMatch(balance -> balance >= 0);
+        assertThat(accountListResponseDto.getAccounts().stream().mapToLong(AccountListResponseDto.AccountDto::getBalance).sum()).isEqualTo(12000L);
+    }
+
+    @DisplayName("파티션 엔진이 계좌를 읽은 뒤 엔진 밖에서 잔액이 바뀌면 덮어쓰지 않고 실패하며, 다음 요청은 바뀐 잔액에서 이어진다.")
+    @Test
+    void partitioned_flush_does_not_overwrite_outside_change() {
+        // given
+        User user = userRepository.save(User.builder().email("part4@test.com").password("1234").name("test").role(UserRole.CUSTOMER).build());
+        accountRepository.save(Account.builder().number(11111161L).fullNumber(23711111161L).password("aaaa-bbbb-cccc").balance(1000L).type(AccountType.NORMAL).user(user).build());
+        AccountDepositRequestServiceDto accountDepositRequestServiceDto = AccountDepositRequestServiceDto.builder()
+                .fullNumber(23711111161L)
+                .amount(1000L)
+                .transactionType(TransactionType.DEPOSIT)
+                .sender("32311111111")
+                .tel("010-1111-1111")
+                .build();
+        accountService.deposit(accountDepositRequestServiceDto);
+
+        // when
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> accountRepository.applyDeposit(23711111161L, 500L));
+
+        // then
+        assertThatThrownBy(() -> accountService.deposit(accountDepositRequestServiceDto))
+                .isInstanceOf(AccountBalanceChangedException.class);
+        assertThat(accountService.deposit(accountDepositRequestServiceDto).getTransaction().getDepositAccountBalance()).isEqualTo(3500L);
+        assertThat(accountRepository.findByFullNumber(23711111161L).get().getBalance()).isEqualTo(3500L);
+    }
+
+    @DisplayName("파티션 간 이체가 차감만 커밋된 채 중단되면 복구 작업이 출금 계좌로 되돌리고, 차감 전에 중단된 의도는 지우기만 한다.")
+    @Test
+    void partitioned_transfer_intent_recovery_refunds_withdrawn_amount() {
+        // given
+        User user = userRepository.save(User.builder().email("part5@test.com").password("1234").name("test").role(UserRole.CUSTOMER).build());
+        accountRepository.save(Account.builder().number(11111162L).fullNumber(23711111162L).password("aaaa-bbbb-cccc").balance(1000L).type(AccountType.NORMAL).user(user).build());
+        accountRepository.save(Account.builder().number(11111163L).fullNumber(23711111163L).password("aaaa-bbbb-cccc").balance(0L).type(AccountType.NORMAL).user(user).build());
+        List<AccountTransferIntent> intents = new TransactionTemplate(transactionManager).execute(status -> accountTransferIntentRepository.saveAll(List.of(
+                AccountTransferIntent.create(23711111162L, 23711111163L, 300L),
+                AccountTransferIntent.create(23711111162L, 23711111163L, 200L))));
+        Long withdrawnIntentId = intents.get(0).getId();
+        Long pendingIntentId = intents.get(1).getId();
+        accountPartitionEngine.execute(23711111162L, partition -> {
+            partition.withdraw(23711111162L, 300L);
+            partition.markWithdrawn(List.of(withdrawnIntentId));
+            return null;
+        });
+
+        // when
+        int recovered = accountTransferIntentRecoverer.recover(LocalDateTime.now().plusSeconds(1));
+
+        // then
+        assertThat(recovered).isGreaterThanOrEqualTo(2);
+        assertThat(accountRepository.findByFullNumber(23711111162L).get().getBalance()).isEqualTo(1000L);
+        assertThat(accountRepository.findByFullNumber(23711111163L).get().getBalance()).isEqualTo(0L);
+        List<AccountTransferIntent> remainingIntents = new TransactionTemplate(transactionManager)
+                .execute(status -> accountTransferIntentRepository.findUpdatedBefore(LocalDateTime.now().plusSeconds(1)));
+        assertThat(remainingIntents)
+                .extracting(AccountTransferIntent::getId)
+                .doesNotContain(withdrawnIntentId, pendingIntentId);
+    }
+
+    @DisplayName("거래 내역을 잔액과 별도로 커밋하는 것을 허용하지 않으면 파티션 엔진은 시작하지 않는다.")
+    @Test
+    void partitioned_engine_refuses_to_start_without_separate_ledger_commit_allowed() {
+        // given
+        AccountPartitionEngine engine = new AccountPartitionEngine(accountRepository, accountTransferIntentRepository, transactionManager, new AccountProperties());
+
+        // when // then
+        assertThatThrownBy(engine::start)
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("allow-separate-ledger-commit");
+    }
+}
@@ -0,0 +1,166 @@
+package shop.woosung.bank.account.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.ActiveProfiles;
+import shop.woosung.bank.account.controller.port.AccountAdminService;
+import shop.woosung.bank.account.controller.port.AccountService;
+import shop.woosung.bank.account.domain.Account;
+import shop.woosung.bank.account.domain.AccountType;
+import shop.woosung.bank.account.handler.exception.NotEnoughBalanceException;
+import shop.woosung.bank.account.handler.exception.SameAccountTransferException;
+import shop.woosung.bank.account.service.dto.AccountLockContentionResponseDto;
+import shop.woosung.bank.account.service.dto.AccountPayoutLegDto;
+import shop.woosung.bank.account.service.dto.AccountPayoutRequestServiceDto;
+import shop.woosung.bank.account.service.dto.AccountPayoutResponseDto;
+import shop.woosung.bank.account.service.port.AccountRepository;
+import shop.woosung.bank.common.infrastructure.PasswordEncoderImpl;
+import shop.woosung.bank.user.domain.User;
+import shop.woosung.bank.user.domain.UserRole;
+import shop.woosung.bank.user.service.port.UserRepository;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+@ActiveProfiles("test")
+@SpringBootTest
+class AccountPayoutServiceTest {
+    @Autowired
+    private AccountService accountService;
+    @Autowired
+    private AccountAdminService accountAdminService;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private AccountRepository accountRepository;
+    @MockBean
+    private PasswordEncoderImpl passwordEncoderImpl;
+
+    @BeforeEach
+    void setUp() {
+        when(passwordEncoderImpl.encode(anyString())).thenReturn("aaaa-bbbb-cccc");
+        when(passwordEncoderImpl.matches(anyString(), anyString())).thenReturn(true);
+    }
+
+    @DisplayName("지급 요청 시 출금 계좌는 총액만큼 한 번 차감되고, 건별 입금과 거래 내역이 생성되며 계좌마다 락은 한 번만 잡는다.")
+    @Test
+    void payout_debits_source_once_and_credits_every_leg() {
+        // given
+        User user = userRepository.save(User.builder().email("pay1@test.com").password("1234").name("test").role(UserRole.CUSTOMER).build());
+        accountRepository.save(Account.builder().number(11111181L).fullNumber(23411111181L).password("aaaa-bbbb-cccc").balance(100000L).type(AccountType.NORMAL).user(user).build());
+        accountRepository.save(Account.builder().number(11111182L).fullNumber(23411111182L).password("aaaa-bbbb-cccc").balance(0L).type(AccountType.NORMAL).user(user).build());
+        accountRepository.save(Account.builder().number(11111183L).fullNumber(23411111183L).password("aaaa-bbbb-cccc").balance(500L).type(AccountType.NORMAL).user(user).build());
+
+        AccountPayoutRequestServiceDto accountPayoutRequestServiceDto = AccountPayoutRequestServiceDto.builder()
+                .withdrawFullNumber(23411111181L)
+                .withdrawPassword(1234L)
+                .legs(List.of(
+                        AccountPayoutLegDto.builder().depositFullNumber(23411111183L).amount(3000L).build(),
+                        AccountPayoutLegDto.builder().depositFullNumber(23411111182L).amount(1000L).build(),
+                        AccountPayoutLegDto.builder().depositFullNumber(23411111183L).amount(2000L).build()))
+                .build();
+
+        long payoutLocksBefore = getPayoutWaitCount();
+
+        // when
+        AccountPayoutResponseDto result = accountService.payout(accountPayoutRequestServiceDto, user);
+
+        // then
+        assertThat(result.getBalance()).isEqualTo(94000L);
+        assertThat(result.getTotalAmount()).isEqualTo(6000L);
+        assertThat(result.getTransactions()).hasSize(3);
+        assertThat(result.getTransactions()).extracting("receiver").containsExactly("23411111183", "23411111182", "23411111183");
+        assertThat(result.getTransactions()).extracting("depositAccountBalance").containsExactly(3500L, 1000L, 5500L);
+        assertThat(getBalance(user, 23411111181L)).isEqualTo(94000L);
+        assertThat(getBalance(user, 23411111182L)).isEqualTo(1000L);
+        assertThat(getBalance(user, 23411111183L)).isEqualTo(5500L);
+        assertThat(getPayoutWaitCount() - payoutLocksBefore).isEqualTo(3L);
+    }
+
+    @DisplayName("지급 총액이 출금 계좌 잔액보다 크면 예외가 발생하고 어느 계좌의 잔액도 바뀌지 않는다.")
+    @Test
+    void payout_total_exceeds_balance_throw_exception_and_rollback() {
+        // given
+        User user = userRepository.save(User.builder().email("pay2@test.com").password("1234").name("test").role(UserRole.CUSTOMER).build());
+        accountRepository.save(Account.builder().number(11111184L).fullNumber(23411111184L).password("aaaa-bbbb-cccc").balance(1500L).type(AccountType.NORMAL).user(user).build());
+        accountRepository.save(Account.builder().number(11111185L).fullNumber(23411111185L).password("aaaa-bbbb-cccc").balance(0L).type(AccountType.NORMAL).user(user).build());
+
+        AccountPayoutRequestServiceDto accountPayoutRequestServiceDto = AccountPayoutRequestServiceDto.builder()
+                .withdrawFullNumber(23411111184L)
+                .withdrawPassword(1234L)
+                .legs(List.of(
+                        AccountPayoutLegDto.builder().depositFullNumber(23411111185L).amount(1000L).build(),
+                        AccountPayoutLegDto.builder().depositFullNumber(23411111185L).amount(1000L).build()))
+                .build();
+
+        // when // then
+        assertThatThrownBy(() -> accountService.payout(accountPayoutRequestServiceDto, user))
+                .isInstanceOf(NotEnoughBalanceException.class);
+        assertThat(getBalance(user, 23411111184L)).isEqualTo(1500L);
+        assertThat(getBalance(user, 23411111185L)).isEqualTo(0L);
+    }
+
+    @DisplayName("건별 금액의 합이 long 범위를 넘으면 음수 총액으로 지급되지 않고 잔액 부족 예외가 발생한다.")
+    @Test
+    void payout_total_overflow_throw_exception_and_rollback() {
+        // given
+        User user = userRepository.save(User.builder().email("pay4@test.com").password("1234").name("test").role(UserRole.CUSTOMER).build());
+        accountRepository.save(Account.builder().number(11111187L).fullNumber(23411111187L).password("aaaa-bbbb-cccc").balance(1500L).type(AccountType.NORMAL).user(user).build());
+        accountRepository.save(Account.builder().number(11111188L).fullNumber(23411111188L).password("aaaa-bbbb-cccc").balance(0L).type(AccountType.NORMAL).user(user).build());
+
+        AccountPayoutRequestServiceDto accountPayoutRequestServiceDto = AccountPayoutRequestServiceDto.builder()
+                .withdrawFullNumber(23411111187L)
+                .withdrawPassword(1234L)
+                .legs(List.of(
+                        AccountPayoutLegDto.builder().depositFullNumber(23411111188L).amount(Long.MAX_VALUE / 2 + 1).build(),
+                        AccountPayoutLegDto.builder().depositFullNumber(23411111188L).amount(Long.MAX_VALUE / 2 + 1).build()))
+                .build();
+
+        // when // then
+        assertThatThrownBy(() -> accountService.payout(accountPayoutRequestServiceDto, user))
+                .isInstanceOf(NotEnoughBalanceException.class);
+        assertThat(getBalance(user, 23411111187L)).isEqualTo(1500L);
+        assertThat(getBalance(user, 23411111188L)).isEqualTo(0L);
+    }
+
+    @DisplayName("지급 대상에 출금 계좌가 포함되어 있으면 예외가 발생한다.")
+    @Test
+    void payout_to_withdraw_account_throw_exception() {
+        // given
+        User user = userRepository.save(User.builder().email("pay3@test.com").password("1234").name("test").role(UserRole.CUSTOMER).build());
+        accountRepository.save(Account.builder().number(11111186L).fullNumber(23411111186L).password("aaaa-bbbb-cccc").balance(1500L).type(AccountType.NORMAL).user(user).build());
+
+        AccountPayoutRequestServiceDto accountPayoutRequestServiceDto = AccountPayoutRequestServiceDto.builder()
+                .withdrawFullNumber(23411111186L)
+                .withdrawPassword(1234L)
+                .legs(List.of(AccountPayoutLegDto.builder().depositFullNumber(23411111186L).amount(1000L).build()))
+                .build();
+
+        // when // then
+        assertThatThrownBy(() -> accountService.payout(accountPayoutRequestServiceDto, user))
+                .isInstanceOf(SameAccountTransferException.class);
+    }
+
+    private Long getBalance(User user, Long fullNumber) {
+        return accountService.getAccountList(user).getAccounts().stream()
+                .filter(account -> account.getFullNumber().equals(fullNumber))
+                .findFirst()
+                .orElseThrow()
+                .getBalance();
+    }
+
+    private long getPayoutWaitCount() {
+        return accountAdminService.getLockContention().getOperations().stream()
+                .filter(operationDto -> operationDto.getOperation().equals("PAYOUT"))
+                .mapToLong(AccountLockContentionResponseDto.OperationDto::getWaitCount)
+                .sum();
+    }
+}
@@ -5,16 +5,20 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
 import shop.woosung.bank.account.controller.port.AccountLockService;
 import shop.woosung.bank.account.domain.Account;
+import shop.woosung.bank.account.domain.AccountSummary;
 import shop.woosung.bank.account.domain.AccountType;
-import shop.woosung.bank.account.domain.AccountTypeNumber;
 import shop.woosung.bank.account.handler.exception.*;
+import shop.woosung.bank.account.infrastructure.NoOpAccountLockManager;
 import shop.woosung.bank.account.service.dto.*;
+import shop.woosung.bank.account.service.port.AccountBalanceSlotRepository;
 import shop.woosung.bank.account.service.port.AccountRepository;
-import shop.woosung.bank.account.service.port.AccountTypeNumberRepository;
 import shop.woosung.bank.common.service.port.PasswordEncoder;
+import shop.woosung.bank.config.AccountProperties;
 import shop.woosung.bank.transaction.domain.Transaction;
 import shop.woosung.bank.transaction.domain.TransactionType;
 import shop.woosung.bank.transaction.service.port.TransactionRepository;
@@ -22,6 +26,7 @@ import shop.woosung.bank.user.domain.User;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -37,8 +42,19 @@ class AccountServiceImplTest {
     private AccountRepository accountRepository;
     @Mock
     private AccountLockService accountLockService;
+    @Spy
+    private AccountWriteExecutor accountWriteExecutor = new AccountWriteExecutor(new NoOpAccountLockManager(),
+            new AccountLockRetryTemplate(new AccountLockRetryMetrics(), new AccountProperties()), new AccountProperties(), mock(PlatformTransactionManager.class));
     @Mock
-    private AccountTypeNumberRepository accountTypeNumberRepository;
+    private AccountCredentialVerifier accountCredentialVerifier;
+    @Mock
+    private AccountBalanceSlotRegistry accountBalanceSlotRegistry;
+    @Mock
+    private AccountBalanceSlotRepository accountBalanceSlotRepository;
+    @Mock
+    private AccountDepositCoalescer accountDepositCoalescer;
+    @Mock
+    private AccountTypeRegistry accountTypeRegistry;
     @Mock
     private TransactionRepository transactionRepository;
     @Mock
@@ -51,10 +67,10 @@ class AccountServiceImplTest {
         User user = User.builder().id(1L).name("test").build();
 
         // stub
-        when(accountRepository.findByUserId(anyLong())).thenReturn(
+        when(accountRepository.findSummariesByUserId(anyLong())).thenReturn(
                 List.of(
-                        Account.builder().id(1L).fullNumber(23211111111L).type(AccountType.NORMAL).balance(1000L).user(user).build(),
-                        Account.builder().id(2L).fullNumber(23211111112L).type(AccountType.SAVING).balance(2000L).user(user).build()
+                        new AccountSummary(1L, 23211111111L, 1000L, AccountType.NORMAL),
+                        new AccountSummary(2L, 23211111112L, 2000L, AccountType.SAVING)
                 ));
 
         // when
@@ -73,6 +89,28 @@ class AccountServiceImplTest {
         assertThat(result.getAccounts().get(1).getBalance()).isEqualTo(2000L);
     }
 
+    @DisplayName("분할 잔액 모드 계좌는 계좌 잔액에 슬롯 잔액 합계를 더해 보여준다.")
+    @Test
+    void get_my_all_accounts_with_balance_slots() {
+        // given
+        User user = User.builder().id(1L).name("test").build();
+
+        // stub
+        when(accountRepository.findSummariesByUserId(anyLong())).thenReturn(
+                List.of(
+                        new AccountSummary(1L, 23211111111L, 1000L, AccountType.NORMAL),
+                        new AccountSummary(2L, 23211111112L, 2000L, AccountType.NORMAL)
+                ));
+        when(accountBalanceSlotRepository.sumBalanceByAccountFullNumbers(List.of(23211111111L, 23211111112L))).thenReturn(Map.of(23211111112L, 500L));
+
+        // when
+        AccountListResponseDto result = accountService.getAccountList(user);
+
+        // then
+        assertThat(result.getAccounts().get(0).getBalance()).isEqualTo(1000L);
+        assertThat(result.getAccounts().get(1).getBalance()).isEqualTo(2500L);
+    }
+
     @DisplayName("새로운 계좌를 등록한다.")
     @Test
     void register_new_account() {
@@ -81,8 +119,8 @@ class AccountServiceImplTest {
         AccountRegisterRequestServiceDto accountRegisterRequestServiceDto = AccountRegisterRequestServiceDto.builder().password("1234").balance(1000L).type(AccountType.NORMAL).build();
 
         // stub
-        when(accountTypeNumberRepository.findById(any())).thenReturn(Optional.of(AccountTypeNumber.builder().accountType(AccountType.NORMAL).number(232L).build()));
-        when(accountLockService.getNewAccountNumber(any())).thenReturn(11111111111L);
+        when(accountTypeRegistry.getTypeNumber(any())).thenReturn(232L);
+        when(accountLockService.getNewAccountNumber(any())).thenReturn(1111111111L);
         when(accountRepository.save(any())).thenReturn(Account.builder().id(1L).fullNumber(23211111111L).number(11111111111L).type(AccountType.NORMAL).balance(1000L).build());
 
         // when
@@ -103,7 +141,7 @@ class AccountServiceImplTest {
         AccountRegisterRequestServiceDto accountRegisterRequestServiceDto = AccountRegisterRequestServiceDto.builder().password("1234").balance(1000L).type(AccountType.NORMAL).build();
 
         // stub
-        when(accountTypeNumberRepository.findById(any())).thenReturn(Optional.empty());
+        when(accountTypeRegistry.getTypeNumber(any())).thenThrow(new NotFoundAccountTypeNumberException(AccountType.NORMAL));
 
         // when & then
         assertThatThrownBy(() -> accountService.register(accountRegisterRequestServiceDto, user))
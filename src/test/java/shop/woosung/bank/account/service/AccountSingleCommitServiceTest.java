@@ -0,0 +1,145 @@
+package shop.woosung.bank.account.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.test.context.ActiveProfiles;
+import shop.woosung.bank.account.controller.port.AccountService;
+import shop.woosung.bank.account.domain.Account;
+import shop.woosung.bank.account.domain.AccountType;
+import shop.woosung.bank.account.service.dto.AccountDepositRequestServiceDto;
+import shop.woosung.bank.account.service.dto.AccountWithdrawRequestServiceDto;
+import shop.woosung.bank.account.service.port.AccountRepository;
+import shop.woosung.bank.common.infrastructure.PasswordEncoderImpl;
+import shop.woosung.bank.transaction.domain.Transaction;
+import shop.woosung.bank.transaction.domain.TransactionType;
+import shop.woosung.bank.transaction.infrastructure.TransactionJpaRepository;
+import shop.woosung.bank.transaction.infrastructure.TransactionRepositoryImpl;
+import shop.woosung.bank.user.domain.User;
+import shop.woosung.bank.user.domain.UserRole;
+import shop.woosung.bank.user.service.port.UserRepository;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.when;
+
+@ActiveProfiles("test")
+@SpringBootTest(properties = {
+        "bank.account.concurrency.single-commit=true",
+        "bank.account.concurrency.deposit=OPTIMISTIC",
+        "bank.account.concurrency.retry.max-attempts=100"
+})
+class AccountSingleCommitServiceTest {
+    @Autowired
+    private AccountService accountService;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private AccountRepository accountRepository;
+    @Autowired
+    private TransactionJpaRepository transactionJpaRepository;
+    @SpyBean
+    private TransactionRepositoryImpl transactionRepository;
+    @MockBean
+    private PasswordEncoderImpl passwordEncoderImpl;
+
+    @BeforeEach
+    void setUp() {
+        when(passwordEncoderImpl.encode(anyString())).thenReturn("aaaa-bbbb-cccc");
+        when(passwordEncoderImpl.matches(anyString(), anyString())).thenReturn(true);
+    }
+
+    @DisplayName("단일 커밋 모드에서 입금과 출금을 동시에 보내도 잔액과 거래 내역 수가 일치해야 한다.")
+    @Test
+    void single_commit_concurrent_deposit_and_withdraw() throws Exception {
+        // given
+        User user = userRepository.save(User.builder().email("single1@test.com").password("1234").name("test").role(UserRole.CUSTOMER).build());
+        accountRepository.save(Account.builder().number(11111201L).fullNumber(23411111201L).password("aaaa-bbbb-cccc").balance(10000L).type(AccountType.NORMAL).user(user).build());
+        long transactionCountBefore = transactionJpaRepository.count();
+
+        AccountDepositRequestServiceDto accountDepositRequestServiceDto = AccountDepositRequestServiceDto.builder()
+                .fullNumber(23411111201L)
+                .amount(1000L)
+                .transactionType(TransactionType.DEPOSIT)
+                .sender("32311111111")
+                .tel("010-1111-1111")
+                .build();
+        AccountWithdrawRequestServiceDto accountWithdrawRequestServiceDto = AccountWithdrawRequestServiceDto.builder()
+                .fullNumber(23411111201L)
+                .password("1234")
+                .amount(500L)
+                .transactionType(TransactionType.WITHDRAW)
+                .build();
+
+        int threadCount = 30;
+        ExecutorService executorService = Executors.newFixedThreadPool(10);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+
+        // when
+        for (int i = 0; i < threadCount; i++) {
+            boolean deposit = i % 3 != 0;
+            executorService.submit(() -> {
+                try {
+                    if (deposit) {
+                        accountService.deposit(accountDepositRequestServiceDto);
+                    } else {
+                        accountService.withdraw(accountWithdrawRequestServiceDto, user);
+                    }
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await();
+        executorService.shutdown();
+
+        // then
+        assertThat(getBalance(user, 23411111201L)).isEqualTo(10000L + 20 * 1000L - 10 * 500L);
+        assertThat(transactionJpaRepository.count() - transactionCountBefore).isEqualTo(30L);
+    }
+
+    @DisplayName("단일 커밋 모드에서 거래 내역 저장이 실패하면 잔액 변경도 롤백되어야 한다.")
+    @Test
+    void single_commit_ledger_failure_rollback_balance() {
+        // given
+        User user = userRepository.save(User.builder().email("single2@test.com").password("1234").name("test").role(UserRole.CUSTOMER).build());
+        accountRepository.save(Account.builder().number(11111202L).fullNumber(23411111202L).password("aaaa-bbbb-cccc").balance(10000L).type(AccountType.NORMAL).user(user).build());
+        long transactionCountBefore = transactionJpaRepository.count();
+
+        AccountWithdrawRequestServiceDto accountWithdrawRequestServiceDto = AccountWithdrawRequestServiceDto.builder()
+                .fullNumber(23411111202L)
+                .password("1234")
+                .amount(777L)
+                .transactionType(TransactionType.WITHDRAW)
+                .build();
+
+        // stub
+        doThrow(new IllegalStateException("ledger failure"))
+                .when(transactionRepository).save(argThat((Transaction transaction) -> transaction.getAmount() == 777L));
+
+        // when & then
+        assertThatThrownBy(() -> accountService.withdraw(accountWithdrawRequestServiceDto, user))
+                .hasRootCauseInstanceOf(IllegalStateException.class);
+        assertThat(getBalance(user, 23411111202L)).isEqualTo(10000L);
+        assertThat(transactionJpaRepository.count()).isEqualTo(transactionCountBefore);
+    }
+
+    private Long getBalance(User user, Long fullNumber) {
+        return accountService.getAccountList(user).getAccounts().stream()
+                .filter(account -> account.getFullNumber().equals(fullNumber))
+                .findFirst()
+                .orElseThrow()
+                .getBalance();
+    }
+}
@@ -0,0 +1,182 @@
+package shop.woosung.bank.account.service;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.ActiveProfiles;
+import shop.woosung.bank.account.controller.port.AccountService;
+import shop.woosung.bank.account.domain.Account;
+import shop.woosung.bank.account.domain.AccountType;
+import shop.woosung.bank.account.service.dto.AccountDepositRequestServiceDto;
+import shop.woosung.bank.account.service.dto.AccountListResponseDto;
+import shop.woosung.bank.account.service.dto.AccountTransferRequestServiceDto;
+import shop.woosung.bank.account.service.port.AccountRepository;
+import shop.woosung.bank.common.infrastructure.PasswordEncoderImpl;
+import shop.woosung.bank.transaction.domain.TransactionType;
+import shop.woosung.bank.transaction.controller.port.TransactionService;
+import shop.woosung.bank.transaction.service.dto.TransactionResponseListDto;
+import shop.woosung.bank.user.domain.User;
+import shop.woosung.bank.user.domain.UserRole;
+import shop.woosung.bank.user.service.port.UserRepository;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+@ActiveProfiles("test")
+@SpringBootTest(properties = {
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector=shop.woosung.bank.account.service.AccountStatementCountServiceTest$RecordingStatementInspector"
+})
+class AccountStatementCountServiceTest {
+    private static final String BALANCE_UPDATE = "update account_entity set updated_at=?, balance=?, version=? where id=? and version=?";
+
+    @Autowired
+    private AccountService accountService;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private AccountRepository accountRepository;
+    @Autowired
+    private TransactionService transactionService;
+    @MockBean
+    private PasswordEncoderImpl passwordEncoderImpl;
+
+    @BeforeEach
+    void setUp() {
+        when(passwordEncoderImpl.matches(anyString(), anyString())).thenReturn(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        RecordingStatementInspector.stop();
+    }
+
+    @DisplayName("이체는 검증 조회 1번, 계좌 락 조회 2번, 잔액 컬럼만 바꾸는 UPDATE 배치 1번, 거래 내역 INSERT 1번, 원장 INSERT 배치 1번만 실행한다.")
+    @Test
+    void transfer_execute_only_targeted_statements() {
+        // given
+        User user = userRepository.save(User.builder().email("stmt1@test.com").password("1234").name("test").role(UserRole.CUSTOMER).build());
+        accountRepository.save(Account.builder().number(1L).fullNumber(9011111111111L).password("aaaa-bbbb-cccc").balance(10000L).type(AccountType.NORMAL).user(user).build());
+        accountRepository.save(Account.builder().number(2L).fullNumber(9011111111112L).password("aaaa-bbbb-cccc").balance(0L).type(AccountType.NORMAL).user(user).build());
+        AccountTransferRequestServiceDto accountTransferRequestServiceDto = AccountTransferRequestServiceDto.builder()
+                .withdrawFullNumber(9011111111111L).depositFullNumber(9011111111112L).withdrawPassword(1234L)
+                .amount(100L).transactionType(TransactionType.TRANSFER).build();
+
+        // when
+        RecordingStatementInspector.start();
+        accountService.transfer(accountTransferRequestServiceDto, user);
+        List<String> statements = RecordingStatementInspector.stop();
+
+        // then
+        // 두 계좌의 UPDATE 와 원장 INSERT 는 각각 같은 문장이므로 JDBC 배치 하나로 묶여 한 번만 준비된다.
+        assertThat(statements).hasSize(6);
+        assertThat(statements).filteredOn(sql -> sql.startsWith("select")).hasSize(3)
+                .allMatch(sql -> sql.contains("from account_entity"));
+        assertThat(statements).filteredOn(sql -> sql.startsWith("update")).containsExactly(BALANCE_UPDATE);
+        assertThat(statements).filteredOn(sql -> sql.startsWith("insert")).hasSize(2)
+                .anyMatch(sql -> sql.startsWith("insert into transaction_entity"))
+                .anyMatch(sql -> sql.startsWith("insert into ledger_entry_entity"));
+    }
+
+    @DisplayName("입금은 계좌 락 조회 1번, 잔액 컬럼만 바꾸는 UPDATE 1번, 거래 내역 INSERT 1번, 원장 INSERT 1번만 실행한다.")
+    @Test
+    void deposit_execute_only_targeted_statements() {
+        // given
+        User user = userRepository.save(User.builder().email("stmt2@test.com").password("1234").name("test").role(UserRole.CUSTOMER).build());
+        accountRepository.save(Account.builder().number(3L).fullNumber(9011111111113L).password("aaaa-bbbb-cccc").balance(0L).type(AccountType.NORMAL).user(user).build());
+        AccountDepositRequestServiceDto accountDepositRequestServiceDto = AccountDepositRequestServiceDto.builder()
+                .fullNumber(9011111111113L).amount(100L).transactionType(TransactionType.DEPOSIT).sender("ATM").tel("01012341234").build();
+
+        // when
+        RecordingStatementInspector.start();
+        accountService.deposit(accountDepositRequestServiceDto);
+        List<String> statements = RecordingStatementInspector.stop();
+
+        // then
+        assertThat(statements).hasSize(4);
+        assertThat(statements.get(0)).startsWith("select").contains("for update");
+        assertThat(statements.get(1)).isEqualTo(BALANCE_UPDATE);
+        assertThat(statements.get(2)).startsWith("insert into transaction_entity");
+        assertThat(statements.get(3)).startsWith("insert into ledger_entry_entity");
+    }
+
+    @DisplayName("계좌 목록은 계좌 수와 관계없이 사용자 조인 없는 계좌 조회 1번과 분할 잔액 합계 조회 1번만 실행한다.")
+    @Test
+    void account_list_execute_one_account_query_without_user_and_password() {
+        // given
+        User user = userRepository.save(User.builder().email("stmt3@test.com").password("1234").name("test").role(UserRole.CUSTOMER).build());
+        for (long i = 0; i < 20; i++) {
+            accountRepository.save(Account.builder().number(10L + i).fullNumber(9021111111100L + i).password("aaaa-bbbb-cccc").balance(i).type(AccountType.NORMAL).user(user).build());
+        }
+
+        // when
+        RecordingStatementInspector.start();
+        AccountListResponseDto accountListResponseDto = accountService.getAccountList(user);
+        List<String> statements = RecordingStatementInspector.stop();
+
+        // then
+        assertThat(accountListResponseDto.getAccounts()).hasSize(20);
+        assertThat(accountListResponseDto.getAccounts().get(19).getBalance()).isEqualTo(19L);
+        assertThat(statements).hasSize(2);
+        assertThat(statements.get(0)).contains("from account_entity").doesNotContain("user_entity").doesNotContain("password");
+        assertThat(statements.get(1)).contains("from account_balance_slot_entity");
+    }
+
+    @DisplayName("거래 내역 전체 조회는 OR 조건과 계좌/사용자 엔티티 로딩 없이 소유 확인을 포함한 원장 조회 1번만 실행한다.")
+    @Test
+    void transaction_history_execute_one_owner_checked_ledger_query() {
+        // given
+        User user = userRepository.save(User.builder().email("stmt4@test.com").password("1234").name("test").role(UserRole.CUSTOMER).build());
+        accountRepository.save(Account.builder().number(4L).fullNumber(9011111111114L).password("aaaa-bbbb-cccc").balance(0L).type(AccountType.NORMAL).user(user).build());
+        for (int i = 0; i < 3; i++) {
+            accountService.deposit(AccountDepositRequestServiceDto.builder()
+                    .fullNumber(9011111111114L).amount(100L).transactionType(TransactionType.DEPOSIT).sender("ATM").tel("01012341234").build());
+        }
+
+        // when
+        RecordingStatementInspector.start();
+        TransactionResponseListDto transactions = transactionService.getTransactionList(9011111111114L, "ALL", null, 10, user);
+        List<String> statements = RecordingStatementInspector.stop();
+
+        // then
+        assertThat(transactions.getTransactions()).hasSize(3)
+                .allMatch(transaction -> transaction.getBalance() != null);
+        assertThat(statements).hasSize(1);
+        assertThat(statements.get(0)).contains("from ledger_entry_entity").contains("user_id=?")
+                .doesNotContain(" or ").doesNotContain("password").doesNotContain("user_entity");
+    }
+
+    /**
+     * 테스트 스레드에서 준비한 SQL 만 공백과 테이블 별칭을 정리해서 기록한다. 스케줄러 등 다른 스레드의 SQL 은 무시한다.
+     */
+    public static class RecordingStatementInspector implements StatementInspector {
+        private static final List<String> statements = new CopyOnWriteArrayList<>();
+        private static volatile Thread recordingThread;
+
+        static void start() {
+            statements.clear();
+            recordingThread = Thread.currentThread();
+        }
+
+        static List<String> stop() {
+            recordingThread = null;
+            return List.copyOf(statements);
+        }
+
+        @Override
+        public String inspect(String sql) {
+            if (Thread.currentThread() == recordingThread) {
+                statements.add(sql.trim().replaceAll("\\s+", " ").replaceAll("\\w+\\d+_\\.", ""));
+            }
+            return sql;
+        }
+    }
+}
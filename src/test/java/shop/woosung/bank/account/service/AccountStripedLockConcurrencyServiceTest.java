@@ -0,0 +1,126 @@
+package shop.woosung.bank.account.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.ActiveProfiles;
+import shop.woosung.bank.account.controller.port.AccountService;
+import shop.woosung.bank.account.domain.Account;
+import shop.woosung.bank.account.domain.AccountType;
+import shop.woosung.bank.account.service.dto.*;
+import shop.woosung.bank.account.service.port.AccountRepository;
+import shop.woosung.bank.common.infrastructure.PasswordEncoderImpl;
+import shop.woosung.bank.transaction.domain.TransactionType;
+import shop.woosung.bank.user.domain.User;
+import shop.woosung.bank.user.domain.UserRole;
+import shop.woosung.bank.user.service.port.UserRepository;
+
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+@ActiveProfiles({"test", "striped-lock"})
+@SpringBootTest
+class AccountStripedLockConcurrencyServiceTest {
+    @Autowired
+    private AccountService accountService;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private AccountRepository accountRepository;
+    @MockBean
+    private PasswordEncoderImpl passwordEncoderImpl;
+
+    @BeforeEach
+    void setUp() {
+        when(passwordEncoderImpl.encode(anyString())).thenReturn("aaaa-bbbb-cccc");
+        when(passwordEncoderImpl.matches(anyString(), anyString())).thenReturn(true);
+    }
+
+    @DisplayName("스트라이프 락 사용시 같은 계좌에 입금 요청을 동시에 100개를 보내도 최종 금액이 모든 요청 금액을 합친 것과 같아야한다.")
+    @Test
+    void striped_lock_account_deposit_100_concurrent_requests() throws Exception {
+        // given
+        User user = userRepository.save(User.builder().email("striped1@test.com").password("1234").name("test").role(UserRole.CUSTOMER).build());
+        accountRepository.save(Account.builder().number(11111111L).fullNumber(23411111191L).password("aaaa-bbbb-cccc").balance(1000L).type(AccountType.NORMAL).user(user).build());
+
+        AccountDepositRequestServiceDto accountDepositRequestServiceDto = AccountDepositRequestServiceDto.builder()
+                .fullNumber(23411111191L)
+                .amount(1000L)
+                .transactionType(TransactionType.DEPOSIT)
+                .sender("32311111111")
+                .tel("010-1111-1111")
+                .build();
+
+        AtomicLong maxAmount = new AtomicLong(0);
+        int threadCount = 100;
+        ExecutorService executorService = Executors.newFixedThreadPool(25);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+
+        // when
+        for (int i = 0; i < threadCount; i++) {
+            executorService.submit(() -> {
+                try {
+                    AccountDepositResponseDto accountDepositResponseDto = accountService.deposit(accountDepositRequestServiceDto);
+                    long currentBalance = accountDepositResponseDto.getTransaction().getDepositAccountBalance();
+                    maxAmount.accumulateAndGet(currentBalance, Math::max);
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await();
+        executorService.shutdown();
+
+        // then
+        assertThat(maxAmount.get()).isEqualTo(101000L);
+    }
+
+    @DisplayName("스트라이프 락 사용시 양방향 이체 요청을 동시에 보내도 데드락 없이 모두 정상적으로 이체된다.")
+    @Test
+    void striped_lock_account_transfer_both_direction_concurrent_success() throws Exception {
+        // given
+        User user = userRepository.save(User.builder().email("striped2@test.com").password("aaaa-bbbb-cccc").name("test").role(UserRole.CUSTOMER).build());
+        accountRepository.save(Account.builder().number(11111111L).fullNumber(23711111191L).password("aaaa-bbbb-cccc").balance(100000L).type(AccountType.NORMAL).user(user).build());
+        accountRepository.save(Account.builder().number(11111112L).fullNumber(23711111192L).password("aaaa-bbbb-cccc").balance(100000L).type(AccountType.NORMAL).user(user).build());
+
+        AccountTransferRequestServiceDto forwardTransfer = AccountTransferRequestServiceDto.builder()
+                .withdrawFullNumber(23711111191L).depositFullNumber(23711111192L).withdrawPassword(1234L).amount(1000L).transactionType(TransactionType.TRANSFER).build();
+        AccountTransferRequestServiceDto backwardTransfer = AccountTransferRequestServiceDto.builder()
+                .withdrawFullNumber(23711111192L).depositFullNumber(23711111191L).withdrawPassword(1234L).amount(1000L).transactionType(TransactionType.TRANSFER).build();
+
+        int threadCount = 100;
+        AtomicInteger successCount = new AtomicInteger(0);
+        ExecutorService executorService = Executors.newFixedThreadPool(25);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+
+        // when
+        for (int i = 0; i < threadCount; i++) {
+            AccountTransferRequestServiceDto accountTransferRequestServiceDto = i % 2 == 0 ? forwardTransfer : backwardTransfer;
+            executorService.submit(() -> {
+                try {
+                    accountService.transfer(accountTransferRequestServiceDto, user);
+                    successCount.incrementAndGet();
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await();
+        executorService.shutdown();
+
+        // then
+        AccountListResponseDto accountListResponseDto = accountService.getAccountList(user);
+        assertThat(successCount.get()).isEqualTo(threadCount);
+        assertThat(accountListResponseDto.getAccounts())
+                .extracting(AccountListResponseDto.AccountDto::getBalance)
+                .containsExactly(100000L, 100000L);
+    }
+}
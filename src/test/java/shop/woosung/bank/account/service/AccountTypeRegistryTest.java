@@ -0,0 +1,113 @@
+package shop.woosung.bank.account.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import shop.woosung.bank.account.domain.AccountType;
+import shop.woosung.bank.account.domain.AccountTypeNumber;
+import shop.woosung.bank.account.handler.exception.NotFoundAccountTypeNumberException;
+import shop.woosung.bank.account.service.port.AccountTypeNumberRepository;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AccountTypeRegistryTest {
+    @InjectMocks
+    private AccountTypeRegistry accountTypeRegistry;
+    @Mock
+    private AccountTypeNumberRepository accountTypeNumberRepository;
+
+    @DisplayName("한 번 읽은 계좌 종류 번호는 DB 를 다시 조회하지 않고 반환한다.")
+    @Test
+    void get_type_number_without_db_access_after_reload() {
+        // stub
+        when(accountTypeNumberRepository.findAll()).thenReturn(List.of(typeNumber(AccountType.NORMAL, 232L), typeNumber(AccountType.SAVING, 787L)));
+
+        // when
+        accountTypeRegistry.reload();
+        Long normalTypeNumber = accountTypeRegistry.getTypeNumber(AccountType.NORMAL);
+        Long savingTypeNumber = accountTypeRegistry.getTypeNumber(AccountType.SAVING);
+
+        // then
+        assertThat(normalTypeNumber).isEqualTo(232L);
+        assertThat(savingTypeNumber).isEqualTo(787L);
+        verify(accountTypeNumberRepository, times(1)).findAll();
+    }
+
+    @DisplayName("다시 읽은 내용이 바뀌었으면 새 계좌 종류 번호로 교체한다.")
+    @Test
+    void reload_replace_changed_type_numbers() {
+        // stub
+        when(accountTypeNumberRepository.findAll())
+                .thenReturn(List.of(typeNumber(AccountType.NORMAL, 232L), typeNumber(AccountType.SAVING, 787L)))
+                .thenReturn(List.of(typeNumber(AccountType.NORMAL, 232L), typeNumber(AccountType.SAVING, 788L)));
+
+        // when
+        Map<AccountType, Long> before = accountTypeRegistry.reload();
+        Map<AccountType, Long> after = accountTypeRegistry.reload();
+
+        // then
+        assertThat(before).containsEntry(AccountType.SAVING, 787L);
+        assertThat(after).containsEntry(AccountType.SAVING, 788L);
+        assertThat(accountTypeRegistry.getTypeNumber(AccountType.SAVING)).isEqualTo(788L);
+    }
+
+    @DisplayName("아직 읽지 않은 계좌 종류를 조회하면 한 번 다시 읽어서 반환한다.")
+    @Test
+    void if_missing_type_when_get_type_number_reload_once() {
+        // stub
+        when(accountTypeNumberRepository.findAll())
+                .thenReturn(List.of())
+                .thenReturn(List.of(typeNumber(AccountType.NORMAL, 232L)));
+
+        // when
+        accountTypeRegistry.reload();
+        Long normalTypeNumber = accountTypeRegistry.getTypeNumber(AccountType.NORMAL);
+
+        // then
+        assertThat(normalTypeNumber).isEqualTo(232L);
+        verify(accountTypeNumberRepository, times(2)).findAll();
+    }
+
+    @DisplayName("전체 계좌 종류 번호가 비어 있을 때만 다시 읽고, 읽은 뒤에는 DB 를 조회하지 않는다.")
+    @Test
+    void if_empty_when_get_type_numbers_reload_once() {
+        // stub
+        when(accountTypeNumberRepository.findAll())
+                .thenReturn(List.of())
+                .thenReturn(List.of(typeNumber(AccountType.NORMAL, 232L), typeNumber(AccountType.SAVING, 787L)));
+
+        // when
+        accountTypeRegistry.reload();
+        Map<AccountType, Long> first = accountTypeRegistry.getTypeNumbers();
+        Map<AccountType, Long> second = accountTypeRegistry.getTypeNumbers();
+
+        // then
+        assertThat(first).containsValues(232L, 787L);
+        assertThat(second).isSameAs(first);
+        verify(accountTypeNumberRepository, times(2)).findAll();
+    }
+
+    @DisplayName("다시 읽어도 계좌 종류 번호가 없으면 예외를 발생시킨다.")
+    @Test
+    void if_not_found_type_when_get_type_number_throw_exception() {
+        // stub
+        when(accountTypeNumberRepository.findAll()).thenReturn(List.of(typeNumber(AccountType.NORMAL, 232L)));
+
+        // when & then
+        assertThatThrownBy(() -> accountTypeRegistry.getTypeNumber(AccountType.SAVING))
+                .isInstanceOf(NotFoundAccountTypeNumberException.class);
+    }
+
+    private AccountTypeNumber typeNumber(AccountType accountType, Long number) {
+        return AccountTypeNumber.builder().accountType(accountType).number(number).build();
+    }
+}
@@ -0,0 +1,136 @@
+package shop.woosung.bank.account.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.OptimisticLockingFailureException;
+import shop.woosung.bank.account.domain.Account;
+import shop.woosung.bank.account.handler.exception.AccountConcurrentUpdateException;
+import shop.woosung.bank.account.service.dto.AccountLockRetryStatResponseDto;
+import shop.woosung.bank.account.service.dto.AccountWithdrawLockServiceDto;
+import shop.woosung.bank.config.AccountProperties;
+import shop.woosung.bank.config.AccountProperties.LockStrategy;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RoutingAccountLockServiceTest {
+    @InjectMocks
+    private RoutingAccountLockService routingAccountLockService;
+    @Mock
+    private AccountLockServiceImpl pessimisticLockService;
+    @Mock
+    private AccountOptimisticLockServiceImpl optimisticLockService;
+    @Mock
+    private AccountConditionalUpdateServiceImpl conditionalUpdateService;
+    @Mock
+    private AccountBalanceSlotServiceImpl accountBalanceSlotService;
+    @Mock
+    private AccountBalanceSlotRegistry accountBalanceSlotRegistry;
+    @Spy
+    private AccountLockRetryMetrics accountLockRetryMetrics = new AccountLockRetryMetrics();
+    @Spy
+    private AccountProperties accountProperties = new AccountProperties();
+    @Spy
+    private AccountLockRetryTemplate accountLockRetryTemplate = new AccountLockRetryTemplate(accountLockRetryMetrics, accountProperties);
+
+    @BeforeEach
+    void setUp() {
+        accountProperties.getConcurrency().getRetry().setMaxAttempts(3);
+        accountProperties.getConcurrency().getRetry().setInitialBackoff(Duration.ZERO);
+        accountProperties.getConcurrency().getRetry().setMaxBackoff(Duration.ZERO);
+    }
+
+    @DisplayName("기본 설정이면 입금은 비관적 락 구현으로 위임한다.")
+    @Test
+    void default_strategy_delegate_deposit_to_pessimistic_lock_service() {
+        // given
+        Account account = Account.builder().fullNumber(23411111111L).balance(2000L).build();
+
+        // stub
+        when(pessimisticLockService.depositAccountWithLock(23411111111L, 1000L)).thenReturn(account);
+
+        // when
+        Account result = routingAccountLockService.depositAccountWithLock(23411111111L, 1000L);
+
+        // then
+        assertThat(result).isSameAs(account);
+        verify(optimisticLockService, never()).deposit(anyLong(), anyLong());
+    }
+
+    @DisplayName("낙관적 락 설정이면 충돌 시 재시도하여 입금에 성공한다.")
+    @Test
+    void optimistic_strategy_retry_deposit_when_conflict() {
+        // given
+        accountProperties.getConcurrency().setDeposit(LockStrategy.OPTIMISTIC);
+        Account account = Account.builder().fullNumber(23411111111L).balance(2000L).build();
+
+        // stub
+        when(optimisticLockService.deposit(23411111111L, 1000L))
+                .thenThrow(new OptimisticLockingFailureException("conflict"))
+                .thenReturn(account);
+
+        // when
+        Account result = routingAccountLockService.depositAccountWithLock(23411111111L, 1000L);
+
+        // then
+        assertThat(result).isSameAs(account);
+        verify(optimisticLockService, times(2)).deposit(23411111111L, 1000L);
+        verify(pessimisticLockService, never()).depositAccountWithLock(anyLong(), anyLong());
+        AccountLockRetryStatResponseDto depositStat = accountLockRetryMetrics.snapshot().get(0);
+        assertThat(depositStat.getOperation()).isEqualTo("DEPOSIT");
+        assertThat(depositStat.getAttempts()).isEqualTo(2L);
+        assertThat(depositStat.getRetries()).isEqualTo(1L);
+        assertThat(depositStat.getExhausted()).isEqualTo(0L);
+    }
+
+    @DisplayName("낙관적 락 충돌이 최대 시도 횟수를 넘기면 예외를 발생시킨다.")
+    @Test
+    void optimistic_strategy_throw_exception_when_retry_exhausted() {
+        // given
+        accountProperties.getConcurrency().setDeposit(LockStrategy.OPTIMISTIC);
+
+        // stub
+        when(optimisticLockService.deposit(23411111111L, 1000L)).thenThrow(new OptimisticLockingFailureException("conflict"));
+
+        // when & then
+        assertThatThrownBy(() -> routingAccountLockService.depositAccountWithLock(23411111111L, 1000L))
+                .isInstanceOf(AccountConcurrentUpdateException.class);
+        verify(optimisticLockService, times(3)).deposit(23411111111L, 1000L);
+        assertThat(accountLockRetryMetrics.snapshot().get(0).getExhausted()).isEqualTo(1L);
+    }
+
+    @DisplayName("조건부 UPDATE 설정이면 출금은 조건부 UPDATE 구현으로 위임한다.")
+    @Test
+    void conditional_update_strategy_delegate_withdraw_to_conditional_update_service() {
+        // given
+        accountProperties.getConcurrency().setWithdraw(LockStrategy.CONDITIONAL_UPDATE);
+        AccountWithdrawLockServiceDto accountWithdrawLockServiceDto = AccountWithdrawLockServiceDto.builder()
+                .fullNumber(23411111111L)
+                .amount(1000L)
+                .build();
+        Account account = Account.builder().fullNumber(23411111111L).balance(0L).build();
+
+        // stub
+        when(conditionalUpdateService.withdraw(accountWithdrawLockServiceDto)).thenReturn(account);
+
+        // when
+        Account result = routingAccountLockService.withdrawWithLock(accountWithdrawLockServiceDto);
+
+        // then
+        assertThat(result).isSameAs(account);
+        verify(pessimisticLockService, never()).withdrawWithLock(any());
+        verify(optimisticLockService, never()).withdraw(any());
+    }
+}
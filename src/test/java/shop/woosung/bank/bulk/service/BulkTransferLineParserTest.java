@@ -0,0 +1,77 @@
+package shop.woosung.bank.bulk.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import shop.woosung.bank.bulk.domain.BulkTransferFormat;
+import shop.woosung.bank.bulk.domain.BulkTransferLine;
+import shop.woosung.bank.transaction.domain.TransactionType;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BulkTransferLineParserTest {
+
+    private final BulkTransferLineParser bulkTransferLineParser = new BulkTransferLineParser(new ObjectMapper());
+
+    @DisplayName("CSV 첫 줄이 헤더이거나 빈 줄이면 결과를 남기지 않는다.")
+    @Test
+    void csv_header_and_blank_line_are_skipped() {
+        // when
+        Optional<BulkTransferLine> header = bulkTransferLineParser.parse(BulkTransferFormat.CSV, "type,withdrawFullNumber,withdrawPassword,depositFullNumber,amount,sender,tel", 1);
+        Optional<BulkTransferLine> blank = bulkTransferLineParser.parse(BulkTransferFormat.CSV, "  ", 2);
+
+        // then
+        assertThat(header).isEmpty();
+        assertThat(blank).isEmpty();
+    }
+
+    @DisplayName("CSV 이체 줄을 파싱한다.")
+    @Test
+    void parse_csv_transfer_line() {
+        // when
+        BulkTransferLine result = bulkTransferLineParser.parse(BulkTransferFormat.CSV, "TRANSFER,23411111111,1234,23411111112,1000,,", 3).orElseThrow();
+
+        // then
+        assertThat(result.isValid()).isTrue();
+        assertThat(result.getLineNumber()).isEqualTo(3L);
+        assertThat(result.getType()).isEqualTo(TransactionType.TRANSFER);
+        assertThat(result.getWithdrawFullNumber()).isEqualTo(23411111111L);
+        assertThat(result.getWithdrawPassword()).isEqualTo("1234");
+        assertThat(result.getDepositFullNumber()).isEqualTo(23411111112L);
+        assertThat(result.getAmount()).isEqualTo(1000L);
+    }
+
+    @DisplayName("NDJSON 입금 줄을 파싱한다.")
+    @Test
+    void parse_ndjson_deposit_line() {
+        // when
+        BulkTransferLine result = bulkTransferLineParser.parse(BulkTransferFormat.NDJSON,
+                "{\"type\":\"DEPOSIT\",\"depositFullNumber\":23411111112,\"amount\":500,\"sender\":\"ATM\",\"tel\":\"010-1111-1111\"}", 1).orElseThrow();
+
+        // then
+        assertThat(result.isValid()).isTrue();
+        assertThat(result.getType()).isEqualTo(TransactionType.DEPOSIT);
+        assertThat(result.getDepositFullNumber()).isEqualTo(23411111112L);
+        assertThat(result.getAmount()).isEqualTo(500L);
+        assertThat(result.getSender()).isEqualTo("ATM");
+    }
+
+    @DisplayName("형식이 잘못된 줄은 사유와 함께 실패로 표시된다.")
+    @Test
+    void invalid_lines_have_error_message() {
+        // when
+        BulkTransferLine wrongColumns = bulkTransferLineParser.parse(BulkTransferFormat.CSV, "TRANSFER,1,2", 2).orElseThrow();
+        BulkTransferLine sameAccount = bulkTransferLineParser.parse(BulkTransferFormat.CSV, "TRANSFER,23411111111,1234,23411111111,1000,,", 3).orElseThrow();
+        BulkTransferLine negativeAmount = bulkTransferLineParser.parse(BulkTransferFormat.CSV, "DEPOSIT,,,23411111111,-5,ATM,", 4).orElseThrow();
+        BulkTransferLine brokenJson = bulkTransferLineParser.parse(BulkTransferFormat.NDJSON, "{\"type\":", 5).orElseThrow();
+
+        // then
+        assertThat(wrongColumns.isValid()).isFalse();
+        assertThat(sameAccount.isValid()).isFalse();
+        assertThat(negativeAmount.isValid()).isFalse();
+        assertThat(brokenJson.isValid()).isFalse();
+        assertThat(brokenJson.getFullNumbers()).isEmpty();
+    }
+}
@@ -0,0 +1,216 @@
+package shop.woosung.bank.bulk.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.ActiveProfiles;
+import shop.woosung.bank.account.controller.port.AccountService;
+import shop.woosung.bank.account.domain.Account;
+import shop.woosung.bank.account.domain.AccountType;
+import shop.woosung.bank.account.service.port.AccountRepository;
+import shop.woosung.bank.bulk.controller.port.BulkTransferService;
+import shop.woosung.bank.bulk.domain.BulkTransferFormat;
+import shop.woosung.bank.bulk.domain.BulkTransferJob;
+import shop.woosung.bank.bulk.domain.BulkTransferJobStatus;
+import shop.woosung.bank.bulk.domain.BulkTransferLine;
+import shop.woosung.bank.bulk.handler.exception.BulkTransferLeaseLostException;
+import shop.woosung.bank.bulk.service.dto.BulkTransferJobResponseDto;
+import shop.woosung.bank.bulk.service.port.BulkTransferFileStorage;
+import shop.woosung.bank.bulk.service.port.BulkTransferJobRepository;
+import shop.woosung.bank.common.infrastructure.PasswordEncoderImpl;
+import shop.woosung.bank.user.domain.User;
+import shop.woosung.bank.user.domain.UserRole;
+import shop.woosung.bank.user.service.port.UserRepository;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+@ActiveProfiles("test")
+@SpringBootTest(properties = "bank.bulk-transfer.chunk-size=2")
+class BulkTransferServiceTest {
+    @Autowired
+    private BulkTransferService bulkTransferService;
+    @Autowired
+    private BulkTransferJobRepository bulkTransferJobRepository;
+    @Autowired
+    private BulkTransferFileStorage bulkTransferFileStorage;
+    @Autowired
+    private BulkTransferJobRunner bulkTransferJobRunner;
+    @Autowired
+    private BulkTransferChunkProcessor bulkTransferChunkProcessor;
+    @Autowired
+    private BulkTransferLineParser bulkTransferLineParser;
+    @Autowired
+    private AccountService accountService;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private AccountRepository accountRepository;
+    @MockBean
+    private PasswordEncoderImpl passwordEncoderImpl;
+
+    @BeforeEach
+    void setUp() {
+        when(passwordEncoderImpl.encode(anyString())).thenReturn("aaaa-bbbb-cccc");
+        when(passwordEncoderImpl.matches(anyString(), anyString())).thenReturn(true);
+        when(passwordEncoderImpl.matches(eq("9999"), anyString())).thenReturn(false);
+    }
+
+    @DisplayName("업로드한 CSV 를 청크 단위로 처리하고, 줄마다 성공/실패 결과를 남긴다.")
+    @Test
+    void bulk_transfer_csv_applies_every_line_and_writes_result() throws Exception {
+        // given
+        User user = userRepository.save(User.builder().email("bulk1@test.com").password("1234").name("test").role(UserRole.CUSTOMER).build());
+        accountRepository.save(Account.builder().number(11111191L).fullNumber(23411111191L).password("aaaa-bbbb-cccc").balance(10000L).type(AccountType.NORMAL).user(user).build());
+        accountRepository.save(Account.builder().number(11111192L).fullNumber(23411111192L).password("aaaa-bbbb-cccc").balance(0L).type(AccountType.NORMAL).user(user).build());
+
+        String csv = String.join("\n",
+                "type,withdrawFullNumber,withdrawPassword,depositFullNumber,amount,sender,tel",
+                "TRANSFER,23411111191,1234,23411111192,1000,,",
+                "TRANSFER,23411111191,9999,23411111192,1000,,",
+                "",
+                "DEPOSIT,,,23411111191,500,ATM,010-1111-1111",
+                "TRANSFER,23411111191,1234,23411111192,100000,,",
+                "TRANSFER,23411111191,1234,99999999999,1000,,",
+                "BROKEN",
+                "TRANSFER,23411111191,1234,23411111192,2000,,");
+
+        // when
+        BulkTransferJobResponseDto registered = bulkTransferService.register(new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)), BulkTransferFormat.CSV, user);
+        BulkTransferJobResponseDto result = awaitFinished(registered.getId(), user);
+
+        // then
+        assertThat(result.getStatus()).isEqualTo("COMPLETED");
+        assertThat(result.getCommittedLines()).isEqualTo(9L);
+        assertThat(result.getSuccessCount()).isEqualTo(3L);
+        assertThat(result.getFailureCount()).isEqualTo(4L);
+        assertThat(getBalance(user, 23411111191L)).isEqualTo(7500L);
+        assertThat(getBalance(user, 23411111192L)).isEqualTo(3000L);
+
+        List<String> resultLines = readResult(registered.getId());
+        assertThat(resultLines).hasSize(7);
+        assertThat(resultLines).extracting(line -> line.split(",")[0] + "," + line.split(",")[1]).containsExactly(
+                "2,SUCCESS", "3,FAILED", "5,SUCCESS", "6,FAILED", "7,FAILED", "8,FAILED", "9,SUCCESS");
+    }
+
+    @DisplayName("재시작 시 마지막으로 커밋된 줄 다음부터 이어서 처리한다.")
+    @Test
+    void bulk_transfer_resumes_after_last_committed_line() throws Exception {
+        // given
+        User user = userRepository.save(User.builder().email("bulk2@test.com").password("1234").name("test").role(UserRole.CUSTOMER).build());
+        accountRepository.save(Account.builder().number(11111193L).fullNumber(23411111193L).password("aaaa-bbbb-cccc").balance(10000L).type(AccountType.NORMAL).user(user).build());
+        accountRepository.save(Account.builder().number(11111194L).fullNumber(23411111194L).password("aaaa-bbbb-cccc").balance(0L).type(AccountType.NORMAL).user(user).build());
+
+        String csv = String.join("\n",
+                "TRANSFER,23411111193,1234,23411111194,1000,,",
+                "TRANSFER,23411111193,1234,23411111194,1000,,",
+                "TRANSFER,23411111193,1234,23411111194,1000,,");
+        String sourcePath = bulkTransferFileStorage.storeSource(new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)));
+        BulkTransferJob bulkTransferJob = BulkTransferJob.create(user.getId(), BulkTransferFormat.CSV, sourcePath, bulkTransferFileStorage.resultPathOf(sourcePath));
+        bulkTransferJob.start();
+        bulkTransferJob.commitChunk(2, 2, 0);
+        BulkTransferJob interruptedJob = bulkTransferJobRepository.save(bulkTransferJob);
+
+        // when
+        bulkTransferJobRunner.submit(interruptedJob);
+        BulkTransferJobResponseDto result = awaitFinished(interruptedJob.getId(), user);
+
+        // then
+        assertThat(result.getStatus()).isEqualTo("COMPLETED");
+        assertThat(result.getCommittedLines()).isEqualTo(3L);
+        assertThat(result.getSuccessCount()).isEqualTo(3L);
+        assertThat(getBalance(user, 23411111193L)).isEqualTo(9000L);
+        assertThat(getBalance(user, 23411111194L)).isEqualTo(1000L);
+        assertThat(readResult(interruptedJob.getId())).extracting(line -> line.split(",")[0] + "," + line.split(",")[1])
+                .containsExactly("1,UNKNOWN", "2,UNKNOWN", "3,SUCCESS");
+    }
+
+    @DisplayName("다른 실행기가 가져간 작업은 임대 기간이 끝나기 전까지 다시 가져갈 수 없다.")
+    @Test
+    void bulk_transfer_job_cannot_be_claimed_twice_while_leased() throws Exception {
+        // given
+        User user = userRepository.save(User.builder().email("bulk3@test.com").password("1234").name("test").role(UserRole.CUSTOMER).build());
+        BulkTransferJob pendingJob = bulkTransferJobRepository.save(createJob(user, "DEPOSIT,,,23411111195,1000,ATM,"));
+
+        // when
+        boolean firstClaimed = bulkTransferJobRepository.claim(pendingJob.getId(), "runner-a", LocalDateTime.now().plusMinutes(5)).isPresent();
+        boolean secondClaimed = bulkTransferJobRepository.claim(pendingJob.getId(), "runner-b", LocalDateTime.now().plusMinutes(5)).isPresent();
+
+        // then
+        assertThat(firstClaimed).isTrue();
+        assertThat(secondClaimed).isFalse();
+        BulkTransferJob claimedJob = bulkTransferJobRepository.findById(pendingJob.getId()).orElseThrow();
+        assertThat(claimedJob.getOwner()).isEqualTo("runner-a");
+        assertThat(claimedJob.getStatus()).isEqualTo(BulkTransferJobStatus.RUNNING);
+    }
+
+    @DisplayName("임대가 끝나 다른 실행기가 작업을 가져가면, 이전 실행기의 청크는 롤백되고 진행 위치도 늘지 않는다.")
+    @Test
+    void bulk_transfer_chunk_rolls_back_when_lease_lost() throws Exception {
+        // given
+        User user = userRepository.save(User.builder().email("bulk4@test.com").password("1234").name("test").role(UserRole.CUSTOMER).build());
+        accountRepository.save(Account.builder().number(11111195L).fullNumber(23411111195L).password("aaaa-bbbb-cccc").balance(10000L).type(AccountType.NORMAL).user(user).build());
+        accountRepository.save(Account.builder().number(11111196L).fullNumber(23411111196L).password("aaaa-bbbb-cccc").balance(0L).type(AccountType.NORMAL).user(user).build());
+
+        String line = "TRANSFER,23411111195,1234,23411111196,1000,,";
+        BulkTransferJob pendingJob = bulkTransferJobRepository.save(createJob(user, line));
+        BulkTransferJob expiredJob = bulkTransferJobRepository.claim(pendingJob.getId(), "runner-a", LocalDateTime.now().minusSeconds(1)).orElseThrow();
+        bulkTransferJobRepository.claim(pendingJob.getId(), "runner-b", LocalDateTime.now().plusMinutes(5)).orElseThrow();
+        List<BulkTransferLine> chunk = List.of(bulkTransferLineParser.parse(BulkTransferFormat.CSV, line, 1L).orElseThrow());
+
+        // when
+        // then
+        assertThatThrownBy(() -> bulkTransferChunkProcessor.process(expiredJob, chunk, 1L))
+                .isInstanceOf(BulkTransferLeaseLostException.class);
+        assertThat(expiredJob.getCommittedLines()).isEqualTo(0L);
+        BulkTransferJob storedJob = bulkTransferJobRepository.findById(pendingJob.getId()).orElseThrow();
+        assertThat(storedJob.getOwner()).isEqualTo("runner-b");
+        assertThat(storedJob.getCommittedLines()).isEqualTo(0L);
+        assertThat(storedJob.getSuccessCount()).isEqualTo(0L);
+        assertThat(getBalance(user, 23411111195L)).isEqualTo(10000L);
+        assertThat(getBalance(user, 23411111196L)).isEqualTo(0L);
+    }
+
+    private BulkTransferJob createJob(User user, String csv) {
+        String sourcePath = bulkTransferFileStorage.storeSource(new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)));
+        return BulkTransferJob.create(user.getId(), BulkTransferFormat.CSV, sourcePath, bulkTransferFileStorage.resultPathOf(sourcePath));
+    }
+
+    private BulkTransferJobResponseDto awaitFinished(Long jobId, User user) throws InterruptedException {
+        for (int i = 0; i < 200; i++) {
+            BulkTransferJobResponseDto job = bulkTransferService.getJob(jobId, user);
+            if (!job.getStatus().equals(BulkTransferJobStatus.PENDING.name()) && !job.getStatus().equals(BulkTransferJobStatus.RUNNING.name())) {
+                return job;
+            }
+            Thread.sleep(50);
+        }
+        throw new AssertionError("bulk transfer job did not finish");
+    }
+
+    private List<String> readResult(Long jobId) throws IOException {
+        String resultPath = bulkTransferJobRepository.findById(jobId).orElseThrow().getResultPath();
+        return Files.readAllLines(Paths.get(resultPath), StandardCharsets.UTF_8);
+    }
+
+    private Long getBalance(User user, Long fullNumber) {
+        return accountService.getAccountList(user).getAccounts().stream()
+                .filter(account -> account.getFullNumber().equals(fullNumber))
+                .findFirst()
+                .orElseThrow()
+                .getBalance();
+    }
+}
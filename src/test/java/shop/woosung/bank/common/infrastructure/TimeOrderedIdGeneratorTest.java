@@ -0,0 +1,58 @@
+package shop.woosung.bank.common.infrastructure;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TimeOrderedIdGeneratorTest {
+
+    @DisplayName("연속으로 발급한 id 는 항상 증가하고 53비트를 넘지 않는다.")
+    @Test
+    void generated_ids_are_monotonic_and_fit_53_bits() {
+        // given
+        TimeOrderedIdGenerator generator = new TimeOrderedIdGenerator();
+        long previous = generator.nextId();
+
+        // when // then
+        for (int i = 0; i < 100_000; i++) {
+            long next = generator.nextId();
+            assertThat(next).isGreaterThan(previous);
+            assertThat(next).isLessThan(1L << 53);
+            previous = next;
+        }
+    }
+
+    @DisplayName("어떤 시각의 id 하한은 그 시각 이후에 발급한 id 보다 크지 않고, id 에서 발급 시각을 다시 읽을 수 있다.")
+    @Test
+    void lowest_id_at_bounds_ids_generated_after_instant() {
+        // given
+        TimeOrderedIdGenerator generator = new TimeOrderedIdGenerator();
+        Instant before = Instant.now();
+
+        // when
+        long id = generator.nextId();
+
+        // then
+        assertThat(TimeOrderedIdGenerator.lowestIdAt(before)).isLessThanOrEqualTo(id);
+        assertThat(TimeOrderedIdGenerator.lowestIdAt(Instant.now().plusSeconds(1))).isGreaterThan(id);
+        assertThat(TimeOrderedIdGenerator.timestampOf(id)).isBetween(before.truncatedTo(ChronoUnit.MILLIS), Instant.now());
+    }
+
+    @DisplayName("노드 번호 설정이 없거나 범위를 벗어나면 기본값을 쓰지 않고 실패한다.")
+    @Test
+    void node_id_setting_is_required() {
+        // when // then
+        assertThatThrownBy(() -> TimeOrderedIdGenerator.parseNodeId(null))
+                .isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> TimeOrderedIdGenerator.parseNodeId(""))
+                .isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> TimeOrderedIdGenerator.parseNodeId("32"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(TimeOrderedIdGenerator.parseNodeId("31")).isEqualTo(31L);
+    }
+}
@@ -0,0 +1,79 @@
+package shop.woosung.bank.common.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SpaceSavingCounterTest {
+
+    @DisplayName("추적 용량보다 많은 키가 들어와도 가중치가 큰 키는 상위에 남는다.")
+    @Test
+    void heavy_keys_stay_on_top_when_keys_exceed_capacity() {
+        // given
+        SpaceSavingCounter<Long> counter = new SpaceSavingCounter<>(4);
+
+        // when
+        for (long key = 100; key < 1100; key++) {
+            counter.add(key, 1);
+            counter.add(7L, 10);
+            counter.add(8L, 5);
+        }
+
+        // then
+        List<SpaceSavingCounter.Entry<Long>> top = counter.top(2);
+        assertThat(top).extracting(SpaceSavingCounter.Entry::getKey).containsExactly(7L, 8L);
+        assertThat(top.get(0).getCount() - top.get(0).getError()).isLessThanOrEqualTo(10_000L);
+        assertThat(top.get(0).getCount()).isGreaterThanOrEqualTo(10_000L);
+    }
+
+    @DisplayName("추적 중인 키가 교체되면 교체된 키의 가중치를 오차로 넘겨받는다.")
+    @Test
+    void replaced_key_inherits_min_count_as_error() {
+        // given
+        SpaceSavingCounter<String> counter = new SpaceSavingCounter<>(2);
+        counter.add("a", 5);
+        counter.add("b", 3);
+
+        // when
+        counter.add("c", 1);
+
+        // then
+        List<SpaceSavingCounter.Entry<String>> top = counter.top(10);
+        assertThat(top).extracting(SpaceSavingCounter.Entry::getKey).containsExactly("a", "c");
+        assertThat(top.get(1).getCount()).isEqualTo(4L);
+        assertThat(top.get(1).getError()).isEqualTo(3L);
+    }
+
+    @DisplayName("여러 스레드가 나누어 기록해도 합친 상위 키의 가중치는 실제보다 작지 않고 오차를 빼면 실제보다 크지 않다.")
+    @Test
+    void merged_top_keeps_bounds_across_stripes() throws InterruptedException {
+        // given
+        SpaceSavingCounter<Long> counter = new SpaceSavingCounter<>(4, 4);
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 8; t++) {
+            long offset = 1000L * (t + 1);
+            threads.add(new Thread(() -> {
+                for (long key = 0; key < 500; key++) {
+                    counter.add(offset + key, 1);
+                    counter.add(7L, 10);
+                }
+            }));
+        }
+
+        // when
+        threads.forEach(Thread::start);
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        // then
+        List<SpaceSavingCounter.Entry<Long>> top = counter.top(1);
+        assertThat(top).extracting(SpaceSavingCounter.Entry::getKey).containsExactly(7L);
+        assertThat(top.get(0).getCount()).isGreaterThanOrEqualTo(40_000L);
+        assertThat(top.get(0).getCount() - top.get(0).getError()).isLessThanOrEqualTo(40_000L);
+    }
+}
@@ -5,27 +5,43 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.ResultActions;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
-import shop.woosung.bank.account.domain.Account;
-import shop.woosung.bank.account.service.dto.AccountDto;
+import org.springframework.validation.beanvalidation.LocalValidatorFactoryBean;
+import org.springframework.validation.beanvalidation.MethodValidationPostProcessor;
+import shop.woosung.bank.common.handler.CommonExceptionHandler;
 import shop.woosung.bank.transaction.controller.port.TransactionService;
-import shop.woosung.bank.transaction.domain.Transaction;
+import shop.woosung.bank.transaction.domain.StatementFormat;
+import shop.woosung.bank.transaction.domain.TransactionHistory;
 import shop.woosung.bank.transaction.domain.TransactionType;
+import shop.woosung.bank.transaction.handler.TransactionControllerAdvice;
+import shop.woosung.bank.transaction.handler.exception.InvalidStatementRequestException;
+import shop.woosung.bank.transaction.service.dto.TransactionBalanceResponseDto;
 import shop.woosung.bank.transaction.service.dto.TransactionResponseListDto;
+import shop.woosung.bank.transaction.service.dto.TransactionStatement;
 
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
 import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -34,6 +50,8 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.MOCK)
 class TransactionControllerTest {
     private MockMvc mvc;
+    @Autowired
+    private LocalValidatorFactoryBean validator;
     @InjectMocks
     private TransactionController transactionController;
     @Mock
@@ -41,7 +59,9 @@ class TransactionControllerTest {
 
     @BeforeEach
     public void init() {
-        this.mvc = MockMvcBuilders.standaloneSetup(transactionController).build();
+        this.mvc = MockMvcBuilders.standaloneSetup(transactionController)
+                .setControllerAdvice(new TransactionControllerAdvice())
+                .build();
     }
 
     @DisplayName("계좌번호에 따른 계좌 내역 리스트를 가져온다")
@@ -53,13 +73,10 @@ class TransactionControllerTest {
         Integer page = 0;
 
         // stub
-        AccountDto accountDto = AccountDto.from(Account.builder().id(1L).fullNumber(2321111111111L).build());
-        Account account1 = Account.builder().id(1L).fullNumber(2321111111111L).balance(2000L).build();
-        Account account2 = Account.builder().id(2L).fullNumber(3431111111112L).balance(3000L).build();
-        List<Transaction> transactionList = new ArrayList<>();
-        transactionList.add(Transaction.builder().id(1L).type(TransactionType.TRANSFER).withdrawAccount(account1).withdrawAccountBalance(2000L).depositAccount(account2).depositAccountBalance(1000L).amount(1000L).sender(account1.getFullNumber().toString()).receiver(account2.getFullNumber().toString()).createdAt(LocalDateTime.of(2023, 10, 22, 10, 10, 10)).build());
-        transactionList.add(Transaction.builder().id(2L).type(TransactionType.DEPOSIT).depositAccount(account1).depositAccountBalance(3000L).amount(2000L).sender("ATM").receiver(account1.getFullNumber() + "").tel("010-1234-5678").createdAt(LocalDateTime.of(2023, 10, 22, 10, 10, 10)).build());
-        TransactionResponseListDto transactionResponseListDto = TransactionResponseListDto.from(accountDto, transactionList);
+        List<TransactionHistory> transactionList = new ArrayList<>();
+        transactionList.add(new TransactionHistory(1L, TransactionType.TRANSFER, 1000L, "2321111111111", "3431111111112", null, LocalDateTime.of(2023, 10, 22, 10, 10, 10), 2000L));
+        transactionList.add(new TransactionHistory(2L, TransactionType.DEPOSIT, 2000L, "ATM", "2321111111111", "010-1234-5678", LocalDateTime.of(2023, 10, 22, 10, 10, 10), 3000L));
+        TransactionResponseListDto transactionResponseListDto = TransactionResponseListDto.from(transactionList);
 
         when(transactionService.getTransactionList(anyLong(), anyString(), anyInt(), any())).thenReturn(transactionResponseListDto);
 
@@ -92,4 +109,127 @@ class TransactionControllerTest {
         resultActions.andExpect(jsonPath("$.data.transactions[1].createdAt").value("2023-10-22 10:10:10"));
         resultActions.andExpect(jsonPath("$.data.transactions[1].balance").value(3000L));
     }
-}
\ No newline at end of file
+
+    @DisplayName("page 없이 요청하면 커서 방식으로 조회하고 다음 커서를 응답한다.")
+    @Test
+    public void get_account_transaction_list_by_cursor() throws Exception {
+        // given
+        List<TransactionHistory> transactionList = List.of(
+                new TransactionHistory(3L, TransactionType.DEPOSIT, 2000L, "ATM", "2321111111111", null, LocalDateTime.of(2023, 10, 22, 10, 10, 10), 3000L));
+        TransactionResponseListDto transactionResponseListDto = TransactionResponseListDto.from(transactionList, "next-cursor");
+
+        when(transactionService.getTransactionList(eq(2321111111111L), eq("ALL"), eq("cursor"), eq(10), any())).thenReturn(transactionResponseListDto);
+
+        // when
+        ResultActions resultActions = mvc.perform(
+                get("/api/s/account/2321111111111/transaction")
+                        .param("cursor", "cursor")
+                        .param("size", "10")
+                        .contentType(MediaType.APPLICATION_JSON));
+
+        // then
+        resultActions.andExpect(status().isOk());
+        resultActions.andExpect(jsonPath("$.data.transactions.length()").value(1));
+        resultActions.andExpect(jsonPath("$.data.transactions[0].id").value(3L));
+        resultActions.andExpect(jsonPath("$.data.next").value("next-cursor"));
+    }
+
+    @DisplayName("시점을 지정해 그 시각 직전까지의 계좌 잔액을 조회한다.")
+    @Test
+    public void get_account_balance_at_time() throws Exception {
+        // stub
+        LocalDateTime at = LocalDateTime.of(2023, 11, 1, 0, 0);
+        when(transactionService.getBalanceAt(eq(2321111111111L), eq(at), any()))
+                .thenReturn(TransactionBalanceResponseDto.of(2321111111111L, at, 3000L));
+
+        // when
+        ResultActions resultActions = mvc.perform(
+                get("/api/s/account/2321111111111/balance")
+                        .param("at", "2023-11-01T00:00:00"));
+
+        // then
+        resultActions.andExpect(status().isOk());
+        resultActions.andExpect(jsonPath("$.message").value("시점 잔액 조회 성공"));
+        resultActions.andExpect(jsonPath("$.data.fullNumber").value(2321111111111L));
+        resultActions.andExpect(jsonPath("$.data.at").value("2023-11-01 00:00:00"));
+        resultActions.andExpect(jsonPath("$.data.balance").value(3000L));
+    }
+
+    @DisplayName("명세서는 ApiResponse 로 감싸지 않고 첨부 파일로 응답 스트림에 바로 쓴다.")
+    @Test
+    public void export_account_statement() throws Exception {
+        // given
+        TransactionStatement statement = new TransactionStatement(1L, 2321111111111L, LocalDate.of(2023, 10, 1), LocalDate.of(2023, 10, 31), StatementFormat.CSV);
+
+        // stub
+        when(transactionService.getStatement(eq(2321111111111L), eq(LocalDate.of(2023, 10, 1)), eq(LocalDate.of(2023, 10, 31)), eq("csv"), any())).thenReturn(statement);
+        doAnswer(invocation -> {
+            OutputStream outputStream = invocation.getArgument(1);
+            outputStream.write("id,createdAt\n1,2023-10-22 10:10:10\n".getBytes(StandardCharsets.UTF_8));
+            return null;
+        }).when(transactionService).writeStatement(eq(statement), any());
+
+        // when
+        ResultActions resultActions = mvc.perform(
+                get("/api/s/account/2321111111111/statement")
+                        .param("from", "2023-10-01")
+                        .param("to", "2023-10-31"));
+
+        // then
+        resultActions.andExpect(status().isOk());
+        resultActions.andExpect(header().string(HttpHeaders.CONTENT_TYPE, "text/csv;charset=UTF-8"));
+        resultActions.andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"statement-2321111111111-2023-10-01-2023-10-31.csv\""));
+        resultActions.andExpect(content().string("id,createdAt\n1,2023-10-22 10:10:10\n"));
+    }
+
+    @DisplayName("지원하지 않는 명세서 형식을 요청하면 400 을 응답한다.")
+    @Test
+    public void if_unsupported_format_when_export_statement_then_bad_request() throws Exception {
+        // stub
+        when(transactionService.getStatement(anyLong(), any(), any(), eq("xml"), any()))
+                .thenThrow(new InvalidStatementRequestException("지원하지 않는 명세서 형식입니다. format : xml"));
+
+        // when
+        ResultActions resultActions = mvc.perform(
+                get("/api/s/account/2321111111111/statement")
+                        .param("format", "xml"));
+
+        // then
+        resultActions.andExpect(status().isBadRequest());
+        resultActions.andExpect(jsonPath("$.status").value("error"));
+        resultActions.andExpect(jsonPath("$.message").value("지원하지 않는 명세서 형식입니다. format : xml"));
+        verify(transactionService, never()).writeStatement(any(), any());
+    }
+
+    @DisplayName("형식이 잘못되었거나 등록되지 않은 종류의 계좌 번호로 내역, 시점 잔액, 명세서를 요청하면 조회 없이 400 을 응답한다.")
+    @Test
+    public void if_malformed_account_full_number_then_bad_request() throws Exception {
+        // given
+        MethodValidationPostProcessor methodValidationPostProcessor = new MethodValidationPostProcessor();
+        methodValidationPostProcessor.setProxyTargetClass(true);
+        methodValidationPostProcessor.setValidator(validator);
+        methodValidationPostProcessor.afterPropertiesSet();
+        Object validatedController = methodValidationPostProcessor.postProcessAfterInitialization(transactionController, "transactionController");
+        MockMvc validatedMvc = MockMvcBuilders.standaloneSetup(validatedController)
+                .setControllerAdvice(new TransactionControllerAdvice(), new CommonExceptionHandler())
+                .build();
+
+        // when
+        ResultActions history = validatedMvc.perform(get("/api/s/account/232111111111/transaction"));
+        ResultActions balance = validatedMvc.perform(get("/api/s/account/23211111111112/balance")
+                .param("at", "2023-10-22T10:10:10"));
+        ResultActions statement = validatedMvc.perform(get("/api/s/account/232111111111/statement"));
+        ResultActions unknownType = validatedMvc.perform(get("/api/s/account/9991111111111/transaction"));
+
+        // then
+        history.andExpect(status().isBadRequest());
+        history.andExpect(jsonPath("$.message").value("잘못된 계좌 번호입니다."));
+        balance.andExpect(status().isBadRequest());
+        statement.andExpect(status().isBadRequest());
+        unknownType.andExpect(status().isBadRequest());
+        verify(transactionService, never()).getTransactionList(anyLong(), anyString(), anyInt(), any());
+        verify(transactionService, never()).getTransactionList(anyLong(), anyString(), any(), any(), any());
+        verify(transactionService, never()).getBalanceAt(anyLong(), any(), any());
+        verify(transactionService, never()).getStatement(anyLong(), any(), any(), any(), any());
+    }
+}
@@ -0,0 +1,44 @@
+package shop.woosung.bank.transaction.domain;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import shop.woosung.bank.transaction.handler.exception.InvalidTransactionCursorException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TransactionCursorTest {
+
+    @DisplayName("커서를 문자열로 만들었다가 다시 읽으면 같은 거래 id 를 얻는다.")
+    @Test
+    void encode_and_decode_cursor() {
+        // when
+        String cursor = TransactionCursor.after(490192491319296L).encode();
+
+        // then
+        assertThat(cursor).doesNotContain("490192491319296");
+        assertThat(TransactionCursor.decode(cursor).getLastId()).isEqualTo(490192491319296L);
+    }
+
+    @DisplayName("형식이 맞지 않는 커서는 예외를 발생시킨다.")
+    @ParameterizedTest
+    @ValueSource(strings = {"", "not a cursor!", "MTIz"})
+    void if_invalid_cursor_when_decode_throw_exception(String cursor) {
+        assertThatThrownBy(() -> TransactionCursor.decode(cursor))
+                .isInstanceOf(InvalidTransactionCursorException.class);
+    }
+
+    @DisplayName("버전은 맞지만 id 가 숫자가 아닌 커서는 예외를 발생시킨다.")
+    @Test
+    void if_not_number_id_when_decode_throw_exception() {
+        String cursor = Base64.getUrlEncoder().encodeToString("t1:abc".getBytes(StandardCharsets.UTF_8));
+
+        assertThatThrownBy(() -> TransactionCursor.decode(cursor))
+                .isInstanceOf(InvalidTransactionCursorException.class);
+    }
+}
@@ -0,0 +1,38 @@
+package shop.woosung.bank.transaction.infrastructure;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.YearMonth;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TransactionMonthTest {
+
+    @DisplayName("한 달의 id 범위는 다음 달 범위와 빈틈 없이 이어지고, 범위 안의 id 는 다시 그 달로 읽힌다.")
+    @Test
+    void month_id_ranges_are_contiguous() {
+        // given
+        TransactionMonth month = TransactionMonth.of(YearMonth.of(2024, 1));
+
+        // when // then
+        assertThat(month.lowestId()).isLessThan(month.upperId());
+        assertThat(month.upperId()).isEqualTo(month.next().lowestId());
+        assertThat(TransactionMonth.ofId(month.lowestId()).getMonth()).isEqualTo(YearMonth.of(2024, 1));
+        assertThat(TransactionMonth.ofId(month.upperId() - 1).getMonth()).isEqualTo(YearMonth.of(2024, 1));
+        assertThat(TransactionMonth.ofId(month.upperId()).getMonth()).isEqualTo(YearMonth.of(2024, 2));
+    }
+
+    @DisplayName("월 파티션 이름과 월 테이블 이름은 yyyyMM 으로 만들고, 월 파티션이 아닌 이름은 읽지 않는다.")
+    @Test
+    void partition_and_table_names() {
+        // given
+        TransactionMonth month = TransactionMonth.of(YearMonth.of(2024, 3));
+
+        // when // then
+        assertThat(month.partitionName()).isEqualTo("p202403");
+        assertThat(month.tableName("transaction_entity")).isEqualTo("transaction_entity_202403");
+        assertThat(TransactionMonth.ofPartitionName("p202403").getMonth()).isEqualTo(YearMonth.of(2024, 3));
+        assertThat(TransactionMonth.ofPartitionName("pmax")).isNull();
+    }
+}
@@ -0,0 +1,134 @@
+package shop.woosung.bank.transaction.infrastructure.archive;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import shop.woosung.bank.transaction.domain.LedgerDirection;
+import shop.woosung.bank.transaction.domain.TransactionHistory;
+import shop.woosung.bank.transaction.domain.TransactionType;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LedgerSegmentTest {
+
+    @TempDir
+    Path directory;
+
+    @DisplayName("여러 블록에 걸친 세그먼트에서 계좌별로 커서 이전의 거래를 최신순으로 읽는다.")
+    @Test
+    void scan_account_rows_before_cursor_across_blocks() throws IOException {
+        // given
+        Path file = directory.resolve("ledger-202303.seg");
+        try (LedgerSegmentWriter writer = new LedgerSegmentWriter(file, 4)) {
+            for (long accountId = 1; accountId <= 3; accountId++) {
+                for (long id = 20; id >= 1; id--) {
+                    writer.append(row(accountId, id));
+                }
+            }
+        }
+
+        // when
+        List<Long> ids = new ArrayList<>();
+        List<Long> missing = new ArrayList<>();
+        try (LedgerSegment segment = LedgerSegment.open(file)) {
+            segment.scan(2L, 15L, row -> ids.add(row.getTransactionId()) && ids.size() < 6);
+            segment.scan(4L, Long.MAX_VALUE, row -> missing.add(row.getTransactionId()));
+        }
+
+        // then
+        assertThat(ids).containsExactly(14L, 13L, 12L, 11L, 10L, 9L);
+        assertThat(missing).isEmpty();
+    }
+
+    @DisplayName("명세서용으로 계좌의 기간 안 거래를 블록을 거슬러 오래된 순서로 읽는다.")
+    @Test
+    void scan_account_rows_ascending_in_range() throws IOException {
+        // given
+        Path file = directory.resolve("ledger-202306.seg");
+        try (LedgerSegmentWriter writer = new LedgerSegmentWriter(file, 4)) {
+            for (long accountId = 1; accountId <= 3; accountId++) {
+                for (long id = 20; id >= 1; id--) {
+                    writer.append(row(accountId, id));
+                }
+            }
+        }
+
+        // when
+        List<Long> ids = new ArrayList<>();
+        List<Long> all = new ArrayList<>();
+        try (LedgerSegment segment = LedgerSegment.open(file)) {
+            segment.scanAscending(2L, 5L, 12L, row -> ids.add(row.getTransactionId()));
+            segment.scanAscending(3L, 0L, Long.MAX_VALUE, row -> all.add(row.getTransactionId()));
+        }
+
+        // then
+        assertThat(ids).containsExactly(5L, 6L, 7L, 8L, 9L, 10L, 11L);
+        assertThat(all).hasSize(20).isSorted();
+    }
+
+    @DisplayName("행이 없는 달의 세그먼트는 어느 계좌로 읽어도 비어 있다.")
+    @Test
+    void scan_empty_month_segment() throws IOException {
+        // given
+        Path file = directory.resolve("ledger-202307.seg");
+        new LedgerSegmentWriter(file, 4).close();
+
+        // when
+        List<Long> before = new ArrayList<>();
+        List<Long> ascending = new ArrayList<>();
+        try (LedgerSegment segment = LedgerSegment.open(file)) {
+            segment.scan(1L, Long.MAX_VALUE, row -> before.add(row.getTransactionId()));
+            segment.scanAscending(1L, 0L, Long.MAX_VALUE, row -> ascending.add(row.getTransactionId()));
+        }
+
+        // then
+        assertThat(before).isEmpty();
+        assertThat(ascending).isEmpty();
+    }
+
+    @DisplayName("세그먼트에 쓴 거래 내역은 null 값까지 그대로 다시 읽힌다.")
+    @Test
+    void round_trip_history_values() throws IOException {
+        // given
+        Path file = directory.resolve("ledger-202304.seg");
+        TransactionHistory history = new TransactionHistory(7L, TransactionType.TRANSFER, 1000L, "2321111111111", "3431111111112", null,
+                LocalDateTime.of(2023, 4, 1, 10, 10, 10, 123_000_000), null);
+        try (LedgerSegmentWriter writer = new LedgerSegmentWriter(file, 256)) {
+            writer.append(new LedgerSegmentRow(1L, LedgerDirection.WITHDRAW, history));
+        }
+
+        // when
+        List<LedgerSegmentRow> rows = new ArrayList<>();
+        try (LedgerSegment segment = LedgerSegment.open(file)) {
+            segment.scan(1L, Long.MAX_VALUE, rows::add);
+        }
+
+        // then
+        assertThat(rows).hasSize(1);
+        assertThat(rows.get(0).getDirection()).isEqualTo(LedgerDirection.WITHDRAW);
+        assertThat(rows.get(0).getHistory()).usingRecursiveComparison().isEqualTo(history);
+    }
+
+    @DisplayName("정렬 순서(계좌 id 오름차순, 거래 id 내림차순)를 어기는 행은 쓰지 않는다.")
+    @Test
+    void if_unsorted_row_when_append_throw_exception() throws IOException {
+        try (LedgerSegmentWriter writer = new LedgerSegmentWriter(directory.resolve("ledger-202305.seg"), 4)) {
+            writer.append(row(1L, 1L));
+
+            assertThatThrownBy(() -> writer.append(row(1L, 2L)))
+                    .isInstanceOf(IllegalStateException.class);
+        }
+    }
+
+    private LedgerSegmentRow row(long accountId, long id) {
+        return new LedgerSegmentRow(accountId, LedgerDirection.DEPOSIT,
+                new TransactionHistory(id, TransactionType.DEPOSIT, 100L, "ATM", "2321111111111", "01012341234", LocalDateTime.of(2023, 3, 1, 0, 0), id * 100));
+    }
+}
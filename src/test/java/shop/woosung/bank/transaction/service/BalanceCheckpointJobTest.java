@@ -0,0 +1,113 @@
+package shop.woosung.bank.transaction.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.env.MockEnvironment;
+import shop.woosung.bank.common.service.port.SchedulerLock;
+import shop.woosung.bank.config.AccountProperties;
+import shop.woosung.bank.config.TransactionProperties;
+import shop.woosung.bank.transaction.service.port.BalanceCheckpointStore;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class BalanceCheckpointJobTest {
+    @InjectMocks
+    private BalanceCheckpointJob balanceCheckpointJob;
+    @Mock
+    private BalanceCheckpointStore balanceCheckpointStore;
+    @Mock
+    private SchedulerLock schedulerLock;
+    @Spy
+    private TransactionProperties transactionProperties = new TransactionProperties();
+
+    @DisplayName("체크포인트 시각은 간격 단위로 내림한 시각이다. 기본 간격(하루)이면 그날 0시다.")
+    @Test
+    void checkpoint_at_is_aligned_to_interval() {
+        // given
+        LocalDateTime now = LocalDateTime.of(2023, 10, 31, 23, 59, 59);
+
+        // stub
+        stubSchedulerLockAcquired();
+        when(balanceCheckpointStore.checkpoint(LocalDateTime.of(2023, 10, 31, 0, 0))).thenReturn(3);
+
+        // when
+        int written = balanceCheckpointJob.run(now);
+
+        // then
+        assertThat(written).isEqualTo(3);
+        verify(balanceCheckpointStore).checkpoint(LocalDateTime.of(2023, 10, 31, 0, 0));
+
+        transactionProperties.getCheckpoint().setInterval(Duration.ofHours(6));
+        assertThat(balanceCheckpointJob.checkpointAt(now)).isEqualTo(LocalDateTime.of(2023, 10, 31, 18, 0));
+        assertThat(balanceCheckpointJob.checkpointAt(LocalDateTime.of(2023, 11, 1, 0, 0))).isEqualTo(LocalDateTime.of(2023, 11, 1, 0, 0));
+    }
+
+    @DisplayName("체크포인트를 켜면 단일 커밋 모드이고 partitioned 프로필이 아닐 때만 시작한다. 꺼져 있으면 주기 실행은 아무것도 쓰지 않는다.")
+    @Test
+    void checkpoint_requires_single_commit_and_not_partitioned() {
+        // given
+        TransactionProperties enabled = new TransactionProperties();
+        enabled.getCheckpoint().setEnabled(true);
+        AccountProperties singleCommit = new AccountProperties();
+        singleCommit.getConcurrency().setSingleCommit(true);
+        MockEnvironment partitioned = new MockEnvironment();
+        partitioned.setActiveProfiles("partitioned");
+
+        // when // then
+        assertThatThrownBy(() -> new BalanceCheckpointJob(balanceCheckpointStore, enabled, new AccountProperties(), new MockEnvironment(), schedulerLock).checkSingleCommit())
+                .isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> new BalanceCheckpointJob(balanceCheckpointStore, enabled, singleCommit, partitioned, schedulerLock).checkSingleCommit())
+                .isInstanceOf(IllegalStateException.class);
+        new BalanceCheckpointJob(balanceCheckpointStore, enabled, singleCommit, new MockEnvironment(), schedulerLock).checkSingleCommit();
+
+        new BalanceCheckpointJob(balanceCheckpointStore, new TransactionProperties(), new AccountProperties(), partitioned, schedulerLock).run();
+        verify(balanceCheckpointStore, never()).checkpoint(any());
+    }
+
+    @DisplayName("체크포인트 시각이 안전 간격만큼 지나기 전에는 그 시각을 쓰지 않고, 다른 서버가 잠금을 잡고 있으면 아무것도 쓰지 않는다.")
+    @Test
+    void checkpoint_waits_safety_margin_and_runs_under_scheduler_lock() {
+        // given
+        transactionProperties.getCheckpoint().setSafetyMargin(Duration.ofMinutes(5));
+
+        // stub
+        stubSchedulerLockAcquired();
+
+        // when
+        balanceCheckpointJob.run(LocalDateTime.of(2023, 11, 1, 0, 3));
+        balanceCheckpointJob.run(LocalDateTime.of(2023, 11, 1, 0, 6));
+
+        // then
+        verify(balanceCheckpointStore).checkpoint(LocalDateTime.of(2023, 10, 31, 0, 0));
+        verify(balanceCheckpointStore).checkpoint(LocalDateTime.of(2023, 11, 1, 0, 0));
+
+        // stub
+        when(schedulerLock.executeWithLock(eq("balance-checkpoint"), any(), any())).thenReturn(Optional.empty());
+
+        // when // then
+        assertThat(balanceCheckpointJob.run(LocalDateTime.of(2023, 11, 2, 0, 6))).isEqualTo(0);
+        verify(balanceCheckpointStore, never()).checkpoint(LocalDateTime.of(2023, 11, 2, 0, 0));
+    }
+
+    private void stubSchedulerLockAcquired() {
+        when(schedulerLock.executeWithLock(eq("balance-checkpoint"), any(), any()))
+                .thenAnswer(invocation -> Optional.ofNullable(invocation.<Supplier<?>>getArgument(2).get()));
+    }
+}
@@ -0,0 +1,114 @@
+package shop.woosung.bank.transaction.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import shop.woosung.bank.account.domain.Account;
+import shop.woosung.bank.account.domain.AccountType;
+import shop.woosung.bank.account.handler.exception.NotAccountOwnerException;
+import shop.woosung.bank.account.service.port.AccountRepository;
+import shop.woosung.bank.common.infrastructure.PasswordEncoderImpl;
+import shop.woosung.bank.common.infrastructure.TimeOrderedIdGenerator;
+import shop.woosung.bank.transaction.controller.port.TransactionService;
+import shop.woosung.bank.user.domain.User;
+import shop.woosung.bank.user.domain.UserRole;
+import shop.woosung.bank.user.service.port.UserRepository;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@ActiveProfiles("test")
+@SpringBootTest(properties = {
+        "bank.transaction.checkpoint.enabled=true",
+        "bank.account.concurrency.single-commit=true"
+})
+class BalanceCheckpointServiceTest {
+
+    @Autowired
+    private BalanceCheckpointJob balanceCheckpointJob;
+    @Autowired
+    private TransactionService transactionService;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private AccountRepository accountRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @MockBean
+    private PasswordEncoderImpl passwordEncoderImpl;
+
+    @DisplayName("체크포인트는 직전 체크포인트 이후 거래가 있는 계좌만 쓰고, 시점 잔액은 가장 가까운 체크포인트에서 그 사이 원장만 반영해 구한다.")
+    @Test
+    void balance_at_time_from_nearest_checkpoint() {
+        // given
+        User user = userRepository.save(User.builder().email("ckpt1@test.com").password("1234").name("test").role(UserRole.CUSTOMER).build());
+        User other = userRepository.save(User.builder().email("ckpt2@test.com").password("1234").name("test").role(UserRole.CUSTOMER).build());
+        Account account = accountRepository.save(Account.builder().number(1L).fullNumber(9071111111111L).password("aaaa-bbbb-cccc").balance(1000L).type(AccountType.NORMAL).user(user).build());
+        Account idle = accountRepository.save(Account.builder().number(2L).fullNumber(9071111111112L).password("aaaa-bbbb-cccc").balance(500L).type(AccountType.NORMAL).user(user).build());
+        for (int day = 1; day <= 10; day++) {
+            insertDeposit(account.getId(), LocalDateTime.of(2023, 3, day, 9, 0), day * 100L);
+        }
+
+        // when
+        int first = balanceCheckpointJob.run(LocalDateTime.of(2023, 3, 5, 12, 0));
+        int second = balanceCheckpointJob.run(LocalDateTime.of(2023, 3, 8, 12, 0));
+        int again = balanceCheckpointJob.run(LocalDateTime.of(2023, 3, 8, 18, 0));
+
+        // then
+        assertThat(first).isPositive();
+        assertThat(second).isPositive();
+        assertThat(again).isZero();
+        assertThat(checkpointBalance(account.getId(), LocalDateTime.of(2023, 3, 5, 0, 0))).isEqualTo(400L);
+        assertThat(checkpointBalance(account.getId(), LocalDateTime.of(2023, 3, 8, 0, 0))).isEqualTo(700L);
+        assertThat(jdbcTemplate.queryForObject("select count(*) from balance_checkpoint_entity where account_id = ?", Long.class, idle.getId())).isEqualTo(1L);
+
+        assertThat(balanceAt(9071111111111L, LocalDateTime.of(2023, 3, 1, 0, 0), user)).isEqualTo(0L);
+        assertThat(balanceAt(9071111111111L, LocalDateTime.of(2023, 3, 6, 12, 0), user)).isEqualTo(600L);
+        assertThat(balanceAt(9071111111111L, LocalDateTime.of(2023, 3, 9, 9, 0), user)).isEqualTo(800L);
+        assertThat(balanceAt(9071111111111L, LocalDateTime.of(2023, 3, 9, 12, 0), user)).isEqualTo(900L);
+        assertThat(balanceAt(9071111111111L, LocalDateTime.now(), user)).isEqualTo(1000L);
+        assertThat(balanceAt(9071111111112L, LocalDateTime.of(2023, 3, 9, 12, 0), user)).isEqualTo(500L);
+
+        assertThatThrownBy(() -> transactionService.getBalanceAt(9071111111111L, LocalDateTime.now(), other))
+                .isInstanceOf(NotAccountOwnerException.class);
+    }
+
+    @DisplayName("체크포인트가 없는 계좌의 시점 잔액은 현재 잔액에서 그 이후 원장을 빼서 구한다.")
+    @Test
+    void balance_at_time_without_checkpoint() {
+        // given
+        User user = userRepository.save(User.builder().email("ckpt3@test.com").password("1234").name("test").role(UserRole.CUSTOMER).build());
+        Account account = accountRepository.save(Account.builder().number(3L).fullNumber(9071111111113L).password("aaaa-bbbb-cccc").balance(300L).type(AccountType.NORMAL).user(user).build());
+        for (int day = 1; day <= 3; day++) {
+            insertDeposit(account.getId(), LocalDateTime.of(2023, 6, day, 9, 0), day * 100L);
+        }
+
+        // when & then
+        assertThat(balanceAt(9071111111113L, LocalDateTime.of(2023, 6, 2, 12, 0), user)).isEqualTo(200L);
+        assertThat(balanceAt(9071111111113L, LocalDateTime.of(2023, 5, 31, 0, 0), user)).isEqualTo(0L);
+    }
+
+    private long balanceAt(Long fullNumber, LocalDateTime at, User user) {
+        return transactionService.getBalanceAt(fullNumber, at, user).getBalance();
+    }
+
+    private Long checkpointBalance(Long accountId, LocalDateTime checkpointAt) {
+        return jdbcTemplate.queryForObject("select balance from balance_checkpoint_entity where account_id = ? and checkpoint_at = ?",
+                Long.class, accountId, checkpointAt);
+    }
+
+    private void insertDeposit(Long accountId, LocalDateTime createdAt, Long balanceAfter) {
+        long id = TimeOrderedIdGenerator.lowestIdAt(createdAt.atZone(ZoneId.systemDefault()).toInstant()) + accountId % 1000;
+        jdbcTemplate.update("insert into transaction_entity (id, created_at, updated_at, amount, deposit_account_id, deposit_account_balance, receiver, sender, type) " +
+                "values (?, ?, ?, 100, ?, ?, 'receiver', 'ATM', 'DEPOSIT')", id, createdAt, createdAt, accountId, balanceAfter);
+        jdbcTemplate.update("insert into ledger_entry_entity (id, account_id, transaction_id, direction, balance_after, created_at) " +
+                "values (?, ?, ?, 'DEPOSIT', ?, ?)", id, accountId, id, balanceAfter, createdAt);
+    }
+}
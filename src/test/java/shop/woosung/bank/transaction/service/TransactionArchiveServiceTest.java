@@ -0,0 +1,186 @@
+package shop.woosung.bank.transaction.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import shop.woosung.bank.account.controller.port.AccountService;
+import shop.woosung.bank.account.domain.Account;
+import shop.woosung.bank.account.domain.AccountType;
+import shop.woosung.bank.account.service.dto.AccountDepositRequestServiceDto;
+import shop.woosung.bank.account.service.port.AccountRepository;
+import shop.woosung.bank.common.infrastructure.PasswordEncoderImpl;
+import shop.woosung.bank.config.TransactionProperties;
+import shop.woosung.bank.transaction.controller.port.TransactionService;
+import shop.woosung.bank.transaction.domain.TransactionType;
+import shop.woosung.bank.transaction.infrastructure.TransactionMonth;
+import shop.woosung.bank.transaction.infrastructure.archive.TransactionArchiveStoreImpl;
+import shop.woosung.bank.transaction.service.dto.TransactionResponseListDto;
+import shop.woosung.bank.transaction.service.port.TransactionPartitionStore;
+import shop.woosung.bank.user.domain.User;
+import shop.woosung.bank.user.domain.UserRole;
+import shop.woosung.bank.user.service.port.UserRepository;
+
+import javax.sql.DataSource;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ActiveProfiles("test")
+@SpringBootTest(properties = {
+        "bank.transaction.partition.retention-months=2",
+        "bank.transaction.archive.enabled=true",
+        "bank.transaction.archive.shared-storage=true",
+        "bank.transaction.archive.block-rows=4"
+})
+class TransactionArchiveServiceTest {
+
+    @TempDir
+    static Path archiveDirectory;
+
+    @DynamicPropertySource
+    static void archiveProperties(DynamicPropertyRegistry registry) {
+        registry.add("bank.transaction.archive.directory", () -> archiveDirectory.toString());
+    }
+
+    @Autowired
+    private TransactionPartitionJob transactionPartitionJob;
+    @Autowired
+    private TransactionPartitionStore transactionPartitionStore;
+    @Autowired
+    private TransactionService transactionService;
+    @Autowired
+    private AccountService accountService;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private AccountRepository accountRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private DataSource dataSource;
+    @MockBean
+    private PasswordEncoderImpl passwordEncoderImpl;
+
+    @DisplayName("보관 기간이 지난 달은 세그먼트 파일로 옮겨지고, 내역 조회는 운영 테이블 다음에 보관된 거래를 이어서 최신순으로 읽는다.")
+    @Test
+    void history_falls_through_to_archived_segments() throws IOException {
+        // given
+        User user = userRepository.save(User.builder().email("arch1@test.com").password("1234").name("test").role(UserRole.CUSTOMER).build());
+        Account account = accountRepository.save(Account.builder().number(1L).fullNumber(9051111111111L).password("aaaa-bbbb-cccc").balance(0L).type(AccountType.NORMAL).user(user).build());
+        Account other = accountRepository.save(Account.builder().number(2L).fullNumber(9051111111112L).password("aaaa-bbbb-cccc").balance(0L).type(AccountType.NORMAL).user(user).build());
+        for (int i = 0; i < 2; i++) {
+            accountService.deposit(AccountDepositRequestServiceDto.builder()
+                    .fullNumber(9051111111111L).amount(100L).transactionType(TransactionType.DEPOSIT).sender("ATM").tel("01012341234").build());
+        }
+        insertOldDeposits(account.getId(), YearMonth.of(2023, 3), 1, 12);
+        insertOldDeposits(account.getId(), YearMonth.of(2023, 4), 1, 3);
+        insertOldDeposits(other.getId(), YearMonth.of(2023, 4), 100, 2);
+
+        // when
+        transactionPartitionJob.run(YearMonth.now());
+
+        // then
+        assertThat(transactionPartitionStore.detachedMonths()).isEmpty();
+        assertThat(archiveDirectory.resolve("ledger-202303.seg")).exists();
+        assertThat(archiveDirectory.resolve("ledger-202304.seg")).exists();
+
+        List<Long> cursorIds = new ArrayList<>();
+        TransactionResponseListDto page = transactionService.getTransactionList(9051111111111L, "ALL", null, 5, user);
+        cursorIds.addAll(idsOf(page));
+        while (page.getNext() != null) {
+            page = transactionService.getTransactionList(9051111111111L, "ALL", page.getNext(), 5, user);
+            cursorIds.addAll(idsOf(page));
+        }
+        assertThat(cursorIds).hasSize(17).doesNotHaveDuplicates().isSortedAccordingTo(Comparator.reverseOrder());
+
+        List<Long> offsetIds = new ArrayList<>();
+        for (int pageNumber = 0; pageNumber < 4; pageNumber++) {
+            offsetIds.addAll(idsOf(transactionService.getTransactionList(9051111111111L, "ALL", pageNumber, user)));
+        }
+        assertThat(offsetIds).isEqualTo(cursorIds);
+        assertThat(transactionService.getTransactionList(9051111111111L, "WITHDRAW", null, 5, user).getTransactions()).isEmpty();
+
+        ByteArrayOutputStream statement = new ByteArrayOutputStream();
+        transactionService.writeStatement(transactionService.getStatement(9051111111111L, null, null, "csv", user), statement);
+        List<Long> statementIds = statement.toString(StandardCharsets.UTF_8).lines().skip(1)
+                .map(line -> Long.parseLong(line.substring(0, line.indexOf(','))))
+                .collect(Collectors.toList());
+        List<Long> ascendingIds = new ArrayList<>(cursorIds);
+        Collections.reverse(ascendingIds);
+        assertThat(statementIds).isEqualTo(ascendingIds);
+    }
+
+    @DisplayName("공유 저장소가 아니면 월 테이블을 지우지 않고, 다른 서버도 월 테이블에서 자기 세그먼트를 만들어 같은 내역을 읽는다.")
+    @Test
+    void local_archive_keeps_month_tables_and_each_node_builds_own_segment(@TempDir Path nodeA, @TempDir Path nodeB) throws IOException {
+        // given
+        User user = userRepository.save(User.builder().email("arch2@test.com").password("1234").name("test").role(UserRole.CUSTOMER).build());
+        Account account = accountRepository.save(Account.builder().number(3L).fullNumber(9051111111113L).password("aaaa-bbbb-cccc").balance(0L).type(AccountType.NORMAL).user(user).build());
+        YearMonth month = YearMonth.of(2023, 5);
+        insertOldDeposits(account.getId(), month, 1, 3);
+        transactionPartitionStore.detachBefore(YearMonth.now().minusMonths(1));
+        TransactionArchiveStoreImpl archiveA = localArchive(nodeA);
+        TransactionArchiveStoreImpl archiveB = localArchive(nodeB);
+
+        // when
+        archiveA.archive(month);
+        archiveB.refresh(transactionPartitionStore.detachedMonths());
+
+        // then
+        try {
+            assertThat(transactionPartitionStore.detachedMonths()).contains(month);
+            assertThat(nodeA.resolve("ledger-202305.seg")).exists();
+            assertThat(nodeB.resolve("ledger-202305.seg")).exists();
+            assertThat(archiveA.findBefore(account.getId(), null, Long.MAX_VALUE, 0, 10)).hasSize(3);
+            assertThat(archiveB.findBefore(account.getId(), null, Long.MAX_VALUE, 0, 10)).hasSize(3);
+        } finally {
+            archiveA.close();
+            archiveB.close();
+            transactionPartitionJob.run(YearMonth.now());
+        }
+    }
+
+    private TransactionArchiveStoreImpl localArchive(Path directory) throws IOException {
+        TransactionProperties properties = new TransactionProperties();
+        properties.getArchive().setEnabled(true);
+        properties.getArchive().setDirectory(directory.toString());
+        TransactionArchiveStoreImpl archive = new TransactionArchiveStoreImpl(dataSource, properties);
+        archive.openSegments();
+        return archive;
+    }
+
+    private void insertOldDeposits(Long accountId, YearMonth month, long offset, int count) {
+        long firstId = TransactionMonth.of(month).lowestId() + offset;
+        LocalDateTime createdAt = month.atDay(1).atStartOfDay();
+        for (int i = 0; i < count; i++) {
+            long id = firstId + i;
+            jdbcTemplate.update("insert into transaction_entity (id, created_at, updated_at, amount, deposit_account_id, deposit_account_balance, receiver, sender, type) " +
+                    "values (?, ?, ?, 100, ?, ?, 'receiver', 'ATM', 'DEPOSIT')", id, createdAt, createdAt, accountId, (i + 1) * 100L);
+            jdbcTemplate.update("insert into ledger_entry_entity (id, account_id, transaction_id, direction, balance_after, created_at) " +
+                    "values (?, ?, ?, 'DEPOSIT', ?, ?)", id, accountId, id, (i + 1) * 100L, createdAt);
+        }
+    }
+
+    private List<Long> idsOf(TransactionResponseListDto page) {
+        return page.getTransactions().stream()
+                .map(TransactionResponseListDto.TransactionDto::getId)
+                .collect(Collectors.toList());
+    }
+}
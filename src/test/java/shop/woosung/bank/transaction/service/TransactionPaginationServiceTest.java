@@ -0,0 +1,133 @@
+package shop.woosung.bank.transaction.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.ActiveProfiles;
+import shop.woosung.bank.account.controller.port.AccountService;
+import shop.woosung.bank.account.domain.Account;
+import shop.woosung.bank.account.domain.AccountType;
+import shop.woosung.bank.account.handler.exception.NotAccountOwnerException;
+import shop.woosung.bank.account.service.dto.AccountDepositRequestServiceDto;
+import shop.woosung.bank.account.service.dto.AccountTransferRequestServiceDto;
+import shop.woosung.bank.account.service.port.AccountRepository;
+import shop.woosung.bank.common.infrastructure.PasswordEncoderImpl;
+import shop.woosung.bank.transaction.controller.port.TransactionService;
+import shop.woosung.bank.transaction.domain.TransactionType;
+import shop.woosung.bank.transaction.service.dto.TransactionResponseListDto;
+import shop.woosung.bank.user.domain.User;
+import shop.woosung.bank.user.domain.UserRole;
+import shop.woosung.bank.user.service.port.UserRepository;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+@ActiveProfiles("test")
+@SpringBootTest
+class TransactionPaginationServiceTest {
+    private static final long FULL_NUMBER = 9031111111111L;
+
+    @Autowired
+    private TransactionService transactionService;
+    @Autowired
+    private AccountService accountService;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private AccountRepository accountRepository;
+    @MockBean
+    private PasswordEncoderImpl passwordEncoderImpl;
+
+    @DisplayName("커서로 끝까지 넘기면 모든 거래를 최신순으로 한 번씩 받고, 중간에 새 거래가 생겨도 다음 페이지가 밀리지 않는다.")
+    @Test
+    void walk_all_pages_by_cursor_without_duplicate_or_missing() {
+        // given
+        User user = userRepository.save(User.builder().email("page1@test.com").password("1234").name("test").role(UserRole.CUSTOMER).build());
+        accountRepository.save(Account.builder().number(1L).fullNumber(FULL_NUMBER).password("aaaa-bbbb-cccc").balance(0L).type(AccountType.NORMAL).user(user).build());
+        for (int i = 0; i < 23; i++) {
+            deposit();
+        }
+
+        // when
+        List<Long> ids = new ArrayList<>();
+        TransactionResponseListDto page = transactionService.getTransactionList(FULL_NUMBER, "ALL", null, 5, user);
+        ids.addAll(idsOf(page));
+        deposit();
+        int pages = 1;
+        while (page.getNext() != null) {
+            page = transactionService.getTransactionList(FULL_NUMBER, "ALL", page.getNext(), 5, user);
+            ids.addAll(idsOf(page));
+            pages++;
+        }
+
+        // then
+        assertThat(pages).isEqualTo(5);
+        assertThat(ids).hasSize(23).doesNotHaveDuplicates()
+                .isSortedAccordingTo(Comparator.reverseOrder());
+    }
+
+    @DisplayName("이체는 양쪽 계좌의 원장에 남아 보내는 계좌는 출금 내역, 받는 계좌는 입금 내역으로 각자의 잔액과 함께 조회된다.")
+    @Test
+    void transfer_appear_in_both_account_history_by_direction() {
+        // given
+        User user = userRepository.save(User.builder().email("page2@test.com").password("1234").name("test").role(UserRole.CUSTOMER).build());
+        accountRepository.save(Account.builder().number(2L).fullNumber(9031111111112L).password("aaaa-bbbb-cccc").balance(10000L).type(AccountType.NORMAL).user(user).build());
+        accountRepository.save(Account.builder().number(3L).fullNumber(9031111111113L).password("aaaa-bbbb-cccc").balance(0L).type(AccountType.NORMAL).user(user).build());
+        when(passwordEncoderImpl.matches(anyString(), anyString())).thenReturn(true);
+
+        // when
+        accountService.transfer(AccountTransferRequestServiceDto.builder()
+                .withdrawFullNumber(9031111111112L).depositFullNumber(9031111111113L).withdrawPassword(1234L)
+                .amount(300L).transactionType(TransactionType.TRANSFER).build(), user);
+
+        // then
+        TransactionResponseListDto withdrawSide = transactionService.getTransactionList(9031111111112L, "ALL", null, 5, user);
+        assertThat(withdrawSide.getTransactions()).hasSize(1);
+        assertThat(withdrawSide.getTransactions().get(0).getBalance()).isEqualTo(9700L);
+        assertThat(transactionService.getTransactionList(9031111111112L, "DEPOSIT", null, 5, user).getTransactions()).isEmpty();
+
+        TransactionResponseListDto depositSide = transactionService.getTransactionList(9031111111113L, "DEPOSIT", null, 5, user);
+        assertThat(depositSide.getTransactions()).hasSize(1);
+        assertThat(depositSide.getTransactions().get(0).getBalance()).isEqualTo(300L);
+        assertThat(depositSide.getTransactions().get(0).getId()).isEqualTo(withdrawSide.getTransactions().get(0).getId());
+        assertThat(transactionService.getTransactionList(9031111111113L, "WITHDRAW", 0, user).getTransactions()).isEmpty();
+    }
+
+    @DisplayName("다른 사용자의 계좌 내역을 조회하면 빈 목록 대신 소유자가 아니라는 예외를 발생시킨다.")
+    @Test
+    void if_not_owner_when_get_transaction_list_throw_exception() {
+        // given
+        User owner = userRepository.save(User.builder().email("page3@test.com").password("1234").name("test").role(UserRole.CUSTOMER).build());
+        User other = userRepository.save(User.builder().email("page4@test.com").password("1234").name("test").role(UserRole.CUSTOMER).build());
+        accountRepository.save(Account.builder().number(4L).fullNumber(9031111111114L).password("aaaa-bbbb-cccc").balance(0L).type(AccountType.NORMAL).user(owner).build());
+        accountService.deposit(AccountDepositRequestServiceDto.builder()
+                .fullNumber(9031111111114L).amount(100L).transactionType(TransactionType.DEPOSIT).sender("ATM").tel("01012341234").build());
+
+        // when & then
+        assertThat(transactionService.getTransactionList(9031111111114L, "ALL", null, 5, owner).getTransactions()).hasSize(1);
+        assertThatThrownBy(() -> transactionService.getTransactionList(9031111111114L, "ALL", null, 5, other))
+                .isInstanceOf(NotAccountOwnerException.class);
+        assertThatThrownBy(() -> transactionService.getTransactionList(9031111111114L, "ALL", 0, other))
+                .isInstanceOf(NotAccountOwnerException.class);
+    }
+
+    private void deposit() {
+        accountService.deposit(AccountDepositRequestServiceDto.builder()
+                .fullNumber(FULL_NUMBER).amount(100L).transactionType(TransactionType.DEPOSIT).sender("ATM").tel("01012341234").build());
+    }
+
+    private List<Long> idsOf(TransactionResponseListDto page) {
+        return page.getTransactions().stream()
+                .map(TransactionResponseListDto.TransactionDto::getId)
+                .collect(Collectors.toList());
+    }
+}
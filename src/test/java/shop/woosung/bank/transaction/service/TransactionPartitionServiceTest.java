@@ -0,0 +1,148 @@
+package shop.woosung.bank.transaction.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import shop.woosung.bank.account.controller.port.AccountService;
+import shop.woosung.bank.account.domain.Account;
+import shop.woosung.bank.account.domain.AccountType;
+import shop.woosung.bank.account.service.dto.AccountDepositRequestServiceDto;
+import shop.woosung.bank.account.service.port.AccountRepository;
+import shop.woosung.bank.common.infrastructure.PasswordEncoderImpl;
+import shop.woosung.bank.common.service.port.SchedulerLock;
+import shop.woosung.bank.transaction.controller.port.TransactionService;
+import shop.woosung.bank.transaction.domain.TransactionType;
+import shop.woosung.bank.transaction.infrastructure.TransactionMonth;
+import shop.woosung.bank.user.domain.User;
+import shop.woosung.bank.user.domain.UserRole;
+import shop.woosung.bank.user.service.port.UserRepository;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ActiveProfiles("test")
+@SpringBootTest(properties = {
+        "bank.transaction.partition.retention-months=2"
+})
+class TransactionPartitionServiceTest {
+    private static final YearMonth OLD_MONTH = YearMonth.of(2023, 3);
+    private static final long LEGACY_ID = 7L;
+
+    @Autowired
+    private TransactionPartitionJob transactionPartitionJob;
+    @Autowired
+    private TransactionService transactionService;
+    @Autowired
+    private AccountService accountService;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private AccountRepository accountRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private SchedulerLock schedulerLock;
+    @MockBean
+    private PasswordEncoderImpl passwordEncoderImpl;
+
+    @AfterEach
+    void tearDown() {
+        TransactionMonth month = TransactionMonth.of(OLD_MONTH);
+        jdbcTemplate.update("delete from ledger_entry_entity where transaction_id = ?", month.lowestId() + 1);
+        jdbcTemplate.update("delete from transaction_entity where id = ?", month.lowestId() + 1);
+        jdbcTemplate.update("delete from ledger_entry_entity where transaction_id = ?", LEGACY_ID);
+        jdbcTemplate.update("delete from transaction_entity where id = ?", LEGACY_ID);
+        jdbcTemplate.execute("drop table if exists " + month.tableName("transaction_entity"));
+        jdbcTemplate.execute("drop table if exists " + month.tableName("ledger_entry_entity"));
+    }
+
+    @DisplayName("보관 기간이 지난 달의 거래와 원장은 월 테이블로 옮기고, 옮긴 뒤의 내역 조회는 운영 테이블에 남은 거래만 읽는다.")
+    @Test
+    void detach_months_past_retention_into_month_tables() {
+        // given
+        User user = userRepository.save(User.builder().email("part1@test.com").password("1234").name("test").role(UserRole.CUSTOMER).build());
+        Account account = accountRepository.save(Account.builder().number(1L).fullNumber(9041111111111L).password("aaaa-bbbb-cccc").balance(0L).type(AccountType.NORMAL).user(user).build());
+        accountService.deposit(AccountDepositRequestServiceDto.builder()
+                .fullNumber(9041111111111L).amount(100L).transactionType(TransactionType.DEPOSIT).sender("ATM").tel("01012341234").build());
+        long oldId = insertOldDeposit(account.getId());
+
+        // when
+        assertThat(transactionService.getTransactionList(9041111111111L, "ALL", null, 10, user).getTransactions()).hasSize(2);
+        transactionPartitionJob.run(YearMonth.now());
+
+        // then
+        TransactionMonth month = TransactionMonth.of(OLD_MONTH);
+        assertThat(count("transaction_entity", "id", oldId)).isZero();
+        assertThat(count("ledger_entry_entity", "transaction_id", oldId)).isZero();
+        assertThat(count(month.tableName("transaction_entity"), "id", oldId)).isEqualTo(1);
+        assertThat(count(month.tableName("ledger_entry_entity"), "transaction_id", oldId)).isEqualTo(1);
+        assertThat(transactionService.getTransactionList(9041111111111L, "ALL", null, 10, user).getTransactions()).hasSize(1);
+
+        assertThat(transactionPartitionJob.run(YearMonth.now())).isEmpty();
+    }
+
+    @DisplayName("다른 서버가 파티션 작업 잠금을 잡고 있으면 아무것도 옮기지 않는다.")
+    @Test
+    void skip_detach_while_another_runner_holds_lock() {
+        // given
+        User user = userRepository.save(User.builder().email("part2@test.com").password("1234").name("test").role(UserRole.CUSTOMER).build());
+        Account account = accountRepository.save(Account.builder().number(2L).fullNumber(9041111111112L).password("aaaa-bbbb-cccc").balance(0L).type(AccountType.NORMAL).user(user).build());
+        long oldId = insertOldDeposit(account.getId());
+
+        // when
+        List<YearMonth> detachedWhileLocked = schedulerLock.executeWithLock("transaction-partition", Duration.ofMinutes(1),
+                () -> transactionPartitionJob.run(YearMonth.now())).orElseThrow();
+
+        // then
+        assertThat(detachedWhileLocked).isEmpty();
+        assertThat(count("transaction_entity", "id", oldId)).isEqualTo(1);
+        assertThat(count("ledger_entry_entity", "transaction_id", oldId)).isEqualTo(1);
+    }
+
+    @DisplayName("시간 순서 id 이전의 IDENTITY id 거래는 created_at 기준 달로 옮긴다.")
+    @Test
+    void rekey_legacy_identity_rows_by_created_at_before_detach() {
+        // given
+        User user = userRepository.save(User.builder().email("part3@test.com").password("1234").name("test").role(UserRole.CUSTOMER).build());
+        Account account = accountRepository.save(Account.builder().number(3L).fullNumber(9041111111113L).password("aaaa-bbbb-cccc").balance(0L).type(AccountType.NORMAL).user(user).build());
+        insertDeposit(LEGACY_ID, account.getId(), OLD_MONTH.atDay(10).atStartOfDay());
+
+        // when
+        transactionPartitionJob.run(YearMonth.now());
+
+        // then
+        TransactionMonth month = TransactionMonth.of(OLD_MONTH);
+        assertThat(count("transaction_entity", "id", LEGACY_ID)).isZero();
+        assertThat(count("ledger_entry_entity", "transaction_id", LEGACY_ID)).isZero();
+        Long rekeyedId = jdbcTemplate.queryForObject("select id from " + month.tableName("transaction_entity") + " where deposit_account_id = ?",
+                Long.class, account.getId());
+        assertThat(rekeyedId).isBetween(month.lowestId(), month.upperId() - 1);
+        assertThat(count(month.tableName("ledger_entry_entity"), "transaction_id", rekeyedId)).isEqualTo(1);
+    }
+
+    private long insertOldDeposit(Long accountId) {
+        long id = TransactionMonth.of(OLD_MONTH).lowestId() + 1;
+        insertDeposit(id, accountId, OLD_MONTH.atDay(1).atStartOfDay());
+        return id;
+    }
+
+    private void insertDeposit(long id, Long accountId, LocalDateTime createdAt) {
+        jdbcTemplate.update("insert into transaction_entity (id, created_at, updated_at, amount, deposit_account_id, deposit_account_balance, receiver, sender, type) " +
+                "values (?, ?, ?, 100, ?, 100, '9041111111111', 'ATM', 'DEPOSIT')", id, createdAt, createdAt, accountId);
+        jdbcTemplate.update("insert into ledger_entry_entity (id, account_id, transaction_id, direction, balance_after, created_at) " +
+                "values (?, ?, ?, 'DEPOSIT', 100, ?)", id, accountId, id, createdAt);
+    }
+
+    private int count(String table, String key, long id) {
+        return jdbcTemplate.queryForObject("select count(*) from " + table + " where " + key + " = ?", Integer.class, id);
+    }
+}
@@ -5,12 +5,15 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
-import shop.woosung.bank.account.domain.Account;
+import shop.woosung.bank.account.handler.exception.NotAccountOwnerException;
 import shop.woosung.bank.account.service.AccountServiceImpl;
-import shop.woosung.bank.account.service.dto.AccountDto;
-import shop.woosung.bank.transaction.domain.Transaction;
+import shop.woosung.bank.config.TransactionProperties;
+import shop.woosung.bank.transaction.domain.TransactionCursor;
+import shop.woosung.bank.transaction.domain.TransactionHistory;
 import shop.woosung.bank.transaction.domain.TransactionType;
+import shop.woosung.bank.transaction.handler.exception.InvalidTransactionCursorException;
 import shop.woosung.bank.transaction.service.dto.TransactionResponseListDto;
 import shop.woosung.bank.transaction.service.port.TransactionRepository;
 import shop.woosung.bank.user.domain.User;
@@ -20,7 +23,10 @@ import java.util.ArrayList;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -31,6 +37,8 @@ class TransactionServiceImplTest {
     private TransactionRepository transactionRepository;
     @Mock
     private AccountServiceImpl accountService;
+    @Spy
+    private TransactionProperties transactionProperties = new TransactionProperties();
 
     @DisplayName("계좌번호에 맞는 계좌 내역 리스트를 가져온다")
     @Test
@@ -42,17 +50,11 @@ class TransactionServiceImplTest {
         User user = User.builder().id(1L).build();
 
         // stub
-        AccountDto accountDto = AccountDto.from(Account.builder().id(1L).fullNumber(2321111111111L).build());
+        List<TransactionHistory> transactionList = new ArrayList<>();
+        transactionList.add(new TransactionHistory(1L, TransactionType.TRANSFER, 1000L, "2321111111111", "3431111111112", null, LocalDateTime.of(2023, 10, 22, 10, 10, 10), 2000L));
+        transactionList.add(new TransactionHistory(2L, TransactionType.DEPOSIT, 1000L, "ATM", "2321111111111", null, LocalDateTime.of(2023, 10, 22, 10, 10, 10), 3000L));
 
-        when(accountService.checkAccountOwner(anyLong(), any())).thenReturn(accountDto);
-
-        List<Transaction> transactionList = new ArrayList<>();
-        Account account1 = Account.builder().id(1L).fullNumber(2321111111111L).balance(2000L).build();
-        Account account2 = Account.builder().id(2L).fullNumber(3431111111112L).balance(3000L).build();
-        transactionList.add(Transaction.builder().id(1L).type(TransactionType.TRANSFER).withdrawAccount(account1).withdrawAccountBalance(2000L).depositAccount(account2).depositAccountBalance(1000L).amount(1000L).sender(account1.getFullNumber().toString()).receiver(account2.getFullNumber().toString()).createdAt(LocalDateTime.of(2023, 10, 22, 10, 10, 10)).build());
-        transactionList.add(Transaction.builder().id(2L).type(TransactionType.DEPOSIT).depositAccount(account1).depositAccountBalance(2000L).amount(1000L).sender("ATM").receiver(account1.getFullNumber().toString()).createdAt(LocalDateTime.of(2023, 10, 22, 10, 10, 10)).build());
-
-        when(transactionRepository.findTransactionList(anyLong(), anyString(), anyInt())).thenReturn(transactionList);
+        when(transactionRepository.findTransactionHistory(anyLong(), anyLong(), anyString(), anyInt(), anyInt())).thenReturn(transactionList);
 
         // when
         TransactionResponseListDto result = transactionService.getTransactionList(accountFullNumber, type, page, user);
@@ -61,14 +63,86 @@ class TransactionServiceImplTest {
         assertThat(result.getTransactions().get(0).getId()).isEqualTo(1L);
         assertThat(result.getTransactions().get(0).getType()).isEqualTo("이체");
         assertThat(result.getTransactions().get(0).getAmount()).isEqualTo(1000L);
-        assertThat(result.getTransactions().get(0).getSender()).isEqualTo(account1.getFullNumber().toString());
-        assertThat(result.getTransactions().get(0).getReceiver()).isEqualTo(account2.getFullNumber().toString());
+        assertThat(result.getTransactions().get(0).getSender()).isEqualTo("2321111111111");
+        assertThat(result.getTransactions().get(0).getReceiver()).isEqualTo("3431111111112");
+        assertThat(result.getTransactions().get(0).getTel()).isEqualTo("없음");
         assertThat(result.getTransactions().get(0).getCreatedAt()).isEqualTo("2023-10-22 10:10:10");
+        assertThat(result.getTransactions().get(0).getBalance()).isEqualTo(2000L);
         assertThat(result.getTransactions().get(1).getId()).isEqualTo(2L);
         assertThat(result.getTransactions().get(1).getType()).isEqualTo("입금");
         assertThat(result.getTransactions().get(1).getAmount()).isEqualTo(1000L);
         assertThat(result.getTransactions().get(1).getSender()).isEqualTo("ATM");
-        assertThat(result.getTransactions().get(1).getReceiver()).isEqualTo(account1.getFullNumber().toString());
+        assertThat(result.getTransactions().get(1).getReceiver()).isEqualTo("2321111111111");
         assertThat(result.getTransactions().get(1).getCreatedAt()).isEqualTo("2023-10-22 10:10:10");
+        assertThat(result.getTransactions().get(1).getBalance()).isEqualTo(3000L);
+        verify(accountService, never()).checkAccountOwner(anyLong(), any());
+    }
+
+    @DisplayName("조회 결과가 비어 있으면 계좌 소유자를 확인해서 소유자가 아니면 예외를 발생시킨다.")
+    @Test
+    void if_empty_result_and_not_owner_when_get_transaction_list_throw_exception() {
+        // given
+        User user = User.builder().id(2L).build();
+
+        // stub
+        when(transactionRepository.findTransactionHistory(2321111111111L, 2L, "ALL", 0, 5)).thenReturn(List.of());
+        when(accountService.checkAccountOwner(2321111111111L, user)).thenThrow(new NotAccountOwnerException());
+
+        // when & then
+        assertThatThrownBy(() -> transactionService.getTransactionList(2321111111111L, "ALL", 0, user))
+                .isInstanceOf(NotAccountOwnerException.class);
+    }
+
+    @DisplayName("커서 방식으로 조회할 때 다음 페이지가 있으면 마지막 거래 id 로 만든 커서를 함께 반환한다.")
+    @Test
+    void if_has_more_when_get_transaction_list_by_cursor_return_next_cursor() {
+        // given
+        User user = User.builder().id(1L).build();
+        String cursor = TransactionCursor.after(100L).encode();
+
+        // stub
+        when(transactionRepository.findTransactionHistoryBefore(2321111111111L, 1L, "ALL", 100L, 3)).thenReturn(List.of(
+                depositHistory(99L), depositHistory(98L), depositHistory(97L)));
+
+        // when
+        TransactionResponseListDto result = transactionService.getTransactionList(2321111111111L, "ALL", cursor, 2, user);
+
+        // then
+        assertThat(result.getTransactions()).extracting(TransactionResponseListDto.TransactionDto::getId).containsExactly(99L, 98L);
+        assertThat(TransactionCursor.decode(result.getNext()).getLastId()).isEqualTo(98L);
+    }
+
+    @DisplayName("커서 방식으로 조회할 때 마지막 페이지면 다음 커서가 없고, 최대 크기보다 큰 페이지 요청은 최대 크기로 줄인다.")
+    @Test
+    void if_last_page_when_get_transaction_list_by_cursor_return_no_next_cursor() {
+        // given
+        User user = User.builder().id(1L).build();
+        int maxSize = transactionProperties.getPage().getMaxSize();
+
+        // stub
+        when(transactionRepository.findTransactionHistoryBefore(2321111111111L, 1L, "DEPOSIT", null, maxSize + 1)).thenReturn(List.of(depositHistory(1L)));
+
+        // when
+        TransactionResponseListDto result = transactionService.getTransactionList(2321111111111L, "DEPOSIT", null, 100_000, user);
+
+        // then
+        assertThat(result.getTransactions()).hasSize(1);
+        assertThat(result.getNext()).isNull();
+    }
+
+    @DisplayName("잘못된 커서로 조회하면 거래 내역을 조회하지 않고 예외를 발생시킨다.")
+    @Test
+    void if_invalid_cursor_when_get_transaction_list_throw_exception() {
+        // given
+        User user = User.builder().id(1L).build();
+
+        // when & then
+        assertThatThrownBy(() -> transactionService.getTransactionList(2321111111111L, "ALL", "not-a-cursor", 5, user))
+                .isInstanceOf(InvalidTransactionCursorException.class);
+        verify(transactionRepository, never()).findTransactionHistoryBefore(anyLong(), anyLong(), anyString(), any(), anyInt());
+    }
+
+    private TransactionHistory depositHistory(Long id) {
+        return new TransactionHistory(id, TransactionType.DEPOSIT, 1000L, "ATM", "2321111111111", null, LocalDateTime.of(2023, 10, 22, 10, 10, 10), 1000L);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,138 @@
+package shop.woosung.bank.transaction.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.ActiveProfiles;
+import shop.woosung.bank.account.controller.port.AccountService;
+import shop.woosung.bank.account.domain.Account;
+import shop.woosung.bank.account.domain.AccountType;
+import shop.woosung.bank.account.handler.exception.NotAccountOwnerException;
+import shop.woosung.bank.account.service.dto.AccountDepositRequestServiceDto;
+import shop.woosung.bank.account.service.dto.AccountTransferRequestServiceDto;
+import shop.woosung.bank.account.service.port.AccountRepository;
+import shop.woosung.bank.common.infrastructure.PasswordEncoderImpl;
+import shop.woosung.bank.transaction.controller.port.TransactionService;
+import shop.woosung.bank.transaction.domain.TransactionType;
+import shop.woosung.bank.transaction.handler.exception.InvalidStatementRequestException;
+import shop.woosung.bank.transaction.service.dto.TransactionStatement;
+import shop.woosung.bank.user.domain.User;
+import shop.woosung.bank.user.domain.UserRole;
+import shop.woosung.bank.user.service.port.UserRepository;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+@ActiveProfiles("test")
+@SpringBootTest
+class TransactionStatementServiceTest {
+
+    @Autowired
+    private TransactionService transactionService;
+    @Autowired
+    private AccountService accountService;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private AccountRepository accountRepository;
+    @MockBean
+    private PasswordEncoderImpl passwordEncoderImpl;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @DisplayName("명세서는 계좌의 입출금을 오래된 순서로 한 줄씩 거래 후 잔액과 함께 CSV, NDJSON 으로 쓴다.")
+    @Test
+    void write_statement_as_csv_and_ndjson_in_ascending_order() throws IOException {
+        // given
+        User user = userRepository.save(User.builder().email("stmt1@test.com").password("1234").name("test").role(UserRole.CUSTOMER).build());
+        accountRepository.save(Account.builder().number(1L).fullNumber(9061111111111L).password("aaaa-bbbb-cccc").balance(0L).type(AccountType.NORMAL).user(user).build());
+        accountRepository.save(Account.builder().number(2L).fullNumber(9061111111112L).password("aaaa-bbbb-cccc").balance(0L).type(AccountType.NORMAL).user(user).build());
+        when(passwordEncoderImpl.matches(anyString(), anyString())).thenReturn(true);
+        for (int i = 0; i < 30; i++) {
+            accountService.deposit(AccountDepositRequestServiceDto.builder()
+                    .fullNumber(9061111111111L).amount(100L).transactionType(TransactionType.DEPOSIT).sender("ATM").tel("01012341234").build());
+        }
+        accountService.transfer(AccountTransferRequestServiceDto.builder()
+                .withdrawFullNumber(9061111111111L).depositFullNumber(9061111111112L).withdrawPassword(1234L)
+                .amount(500L).transactionType(TransactionType.TRANSFER).build(), user);
+
+        // when
+        String csv = write(transactionService.getStatement(9061111111111L, null, null, "csv", user));
+        String ndjson = write(transactionService.getStatement(9061111111111L, LocalDate.now(), LocalDate.now(), "NDJSON", user));
+
+        // then
+        String[] csvLines = csv.split("\n");
+        assertThat(csvLines).hasSize(32);
+        assertThat(csvLines[0]).isEqualTo("id,createdAt,type,direction,amount,balance,sender,receiver,tel");
+        assertThat(csvLines[1]).endsWith(",입금,입금,100,100,ATM,9061111111111,01012341234");
+        assertThat(csvLines[31]).endsWith(",이체,출금,500,2500,9061111111111,9061111111112,");
+
+        List<Long> ids = new ArrayList<>();
+        for (int i = 1; i < csvLines.length; i++) {
+            ids.add(Long.parseLong(csvLines[i].substring(0, csvLines[i].indexOf(','))));
+        }
+        assertThat(ids).doesNotHaveDuplicates().isSorted();
+
+        String[] ndjsonLines = ndjson.split("\n");
+        assertThat(ndjsonLines).hasSize(31);
+        JsonNode last = objectMapper.readTree(ndjsonLines[30]);
+        assertThat(last.get("id").asLong()).isEqualTo(ids.get(30));
+        assertThat(last.get("direction").asText()).isEqualTo("출금");
+        assertThat(last.get("balance").asLong()).isEqualTo(2500L);
+        assertThat(last.get("tel").isNull()).isTrue();
+    }
+
+    @DisplayName("기간 밖의 거래는 쓰지 않아 거래가 없는 기간의 CSV 명세서는 머리글만 남는다.")
+    @Test
+    void write_only_header_if_no_transaction_in_period() throws IOException {
+        // given
+        User user = userRepository.save(User.builder().email("stmt2@test.com").password("1234").name("test").role(UserRole.CUSTOMER).build());
+        accountRepository.save(Account.builder().number(3L).fullNumber(9061111111113L).password("aaaa-bbbb-cccc").balance(0L).type(AccountType.NORMAL).user(user).build());
+        accountService.deposit(AccountDepositRequestServiceDto.builder()
+                .fullNumber(9061111111113L).amount(100L).transactionType(TransactionType.DEPOSIT).sender("ATM").tel("01012341234").build());
+
+        // when
+        String future = write(transactionService.getStatement(9061111111113L, LocalDate.now().plusDays(1), null, "csv", user));
+        String past = write(transactionService.getStatement(9061111111113L, null, LocalDate.now().minusDays(1), "csv", user));
+
+        // then
+        assertThat(future).isEqualTo("id,createdAt,type,direction,amount,balance,sender,receiver,tel\n");
+        assertThat(past).isEqualTo(future);
+    }
+
+    @DisplayName("형식이나 기간이 잘못됐거나 소유자가 아니면 명세서를 쓰기 전에 예외를 발생시킨다.")
+    @Test
+    void if_invalid_request_when_get_statement_throw_exception() {
+        // given
+        User owner = userRepository.save(User.builder().email("stmt3@test.com").password("1234").name("test").role(UserRole.CUSTOMER).build());
+        User other = userRepository.save(User.builder().email("stmt4@test.com").password("1234").name("test").role(UserRole.CUSTOMER).build());
+        accountRepository.save(Account.builder().number(4L).fullNumber(9061111111114L).password("aaaa-bbbb-cccc").balance(0L).type(AccountType.NORMAL).user(owner).build());
+
+        // when & then
+        assertThatThrownBy(() -> transactionService.getStatement(9061111111114L, null, null, "xml", owner))
+                .isInstanceOf(InvalidStatementRequestException.class);
+        assertThatThrownBy(() -> transactionService.getStatement(9061111111114L, LocalDate.of(2023, 10, 2), LocalDate.of(2023, 10, 1), "csv", owner))
+                .isInstanceOf(InvalidStatementRequestException.class);
+        assertThatThrownBy(() -> transactionService.getStatement(9061111111114L, null, null, "csv", other))
+                .isInstanceOf(NotAccountOwnerException.class);
+    }
+
+    private String write(TransactionStatement statement) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        transactionService.writeStatement(statement, outputStream);
+        return outputStream.toString(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,78 @@
+package shop.woosung.bank.transaction.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import shop.woosung.bank.transaction.domain.LedgerDirection;
+import shop.woosung.bank.transaction.domain.StatementFormat;
+import shop.woosung.bank.transaction.domain.TransactionStatementLine;
+import shop.woosung.bank.transaction.domain.TransactionType;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TransactionStatementWriterTest {
+
+    private final TransactionStatementLine line = new TransactionStatementLine(1L, LocalDateTime.of(2023, 10, 22, 10, 10, 10), TransactionType.DEPOSIT,
+            LedgerDirection.DEPOSIT, 100L, null, "ATM, \"본점\"", "2321111111111", null);
+
+    @DisplayName("CSV 는 쉼표나 따옴표가 들어간 값을 따옴표로 감싸고, null 은 빈 칸으로 쓴다.")
+    @Test
+    void write_csv_with_quoted_fields() throws IOException {
+        // given
+        StringWriter out = new StringWriter();
+        TransactionStatementWriter writer = TransactionStatementWriter.of(StatementFormat.CSV, out);
+
+        // when
+        writer.writeHeader();
+        writer.write(line);
+        writer.flush();
+
+        // then
+        assertThat(out.toString()).isEqualTo("id,createdAt,type,direction,amount,balance,sender,receiver,tel\n"
+                + "1,2023-10-22 10:10:10,입금,입금,100,,\"ATM, \"\"본점\"\"\",2321111111111,\n");
+    }
+
+    @DisplayName("CSV 는 수식으로 해석될 수 있는 문자로 시작하는 보낸 사람, 받는 사람, 연락처 앞에 ' 를 붙인다.")
+    @Test
+    void write_csv_neutralizes_formula_fields() throws IOException {
+        // given
+        StringWriter out = new StringWriter();
+        TransactionStatementWriter writer = TransactionStatementWriter.of(StatementFormat.CSV, out);
+        TransactionStatementLine formulaLine = new TransactionStatementLine(2L, LocalDateTime.of(2023, 10, 22, 10, 10, 10), TransactionType.DEPOSIT,
+                LedgerDirection.DEPOSIT, 100L, 200L, "=HYPERLINK(\"http://x\",\"y\")", "@SUM(A1)", "+82-10-1111-1111");
+        TransactionStatementLine tabLine = new TransactionStatementLine(3L, LocalDateTime.of(2023, 10, 22, 10, 10, 10), TransactionType.DEPOSIT,
+                LedgerDirection.DEPOSIT, 100L, 300L, "-1+1", "\t=1", "\r=1");
+
+        // when
+        writer.write(formulaLine);
+        writer.write(tabLine);
+        writer.flush();
+
+        // then
+        assertThat(out.toString()).isEqualTo(
+                "2,2023-10-22 10:10:10,입금,입금,100,200,\"'=HYPERLINK(\"\"http://x\"\",\"\"y\"\")\",'@SUM(A1),'+82-10-1111-1111\n"
+                + "3,2023-10-22 10:10:10,입금,입금,100,300,'-1+1,'\t=1,\"'\r=1\"\n");
+    }
+
+    @DisplayName("NDJSON 은 머리글 없이 한 줄에 거래 하나를 JSON 객체로 쓴다.")
+    @Test
+    void write_ndjson_one_object_per_line() throws IOException {
+        // given
+        StringWriter out = new StringWriter();
+        TransactionStatementWriter writer = TransactionStatementWriter.of(StatementFormat.NDJSON, out);
+
+        // when
+        writer.writeHeader();
+        writer.write(line);
+        writer.write(line);
+        writer.flush();
+
+        // then
+        String json = "{\"id\":1,\"createdAt\":\"2023-10-22 10:10:10\",\"type\":\"입금\",\"direction\":\"입금\",\"amount\":100,\"balance\":null,"
+                + "\"sender\":\"ATM, \\\"본점\\\"\",\"receiver\":\"2321111111111\",\"tel\":null}\n";
+        assertThat(out.toString()).isEqualTo(json + json);
+    }
+}